@@ -0,0 +1,102 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the {@link MOEADSelector} with the {@link NSGA3Selector} for
+ * different numbers of objectives and population sizes. Both selectors use
+ * the same number of weight vectors and reference points. The population is
+ * created from the (minimized) <em>DTLZ2</em> test problem.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MOEADSelectorPerf {
+
+	@Param({"3", "6", "10"})
+	public int objectives;
+
+	@Param({"1000", "10000"})
+	public int populationSize;
+
+	ISeq<Phenotype<DoubleGene, Vec<double[]>>> population;
+	MOEADSelector<DoubleGene, Vec<double[]>> moead;
+	NSGA3Selector<DoubleGene, Vec<double[]>> nsga3;
+
+	@Setup
+	public void setup() {
+		population = NSGA3SelectorPerf.population(objectives, populationSize);
+
+		final int divisions = switch (objectives) {
+			case 3 -> 12;
+			case 6 -> 4;
+			default -> 3;
+		};
+		moead = MOEADSelector.ofVec(divisions);
+		nsga3 = NSGA3Selector.ofVec(divisions);
+	}
+
+	@Benchmark
+	public Object moead() {
+		return moead.select(population, populationSize/2, Optimize.MINIMUM);
+	}
+
+	@Benchmark
+	public Object nsga3() {
+		return nsga3.select(population, populationSize/2, Optimize.MINIMUM);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + MOEADSelectorPerf.class.getSimpleName() + ".*")
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * Measures the {@link NSGA2Selector} for different population sizes and
+ * optimization strategies. The {@code primitive} benchmark uses the selector
+ * created with {@link NSGA2Selector#ofVec()}, which works on the extracted
+ * primitive objective values. The {@code general} benchmark uses the element
+ * comparator and distance callbacks.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class NSGA2SelectorPerf {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1]), v[0]*v[1]),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Param({"1000", "10000", "100000"})
+	public int populationSize;
+
+	@Param({"MINIMUM", "MAXIMUM"})
+	public Optimize optimize;
+
+	ISeq<Phenotype<DoubleGene, Vec<double[]>>> population;
+	NSGA2Selector<DoubleGene, Vec<double[]>> primitive;
+	NSGA2Selector<DoubleGene, Vec<double[]>> general;
+
+	@Setup
+	public void setup() {
+		population = PROBLEM.codec().encoding().instances()
+			.limit(populationSize)
+			.map(NSGA2SelectorPerf::phenotype)
+			.collect(ISeq.toISeq());
+
+		primitive = NSGA2Selector.ofVec();
+		general = new NSGA2Selector<>(
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length
+		);
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final Genotype<DoubleGene> gt) {
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+	@Benchmark
+	public Object primitive() {
+		return primitive.select(population, populationSize/2, optimize);
+	}
+
+	@Benchmark
+	public Object general() {
+		return general.select(population, populationSize/2, optimize);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + NSGA2SelectorPerf.class.getSimpleName() + ".*")
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
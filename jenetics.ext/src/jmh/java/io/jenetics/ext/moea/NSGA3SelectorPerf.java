@@ -0,0 +1,152 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the {@link NSGA3Selector} with the {@link NSGA2Selector} for
+ * different numbers of objectives and population sizes. The population is
+ * created from the (minimized) <em>DTLZ2</em> test problem.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class NSGA3SelectorPerf {
+
+	@Param({"3", "6", "10"})
+	public int objectives;
+
+	@Param({"1000", "10000"})
+	public int populationSize;
+
+	ISeq<Phenotype<DoubleGene, Vec<double[]>>> population;
+	NSGA3Selector<DoubleGene, Vec<double[]>> nsga3;
+	NSGA2Selector<DoubleGene, Vec<double[]>> nsga2;
+
+	@Setup
+	public void setup() {
+		population = population(objectives, populationSize);
+
+		nsga3 = switch (objectives) {
+			case 3 -> NSGA3Selector.ofVec(12);
+			case 6 -> NSGA3Selector.ofVec(4);
+			default -> NSGA3Selector.ofVec(3, 2);
+		};
+		nsga2 = NSGA2Selector.ofVec();
+	}
+
+	// Random population of the DTLZ2 problem, with the given objectives.
+	static ISeq<Phenotype<DoubleGene, Vec<double[]>>>
+	population(final int objectives, final int size) {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(dtlz2(v, objectives)),
+			Codecs.ofVector(DoubleRange.of(0, 1), objectives + 9)
+		);
+
+		return problem.codec().encoding().instances()
+			.limit(size)
+			.map(gt -> phenotype(problem, gt))
+			.collect(ISeq.toISeq());
+	}
+
+	private static double[] dtlz2(final double[] x, final int m) {
+		double g = 0;
+		for (int i = m - 1; i < x.length; ++i) {
+			g += (x[i] - 0.5)*(x[i] - 0.5);
+		}
+
+		final double[] f = new double[m];
+		for (int i = 0; i < m; ++i) {
+			f[i] = 1 + g;
+			for (int j = 0; j < m - 1 - i; ++j) {
+				f[i] *= cos(x[j]*PI/2);
+			}
+			if (i > 0) {
+				f[i] *= sin(x[m - 1 - i]*PI/2);
+			}
+		}
+		return f;
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>> phenotype(
+		final Problem<double[], DoubleGene, Vec<double[]>> problem,
+		final Genotype<DoubleGene> gt
+	) {
+		return Phenotype.of(
+			gt,
+			1L,
+			problem.fitness().apply(problem.codec().decode(gt))
+		);
+	}
+
+	@Benchmark
+	public Object nsga3() {
+		return nsga3.select(population, populationSize/2, Optimize.MINIMUM);
+	}
+
+	@Benchmark
+	public Object nsga2() {
+		return nsga2.select(population, populationSize/2, Optimize.MINIMUM);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + NSGA3SelectorPerf.class.getSimpleName() + ".*")
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the ranking of the packed {@link ObjectiveStore} with the
+ * {@link Pareto#rank(io.jenetics.util.BaseSeq)} method, which uses the
+ * dominance of the single {@link Vec} objects. The {@code packed} benchmark
+ * includes the creation of the objective store.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ObjectiveStorePerf {
+
+	@Param({"100", "250", "1000"})
+	public int size;
+
+	@Param({"3", "8"})
+	public int dimension;
+
+	double[][] values;
+	ISeq<Vec<double[]>> vecs;
+
+	@Setup
+	public void setup() {
+		final var random = new Random(size);
+		values = new double[size][dimension];
+		for (double[] value : values) {
+			for (int k = 0; k < dimension; ++k) {
+				value[k] = random.nextDouble();
+			}
+		}
+		vecs = ISeq.of(values).map(Vec::of);
+	}
+
+	@Benchmark
+	public int[] packed() {
+		return ObjectiveStore.of(values).rank();
+	}
+
+	@Benchmark
+	public int[] vec() {
+		return Pareto.rank(vecs);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + ObjectiveStorePerf.class.getSimpleName() + ".*")
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the serial {@link UFTournamentSelector} with the one, which ranks
+ * the population in parallel, using the common fork-join pool. The
+ * objective values of the population are uniformly distributed.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UFTournamentSelectorPerf {
+
+	@Param({"4", "8"})
+	public int objectives;
+
+	@Param({"1000", "5000"})
+	public int populationSize;
+
+	ISeq<Phenotype<DoubleGene, Vec<double[]>>> population;
+	UFTournamentSelector<DoubleGene, Vec<double[]>> serial;
+	UFTournamentSelector<DoubleGene, Vec<double[]>> parallel;
+
+	@Setup
+	public void setup() {
+		final var random = new Random(populationSize);
+		final var gt = Genotype.of(DoubleChromosome.of(0, 1));
+
+		population = IntStream.range(0, populationSize)
+			.mapToObj(i -> Phenotype.of(
+				gt,
+				1L,
+				Vec.of(random.doubles(objectives).toArray())
+			))
+			.collect(ISeq.toISeq());
+
+		serial = UFTournamentSelector.ofVec();
+		parallel = UFTournamentSelector.ofVec(ForkJoinPool.commonPool());
+	}
+
+	@Benchmark
+	public Object serial() {
+		return serial.select(population, populationSize/2, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Object parallel() {
+		return parallel.select(population, populationSize/2, Optimize.MAXIMUM);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + UFTournamentSelectorPerf.class.getSimpleName() + ".*")
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
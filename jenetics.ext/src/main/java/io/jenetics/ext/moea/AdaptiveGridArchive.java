@@ -0,0 +1,587 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Pareto archive with a bounded number of elements, which uses the
+ * <em>adaptive grid archiving</em> for removing elements. Like the
+ * {@link ParetoArchive}, it only contains non-dominated, distinct elements.
+ * If the archive exceeds its {@code capacity}, the objective space, spanned
+ * by the archive elements, is divided into a grid of equally sized cells.
+ * Elements of the most crowded cells are removed first. The boundary
+ * elements, which have the minimal or maximal value of an objective, are
+ * kept, which preserves the extent of the front.
+ * {@snippet lang="java":
+ * final AdaptiveGridArchive<Vec<double[]>> archive =
+ *     AdaptiveGridArchive.ofVec(100);
+ * archive.add(Vec.of(1.0, 2.0));
+ * archive.add(Vec.of(1.1, 2.5));
+ * }
+ *
+ * The archive can be used as accumulator of a (parallel) stream. The
+ * elements which are removed by the trimming only depend on the archive
+ * elements, and not on the order they have been inserted.
+ * {@snippet lang="java":
+ * final AdaptiveGridArchive<Vec<double[]>> archive = points.parallelStream()
+ *     .collect(AdaptiveGridArchive.toAdaptiveGridArchive(100));
+ * }
+ * <p>
+ *  <b>Reference:</b><em>
+ *      J. D. Knowles and D. W. Corne. Approximating the Nondominated Front
+ *      Using the Pareto Archived Evolution Strategy, Evolutionary
+ *      Computation, vol. 8, no. 2, pp. 149-172, 2000.</em>
+ *
+ * @see ParetoArchive
+ * @see MOEA#toBoundedParetoSet(int)
+ *
+ * @implNote
+ * This class is not thread-safe. The returned iterator doesn't support
+ * removing elements. The objective values of the elements must not contain
+ * {@code NaN} values and must not be changed after the elements have been
+ * added.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class AdaptiveGridArchive<T> extends AbstractSet<T> {
+
+	/**
+	 * The default number of grid divisions of every objective.
+	 */
+	public static final int DEFAULT_DIVISIONS = 8;
+
+	private record Entry<T>(T element, double[] objectives) {}
+
+	private final Function<? super T, double[]> _objectives;
+	private final BiPredicate<? super T, ? super T> _equals;
+	private final int _capacity;
+	private final int _divisions;
+
+	private final List<Entry<T>> _entries = new ArrayList<>();
+
+	/**
+	 * Create a new, empty archive.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param equals the equals predicate used for keeping the set distinct
+	 * @param capacity the maximal number of archive elements
+	 * @param divisions the number of grid divisions of every objective
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} or the
+	 *         number of {@code divisions} is smaller than one
+	 */
+	public AdaptiveGridArchive(
+		final Function<? super T, double[]> objectives,
+		final BiPredicate<? super T, ? super T> equals,
+		final int capacity,
+		final int divisions
+	) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(
+				"Capacity must be greater than zero: " + capacity
+			);
+		}
+		if (divisions < 1) {
+			throw new IllegalArgumentException(
+				"Divisions must be greater than zero: " + divisions
+			);
+		}
+
+		_objectives = requireNonNull(objectives);
+		_equals = requireNonNull(equals);
+		_capacity = capacity;
+		_divisions = divisions;
+	}
+
+	/**
+	 * Create a new, empty archive with the default number of grid divisions.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param capacity the maximal number of archive elements
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one
+	 */
+	public AdaptiveGridArchive(
+		final Function<? super T, double[]> objectives,
+		final int capacity
+	) {
+		this(objectives, Objects::equals, capacity, DEFAULT_DIVISIONS);
+	}
+
+	/**
+	 * Return a new archive for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param <V> the vector type
+	 * @return a new archive for vector objects
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one
+	 */
+	public static <V extends Vec<?>> AdaptiveGridArchive<V>
+	ofVec(final int capacity) {
+		return new AdaptiveGridArchive<>(Vecs::objectives, capacity);
+	}
+
+	/**
+	 * Return the maximal number of archive elements.
+	 *
+	 * @return the maximal number of archive elements
+	 */
+	public int capacity() {
+		return _capacity;
+	}
+
+	/**
+	 * Inserts an {@code element} to this archive. Elements of the archive,
+	 * which are dominated by the new {@code element}, are removed. If the
+	 * archive exceeds its capacity, an element of the most crowded grid cell
+	 * is removed, which can be the inserted element itself.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the {@code element} is part of the archive,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the objective values of the
+	 *         {@code element} have a different length than the already
+	 *         inserted ones or contain {@code NaN} values
+	 */
+	@Override
+	public boolean add(final T element) {
+		requireNonNull(element);
+
+		final Entry<T> entry = new Entry<>(element, objectives(element));
+		if (insert(entry)) {
+			trim();
+			for (Entry<T> e : _entries) {
+				if (e == entry) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds all elements of the given collection to {@code this} archive. The
+	 * archive is trimmed once, after all elements have been inserted.
+	 *
+	 * @param elements the elements to add to {@code this} archive
+	 * @return {@code true} if {@code this} archive has been changed,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the given {@code elements} are
+	 *         {@code null}
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		boolean changed = false;
+		for (T element : elements) {
+			changed |= insert(new Entry<>(element, objectives(element)));
+		}
+		trim();
+		return changed;
+	}
+
+	/**
+	 * Add all elements of the given {@code archive} to {@code this} archive.
+	 * The already calculated objective values of the given {@code archive}
+	 * are reused. This is the combine step of the archive collector.
+	 *
+	 * @param archive the archive to merge
+	 * @return {@code this} archive
+	 * @throws NullPointerException if the given parameter is {@code null}
+	 */
+	public AdaptiveGridArchive<T> merge(
+		final AdaptiveGridArchive<? extends T> archive
+	) {
+		if (archive != this) {
+			for (var entry : archive._entries) {
+				checkLength(entry.objectives());
+				insert(new Entry<T>(entry.element(), entry.objectives()));
+			}
+			trim();
+		}
+		return this;
+	}
+
+	/**
+	 * Test whether the given {@code element} is dominated by an element of
+	 * {@code this} archive.
+	 *
+	 * @param element the element to test
+	 * @return {@code true} if the given {@code element} is dominated by an
+	 *         element of {@code this} archive, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 */
+	public boolean isDominated(final T element) {
+		final double[] y = objectives(requireNonNull(element));
+		for (Entry<T> entry : _entries) {
+			if (Pareto.dominance(entry.objectives(), y) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void clear() {
+		_entries.clear();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final Iterator<Entry<T>> it = _entries.iterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+			@Override
+			public T next() {
+				return it.next().element();
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _entries.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _entries.isEmpty();
+	}
+
+	/**
+	 * Return the elements of {@code this} archive as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} archive as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return ISeq.of(this);
+	}
+
+	/* *************************************************************************
+	 * Archive implementation.
+	 * ************************************************************************/
+
+	private double[] objectives(final T element) {
+		final double[] objectives = requireNonNull(_objectives.apply(element));
+
+		checkLength(objectives);
+		for (double value : objectives) {
+			if (Double.isNaN(value)) {
+				throw new IllegalArgumentException(
+					"Objective values must not be NaN."
+				);
+			}
+		}
+
+		return objectives;
+	}
+
+	private void checkLength(final double[] objectives) {
+		if (!_entries.isEmpty() &&
+			_entries.get(0).objectives().length != objectives.length)
+		{
+			throw new IllegalArgumentException(format(
+				"Expected %d objectives, but got %d.",
+				_entries.get(0).objectives().length, objectives.length
+			));
+		}
+	}
+
+	/*
+	 * Inserts the given entry, if it isn't dominated by, or equal to, an
+	 * archive element. Dominated archive elements are removed.
+	 */
+	private boolean insert(final Entry<T> entry) {
+		final double[] y = entry.objectives();
+
+		for (Entry<T> existing : _entries) {
+			final int dominance = Pareto.dominance(existing.objectives(), y);
+			if (dominance > 0 ||
+				dominance == 0 &&
+				Arrays.equals(existing.objectives(), y) &&
+				_equals.test(existing.element(), entry.element()))
+			{
+				return false;
+			}
+		}
+
+		_entries.removeIf(e -> Pareto.dominance(y, e.objectives()) > 0);
+		_entries.add(entry);
+		return true;
+	}
+
+	/*
+	 * Removes elements of the most crowded grid cells, until the archive
+	 * size doesn't exceed the capacity. The boundary elements are removed
+	 * last. Within a cell, the element with the lexicographically smallest
+	 * objective values is removed first. Cells with the same count are
+	 * ordered by its cell index.
+	 */
+	private void trim() {
+		if (_entries.size() <= _capacity) {
+			return;
+		}
+
+		final int size = _entries.size();
+		final int dim = _entries.get(0).objectives().length;
+		final double[] min = _entries.get(0).objectives().clone();
+		final double[] max = min.clone();
+		for (Entry<T> entry : _entries) {
+			final double[] y = entry.objectives();
+			for (int k = 0; k < dim; ++k) {
+				min[k] = Math.min(min[k], y[k]);
+				max[k] = Math.max(max[k], y[k]);
+			}
+		}
+
+		// The removable (non-boundary) elements and the counts of every cell.
+		final Map<Long, Cell> cells = new HashMap<>();
+		final List<Integer> boundary = new ArrayList<>();
+		for (int i = 0; i < size; ++i) {
+			final double[] y = _entries.get(i).objectives();
+			final Cell cell = cells.computeIfAbsent(
+				cell(y, min, max),
+				Cell::new
+			);
+			++cell.count;
+
+			if (isBoundary(y, min, max)) {
+				boundary.add(i);
+			} else {
+				cell.members.add(i);
+			}
+		}
+
+		final Comparator<Integer> lexicographic = (a, b) -> Arrays.compare(
+			_entries.get(a).objectives(),
+			_entries.get(b).objectives()
+		);
+		final PriorityQueue<Cell> queue = new PriorityQueue<>(
+			Comparator.<Cell>comparingInt(c -> -c.count)
+				.thenComparingLong(c -> c.key)
+		);
+		for (Cell cell : cells.values()) {
+			if (!cell.members.isEmpty()) {
+				cell.members.sort(lexicographic.reversed());
+				queue.add(cell);
+			}
+		}
+
+		final boolean[] removed = new boolean[size];
+		int remaining = size;
+		while (remaining > _capacity && !queue.isEmpty()) {
+			final Cell cell = queue.poll();
+			removed[cell.members.remove(cell.members.size() - 1)] = true;
+			--cell.count;
+			--remaining;
+
+			if (!cell.members.isEmpty()) {
+				queue.add(cell);
+			}
+		}
+
+		// Only boundary elements are left, if the capacity is very small.
+		boundary.sort(lexicographic);
+		for (int i = 0; remaining > _capacity; ++i) {
+			removed[boundary.get(i)] = true;
+			--remaining;
+		}
+
+		final List<Entry<T>> entries = new ArrayList<>(remaining);
+		for (int i = 0; i < size; ++i) {
+			if (!removed[i]) {
+				entries.add(_entries.get(i));
+			}
+		}
+		_entries.clear();
+		_entries.addAll(entries);
+	}
+
+	private static final class Cell {
+		final long key;
+		final List<Integer> members = new ArrayList<>();
+		int count = 0;
+
+		Cell(final long key) {
+			this.key = key;
+		}
+	}
+
+	// The (possibly hashed) index of the grid cell of the given point.
+	private long cell(final double[] y, final double[] min, final double[] max) {
+		long key = 0;
+		for (int k = 0; k < y.length; ++k) {
+			final double range = max[k] - min[k];
+			final int index = range > 0
+				? Math.min((int)((y[k] - min[k])/range*_divisions), _divisions - 1)
+				: 0;
+			key = key*_divisions + index;
+		}
+		return key;
+	}
+
+	private static boolean isBoundary(
+		final double[] y,
+		final double[] min,
+		final double[] max
+	) {
+		for (int k = 0; k < y.length; ++k) {
+			if (y[k] == min[k] || y[k] == max[k]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/* *************************************************************************
+	 * Static collector methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return an archive collector for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param <V> the vector type
+	 * @return a new archive collector
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one
+	 */
+	public static <V extends Vec<?>>
+	Collector<V, ?, AdaptiveGridArchive<V>>
+	toAdaptiveGridArchive(final int capacity) {
+		return toAdaptiveGridArchive(capacity, Vecs::objectives);
+	}
+
+	/**
+	 * Return an archive collector with the given {@code objectives} function.
+	 * The elements of the stream are inserted in chunks of {@code capacity}
+	 * elements, and the archive is trimmed once per chunk. This bounds the
+	 * memory needed by the accumulation to twice the {@code capacity}.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param <T> the element type
+	 * @return a new archive collector
+	 * @throws NullPointerException if the given {@code objectives} function
+	 *         is {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one
+	 */
+	public static <T> Collector<T, ?, AdaptiveGridArchive<T>>
+	toAdaptiveGridArchive(
+		final int capacity,
+		final Function<? super T, double[]> objectives
+	) {
+		requireNonNull(objectives);
+		if (capacity < 1) {
+			throw new IllegalArgumentException(
+				"Capacity must be greater than zero: " + capacity
+			);
+		}
+
+		return Collector.of(
+			() -> new Accumulator<T>(
+				new AdaptiveGridArchive<>(objectives, capacity)
+			),
+			Accumulator::add,
+			Accumulator::combine,
+			Accumulator::archive,
+			Collector.Characteristics.UNORDERED
+		);
+	}
+
+	/*
+	 * Buffers the inserted elements, so that the archive is only trimmed
+	 * once for every chunk of elements.
+	 */
+	private static final class Accumulator<T> {
+		private final AdaptiveGridArchive<T> _archive;
+		private final List<T> _buffer = new ArrayList<>();
+
+		Accumulator(final AdaptiveGridArchive<T> archive) {
+			_archive = archive;
+		}
+
+		void add(final T element) {
+			_buffer.add(requireNonNull(element));
+			if (_buffer.size() >= _archive._capacity) {
+				flush();
+			}
+		}
+
+		Accumulator<T> combine(final Accumulator<T> other) {
+			flush();
+			other.flush();
+			_archive.merge(other._archive);
+			return this;
+		}
+
+		AdaptiveGridArchive<T> archive() {
+			flush();
+			return _archive;
+		}
+
+		private void flush() {
+			if (!_buffer.isEmpty()) {
+				_archive.addAll(_buffer);
+				_buffer.clear();
+			}
+		}
+	}
+
+}
@@ -20,6 +20,8 @@
 package io.jenetics.ext.moea;
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.ToIntFunction;
 
 import io.jenetics.Optimize;
@@ -30,11 +32,29 @@ import io.jenetics.util.BaseSeq;
  * Crowded distance comparator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.1
  * @since 4.1
  */
 final class CrowdedComparator<T> implements IntComparator {
 
+	/**
+	 * Populations of this size and bigger are ranked with the
+	 * {@link NonDominatedSort}, which doesn't need a {@code n×n} dominance
+	 * matrix. Smaller populations are ranked with the packed
+	 * {@link ObjectiveStore}, if the primitive objective values are available.
+	 */
+	static final int SORT_THRESHOLD = 256;
+
+	/**
+	 * Populations with at least {@link #SORT_THRESHOLD} elements and this
+	 * number of objectives are ranked in parallel, if a fork-join pool is
+	 * given. For fewer objectives, the {@link NonDominatedSort} doesn't need
+	 * a quadratic number of dominance tests and is faster.
+	 */
+	static final int PARALLEL_DIMENSION = 4;
+
+	private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0.0);
+
 	private final int[] _rank;
 	private final double[] _dist;
 
@@ -46,23 +66,148 @@ final class CrowdedComparator<T> implements IntComparator {
 		final ElementDistance<? super T> distance,
 		final ToIntFunction<? super T> dimension
 	) {
-		_rank = Pareto.rank(
-			population,
-			opt == Optimize.MAXIMUM
-				? dominance
-				: dominance.reversed()
-		);
+		this(population, opt, dominance, comparator, distance, dimension, null);
+	}
 
-		_dist = Pareto.crowdingDistance(
-			population,
-			opt == Optimize.MAXIMUM
-				? comparator
-				: comparator.reversed(),
-			distance,
-			dimension
+	/*
+	 * The optional objectives function returns the primitive (maximized)
+	 * objective values of an element, which are consistent with the given
+	 * dominance, or null if not available.
+	 */
+	CrowdedComparator(
+		final BaseSeq<? extends T> population,
+		final Optimize opt,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final Function<? super T, double[]> objectives
+	) {
+		this(
+			population, opt, dominance, comparator, distance, dimension,
+			objectives, null
 		);
 	}
 
+	/*
+	 * The optional fork-join pool is used for ranking large populations with
+	 * many objectives. The calculated ranks are the same.
+	 */
+	CrowdedComparator(
+		final BaseSeq<? extends T> population,
+		final Optimize opt,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final Function<? super T, double[]> objectives,
+		final ForkJoinPool pool
+	) {
+		final Comparator<? super T> dom = opt == Optimize.MAXIMUM
+			? dominance
+			: dominance.reversed();
+		final ElementComparator<? super T> cmp = opt == Optimize.MAXIMUM
+			? comparator
+			: comparator.reversed();
+
+		// The primitive objective values are only extracted once.
+		final double[][] values =
+			objectives != null && !population.isEmpty()
+				? objectives(population, opt, objectives)
+				: null;
+
+		if (values != null &&
+			pool != null &&
+			population.length() >= SORT_THRESHOLD &&
+			values[0].length >= PARALLEL_DIMENSION &&
+			packable(values))
+		{
+			_rank = ObjectiveStore.of(values).rank(pool);
+		} else if (values != null && population.length() >= SORT_THRESHOLD) {
+			_rank = NonDominatedSort.rank(values);
+		} else if (values != null && packable(values)) {
+			_rank = ObjectiveStore.of(values).rank();
+		} else if (population.length() >= SORT_THRESHOLD) {
+			_rank = NonDominatedSort.rank(population, dom, cmp, dimension);
+		} else {
+			_rank = Pareto.rank(population, dom);
+		}
+
+		// The crowding distance doesn't depend on the optimization direction.
+		// The generic version must use the original element order, otherwise
+		// the distances of minimization problems are negative.
+		_dist = values != null
+			? Pareto.crowdingDistance(transpose(values))
+			: Pareto.crowdingDistance(
+				population, comparator, distance, dimension
+			);
+	}
+
+	/*
+	 * The packed objective store doesn't allow NaN values and doesn't
+	 * distinguish between negative and positive zeros.
+	 */
+	private static boolean packable(final double[][] values) {
+		for (double[] value : values) {
+			for (double v : value) {
+				if (Double.isNaN(v) ||
+					Double.doubleToRawLongBits(v) == NEGATIVE_ZERO)
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static double[][] transpose(final double[][] values) {
+		final double[][] result = new double[values[0].length][values.length];
+		for (int i = 0; i < values.length; ++i) {
+			for (int m = 0; m < values[i].length; ++m) {
+				result[m][i] = values[i][m];
+			}
+		}
+		return result;
+	}
+
+	// Return the maximized objective values, or null if not available.
+	private static <T> double[][] objectives(
+		final BaseSeq<? extends T> population,
+		final Optimize opt,
+		final Function<? super T, double[]> objectives
+	) {
+		final double[][] values = new double[population.length()][];
+		for (int i = 0; i < values.length; ++i) {
+			final double[] value = objectives.apply(population.get(i));
+			if (value == null) {
+				return null;
+			}
+
+			if (opt == Optimize.MAXIMUM) {
+				values[i] = value;
+			} else {
+				values[i] = new double[value.length];
+				for (int j = 0; j < value.length; ++j) {
+					// Negating NaN values wouldn't reverse its order.
+					if (Double.isNaN(value[j])) {
+						return null;
+					}
+					values[i][j] = -value[j];
+				}
+			}
+		}
+
+		return values;
+	}
+
+	/*
+	 * Return the objective values of the given vector, if the vector
+	 * dominance is defined by Pareto#dominance(double[], double[]).
+	 */
+	static double[] doubles(final Object vec) {
+		return vec instanceof SimpleDoubleVec v ? v.data() : null;
+	}
+
 	@Override
 	public int compare(final int i, final int j) {
 		if (cco(i, j)) {
@@ -0,0 +1,431 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Pareto archive, which keeps at most one representative of every
+ * <em>ε-box</em> of the objective space. The objective space is divided into
+ * a grid of boxes, with the edge lengths given by the {@code epsilon} vector.
+ * A new element is only accepted if it isn't ε-box dominated by an archive
+ * element (see {@link Pareto#epsilonDominance(double[], double[], double[])}).
+ * If the new element lies in the box of an existing representative, it
+ * replaces the representative if it dominates it, or if it is closer to the
+ * (upper) corner of the box.
+ * {@snippet lang="java":
+ * final EpsilonArchive<Vec<double[]>> archive = EpsilonArchive.ofVec(0.01);
+ * archive.add(Vec.of(1.0, 2.0));
+ * archive.add(Vec.of(1.1, 2.5));
+ * }
+ *
+ * Other than the {@link ParetoArchive}, the size of the archive doesn't grow
+ * with the number of non-dominated elements of a continuous front. Only one
+ * element of every non-dominated box is kept, which bounds the archive size
+ * by the number of boxes an {@code (m - 1)}-dimensional slice of the
+ * objective space is divided into, where {@code m} is the number of
+ * objectives. The {@code epsilon} values control the resolution of the
+ * front and therefore the maximal archive size.
+ * <p>
+ * The boxes are indexed by a hash table, which allows inserting an element
+ * into an already occupied box in constant expected time. The dominance
+ * relation between the boxes is maintained by an ND-tree, which makes the
+ * insertion of an element into a new box sub-linear for most practical
+ * Pareto fronts.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      M. Laumanns, L. Thiele, K. Deb and E. Zitzler. Combining
+ *      Convergence and Diversity in Evolutionary Multiobjective
+ *      Optimization, Evolutionary Computation, vol. 10, no. 3,
+ *      pp. 263-282, 2002.</em>
+ *
+ * @see ParetoArchive
+ * @see AdaptiveGridArchive
+ *
+ * @implNote
+ * This class is not thread-safe. The returned iterator doesn't support
+ * removing elements. The objective values of the elements must not contain
+ * {@code NaN} values and must not be changed after the elements have been
+ * added.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class EpsilonArchive<T> extends AbstractSet<T> {
+
+	// The hash key of an ε-box.
+	private static final class Box {
+		final double[] index;
+		final int hash;
+
+		Box(final double[] index) {
+			this.index = index;
+			this.hash = Arrays.hashCode(index);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Box other &&
+				hash == other.hash &&
+				Arrays.equals(index, other.index);
+		}
+	}
+
+	// An occupied box with its current representative.
+	private static final class Cell<T> {
+		final Box box;
+		T element;
+		double[] objectives;
+
+		Cell(final Box box, final T element, final double[] objectives) {
+			this.box = box;
+			this.element = element;
+			this.objectives = objectives;
+		}
+	}
+
+	private final Function<? super T, double[]> _objectives;
+	private final double[] _epsilon;
+
+	private final Map<Box, Cell<T>> _cells = new HashMap<>();
+	private final ParetoArchive<Cell<T>> _boxes;
+
+	/**
+	 * Create a new, empty archive.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param epsilon the box size of every objective. If only one value is
+	 *        given, it is used for all objectives.
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code epsilon} values are not
+	 *         positive and finite
+	 */
+	public EpsilonArchive(
+		final Function<? super T, double[]> objectives,
+		final double... epsilon
+	) {
+		_objectives = requireNonNull(objectives);
+		_epsilon = Pareto.checkEpsilon(epsilon).clone();
+		_boxes = new ParetoArchive<>(
+			cell -> cell.box.index,
+			(a, b) -> a == b,
+			ParetoArchive.DEFAULT_LEAF_SIZE,
+			cell -> _cells.remove(cell.box)
+		);
+	}
+
+	/**
+	 * Return a new archive for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}.
+	 *
+	 * @param epsilon the box size of every objective. If only one value is
+	 *        given, it is used for all objectives.
+	 * @param <V> the vector type
+	 * @return a new archive for vector objects
+	 * @throws IllegalArgumentException if the {@code epsilon} values are not
+	 *         positive and finite
+	 */
+	public static <V extends Vec<?>> EpsilonArchive<V>
+	ofVec(final double... epsilon) {
+		return new EpsilonArchive<>(Vecs::objectives, epsilon);
+	}
+
+	/**
+	 * Return the box size of every objective.
+	 *
+	 * @return the box size of every objective
+	 */
+	public double[] epsilon() {
+		return _epsilon.clone();
+	}
+
+	/**
+	 * Inserts an {@code element} to this archive. Archive elements, whose box
+	 * is dominated by the box of the new {@code element}, are removed. If the
+	 * box is already occupied, the {@code element} replaces the current
+	 * representative, if it dominates it or if it is closer to the corner of
+	 * the box.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the {@code element} has been added, {@code false}
+	 *         if the {@code element} is ε-box dominated by an element of
+	 *         {@code this} archive
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the objective values of the
+	 *         {@code element} have a different length than the already
+	 *         inserted ones or contain {@code NaN} values
+	 */
+	@Override
+	public boolean add(final T element) {
+		requireNonNull(element);
+		return add(element, objectives(element));
+	}
+
+	private boolean add(final T element, final double[] objectives) {
+		final Box box = new Box(Pareto.box(objectives, _epsilon));
+
+		final Cell<T> cell = _cells.get(box);
+		if (cell != null) {
+			if (replaces(objectives, cell)) {
+				cell.element = element;
+				cell.objectives = objectives;
+				return true;
+			}
+			return false;
+		}
+
+		final Cell<T> added = new Cell<>(box, element, objectives);
+		if (_boxes.add(added)) {
+			_cells.put(box, added);
+			return true;
+		}
+		return false;
+	}
+
+	/*
+	 * Test whether the given objectives are a better representative of the
+	 * box than the current one. The objectives are compared by its Pareto
+	 * dominance and then by the distance to the upper corner of the box.
+	 */
+	private boolean replaces(final double[] objectives, final Cell<T> cell) {
+		final int dominance = Pareto.dominance(objectives, cell.objectives);
+		if (dominance != 0) {
+			return dominance > 0;
+		}
+
+		return distance(objectives, cell.box.index) <
+			distance(cell.objectives, cell.box.index);
+	}
+
+	// The squared distance of the given point to the upper corner of the box.
+	private double distance(final double[] point, final double[] box) {
+		double sum = 0;
+		for (int i = 0; i < point.length; ++i) {
+			final double eps = _epsilon.length == 1 ? _epsilon[0] : _epsilon[i];
+			final double diff = (box[i] + 1)*eps - point[i];
+			sum += diff*diff;
+		}
+		return sum;
+	}
+
+	/**
+	 * Adds all elements of the given collection to {@code this} archive.
+	 *
+	 * @param elements the elements to add to {@code this} archive
+	 * @return {@code true} if {@code this} archive has been changed,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the given {@code elements} are
+	 *         {@code null}
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		boolean changed = false;
+		for (T element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Add all elements of the given {@code archive} to {@code this} archive.
+	 * The already calculated objective values of the given {@code archive}
+	 * are reused. The elements are inserted into the boxes of {@code this}
+	 * archive.
+	 *
+	 * @param archive the archive to merge
+	 * @return {@code this} archive
+	 * @throws NullPointerException if the given parameter is {@code null}
+	 */
+	public EpsilonArchive<T> merge(final EpsilonArchive<? extends T> archive) {
+		if (archive != this) {
+			for (var cell : archive._cells.values()) {
+				checkLength(cell.objectives);
+				add(cell.element, cell.objectives);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Test whether the given {@code element} is ε-box dominated by an element
+	 * of {@code this} archive. Such elements are rejected by the
+	 * {@link #add(Object)} method.
+	 *
+	 * @param element the element to test
+	 * @return {@code true} if the given {@code element} is ε-box dominated by
+	 *         an element of {@code this} archive, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 */
+	public boolean isDominated(final T element) {
+		final double[] objectives = objectives(requireNonNull(element));
+		final Box box = new Box(Pareto.box(objectives, _epsilon));
+
+		final Cell<T> cell = _cells.get(box);
+		if (cell != null) {
+			return !replaces(objectives, cell);
+		}
+		return _boxes.isDominated(new Cell<>(box, element, objectives));
+	}
+
+	@Override
+	public void clear() {
+		_cells.clear();
+		_boxes.clear();
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final Iterator<Cell<T>> it = _cells.values().iterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+			@Override
+			public T next() {
+				return it.next().element;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _cells.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _cells.isEmpty();
+	}
+
+	/**
+	 * Return the elements of {@code this} archive as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} archive as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return ISeq.of(this);
+	}
+
+	private double[] objectives(final T element) {
+		final double[] objectives = requireNonNull(_objectives.apply(element));
+
+		checkLength(objectives);
+		for (double value : objectives) {
+			if (Double.isNaN(value)) {
+				throw new IllegalArgumentException(
+					"Objective values must not be NaN."
+				);
+			}
+		}
+
+		return objectives;
+	}
+
+	private void checkLength(final double[] objectives) {
+		int length = objectives.length;
+		if (!_cells.isEmpty()) {
+			length = _cells.values().iterator().next().objectives.length;
+		} else if (_epsilon.length != 1) {
+			length = _epsilon.length;
+		}
+
+		if (length != objectives.length) {
+			throw new IllegalArgumentException(
+				"Expected %d objectives, but got %d.".formatted(
+					length, objectives.length
+				)
+			);
+		}
+	}
+
+	/* *************************************************************************
+	 * Static collector methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return an archive collector for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}.
+	 *
+	 * @param epsilon the box size of every objective. If only one value is
+	 *        given, it is used for all objectives.
+	 * @param <V> the vector type
+	 * @return a new archive collector
+	 * @throws IllegalArgumentException if the {@code epsilon} values are not
+	 *         positive and finite
+	 */
+	public static <V extends Vec<?>>
+	Collector<V, ?, EpsilonArchive<V>> toEpsilonArchive(final double... epsilon) {
+		return toEpsilonArchive(Vecs::objectives, epsilon);
+	}
+
+	/**
+	 * Return an archive collector with the given {@code objectives} function.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param epsilon the box size of every objective. If only one value is
+	 *        given, it is used for all objectives.
+	 * @param <T> the element type
+	 * @return a new archive collector
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code epsilon} values are not
+	 *         positive and finite
+	 */
+	public static <T> Collector<T, ?, EpsilonArchive<T>> toEpsilonArchive(
+		final Function<? super T, double[]> objectives,
+		final double... epsilon
+	) {
+		requireNonNull(objectives);
+		final double[] eps = Pareto.checkEpsilon(epsilon).clone();
+
+		return Collector.of(
+			() -> new EpsilonArchive<>(objectives, eps),
+			EpsilonArchive::add,
+			EpsilonArchive::merge,
+			Collector.Characteristics.UNORDERED
+		);
+	}
+
+}
@@ -0,0 +1,532 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Methods for calculating the <em>hypervolume</em> indicator of a set of
+ * points. The hypervolume is the volume of the objective space, which is
+ * dominated by the given points and bounded by a {@code reference} point. Like
+ * the other methods of this package, the objective values are
+ * <em>maximized</em>. The {@code reference} point must therefore be
+ * <em>worse</em> (smaller) than the points in every objective. Point
+ * components, which are not greater than the corresponding reference
+ * component, don't contribute to the hypervolume.
+ * {@snippet lang="java":
+ * final double[][] points = {{1, 3}, {2, 2}, {3, 1}};
+ * final double volume = Hypervolume.of(points, new double[]{0, 0});
+ * assert volume == 6.0;
+ * }
+ *
+ * The exact hypervolume is calculated with an {@code O(n*log(n))} sweep
+ * algorithm for two and three objectives and with the <em>WFG</em> algorithm
+ * for more objectives. For a big number of objectives, the
+ * {@link #estimate(double[][], double[], int)} method can be used instead.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      L. While, L. Bradstreet and L. Barone. A Fast Way of Calculating Exact
+ *      Hypervolumes, IEEE Transactions on Evolutionary Computation, vol. 16,
+ *      no. 1, pp. 86-95, 2012.</em>
+ *
+ * @see IncrementalHypervolume
+ * @see SMSEMOASelector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class Hypervolume {
+
+	// The number of Monte-Carlo samples drawn by one task.
+	private static final int SAMPLES_PER_TASK = 50_000;
+
+	private Hypervolume() {
+	}
+
+	/**
+	 * Calculates the exact hypervolume of the given {@code points}.
+	 *
+	 * @param points the points, {@code points[i]} are the (maximized)
+	 *        objective values of point {@code i}
+	 * @param reference the reference point
+	 * @return the hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length of the points and the
+	 *         reference point are not the same
+	 */
+	public static double of(final double[][] points, final double[] reference) {
+		check(points, reference);
+		return volume(front(points, reference), reference);
+	}
+
+	/**
+	 * Calculates the exclusive hypervolume contribution of every given point.
+	 * The contribution of a point is the hypervolume, which is lost if the
+	 * point is removed from the set. Dominated and duplicate points have a
+	 * contribution of zero.
+	 *
+	 * @param points the points, {@code points[i]} are the (maximized)
+	 *        objective values of point {@code i}
+	 * @param reference the reference point
+	 * @return the exclusive hypervolume contributions of the given points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length of the points and the
+	 *         reference point are not the same
+	 */
+	public static double[] contributions(
+		final double[][] points,
+		final double[] reference
+	) {
+		check(points, reference);
+
+		final double[] result = new double[points.length];
+		if (reference.length == 2) {
+			contributions2(points, reference, result);
+		} else {
+			for (int i = 0; i < points.length; ++i) {
+				result[i] = contribution(points, i, reference);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Estimates the hypervolume of the given {@code points} with the given
+	 * number of Monte-Carlo {@code samples}. The samples are drawn uniformly
+	 * from the box, spanned by the {@code reference} point and the component
+	 * wise maximum of the points. Big sample sizes are evaluated in parallel.
+	 * The seeds of the used random generators are taken from the
+	 * {@link RandomRegistry#random()}.
+	 *
+	 * @param points the points, {@code points[i]} are the (maximized)
+	 *        objective values of point {@code i}
+	 * @param reference the reference point
+	 * @param samples the number of Monte-Carlo samples
+	 * @return the estimated hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length of the points and the
+	 *         reference point are not the same or the number of
+	 *         {@code samples} is smaller than one
+	 */
+	public static double estimate(
+		final double[][] points,
+		final double[] reference,
+		final int samples
+	) {
+		check(points, reference);
+		if (samples < 1) {
+			throw new IllegalArgumentException(
+				"Number of samples must be positive: " + samples
+			);
+		}
+
+		final double[][] front = front(points, reference);
+		if (front.length == 0) {
+			return 0;
+		}
+
+		final double[] upper = reference.clone();
+		for (double[] point : front) {
+			for (int i = 0; i < upper.length; ++i) {
+				upper[i] = max(upper[i], point[i]);
+			}
+		}
+
+		final int tasks = (samples + SAMPLES_PER_TASK - 1)/SAMPLES_PER_TASK;
+		final RandomGenerator random = RandomRegistry.random();
+		final long[] seeds = random.longs(tasks).toArray();
+
+		final long hits = IntStream.range(0, tasks)
+			.parallel()
+			.mapToLong(task -> hits(
+				front,
+				reference,
+				upper,
+				min(SAMPLES_PER_TASK, samples - task*SAMPLES_PER_TASK),
+				RandomGeneratorFactory.getDefault().create(seeds[task])
+			))
+			.sum();
+
+		return inclusive(upper, reference)*hits/samples;
+	}
+
+	private static long hits(
+		final double[][] front,
+		final double[] reference,
+		final double[] upper,
+		final int samples,
+		final RandomGenerator random
+	) {
+		final double[] sample = new double[reference.length];
+
+		long hits = 0;
+		for (int s = 0; s < samples; ++s) {
+			for (int i = 0; i < sample.length; ++i) {
+				sample[i] = reference[i] +
+					random.nextDouble()*(upper[i] - reference[i]);
+			}
+			for (double[] point : front) {
+				if (covers(point, sample)) {
+					++hits;
+					break;
+				}
+			}
+		}
+
+		return hits;
+	}
+
+	/* *************************************************************************
+	 * Exact hypervolume algorithms.
+	 * ************************************************************************/
+
+	// Calculates the hypervolume of mutually non-dominated points.
+	static double volume(final double[][] points, final double[] reference) {
+		return switch (points.length) {
+			case 0 -> 0;
+			case 1 -> inclusive(points[0], reference);
+			default -> switch (reference.length) {
+				case 1 -> points[0][0] - reference[0];
+				case 2 -> volume2(points, reference);
+				case 3 -> volume3(points, reference);
+				default -> wfg(points, reference);
+			};
+		};
+	}
+
+	/*
+	 * Sweeps the points in descending order of the first objective. Every
+	 * point, which improves the second objective, adds a new stripe.
+	 */
+	private static double volume2(final double[][] points, final double[] ref) {
+		final double[][] sorted = points.clone();
+		Arrays.sort(sorted, (a, b) -> Double.compare(b[0], a[0]));
+
+		double volume = 0;
+		double height = ref[1];
+		for (double[] point : sorted) {
+			if (point[1] > height) {
+				volume += (point[0] - ref[0])*(point[1] - height);
+				height = point[1];
+			}
+		}
+		return volume;
+	}
+
+	/*
+	 * Sweeps the points in descending order of the third objective. The area
+	 * of the 2-d front of the already processed points is updated
+	 * incrementally, using a staircase of the first two objectives.
+	 */
+	private static double volume3(final double[][] points, final double[] ref) {
+		final double[][] sorted = points.clone();
+		Arrays.sort(sorted, (a, b) -> Double.compare(b[2], a[2]));
+
+		final TreeMap<Double, Double> staircase = new TreeMap<>();
+		double volume = 0;
+		double area = 0;
+		for (int i = 0; i < sorted.length; ++i) {
+			area += insert(staircase, sorted[i][0], sorted[i][1], ref);
+
+			final double next = i + 1 < sorted.length ? sorted[i + 1][2] : ref[2];
+			volume += area*(sorted[i][2] - next);
+		}
+		return volume;
+	}
+
+	// Inserts the point into the staircase and returns the added area.
+	private static double insert(
+		final TreeMap<Double, Double> staircase,
+		final double x,
+		final double y,
+		final double[] ref
+	) {
+		final var ceiling = staircase.ceilingEntry(x);
+		if (ceiling != null && ceiling.getValue() >= y) {
+			return 0;
+		}
+
+		final var higher = staircase.higherEntry(x);
+		final double above = higher != null ? higher.getValue() - ref[1] : 0;
+
+		// Removing the points dominated by (x, y).
+		final List<double[]> removed = new ArrayList<>();
+		var lower = staircase.floorEntry(x);
+		while (lower != null && lower.getValue() <= y) {
+			removed.add(new double[]{lower.getKey(), lower.getValue()});
+			staircase.remove(lower.getKey());
+			lower = staircase.lowerEntry(lower.getKey());
+		}
+		final double left = lower != null ? lower.getKey() : ref[0];
+
+		// The area of the segment (left, x], before inserting the point.
+		double covered = 0;
+		double position = left;
+		for (int i = removed.size(); --i >= 0;) {
+			final double[] point = removed.get(i);
+			covered += (point[0] - position)*(point[1] - ref[1]);
+			position = point[0];
+		}
+		covered += (x - position)*above;
+
+		staircase.put(x, y);
+		return (x - left)*(y - ref[1]) - covered;
+	}
+
+	/*
+	 * The WFG algorithm calculates the hypervolume as sum of the exclusive
+	 * contributions of the points, sorted by the last objective.
+	 */
+	private static double wfg(final double[][] points, final double[] ref) {
+		final int last = ref.length - 1;
+		final double[][] sorted = points.clone();
+		Arrays.sort(sorted, (a, b) -> Double.compare(b[last], a[last]));
+
+		double volume = 0;
+		for (int i = 0; i < sorted.length; ++i) {
+			volume += inclusive(sorted[i], ref) -
+				volume(limit(sorted, i, i + 1, ref), ref);
+		}
+		return volume;
+	}
+
+	/*
+	 * Return the non-dominated points of the given points, limited by the
+	 * point with the given index. Only the points from the given start index
+	 * are taken into account.
+	 */
+	private static double[][] limit(
+		final double[][] points,
+		final int index,
+		final int start,
+		final double[] ref
+	) {
+		final double[] p = points[index];
+		final List<double[]> limited = new ArrayList<>(points.length - start);
+
+		for (int j = start; j < points.length; ++j) {
+			if (j == index) {
+				continue;
+			}
+
+			final double[] q = new double[p.length];
+			boolean empty = false;
+			for (int k = 0; k < q.length && !empty; ++k) {
+				q[k] = min(p[k], points[j][k]);
+				empty = q[k] <= ref[k];
+			}
+
+			if (!empty) {
+				add(limited, q);
+			}
+		}
+
+		return limited.toArray(double[][]::new);
+	}
+
+	// Adds the point to the non-dominated point list.
+	private static void add(final List<double[]> front, final double[] point) {
+		for (int i = front.size(); --i >= 0;) {
+			final double[] existing = front.get(i);
+			if (covers(existing, point)) {
+				return;
+			}
+			if (covers(point, existing)) {
+				front.set(i, front.get(front.size() - 1));
+				front.remove(front.size() - 1);
+			}
+		}
+		front.add(point);
+	}
+
+	/* *************************************************************************
+	 * Contribution methods.
+	 * ************************************************************************/
+
+	// The exclusive contribution of the point with the given index.
+	static double contribution(
+		final double[][] points,
+		final int index,
+		final double[] reference
+	) {
+		final double inclusive = inclusive(points[index], reference);
+		return inclusive > 0
+			? max(inclusive - volume(limit(points, index, 0, reference), reference), 0)
+			: 0;
+	}
+
+	/*
+	 * The contribution of a 2-d front point is the rectangle between the
+	 * point and its two neighbours, minus the area of the dominated points
+	 * which lie within this rectangle. Every dominated point lies within the
+	 * rectangle of at most one front point.
+	 */
+	private static void contributions2(
+		final double[][] points,
+		final double[] ref,
+		final double[] result
+	) {
+		final Integer[] order = IntStream.range(0, points.length)
+			.filter(i -> points[i][0] > ref[0] && points[i][1] > ref[1])
+			.boxed()
+			.toArray(Integer[]::new);
+		Arrays.sort(order, Comparator
+			.<Integer>comparingDouble(i -> -points[i][0])
+			.thenComparingDouble(i -> -points[i][1]));
+
+		// The front points, sorted descending by x and ascending by y.
+		final List<Integer> front = new ArrayList<>();
+		final List<Integer> dominated = new ArrayList<>();
+		double height = ref[1];
+		for (int i : order) {
+			if (points[i][1] > height) {
+				front.add(i);
+				height = points[i][1];
+			} else {
+				dominated.add(i);
+			}
+		}
+
+		final double[] xs = new double[front.size() + 1];
+		final double[] ys = new double[front.size() + 1];
+		for (int k = 0; k < front.size(); ++k) {
+			xs[k] = points[front.get(k)][0];
+			ys[k + 1] = points[front.get(k)][1];
+		}
+		xs[front.size()] = ref[0];
+		ys[0] = ref[1];
+
+		// The dominated points within the rectangle of the front points.
+		final List<List<double[]>> covered = new ArrayList<>(front.size());
+		for (int k = 0; k < front.size(); ++k) {
+			covered.add(List.of());
+		}
+		for (int i : dominated) {
+			final double[] point = points[i];
+
+			// The last front point with x >= point[0].
+			int low = 0;
+			int high = front.size() - 1;
+			while (low < high) {
+				final int mid = (low + high + 1) >>> 1;
+				if (xs[mid] >= point[0]) {
+					low = mid;
+				} else {
+					high = mid - 1;
+				}
+			}
+
+			if (point[1] > ys[low]) {
+				if (covered.get(low).isEmpty()) {
+					covered.set(low, new ArrayList<>());
+				}
+				covered.get(low).add(point);
+			}
+		}
+
+		for (int k = 0; k < front.size(); ++k) {
+			final double[] lower = {xs[k + 1], ys[k]};
+			final double area = (xs[k] - lower[0])*(ys[k + 1] - lower[1]);
+			final List<double[]> inner = covered.get(k);
+
+			result[front.get(k)] = inner.isEmpty()
+				? area
+				: max(area - volume2(inner.toArray(double[][]::new), lower), 0);
+		}
+	}
+
+	/* *************************************************************************
+	 * Helper methods.
+	 * ************************************************************************/
+
+	// Return the non-dominated points, which are better than the reference.
+	private static double[][] front(
+		final double[][] points,
+		final double[] reference
+	) {
+		final List<double[]> front = new ArrayList<>();
+		for (double[] point : points) {
+			if (covers(point, reference) && inclusive(point, reference) > 0) {
+				front.add(point);
+			}
+		}
+		if (front.size() < 2) {
+			return front.toArray(double[][]::new);
+		}
+
+		final double[][] candidates = front.toArray(double[][]::new);
+		final int[] ranks = NonDominatedSort.rank(candidates);
+
+		final List<double[]> result = new ArrayList<>();
+		for (int i = 0; i < candidates.length; ++i) {
+			if (ranks[i] == 0) {
+				result.add(candidates[i]);
+			}
+		}
+		return result.toArray(double[][]::new);
+	}
+
+	// The volume of the box spanned by the point and the reference point.
+	static double inclusive(final double[] point, final double[] reference) {
+		double volume = 1;
+		for (int i = 0; i < point.length; ++i) {
+			volume *= max(point[i] - reference[i], 0);
+		}
+		return volume;
+	}
+
+	// Return true if every component of u is greater or equal than of v.
+	static boolean covers(final double[] u, final double[] v) {
+		for (int i = 0; i < u.length; ++i) {
+			if (u[i] < v[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static void check(final double[][] points, final double[] reference) {
+		requireNonNull(reference);
+		for (double[] point : points) {
+			if (point.length != reference.length) {
+				throw new IllegalArgumentException(format(
+					"Expected point length of %d, but got %d.",
+					reference.length, point.length
+				));
+			}
+		}
+	}
+
+}
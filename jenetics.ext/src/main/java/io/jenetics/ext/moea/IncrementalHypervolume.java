@@ -0,0 +1,258 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Keeps the total hypervolume and the exclusive hypervolume contribution of
+ * every point of a changing point set up to date. When a point is added or
+ * removed, only the contributions of the points, which share a part of the
+ * objective space with the changed point, not dominated by any other point,
+ * are recalculated. This makes the class suitable for hypervolume based
+ * archives and selectors, which repeatedly remove the point with the least
+ * contribution.
+ * {@snippet lang="java":
+ * final var hv = new IncrementalHypervolume(new double[]{0, 0});
+ * hv.add(new double[]{1, 3});
+ * hv.add(new double[]{2, 2});
+ * hv.add(new double[]{3, 1});
+ *
+ * // Removes the point {2, 2}, with the smallest contribution of 1.
+ * hv.remove(hv.leastContributor());
+ * assert hv.volume() == 5.0;
+ * }
+ *
+ * Like the {@link Hypervolume} methods, the objective values are
+ * <em>maximized</em>.
+ *
+ * @see Hypervolume
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class IncrementalHypervolume {
+
+	private final double[] _reference;
+
+	private final List<double[]> _points = new ArrayList<>();
+	private double[] _contributions = new double[16];
+	private double _volume = 0;
+
+	/**
+	 * Create a new, empty hypervolume point set with the given
+	 * {@code reference} point.
+	 *
+	 * @param reference the reference point
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code reference} point is empty
+	 */
+	public IncrementalHypervolume(final double[] reference) {
+		if (reference.length == 0) {
+			throw new IllegalArgumentException("Reference point is empty.");
+		}
+		_reference = reference.clone();
+	}
+
+	/**
+	 * Return the number of points.
+	 *
+	 * @return the number of points
+	 */
+	public int size() {
+		return _points.size();
+	}
+
+	/**
+	 * Return the hypervolume of the current point set.
+	 *
+	 * @return the hypervolume of the current point set
+	 */
+	public double volume() {
+		return _volume;
+	}
+
+	/**
+	 * Return the point with the given {@code index}.
+	 *
+	 * @param index the point index
+	 * @return a copy of the point with the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double[] point(final int index) {
+		return _points.get(index).clone();
+	}
+
+	/**
+	 * Return the exclusive hypervolume contribution of the point with the
+	 * given {@code index}.
+	 *
+	 * @param index the point index
+	 * @return the hypervolume contribution of the point
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double contribution(final int index) {
+		if (index < 0 || index >= _points.size()) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d out of bounds for length %d", index, _points.size()
+			));
+		}
+		return _contributions[index];
+	}
+
+	/**
+	 * Return the index of the point with the smallest hypervolume
+	 * contribution, or {@code -1} if the point set is empty.
+	 *
+	 * @return the index of the least contributing point
+	 */
+	public int leastContributor() {
+		int index = -1;
+		for (int i = 0; i < _points.size(); ++i) {
+			if (index == -1 || _contributions[i] < _contributions[index]) {
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Adds a new point to the point set. The new point gets the index
+	 * {@code size() - 1}. Dominated points are allowed and have a
+	 * contribution of zero.
+	 *
+	 * @param point the point to add
+	 * @throws NullPointerException if the {@code point} is {@code null}
+	 * @throws IllegalArgumentException if the point length differs from the
+	 *         reference point length
+	 */
+	public void add(final double[] point) {
+		Hypervolume.check(new double[][]{point}, _reference);
+
+		final double[] p = point.clone();
+		final IntList affected = affected(p, -1);
+
+		_points.add(p);
+		if (_contributions.length < _points.size()) {
+			_contributions = Arrays.copyOf(_contributions, _contributions.length*2);
+		}
+
+		final double[][] points = _points.toArray(double[][]::new);
+		final int index = points.length - 1;
+		_contributions[index] = Hypervolume.contribution(points, index, _reference);
+		_volume += _contributions[index];
+
+		update(points, affected);
+	}
+
+	/**
+	 * Removes the point with the given {@code index}. The indexes of the
+	 * following points are shifted by one.
+	 *
+	 * @param index the index of the point to remove
+	 * @return the removed point
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double[] remove(final int index) {
+		final double contribution = contribution(index);
+		final double[] point = _points.get(index);
+		final IntList affected = affected(point, index);
+
+		_points.remove(index);
+		System.arraycopy(
+			_contributions, index + 1,
+			_contributions, index,
+			_points.size() - index
+		);
+		_volume = _points.isEmpty() ? 0 : _volume - contribution;
+
+		final IntList shifted = new IntList(affected.size());
+		affected.forEach(i -> shifted.add(i > index ? i - 1 : i));
+		update(_points.toArray(double[][]::new), shifted);
+
+		return point;
+	}
+
+	/*
+	 * Return the indexes of the points, whose contribution can be changed by
+	 * the given point. This is the case if the common part of the two
+	 * points is not covered by a third point.
+	 */
+	private IntList affected(final double[] point, final int exclude) {
+		final IntList affected = new IntList();
+		final double[] common = new double[point.length];
+
+		for (int i = 0; i < _points.size(); ++i) {
+			if (i == exclude) {
+				continue;
+			}
+
+			final double[] p = _points.get(i);
+			for (int k = 0; k < common.length; ++k) {
+				common[k] = min(point[k], p[k]);
+			}
+
+			if (Hypervolume.inclusive(common, _reference) > 0 &&
+				!covered(common, i, exclude))
+			{
+				affected.add(i);
+			}
+		}
+
+		return affected;
+	}
+
+	private boolean covered(final double[] point, final int i, final int j) {
+		for (int k = 0; k < _points.size(); ++k) {
+			if (k != i && k != j && Hypervolume.covers(_points.get(k), point)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void update(final double[][] points, final IntList indexes) {
+		for (int k = 0; k < indexes.size(); ++k) {
+			final int i = indexes.get(k);
+			_contributions[i] = Hypervolume.contribution(points, i, _reference);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"IncrementalHypervolume[size=%d, volume=%s]",
+			_points.size(), _volume
+		);
+	}
+
+}
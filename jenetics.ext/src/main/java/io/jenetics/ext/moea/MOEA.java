@@ -23,8 +23,16 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.ext.moea.Pareto.front;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 
@@ -36,8 +44,8 @@ import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 
 /**
- * Collectors for collecting final <em>pareto-set</em> for multi-objective
- * optimization.
+ * Collectors for collecting final <em>pareto-set</em> and limits for
+ * multi-objective optimization.
  *
  * {@snippet lang="java":
  *  final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
@@ -62,7 +70,7 @@ import io.jenetics.util.IntRange;
  * }
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 8.1
  * @since 4.1
  */
 public final class MOEA {
@@ -175,6 +183,344 @@ public final class MOEA {
 		);
 	}
 
+	/**
+	 * Collector of {@link Phenotype} objects, who's (multi-objective) fitness
+	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     pareto front</a>. Other than the {@link #toParetoSet()} collector,
+	 * the size of the returned pareto set is not limited. The phenotypes are
+	 * collected in a {@link ParetoArchive}, which makes it possible to keep
+	 * every non-dominated phenotype of a long-running evolution.
+	 *
+	 * @since 8.1
+	 *
+	 * @see ParetoArchive
+	 *
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector, created with
+	 *        {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 *        {@link Vec#of(double...)} or a primitive {@link VecFactory}
+	 * @return the pareto set collector
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	Collector<EvolutionResult<G, V>, ?, ISeq<Phenotype<G, V>>>
+	toParetoArchive() {
+		return toParetoArchive(Vecs::objectives);
+	}
+
+	/**
+	 * Collector of {@link Phenotype} objects, who's (multi-objective) fitness
+	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     pareto front</a>. Other than the {@link #toParetoSet()} collector,
+	 * the size of the returned pareto set is not limited.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toParetoArchive()
+	 * @see ParetoArchive
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}. The objective values are
+	 *        maximized, if the evolution maximizes the fitness, and minimized
+	 *        otherwise.
+	 * @param <G> the gene type
+	 * @param <C> the multi object result vector. E.g. {@code Vec<double[]>}
+	 * @return the pareto set collector
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Collector<EvolutionResult<G, C>, ?, ISeq<Phenotype<G, C>>>
+	toParetoArchive(final Function<? super C, double[]> objectives) {
+		requireNonNull(objectives);
+
+		return Collector.of(
+			() -> Archive.<G, C>unbounded(objectives),
+			Archive::add,
+			Archive::merge,
+			Archive::toISeq
+		);
+	}
+
+	/**
+	 * Collector of {@link Phenotype} objects, who's (multi-objective) fitness
+	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     pareto front</a>. Other than the {@link #toParetoSet(IntRange)}
+	 * collector, the pareto set is trimmed incrementally, with the
+	 * <em>adaptive grid archiving</em> of the {@link AdaptiveGridArchive},
+	 * and never holds more than twice the {@code capacity} phenotypes. The
+	 * collector can also be used for combining the results of many
+	 * independent evolution runs in a parallel stream.
+	 * {@snippet lang="java":
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result =
+	 *     IntStream.range(0, 10).parallel()
+	 *         .mapToObj(i -> engine.stream().limit(100))
+	 *         .flatMap(Function.identity())
+	 *         .collect(MOEA.toBoundedParetoSet(100));
+	 * }
+	 *
+	 * @since 8.1
+	 *
+	 * @see AdaptiveGridArchive
+	 *
+	 * @param capacity the maximal size of the returned pareto set
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector, created with
+	 *        {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 *        {@link Vec#of(double...)} or a primitive {@link VecFactory}
+	 * @return the pareto set collector
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	Collector<EvolutionResult<G, V>, ?, ISeq<Phenotype<G, V>>>
+	toBoundedParetoSet(final int capacity) {
+		return toBoundedParetoSet(capacity, Vecs::objectives);
+	}
+
+	/**
+	 * Collector of {@link Phenotype} objects, who's (multi-objective) fitness
+	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     pareto front</a>. The size of the pareto set is bounded by the
+	 * given {@code capacity}.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toBoundedParetoSet(int)
+	 * @see AdaptiveGridArchive
+	 *
+	 * @param capacity the maximal size of the returned pareto set
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}. The objective values are
+	 *        maximized, if the evolution maximizes the fitness, and minimized
+	 *        otherwise.
+	 * @param <G> the gene type
+	 * @param <C> the multi object result vector. E.g. {@code Vec<double[]>}
+	 * @return the pareto set collector
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Collector<EvolutionResult<G, C>, ?, ISeq<Phenotype<G, C>>>
+	toBoundedParetoSet(
+		final int capacity,
+		final Function<? super C, double[]> objectives
+	) {
+		requireNonNull(objectives);
+		if (capacity < 1) {
+			throw new IllegalArgumentException(
+				"Capacity must be greater than zero: " + capacity
+			);
+		}
+
+		return Collector.of(
+			() -> Archive.<G, C>bounded(capacity, objectives),
+			Archive::add,
+			Archive::merge,
+			Archive::toISeq,
+			Collector.Characteristics.UNORDERED
+		);
+	}
+
+	/**
+	 * Return a predicate, which will truncate the evolution stream if the
+	 * hypervolume of the population, with respect to the given
+	 * {@code reference} point, hasn't been improved for the given number of
+	 * {@code generations}.
+	 *
+	 * {@snippet lang="java":
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result = engine.stream()
+	 *     .limit(MOEA.bySteadyHypervolume(new double[]{-1, -1}, 20))
+	 *     .collect(MOEA.toParetoSet());
+	 * }
+	 *
+	 * @since 8.1
+	 *
+	 * @see Hypervolume
+	 *
+	 * @param reference the reference point of the hypervolume. It must be
+	 *        worse than the population, in every objective.
+	 * @param generations the number of <i>steady</i> generations
+	 * @param <V> the multi object result type vector, created with
+	 *        {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 *        {@link Vec#of(double...)} or a primitive {@link VecFactory}
+	 * @return a predicate which truncates the evolution stream, if the
+	 *         hypervolume stays the same for the specified number of
+	 *         {@code generations}
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1}
+	 */
+	public static <V extends Vec<?>> Predicate<EvolutionResult<?, V>>
+	bySteadyHypervolume(final double[] reference, final int generations) {
+		return bySteadyHypervolume(Vecs::objectives, reference, generations, 0.0);
+	}
+
+	/**
+	 * Return a predicate, which will truncate the evolution stream if the
+	 * hypervolume of the population, with respect to the given
+	 * {@code reference} point, hasn't been improved by more than the relative
+	 * {@code epsilon} for the given number of {@code generations}.
+	 *
+	 * @since 8.1
+	 *
+	 * @see Hypervolume
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}
+	 * @param reference the reference point of the hypervolume. It must be
+	 *        worse than the population, in every objective.
+	 * @param generations the number of <i>steady</i> generations
+	 * @param epsilon the minimal relative hypervolume improvement
+	 * @param <C> the multi object result vector
+	 * @return a predicate which truncates the evolution stream, if the
+	 *         hypervolume stays the same for the specified number of
+	 *         {@code generations}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1} or
+	 *         {@code epsilon < 0}
+	 */
+	public static <C extends Comparable<? super C>>
+	Predicate<EvolutionResult<?, C>> bySteadyHypervolume(
+		final Function<? super C, double[]> objectives,
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		return new SteadyHypervolumeLimit<C>(
+			objectives,
+			reference,
+			generations,
+			epsilon
+		);
+	}
+
+	/*
+	 * Collects the phenotypes of the evolution results in an archive of type
+	 * {@code A}. The archive is created with the first evolution result, since
+	 * the objective values depend on its optimization strategy. Only the
+	 * non-dominated front of a population is inserted, in chunks of at most
+	 * {@code chunk} phenotypes.
+	 */
+	private static final class Archive<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>,
+		A extends Collection<Phenotype<G, C>>
+	> {
+
+		final Function<? super C, double[]> _objectives;
+		final BiFunction<
+			Function<Phenotype<G, C>, double[]>,
+			BiPredicate<Phenotype<G, C>, Phenotype<G, C>>,
+			A
+		> _factory;
+		final BiConsumer<A, A> _merger;
+		final Function<A, ISeq<Phenotype<G, C>>> _finisher;
+		final int _chunk;
+
+		private Optimize _optimize;
+		private A _archive;
+
+		Archive(
+			final Function<? super C, double[]> objectives,
+			final BiFunction<
+				Function<Phenotype<G, C>, double[]>,
+				BiPredicate<Phenotype<G, C>, Phenotype<G, C>>,
+				A
+			> factory,
+			final BiConsumer<A, A> merger,
+			final Function<A, ISeq<Phenotype<G, C>>> finisher,
+			final int chunk
+		) {
+			_objectives = objectives;
+			_factory = factory;
+			_merger = merger;
+			_finisher = finisher;
+			_chunk = chunk;
+		}
+
+		static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Archive<G, C, ParetoArchive<Phenotype<G, C>>>
+		unbounded(final Function<? super C, double[]> objectives) {
+			return new Archive<G, C, ParetoArchive<Phenotype<G, C>>>(
+				objectives,
+				ParetoArchive::new,
+				ParetoArchive::merge,
+				ParetoArchive::toISeq,
+				Integer.MAX_VALUE
+			);
+		}
+
+		static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Archive<G, C, AdaptiveGridArchive<Phenotype<G, C>>>
+		bounded(
+			final int capacity,
+			final Function<? super C, double[]> objectives
+		) {
+			return new Archive<G, C, AdaptiveGridArchive<Phenotype<G, C>>>(
+				objectives,
+				(o, e) -> new AdaptiveGridArchive<>(
+					o, e, capacity, AdaptiveGridArchive.DEFAULT_DIVISIONS
+				),
+				AdaptiveGridArchive::merge,
+				AdaptiveGridArchive::toISeq,
+				capacity
+			);
+		}
+
+		void add(final EvolutionResult<G, C> result) {
+			if (_archive == null) {
+				_optimize = result.optimize();
+				_archive = _factory.apply(this::objectives, this::equals);
+			}
+
+			final ISeq<Phenotype<G, C>> population = result.population();
+			final int[] rank = NonDominatedSort.rank(
+				population.stream()
+					.map(this::objectives)
+					.toArray(double[][]::new)
+			);
+
+			final List<Phenotype<G, C>> front = new ArrayList<>();
+			for (int i = 0; i < rank.length; ++i) {
+				if (rank[i] == 0) {
+					front.add(population.get(i));
+				}
+			}
+
+			// Bounded archives are trimmed after every chunk.
+			for (int i = 0; i < front.size(); i += _chunk) {
+				_archive.addAll(
+					front.subList(i, i + Math.min(front.size() - i, _chunk))
+				);
+			}
+		}
+
+		private double[] objectives(final Phenotype<G, C> pt) {
+			return Vecs.maximized(_objectives.apply(pt.fitness()), _optimize);
+		}
+
+		private boolean equals(final Phenotype<?, ?> a, final Phenotype<?, ?> b) {
+			return Objects.equals(a.genotype(), b.genotype());
+		}
+
+		Archive<G, C, A> merge(final Archive<G, C, A> archive) {
+			if (_archive == null) {
+				return archive;
+			}
+			if (archive._archive != null) {
+				_merger.accept(_archive, archive._archive);
+			}
+			return this;
+		}
+
+		ISeq<Phenotype<G, C>> toISeq() {
+			return _archive != null ? _finisher.apply(_archive) : ISeq.empty();
+		}
+
+	}
+
 	private static final class Front<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
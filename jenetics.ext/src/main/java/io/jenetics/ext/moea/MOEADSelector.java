@@ -0,0 +1,472 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Arrays.swap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Decomposition-based selector, as used by the <em>MOEA/D</em>. The
+ * multi-objective problem is decomposed into scalar subproblems, one for
+ * every weight vector of a structured set. Other than the
+ * {@link NSGA2Selector} and the {@link NSGA3Selector}, the population is not
+ * sorted into non-dominated fronts. Every phenotype is associated with the
+ * weight vector closest to its normalized objective values. The phenotypes
+ * only compete within the <em>neighbourhood</em> of a subproblem, which
+ * consists of the subproblems with the closest weight vectors. The
+ * phenotypes are compared by the {@link Scalarization} function of the
+ * subproblem.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(MOEADSelector.ofVec(12))
+ *     .build();
+ * }
+ *
+ * The survivors are picked in rounds. In every round, each subproblem, in
+ * random order, selects its best phenotype which hasn't been selected yet.
+ * If the number of selected phenotypes equals the number of weight vectors,
+ * every subproblem keeps the best phenotype of its neighbourhood. The
+ * weight vectors are created with the method of Das and Dennis, see
+ * {@link NSGA3Selector#referencePoints(int, int)}.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      Q. Zhang and H. Li. MOEA/D: A Multiobjective Evolutionary Algorithm
+ *      Based on Decomposition, IEEE Transactions on Evolutionary
+ *      Computation, vol. 11, no. 6, pp. 712-731, 2007.</em>
+ *
+ * @implNote
+ * The objective values are copied into primitive arrays. The neighbourhoods
+ * of big populations are evaluated in parallel, since every neighbourhood
+ * only reads the phenotypes associated with it. The weight vectors and its
+ * neighbourhoods are only calculated once per number of objectives.
+ *
+ * @see NSGA3Selector
+ * @see Scalarization
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public class MOEADSelector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	/**
+	 * The default number of subproblems of a neighbourhood.
+	 */
+	public static final int DEFAULT_NEIGHBOURS = 20;
+
+	// Minimal number of scalarizations for a parallel neighbourhood update.
+	private static final int PARALLEL_UPDATE_SIZE = 1 << 16;
+
+	/*
+	 * The weight vectors, its unit length directions and the indexes of the
+	 * neighbouring subproblems of every subproblem.
+	 */
+	record Subproblems(
+		double[][] weights,
+		double[][] directions,
+		int[][] neighbours
+	) {
+		int size() {
+			return weights.length;
+		}
+	}
+
+	private final Function<? super C, double[]> _objectives;
+	private final int _divisions;
+	private final int _neighbours;
+	private final Scalarization _scalarization;
+
+	// The subproblems of the last used dimension.
+	private volatile Subproblems _subproblems;
+
+	/**
+	 * Create a new MOEA/D selector.
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}. The objective values are
+	 *        maximized or minimized, according to the {@link Optimize}
+	 *        strategy of the selection.
+	 * @param divisions the number of weight vector divisions
+	 * @param neighbours the number of subproblems of a neighbourhood
+	 * @param scalarization the scalarizing function of the subproblems
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code divisions < 1} or
+	 *         {@code neighbours < 1}
+	 */
+	public MOEADSelector(
+		final Function<? super C, double[]> objectives,
+		final int divisions,
+		final int neighbours,
+		final Scalarization scalarization
+	) {
+		if (divisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Divisions must be greater than zero: %d", divisions
+			));
+		}
+		if (neighbours < 1) {
+			throw new IllegalArgumentException(format(
+				"Neighbours must be greater than zero: %d", neighbours
+			));
+		}
+
+		_objectives = requireNonNull(objectives);
+		_divisions = divisions;
+		_neighbours = neighbours;
+		_scalarization = requireNonNull(scalarization);
+	}
+
+	/**
+	 * Create a new MOEA/D selector with the {@link #DEFAULT_NEIGHBOURS} and
+	 * the {@link Scalarization#tchebycheff()} function.
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}
+	 * @param divisions the number of weight vector divisions
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public MOEADSelector(
+		final Function<? super C, double[]> objectives,
+		final int divisions
+	) {
+		this(objectives, divisions, DEFAULT_NEIGHBOURS, Scalarization.tchebycheff());
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population);
+		requireNonNull(opt);
+		if (count < 0) {
+			throw new IllegalArgumentException(
+				"Selection count must be greater or equal then zero, but was " +
+					count
+			);
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final double[][] values = Vecs.maximized(population, _objectives, opt);
+		final Subproblems subproblems = subproblems(values[0].length);
+		final int[] selected = select(
+			values,
+			min(count, values.length),
+			subproblems,
+			_scalarization,
+			RandomRegistry.random(),
+			values.length*(long)subproblems.neighbours()[0].length >=
+				PARALLEL_UPDATE_SIZE
+		);
+
+		final List<Phenotype<G, C>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < selected.length && result.size() < count; ++i) {
+				result.add(population.get(selected[i]));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	private Subproblems subproblems(final int dimension) {
+		Subproblems subproblems = _subproblems;
+		if (subproblems == null ||
+			subproblems.weights()[0].length != dimension)
+		{
+			subproblems = subproblems(dimension, _divisions, _neighbours);
+			_subproblems = subproblems;
+		}
+		return subproblems;
+	}
+
+	/* *************************************************************************
+	 * Selection methods, working on the maximized objective values.
+	 * ************************************************************************/
+
+	/*
+	 * Selects the given number of distinct points and returns its indexes.
+	 * The count must not be greater than the number of points.
+	 */
+	static int[] select(
+		final double[][] values,
+		final int count,
+		final Subproblems subproblems,
+		final Scalarization scalarization,
+		final RandomGenerator random,
+		final boolean parallel
+	) {
+		final double[][] normalized = normalize(values);
+
+		final int[] homes = new int[normalized.length];
+		NSGA3Selector.associate(
+			normalized,
+			subproblems.directions(),
+			homes,
+			new double[normalized.length]
+		);
+
+		// The points associated with every subproblem.
+		final IntList[] members = new IntList[subproblems.size()];
+		for (int i = 0; i < homes.length; ++i) {
+			if (members[homes[i]] == null) {
+				members[homes[i]] = new IntList();
+			}
+			members[homes[i]].add(i);
+		}
+
+		// Every neighbourhood only reads its members and writes its ranking.
+		final int[][] rankings = new int[subproblems.size()][];
+		final IntStream indexes = IntStream.range(0, subproblems.size());
+		(parallel ? indexes.parallel() : indexes).forEach(j ->
+			rankings[j] = ranking(
+				normalized,
+				members,
+				subproblems.neighbours()[j],
+				subproblems.weights()[j],
+				scalarization
+			)
+		);
+
+		final int[] order = IntStream.range(0, subproblems.size()).toArray();
+		for (int i = order.length; --i > 0;) {
+			swap(order, i, random.nextInt(i + 1));
+		}
+
+		final int[] positions = new int[subproblems.size()];
+		final boolean[] taken = new boolean[normalized.length];
+		final IntList selected = new IntList(count);
+		boolean progress = true;
+		while (selected.size() < count && progress) {
+			progress = false;
+			for (int i = 0; i < order.length && selected.size() < count; ++i) {
+				final int[] ranking = rankings[order[i]];
+				int position = positions[order[i]];
+				while (position < ranking.length && taken[ranking[position]]) {
+					++position;
+				}
+
+				if (position < ranking.length) {
+					taken[ranking[position]] = true;
+					selected.add(ranking[position]);
+					progress = true;
+					++position;
+				}
+				positions[order[i]] = position;
+			}
+		}
+
+		return selected.toArray();
+	}
+
+	/*
+	 * Return the members of the given neighbourhood, sorted by its
+	 * scalarized value of the given weight vector. Members with the same
+	 * value are ordered by its index.
+	 */
+	private static int[] ranking(
+		final double[][] normalized,
+		final IntList[] members,
+		final int[] neighbourhood,
+		final double[] weight,
+		final Scalarization scalarization
+	) {
+		final IntList candidates = new IntList();
+		for (int neighbour : neighbourhood) {
+			if (members[neighbour] != null) {
+				candidates.addAll(members[neighbour].toArray());
+			}
+		}
+
+		final int[] points = candidates.toArray();
+		Arrays.sort(points);
+
+		final double[] scalarized = new double[points.length];
+		for (int i = 0; i < points.length; ++i) {
+			scalarized[i] = scalarization.apply(normalized[points[i]], weight);
+		}
+
+		final int[] order = ProxySorter.sort(scalarized);
+		final int[] ranking = new int[points.length];
+		for (int i = 0; i < ranking.length; ++i) {
+			ranking[i] = points[order[i]];
+		}
+		return ranking;
+	}
+
+	/*
+	 * Return the normalized (minimized) objective values. The objectives are
+	 * translated by the ideal point and divided by the range of the
+	 * objective values.
+	 */
+	static double[][] normalize(final double[][] values) {
+		final int dim = values[0].length;
+
+		final double[] ideal = values[0].clone();
+		final double[] nadir = values[0].clone();
+		for (double[] value : values) {
+			for (int k = 0; k < dim; ++k) {
+				ideal[k] = Math.max(ideal[k], value[k]);
+				nadir[k] = Math.min(nadir[k], value[k]);
+			}
+		}
+
+		final double[][] normalized = new double[values.length][dim];
+		for (int i = 0; i < values.length; ++i) {
+			for (int k = 0; k < dim; ++k) {
+				final double range = ideal[k] - nadir[k];
+				normalized[i][k] = range > 0
+					? (ideal[k] - values[i][k])/range
+					: 0;
+			}
+		}
+		return normalized;
+	}
+
+	/* *************************************************************************
+	 * Weight vector methods.
+	 * ************************************************************************/
+
+	/*
+	 * Return the weight vectors of the given dimension and the neighbourhoods
+	 * of its subproblems. A neighbourhood contains the subproblem itself and
+	 * the subproblems with the closest weight vectors.
+	 */
+	static Subproblems subproblems(
+		final int dimension,
+		final int divisions,
+		final int neighbours
+	) {
+		final double[][] weights =
+			NSGA3Selector.referencePoints(dimension, divisions);
+
+		final double[][] directions = new double[weights.length][];
+		for (int i = 0; i < weights.length; ++i) {
+			final double norm = Math.sqrt(dot(weights[i], weights[i]));
+			directions[i] = new double[dimension];
+			for (int k = 0; k < dimension; ++k) {
+				directions[i][k] = weights[i][k]/norm;
+			}
+		}
+
+		final int size = min(neighbours, weights.length);
+		final int[][] neighbourhoods = new int[weights.length][];
+		final double[] distances = new double[weights.length];
+		for (int i = 0; i < weights.length; ++i) {
+			for (int j = 0; j < weights.length; ++j) {
+				distances[j] = distance(weights[i], weights[j]);
+			}
+			neighbourhoods[i] = Arrays.copyOf(ProxySorter.sort(distances), size);
+		}
+
+		return new Subproblems(weights, directions, neighbourhoods);
+	}
+
+	private static double dot(final double[] u, final double[] v) {
+		double sum = 0;
+		for (int k = 0; k < u.length; ++k) {
+			sum += u[k]*v[k];
+		}
+		return sum;
+	}
+
+	private static double distance(final double[] u, final double[] v) {
+		double sum = 0;
+		for (int k = 0; k < u.length; ++k) {
+			final double diff = u[k] - v[k];
+			sum += diff*diff;
+		}
+		return sum;
+	}
+
+	/**
+	 * Return a new MOEA/D selector for {@link Vec} objects, with the
+	 * {@link #DEFAULT_NEIGHBOURS} and the {@link Scalarization#tchebycheff()}
+	 * function.
+	 *
+	 * @param divisions the number of weight vector divisions
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector
+	 * @return a new MOEA/D selector
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	MOEADSelector<G, V> ofVec(final int divisions) {
+		return new MOEADSelector<>(Vecs::objectives, divisions);
+	}
+
+	/**
+	 * Return a new MOEA/D selector for {@link Vec} objects, with the
+	 * {@link #DEFAULT_NEIGHBOURS} and the given {@code scalarization}
+	 * function.
+	 *
+	 * @param divisions the number of weight vector divisions
+	 * @param scalarization the scalarizing function of the subproblems
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector
+	 * @return a new MOEA/D selector
+	 * @throws NullPointerException if the {@code scalarization} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	MOEADSelector<G, V> ofVec(
+		final int divisions,
+		final Scalarization scalarization
+	) {
+		return new MOEADSelector<>(
+			Vecs::objectives,
+			divisions,
+			DEFAULT_NEIGHBOURS,
+			scalarization
+		);
+	}
+
+}
@@ -24,6 +24,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.ToIntFunction;
 import java.util.stream.IntStream;
 
@@ -47,8 +48,12 @@ import io.jenetics.util.Seq;
  *      (April 2002), 182-197. DOI=<a href="http://dx.doi.org/10.1109/4235.996017">
  *          10.1109/4235.996017</a></em>
  *
+ * @implNote
+ * Populations with {@code 256} and more individuals are ranked with the
+ * {@link NonDominatedSort}, which doesn't need a {@code n×n} dominance matrix.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.1
  * @since 4.1
  */
 public class NSGA2Selector<
@@ -62,6 +67,7 @@ public class NSGA2Selector<
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final Function<Phenotype<G, C>, double[]> _objectives;
 
 	/**
 	 * Creates a new {@code NSGA2Selector} with the functions needed for
@@ -88,6 +94,20 @@ public class NSGA2Selector<
 		final ElementComparator<? super C> comparator,
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, null);
+	}
+
+	/*
+	 * The optional objectives function returns the primitive objective values
+	 * of a fitness value, which can be used for ranking large populations.
+	 */
+	NSGA2Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final Function<? super C, double[]> objectives
 	) {
 		requireNonNull(dominance);
 		requireNonNull(comparator);
@@ -98,6 +118,9 @@ public class NSGA2Selector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_objectives = objectives != null
+			? pt -> objectives.apply(pt.fitness())
+			: null;
 	}
 
 	@Override
@@ -112,7 +135,8 @@ public class NSGA2Selector<
 			_dominance,
 			_comparator,
 			_distance,
-			_dimension
+			_dimension,
+			_objectives
 		);
 
 		final int[] idx = ProxySorter.sort(
@@ -160,7 +184,8 @@ public class NSGA2Selector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			CrowdedComparator::doubles
 		);
 	}
 
@@ -0,0 +1,676 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Arrays.swap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Reference point based selector, as used by the <em>NSGA-III</em>, for
+ * problems with many objectives. Like the {@link NSGA2Selector}, the
+ * population is partitioned into fronts with the {@link NonDominatedSort}.
+ * The phenotypes of the last, partially selected front are not chosen by
+ * its crowding distance, but by the niches of a set of structured
+ * reference points. The objective values are normalized with the ideal point
+ * and the intercepts of the hyperplane, spanned by the extreme points, and
+ * every phenotype is associated with its closest reference line. Phenotypes
+ * of rarely occupied niches are preferred.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(NSGA3Selector.ofVec(12))
+ *     .build();
+ * }
+ *
+ * The reference points are created with the method of Das and Dennis, which
+ * creates {@code binomial(divisions + m - 1, m - 1)} points for {@code m}
+ * objectives. For many objectives, the points of two layers, with a small
+ * number of divisions each, should be used instead.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      K. Deb and H. Jain. An Evolutionary Many-Objective Optimization
+ *      Algorithm Using Reference-Point-Based Nondominated Sorting Approach,
+ *      Part I: Solving Problems With Box Constraints, IEEE Transactions on
+ *      Evolutionary Computation, vol. 18, no. 4, pp. 577-601, 2014.</em>
+ *
+ * @implNote
+ * The objective values are copied into primitive arrays and the association
+ * of big populations with the reference lines is performed in parallel.
+ *
+ * @see NSGA2Selector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public class NSGA3Selector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	// Minimal number of distance calculations for a parallel association.
+	private static final int PARALLEL_ASSOCIATION_SIZE = 1 << 18;
+
+	private static final double EPSILON = 1e-10;
+
+	private final Function<? super C, double[]> _objectives;
+	private final int _outer;
+	private final int _inner;
+
+	// The reference directions of the last used dimension.
+	private volatile double[][] _directions;
+
+	/**
+	 * Create a new NSGA-III selector with the given {@code objectives}
+	 * function and the number of reference point divisions of the outer and
+	 * inner layer.
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}. The objective values are
+	 *        maximized or minimized, according to the {@link Optimize}
+	 *        strategy of the selection.
+	 * @param outer the number of divisions of the outer reference point layer
+	 * @param inner the number of divisions of the inner reference point layer.
+	 *        No inner layer is created if the value is zero.
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code outer < 1} or
+	 *         {@code inner < 0}
+	 */
+	public NSGA3Selector(
+		final Function<? super C, double[]> objectives,
+		final int outer,
+		final int inner
+	) {
+		if (outer < 1) {
+			throw new IllegalArgumentException(format(
+				"Outer divisions must be greater than zero: %d", outer
+			));
+		}
+		if (inner < 0) {
+			throw new IllegalArgumentException(format(
+				"Inner divisions must not be negative: %d", inner
+			));
+		}
+
+		_objectives = requireNonNull(objectives);
+		_outer = outer;
+		_inner = inner;
+	}
+
+	/**
+	 * Create a new NSGA-III selector with the given {@code objectives}
+	 * function and one layer of reference points.
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}
+	 * @param divisions the number of reference point divisions
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public NSGA3Selector(
+		final Function<? super C, double[]> objectives,
+		final int divisions
+	) {
+		this(objectives, divisions, 0);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population);
+		requireNonNull(opt);
+		if (count < 0) {
+			throw new IllegalArgumentException(
+				"Selection count must be greater or equal then zero, but was " +
+					count
+			);
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final double[][] values = Vecs.maximized(population, _objectives, opt);
+		final int[] selected = select(
+			values,
+			min(count, values.length),
+			directions(values[0].length),
+			RandomRegistry.random()
+		);
+
+		final List<Phenotype<G, C>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < selected.length && result.size() < count; ++i) {
+				result.add(population.get(selected[i]));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	private double[][] directions(final int dimension) {
+		double[][] directions = _directions;
+		if (directions == null || directions[0].length != dimension) {
+			directions = directions(dimension, _outer, _inner);
+			_directions = directions;
+		}
+		return directions;
+	}
+
+	/* *************************************************************************
+	 * Selection methods, working on the maximized objective values.
+	 * ************************************************************************/
+
+	/*
+	 * Selects the given number of points and returns its indexes. The
+	 * points of the fully selected fronts come first.
+	 */
+	static int[] select(
+		final double[][] values,
+		final int count,
+		final double[][] directions,
+		final RandomGenerator random
+	) {
+		final int[] ranks = NonDominatedSort.rank(values);
+		final List<IntList> fronts = new ArrayList<>();
+		for (int i = 0; i < ranks.length; ++i) {
+			while (fronts.size() <= ranks[i]) {
+				fronts.add(new IntList());
+			}
+			fronts.get(ranks[i]).add(i);
+		}
+
+		// The points of the fronts, which are completely selected.
+		final IntList chosen = new IntList(count);
+		int last = 0;
+		while (chosen.size() + fronts.get(last).size() <= count) {
+			chosen.addAll(fronts.get(last).toArray());
+			if (chosen.size() == count) {
+				return chosen.toArray();
+			}
+			++last;
+		}
+
+		// Normalization and niching is done for the chosen and the last front.
+		final IntList candidates = new IntList(count*2);
+		candidates.addAll(chosen.toArray());
+		candidates.addAll(fronts.get(last).toArray());
+
+		final double[][] normalized = normalize(
+			values,
+			candidates,
+			fronts.get(0).size()
+		);
+		final int[] niches = new int[normalized.length];
+		final double[] distances = new double[normalized.length];
+		associate(normalized, directions, niches, distances);
+
+		final int[] counts = new int[directions.length];
+		for (int i = 0; i < chosen.size(); ++i) {
+			++counts[niches[i]];
+		}
+
+		final int[] picked = niching(
+			count - chosen.size(),
+			chosen.size(),
+			niches,
+			distances,
+			counts,
+			random
+		);
+
+		final int[] result = new int[count];
+		for (int i = 0; i < chosen.size(); ++i) {
+			result[i] = chosen.get(i);
+		}
+		for (int i = 0; i < picked.length; ++i) {
+			result[chosen.size() + i] = candidates.get(picked[i]);
+		}
+		return result;
+	}
+
+	/*
+	 * Return the normalized (minimized) objective values of the candidates.
+	 * The objectives are translated by the ideal point and scaled by the
+	 * intercepts of the hyperplane through the extreme points. If the
+	 * hyperplane is degenerated, the nadir point of the first front is used
+	 * instead. The first front are the first candidates.
+	 */
+	static double[][] normalize(
+		final double[][] values,
+		final IntList candidates,
+		final int first
+	) {
+		final int dim = values[0].length;
+
+		// The objectives are minimized: f = -value.
+		final double[] ideal = new double[dim];
+		Arrays.fill(ideal, Double.POSITIVE_INFINITY);
+		for (int i = 0; i < candidates.size(); ++i) {
+			final double[] value = values[candidates.get(i)];
+			for (int k = 0; k < dim; ++k) {
+				ideal[k] = min(ideal[k], -value[k]);
+			}
+		}
+
+		final double[][] translated = new double[candidates.size()][dim];
+		for (int i = 0; i < translated.length; ++i) {
+			final double[] value = values[candidates.get(i)];
+			for (int k = 0; k < dim; ++k) {
+				translated[i][k] = -value[k] - ideal[k];
+			}
+		}
+
+		double[] intercepts = intercepts(translated);
+		if (intercepts == null) {
+			intercepts = nadir(translated, min(first, translated.length));
+		}
+
+		for (double[] point : translated) {
+			for (int k = 0; k < dim; ++k) {
+				point[k] /= intercepts[k];
+			}
+		}
+
+		return translated;
+	}
+
+	// The nadir point of the first points, or of all points if degenerated.
+	private static double[] nadir(final double[][] translated, final int first) {
+		final int dim = translated[0].length;
+		final double[] nadir = new double[dim];
+		for (int k = 0; k < dim; ++k) {
+			for (int i = 0; i < first; ++i) {
+				nadir[k] = max(nadir[k], translated[i][k]);
+			}
+			if (nadir[k] <= EPSILON) {
+				for (double[] point : translated) {
+					nadir[k] = max(nadir[k], point[k]);
+				}
+			}
+			if (nadir[k] <= EPSILON) {
+				nadir[k] = 1;
+			}
+		}
+		return nadir;
+	}
+
+	/*
+	 * Return the intercepts of the hyperplane, which is defined by the
+	 * extreme points of the translated objectives, or null if the hyperplane
+	 * is degenerated.
+	 */
+	static double[] intercepts(final double[][] translated) {
+		final int dim = translated[0].length;
+
+		// The extreme point of every axis, by the achievement scalarizing
+		// function with the weight vector of the axis.
+		final double[][] extremes = new double[dim][];
+		for (int j = 0; j < dim; ++j) {
+			double best = Double.POSITIVE_INFINITY;
+			for (double[] point : translated) {
+				double asf = Double.NEGATIVE_INFINITY;
+				for (int k = 0; k < dim; ++k) {
+					asf = max(asf, k == j ? point[k] : point[k]*1e6);
+				}
+				if (asf < best) {
+					best = asf;
+					extremes[j] = point;
+				}
+			}
+		}
+
+		final double[] b = solve(extremes);
+		if (b == null) {
+			return null;
+		}
+
+		final double[] intercepts = new double[dim];
+		for (int k = 0; k < dim; ++k) {
+			intercepts[k] = 1.0/b[k];
+			if (!(intercepts[k] > EPSILON) || Double.isInfinite(intercepts[k])) {
+				return null;
+			}
+		}
+		return intercepts;
+	}
+
+	// Solves the linear system A*x = 1, with partial pivoting.
+	private static double[] solve(final double[][] a) {
+		final int n = a.length;
+		final double[][] m = new double[n][n + 1];
+		for (int i = 0; i < n; ++i) {
+			System.arraycopy(a[i], 0, m[i], 0, n);
+			m[i][n] = 1;
+		}
+
+		for (int col = 0; col < n; ++col) {
+			int pivot = col;
+			for (int row = col + 1; row < n; ++row) {
+				if (Math.abs(m[row][col]) > Math.abs(m[pivot][col])) {
+					pivot = row;
+				}
+			}
+			if (!(Math.abs(m[pivot][col]) > EPSILON)) {
+				return null;
+			}
+
+			final double[] tmp = m[col];
+			m[col] = m[pivot];
+			m[pivot] = tmp;
+
+			for (int row = 0; row < n; ++row) {
+				if (row != col) {
+					final double factor = m[row][col]/m[col][col];
+					for (int k = col; k <= n; ++k) {
+						m[row][k] -= factor*m[col][k];
+					}
+				}
+			}
+		}
+
+		final double[] x = new double[n];
+		for (int i = 0; i < n; ++i) {
+			x[i] = m[i][n]/m[i][i];
+		}
+		return x;
+	}
+
+	/*
+	 * Associates every point with the closest reference line, measured by the
+	 * perpendicular distance. The directions have unit length.
+	 */
+	static void associate(
+		final double[][] points,
+		final double[][] directions,
+		final int[] niches,
+		final double[] distances
+	) {
+		final IntStream indexes = IntStream.range(0, points.length);
+		(points.length*(long)directions.length >= PARALLEL_ASSOCIATION_SIZE
+			? indexes.parallel()
+			: indexes
+		).forEach(i -> {
+			final double[] point = points[i];
+			double norm = 0;
+			for (double v : point) {
+				norm += v*v;
+			}
+
+			int niche = 0;
+			double distance = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < directions.length; ++j) {
+				final double[] direction = directions[j];
+				double dot = 0;
+				for (int k = 0; k < point.length; ++k) {
+					dot += point[k]*direction[k];
+				}
+
+				final double d = norm - dot*dot;
+				if (d < distance) {
+					distance = d;
+					niche = j;
+				}
+			}
+
+			niches[i] = niche;
+			distances[i] = max(distance, 0);
+		});
+	}
+
+	/*
+	 * Picks the given number of points of the last front, which starts at
+	 * the given offset. Niches with a lower count are preferred. Empty niches
+	 * take its closest point, otherwise a random one.
+	 */
+	static int[] niching(
+		final int count,
+		final int offset,
+		final int[] niches,
+		final double[] distances,
+		final int[] counts,
+		final RandomGenerator random
+	) {
+		// The last front points of every niche. The closest point comes first.
+		final IntList[] lists = new IntList[counts.length];
+		for (int i = offset; i < niches.length; ++i) {
+			if (lists[niches[i]] == null) {
+				lists[niches[i]] = new IntList();
+			}
+			lists[niches[i]].add(i);
+		}
+
+		final int[][] members = new int[counts.length][];
+		final int[] sizes = new int[counts.length];
+		final IntList active = new IntList();
+		for (int j = 0; j < lists.length; ++j) {
+			if (lists[j] != null) {
+				final int[] points = lists[j].toArray();
+				int closest = 0;
+				for (int i = 1; i < points.length; ++i) {
+					if (distances[points[i]] < distances[points[closest]]) {
+						closest = i;
+					}
+				}
+				swap(points, 0, closest);
+
+				members[j] = points;
+				sizes[j] = points.length;
+				active.add(j);
+			}
+		}
+
+		final IntList picked = new IntList(count);
+		while (picked.size() < count) {
+			// The active niches with the minimal count, in random order.
+			int level = Integer.MAX_VALUE;
+			for (int i = 0; i < active.size(); ++i) {
+				level = min(level, counts[active.get(i)]);
+			}
+
+			final IntList candidates = new IntList();
+			for (int i = 0; i < active.size(); ++i) {
+				if (counts[active.get(i)] == level) {
+					candidates.add(active.get(i));
+				}
+			}
+			final int[] order = candidates.toArray();
+			for (int i = order.length; --i > 0;) {
+				swap(order, i, random.nextInt(i + 1));
+			}
+
+			for (int i = 0; i < order.length && picked.size() < count; ++i) {
+				final int niche = order[i];
+				final int index = counts[niche] == 0
+					? 0
+					: random.nextInt(sizes[niche]);
+
+				picked.add(members[niche][index]);
+				swap(members[niche], index, --sizes[niche]);
+				++counts[niche];
+			}
+
+			final IntList remaining = new IntList(active.size());
+			for (int i = 0; i < active.size(); ++i) {
+				if (sizes[active.get(i)] > 0) {
+					remaining.add(active.get(i));
+				}
+			}
+			active.clear();
+			active.addAll(remaining.toArray());
+		}
+
+		return picked.toArray();
+	}
+
+	/* *************************************************************************
+	 * Reference point methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return the structured reference points, created with the method of
+	 * Das and Dennis, for the given {@code dimension} and number of
+	 * {@code divisions}. The components of every point are not negative and
+	 * sum up to one.
+	 *
+	 * @param dimension the number of objectives
+	 * @param divisions the number of divisions of every objective axis
+	 * @return the {@code binomial(divisions + dimension - 1, dimension - 1)}
+	 *         reference points
+	 * @throws IllegalArgumentException if {@code dimension < 1} or
+	 *         {@code divisions < 1}
+	 */
+	public static double[][] referencePoints(
+		final int dimension,
+		final int divisions
+	) {
+		if (dimension < 1) {
+			throw new IllegalArgumentException(format(
+				"Dimension must be greater than zero: %d", dimension
+			));
+		}
+		if (divisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Divisions must be greater than zero: %d", divisions
+			));
+		}
+
+		final List<double[]> points = new ArrayList<>();
+		points(new int[dimension], 0, divisions, divisions, points);
+		return points.toArray(double[][]::new);
+	}
+
+	private static void points(
+		final int[] point,
+		final int index,
+		final int left,
+		final int divisions,
+		final List<double[]> points
+	) {
+		if (index == point.length - 1) {
+			point[index] = left;
+
+			final double[] p = new double[point.length];
+			for (int k = 0; k < p.length; ++k) {
+				p[k] = (double)point[k]/divisions;
+			}
+			points.add(p);
+		} else {
+			for (int i = 0; i <= left; ++i) {
+				point[index] = i;
+				points(point, index + 1, left - i, divisions, points);
+			}
+		}
+	}
+
+	/*
+	 * Return the unit length directions of the reference points of the outer
+	 * and the (optional) inner layer. The inner layer is shrunk towards the
+	 * center of the simplex.
+	 */
+	static double[][] directions(
+		final int dimension,
+		final int outer,
+		final int inner
+	) {
+		final List<double[]> points = new ArrayList<>(
+			List.of(referencePoints(dimension, outer))
+		);
+		if (inner > 0) {
+			for (double[] point : referencePoints(dimension, inner)) {
+				for (int k = 0; k < point.length; ++k) {
+					point[k] = (point[k] + 1.0/dimension)/2.0;
+				}
+				points.add(point);
+			}
+		}
+
+		final double[][] directions = points.toArray(double[][]::new);
+		for (double[] direction : directions) {
+			double norm = 0;
+			for (double v : direction) {
+				norm += v*v;
+			}
+			norm = Math.sqrt(norm);
+			for (int k = 0; k < direction.length; ++k) {
+				direction[k] /= norm;
+			}
+		}
+		return directions;
+	}
+
+	/**
+	 * Return a new NSGA-III selector for {@link Vec} objects, with one layer
+	 * of reference points.
+	 *
+	 * @param divisions the number of reference point divisions
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector
+	 * @return a new NSGA-III selector
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	NSGA3Selector<G, V> ofVec(final int divisions) {
+		return new NSGA3Selector<>(Vecs::objectives, divisions);
+	}
+
+	/**
+	 * Return a new NSGA-III selector for {@link Vec} objects, with an outer
+	 * and an inner layer of reference points.
+	 *
+	 * @param outer the number of divisions of the outer reference point layer
+	 * @param inner the number of divisions of the inner reference point layer
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector
+	 * @return a new NSGA-III selector
+	 * @throws IllegalArgumentException if {@code outer < 1} or
+	 *         {@code inner < 0}
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	NSGA3Selector<G, V> ofVec(final int outer, final int inner) {
+		return new NSGA3Selector<>(Vecs::objectives, outer, inner);
+	}
+
+}
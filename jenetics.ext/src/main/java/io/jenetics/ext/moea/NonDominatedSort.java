@@ -0,0 +1,339 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ProxySorter;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Memory-lean <em>non-dominated sorting</em> implementations. Other than
+ * {@link Pareto#rank(BaseSeq, Comparator)}, the methods of this class don't
+ * need a {@code n×n} dominance matrix. The calculated ranks are the same.
+ * <p>
+ * The elements are first sorted lexicographically, which guarantees that
+ * an element is only dominated by elements sorted before it. Every element
+ * is then assigned to its front with a binary search over the already
+ * existing fronts (<em>ENS-BS</em>). For two and three objectives, the
+ * dominance test of a front is done in {@code O(1)} and {@code O(log(n))}
+ * time, respectively.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      X. Zhang, Y. Tian, R. Cheng, and Y. Jin. An Efficient Approach to
+ *      Nondominated Sorting for Evolutionary Multiobjective Optimization,
+ *      IEEE Transactions on Evolutionary Computation, vol. 19, no. 2,
+ *      pp. 201-213, 2015.</em>
+ *
+ * @apiNote
+ * The space complexity of all methods is {@code O(n)}. The time complexity is
+ * {@code O(n*log(n))} for two objectives, {@code O(n*log(n)^2)} for three
+ * objectives and {@code O(d*n^2)} in the worst case for {@code d > 3}
+ * objectives, where {@code n} is the {@code set} size.
+ *
+ * @see Pareto#rank(BaseSeq, Comparator)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class NonDominatedSort {
+
+	private NonDominatedSort() {
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given objective
+	 * values. The objectives are <em>maximized</em> and compared with
+	 * {@link Double#compare(double, double)}, which is consistent with
+	 * {@link Pareto#dominance(double[], double[])}.
+	 *
+	 * @param objectives the objective values, {@code objectives[i]} are the
+	 *        objective values of the element {@code i}
+	 * @return the <em>non-domination</em> rank of the given objective values
+	 * @throws NullPointerException if the {@code objectives} array or one of
+	 *         its elements is {@code null}
+	 * @throws IllegalArgumentException if the objective vectors have different
+	 *         lengths
+	 */
+	public static int[] rank(final double[][] objectives) {
+		if (objectives.length == 0) {
+			return new int[0];
+		}
+
+		final int dimension = objectives[0].length;
+		for (double[] objective : objectives) {
+			if (objective.length != dimension) {
+				throw new IllegalArgumentException(format(
+					"Length are not equals: %d != %d.",
+					dimension, objective.length
+				));
+			}
+		}
+
+		final int[] order = ProxySorter.sort(
+			objectives,
+			objectives.length,
+			(a, i, j) -> lexicographic(a[j], a[i])
+		);
+
+		return switch (dimension) {
+			case 2 -> rank2(objectives, order);
+			case 3 -> rank3(objectives, order);
+			default -> rank(
+				objectives,
+				order,
+				(a, i, j) -> Pareto.dominance(a[i], a[j])
+			);
+		};
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given input
+	 * {@code set}, using the given {@code dominance} comparator. The element
+	 * {@code comparator} and the {@code dimension} function are used for the
+	 * lexicographic pre-sorting of the elements and must be consistent with
+	 * the {@code dominance} comparator. This is the case for the
+	 * {@link Vec} functions.
+	 * {@snippet lang="java":
+	 * final int[] ranks = NonDominatedSort.rank(
+	 *     set,
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::length
+	 * );
+	 * }
+	 *
+	 * @param set the input set
+	 * @param dominance the dominance comparator used
+	 * @param comparator the vector element comparator
+	 * @param dimension the dimensionality of vector type {@code T}
+	 * @param <T> the element type
+	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> int[] rank(
+		final BaseSeq<? extends T> set,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(set);
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(dimension);
+
+		if (set.isEmpty()) {
+			return new int[0];
+		}
+
+		final int length = dimension.applyAsInt(set.get(0));
+		final int[] order = ProxySorter.sort(
+			set,
+			(a, b) -> {
+				for (int i = 0; i < length; ++i) {
+					final int cmp = comparator.compare(b, a, i);
+					if (cmp != 0) {
+						return cmp;
+					}
+				}
+				return 0;
+			}
+		);
+
+		return rank(
+			set,
+			order,
+			(a, i, j) -> dominance.compare(a.get(i), a.get(j))
+		);
+	}
+
+	// Descending lexicographic order.
+	private static int lexicographic(final double[] a, final double[] b) {
+		for (int i = 0; i < a.length; ++i) {
+			final int cmp = Double.compare(a[i], b[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	}
+
+	/*
+	 * The general ENS-BS algorithm. The elements are processed in the given
+	 * order, where an element is only dominated by preceding elements.
+	 */
+	private static <A> int[] rank(
+		final A array,
+		final int[] order,
+		final ProxySorter.Comparator<? super A> dominance
+	) {
+		final int[] ranks = new int[order.length];
+		final List<IntList> fronts = new ArrayList<>();
+
+		for (int p : order) {
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominated(array, fronts.get(mid), p, dominance)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts.size()) {
+				fronts.add(new IntList());
+			}
+			fronts.get(low).add(p);
+			ranks[p] = low;
+		}
+
+		return ranks;
+	}
+
+	// Elements added last are more likely to dominate p.
+	private static <A> boolean dominated(
+		final A array,
+		final IntList front,
+		final int p,
+		final ProxySorter.Comparator<? super A> dominance
+	) {
+		for (int i = front.size(); --i >= 0;) {
+			if (dominance.compare(array, front.get(i), p) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * For two objectives, the elements of a front are sorted descending by
+	 * the first and ascending by the second objective. It is therefore enough
+	 * to test the last element of a front for dominance.
+	 */
+	private static int[] rank2(final double[][] objectives, final int[] order) {
+		final int[] ranks = new int[order.length];
+		final int[] lasts = new int[order.length];
+		int fronts = 0;
+
+		for (int p : order) {
+			final double[] v = objectives[p];
+
+			int low = 0;
+			int high = fronts;
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				final double[] u = objectives[lasts[mid]];
+				final boolean dominated = Double.compare(u[1], v[1]) >= 0 &&
+					(Double.compare(u[0], v[0]) != 0 ||
+						Double.compare(u[1], v[1]) != 0);
+
+				if (dominated) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts) {
+				++fronts;
+			}
+			lasts[low] = p;
+			ranks[p] = low;
+		}
+
+		return ranks;
+	}
+
+	/*
+	 * For three objectives, every front keeps the staircase of its (second
+	 * and third objective) 2-d non-dominated elements. An element is dominated
+	 * by a front, if the staircase element with the smallest second objective,
+	 * not smaller than the one of the element, dominates it.
+	 */
+	private static int[] rank3(final double[][] objectives, final int[] order) {
+		final int[] ranks = new int[order.length];
+		final List<TreeMap<Double, double[]>> fronts = new ArrayList<>();
+
+		for (int p : order) {
+			final double[] v = objectives[p];
+
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				final Map.Entry<Double, double[]> entry =
+					fronts.get(mid).ceilingEntry(v[1]);
+
+				final boolean dominated = entry != null &&
+					Double.compare(entry.getValue()[2], v[2]) >= 0 &&
+					lexicographic(entry.getValue(), v) != 0;
+
+				if (dominated) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts.size()) {
+				fronts.add(new TreeMap<>());
+			}
+			insert(fronts.get(low), v);
+			ranks[p] = low;
+		}
+
+		return ranks;
+	}
+
+	private static void insert(
+		final TreeMap<Double, double[]> staircase,
+		final double[] v
+	) {
+		final double[] existing = staircase.get(v[1]);
+		if (existing != null && Double.compare(existing[2], v[2]) >= 0) {
+			// Only possible for equal elements.
+			return;
+		}
+
+		final var lower = staircase.headMap(v[1], false).descendingMap()
+			.entrySet().iterator();
+		while (lower.hasNext() &&
+			Double.compare(lower.next().getValue()[2], v[2]) <= 0)
+		{
+			lower.remove();
+		}
+
+		staircase.put(v[1], v);
+	}
+
+}
@@ -0,0 +1,721 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Packed, read-only store of the (maximized) objective values of a
+ * population. The objective values of all points are stored in a single
+ * {@code double[]} array, with the number of objectives as stride. The
+ * dominance kernels of this class work directly on this array, without
+ * dereferencing an extra object for every point.
+ * {@snippet lang="java":
+ * final ObjectiveStore store = ObjectiveStore.of(population, Vecs::objectives);
+ * final int[] rank = store.rank();
+ * final Vec<double[]> vec = store.vec(0);
+ * }
+ *
+ * The dominance relation is consistent with the
+ * {@link Pareto#dominance(double[], double[])} function.
+ *
+ * @implNote
+ * {@code NaN} values are not allowed and negative zeros are stored as
+ * positive zeros. This allows the kernels to use primitive comparisons
+ * without branches, which can be optimized by the JIT.
+ *
+ * @see Pareto#rank(BaseSeq, Comparator)
+ * @see NonDominatedSort
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class ObjectiveStore {
+
+	private final double[] _values;
+	private final int _size;
+	private final int _dimension;
+
+	private ObjectiveStore(
+		final double[] values,
+		final int size,
+		final int dimension
+	) {
+		_values = values;
+		_size = size;
+		_dimension = dimension;
+	}
+
+	/**
+	 * Return the number of stored points.
+	 *
+	 * @return the number of stored points
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the number of objectives of every point.
+	 *
+	 * @return the number of objectives
+	 */
+	public int dimension() {
+		return _dimension;
+	}
+
+	/**
+	 * Return the objective value of the given point.
+	 *
+	 * @param index the point index
+	 * @param objective the objective index
+	 * @return the objective value of the given point
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	public double get(final int index, final int objective) {
+		return _values[offset(index) + checkObjective(objective)];
+	}
+
+	/**
+	 * Return a copy of the objective values of the given point.
+	 *
+	 * @param index the point index
+	 * @return a copy of the objective values of the given point
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double[] toArray(final int index) {
+		final int offset = offset(index);
+		return Arrays.copyOfRange(_values, offset, offset + _dimension);
+	}
+
+	/**
+	 * Return a {@link Vec} view of the given point. The returned vector
+	 * doesn't copy the objective values. Only its {@link Vec#data()} method
+	 * returns a copy of the values.
+	 *
+	 * @param index the point index
+	 * @return a vector view of the given point
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public Vec<double[]> vec(final int index) {
+		offset(index);
+		return new PackedDoubleVec(this, index);
+	}
+
+	/**
+	 * Return the vector views of all stored points.
+	 *
+	 * @return the vector views of all stored points
+	 */
+	public ISeq<Vec<double[]>> vecs() {
+		final List<Vec<double[]>> vecs = new ArrayList<>(_size);
+		for (int i = 0; i < _size; ++i) {
+			vecs.add(new PackedDoubleVec(this, i));
+		}
+		return ISeq.of(vecs);
+	}
+
+	private int offset(final int index) {
+		if (index < 0 || index >= _size) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d is out of range [0, %d).", index, _size
+			));
+		}
+		return index*_dimension;
+	}
+
+	private int checkObjective(final int objective) {
+		if (objective < 0 || objective >= _dimension) {
+			throw new IndexOutOfBoundsException(format(
+				"Objective %d is out of range [0, %d).", objective, _dimension
+			));
+		}
+		return objective;
+	}
+
+	/* *************************************************************************
+	 * Dominance kernels.
+	 * ************************************************************************/
+
+	/**
+	 * Calculates the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     <b>Pareto Dominance</b></a> of the two points with the given indexes.
+	 *
+	 * @param i the index of the first point
+	 * @param j the index of the second point
+	 * @return {@code 1} if point {@code i} dominates point {@code j},
+	 *         {@code -1} if point {@code j} dominates point {@code i} and
+	 *         {@code 0} otherwise
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	public int dominance(final int i, final int j) {
+		return dominance(_values, offset(i), offset(j), _dimension);
+	}
+
+	/**
+	 * Calculates the dominance of the point {@code i} with all points in the
+	 * given index range. The dominance of point {@code i} with point
+	 * {@code j} is written to {@code result[j - from]}.
+	 *
+	 * @param i the index of the compared point
+	 * @param from the first point index of the range, inclusively
+	 * @param to the last point index of the range, exclusively
+	 * @param result the array which takes the dominance values
+	 * @throws IndexOutOfBoundsException if the indexes are out of range or the
+	 *         result array is too short
+	 */
+	public void dominance(
+		final int i,
+		final int from,
+		final int to,
+		final int[] result
+	) {
+		if (from < 0 || to > _size || from > to) {
+			throw new IndexOutOfBoundsException(format(
+				"Invalid range [%d, %d) for size %d.", from, to, _size
+			));
+		}
+		if (result.length < to - from) {
+			throw new IndexOutOfBoundsException(format(
+				"Result array too short: %d < %d.", result.length, to - from
+			));
+		}
+
+		final int a = offset(i);
+		for (int j = from; j < to; ++j) {
+			result[j - from] = dominance(_values, a, j*_dimension, _dimension);
+		}
+	}
+
+	/**
+	 * Test whether the given point is dominated by any other point of the
+	 * store.
+	 *
+	 * @param i the point index
+	 * @return {@code true} if the point is dominated, {@code false} otherwise
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean isDominated(final int i) {
+		final int a = offset(i);
+		for (int j = 0; j < _size; ++j) {
+			if (dominance(_values, j*_dimension, a, _dimension) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Branch-free dominance kernel. Since no NaN values are stored, the
+	 * primitive comparisons are consistent with Double.compare.
+	 */
+	static int dominance(
+		final double[] values,
+		final int a,
+		final int b,
+		final int dimension
+	) {
+		int better = 0;
+		int worse = 0;
+		for (int k = 0; k < dimension; ++k) {
+			final double u = values[a + k];
+			final double v = values[b + k];
+			better |= u > v ? 1 : 0;
+			worse |= u < v ? 1 : 0;
+		}
+		return better - worse;
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the stored points. The
+	 * result is the same as the rank calculated by
+	 * {@link Pareto#rank(BaseSeq, Comparator)}, but the dominance
+	 * relations are calculated with the packed kernel and without a
+	 * {@code n×n} matrix.
+	 *
+	 * @return the <em>non-domination</em> rank of the stored points
+	 */
+	public int[] rank() {
+		final int[] counts = new int[_size];
+		final IntList[] dominated = new IntList[_size];
+		final int[] row = new int[_size];
+
+		for (int i = 0; i < _size; ++i) {
+			dominance(i, i + 1, _size, row);
+			for (int j = i + 1; j < _size; ++j) {
+				final int d = row[j - i - 1];
+				if (d > 0) {
+					add(dominated, i, j);
+					++counts[j];
+				} else if (d < 0) {
+					add(dominated, j, i);
+					++counts[i];
+				}
+			}
+		}
+
+		final int[] rank = new int[_size];
+		IntList front = new IntList();
+		for (int i = 0; i < _size; ++i) {
+			if (counts[i] == 0) {
+				front.add(i);
+			}
+		}
+
+		int r = 0;
+		while (!front.isEmpty()) {
+			final IntList next = new IntList();
+			for (int k = 0; k < front.size(); ++k) {
+				final int p = front.get(k);
+				rank[p] = r;
+
+				final IntList list = dominated[p];
+				if (list != null) {
+					for (int l = 0; l < list.size(); ++l) {
+						final int q = list.get(l);
+						if (--counts[q] == 0) {
+							next.add(q);
+						}
+					}
+				}
+			}
+
+			front = next;
+			++r;
+		}
+
+		return rank;
+	}
+
+	private static void add(final IntList[] lists, final int i, final int j) {
+		if (lists[i] == null) {
+			lists[i] = new IntList();
+		}
+		lists[i].add(j);
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the stored points in
+	 * parallel, using the given fork-join {@code pool}. The result is the
+	 * same as the rank calculated by the serial {@link #rank()} method.
+	 * <p>
+	 * The points are sorted lexicographically and packed in this order, so
+	 * that a point can only be dominated by points sorted before it. The
+	 * sorted points are then ranked block by block. The rows of a block are
+	 * assigned to the fronts of the already ranked blocks in parallel, with a
+	 * binary search over the fronts (<em>ENS-BS</em>). The objective values
+	 * of every front are packed contiguously, which keeps the front scans
+	 * cache friendly. The dominance relations within a block are resolved
+	 * serially afterwards.
+	 *
+	 * @see NonDominatedSort
+	 *
+	 * @param pool the fork-join pool used for ranking the points
+	 * @return the <em>non-domination</em> rank of the stored points
+	 * @throws NullPointerException if the given {@code pool} is {@code null}
+	 */
+	public int[] rank(final ForkJoinPool pool) {
+		requireNonNull(pool);
+
+		final int[] order = ProxySorter.sort(
+			_values,
+			_size,
+			(a, i, j) -> lexicographic(a, j*_dimension, i*_dimension, _dimension)
+		);
+
+		final double[] sorted = new double[_size*_dimension];
+		for (int i = 0; i < _size; ++i) {
+			System.arraycopy(
+				_values, order[i]*_dimension,
+				sorted, i*_dimension,
+				_dimension
+			);
+		}
+
+		final int[] ranks = new int[_size];
+		final List<Front> fronts = new ArrayList<>();
+		for (int low = 0; low < _size; low += RANK_BLOCK_SIZE) {
+			final int high = Math.min(low + RANK_BLOCK_SIZE, _size);
+
+			// Ranks with respect to the points of the preceding blocks.
+			pool.invoke(new BlockRanks(sorted, _dimension, fronts, ranks, low, high));
+
+			// Ranks with respect to the preceding points of the same block.
+			for (int j = low + 1; j < high; ++j) {
+				for (int i = low; i < j; ++i) {
+					if (ranks[i] >= ranks[j] &&
+						dominates(sorted, i*_dimension, sorted, j*_dimension, _dimension))
+					{
+						ranks[j] = ranks[i] + 1;
+					}
+				}
+			}
+
+			for (int j = low; j < high; ++j) {
+				if (ranks[j] == fronts.size()) {
+					fronts.add(new Front(_dimension));
+				}
+				fronts.get(ranks[j]).add(sorted, j*_dimension);
+			}
+		}
+
+		final int[] rank = new int[_size];
+		for (int i = 0; i < _size; ++i) {
+			rank[order[i]] = ranks[i];
+		}
+		return rank;
+	}
+
+	// The number of sorted points, which are ranked in parallel.
+	private static final int RANK_BLOCK_SIZE = 512;
+
+	private static int lexicographic(
+		final double[] values,
+		final int a,
+		final int b,
+		final int dimension
+	) {
+		for (int k = 0; k < dimension; ++k) {
+			final int cmp = Double.compare(values[a + k], values[b + k]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	}
+
+	/*
+	 * Test whether point a dominates point b. The test stops at the first
+	 * objective, where point a is worse.
+	 */
+	private static boolean dominates(
+		final double[] values,
+		final int a,
+		final double[] others,
+		final int b,
+		final int dimension
+	) {
+		boolean better = false;
+		for (int k = 0; k < dimension; ++k) {
+			final double u = values[a + k];
+			final double v = others[b + k];
+			if (u < v) {
+				return false;
+			}
+			better |= u > v;
+		}
+		return better;
+	}
+
+	/*
+	 * The packed objective values of the points of one front, in the order
+	 * they have been added.
+	 */
+	private static final class Front {
+		private final int _dimension;
+		private double[] _values;
+		private int _size = 0;
+
+		Front(final int dimension) {
+			_dimension = dimension;
+			_values = new double[dimension*16];
+		}
+
+		void add(final double[] values, final int offset) {
+			if ((_size + 1)*_dimension > _values.length) {
+				_values = Arrays.copyOf(_values, _values.length*2);
+			}
+			System.arraycopy(values, offset, _values, _size*_dimension, _dimension);
+			++_size;
+		}
+
+		// Points added last are more likely to dominate the given point.
+		boolean dominates(final double[] values, final int offset) {
+			for (int i = _size; --i >= 0;) {
+				if (ObjectiveStore.dominates(_values, i*_dimension, values, offset, _dimension)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/*
+	 * Assigns the sorted points of the row range [low, high) to the given
+	 * fronts. Every task only writes the ranks of its own rows.
+	 */
+	private static final class BlockRanks extends RecursiveAction {
+
+		@Serial
+		private static final long serialVersionUID = 1;
+
+		// The number of rows, which are ranked by one task.
+		private static final int ROWS = 16;
+
+		private final double[] _values;
+		private final int _dimension;
+		private final List<Front> _fronts;
+		private final int[] _ranks;
+		private final int _low;
+		private final int _high;
+
+		BlockRanks(
+			final double[] values,
+			final int dimension,
+			final List<Front> fronts,
+			final int[] ranks,
+			final int low,
+			final int high
+		) {
+			_values = values;
+			_dimension = dimension;
+			_fronts = fronts;
+			_ranks = ranks;
+			_low = low;
+			_high = high;
+		}
+
+		@Override
+		protected void compute() {
+			if (_high - _low <= ROWS) {
+				for (int j = _low; j < _high; ++j) {
+					int low = 0;
+					int high = _fronts.size();
+					while (low < high) {
+						final int mid = (low + high) >>> 1;
+						if (_fronts.get(mid).dominates(_values, j*_dimension)) {
+							low = mid + 1;
+						} else {
+							high = mid;
+						}
+					}
+					_ranks[j] = low;
+				}
+			} else {
+				final int mid = (_low + _high) >>> 1;
+				invokeAll(
+					new BlockRanks(_values, _dimension, _fronts, _ranks, _low, mid),
+					new BlockRanks(_values, _dimension, _fronts, _ranks, mid, _high)
+				);
+			}
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new objective store from the given objective values.
+	 *
+	 * @param objectives the objective values, {@code objectives[i]} are the
+	 *        (maximized) objective values of point {@code i}
+	 * @return a new objective store
+	 * @throws NullPointerException if one of the objective arrays is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the objective arrays have different
+	 *         lengths, are empty or contain {@code NaN} values
+	 */
+	public static ObjectiveStore of(final double[][] objectives) {
+		final int dimension = objectives.length > 0 ? objectives[0].length : 1;
+		Vecs.checkVecLength(dimension);
+
+		final double[] values = new double[objectives.length*dimension];
+		for (int i = 0; i < objectives.length; ++i) {
+			pack(objectives[i], dimension, values, i*dimension);
+		}
+
+		return new ObjectiveStore(values, objectives.length, dimension);
+	}
+
+	/**
+	 * Create a new objective store from the given {@code elements}.
+	 *
+	 * @param elements the elements to store
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param <T> the element type
+	 * @return a new objective store
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the objective arrays have different
+	 *         lengths, are empty or contain {@code NaN} values
+	 */
+	public static <T> ObjectiveStore of(
+		final BaseSeq<? extends T> elements,
+		final Function<? super T, double[]> objectives
+	) {
+		requireNonNull(objectives);
+		if (elements.isEmpty()) {
+			return new ObjectiveStore(new double[0], 0, 1);
+		}
+
+		final double[] first = objectives.apply(elements.get(0));
+		final int dimension = first.length;
+		Vecs.checkVecLength(dimension);
+
+		final double[] values = new double[elements.length()*dimension];
+		pack(first, dimension, values, 0);
+		for (int i = 1; i < elements.length(); ++i) {
+			pack(objectives.apply(elements.get(i)), dimension, values, i*dimension);
+		}
+
+		return new ObjectiveStore(values, elements.length(), dimension);
+	}
+
+	private static void pack(
+		final double[] objectives,
+		final int dimension,
+		final double[] values,
+		final int offset
+	) {
+		Vecs.requireVecLength(dimension, objectives.length);
+		for (int k = 0; k < dimension; ++k) {
+			final double value = objectives[k];
+			if (Double.isNaN(value)) {
+				throw new IllegalArgumentException("NaN objective values.");
+			}
+
+			// Adding zero turns negative zeros into positive ones.
+			values[offset + k] = value + 0.0;
+		}
+	}
+
+	/* *************************************************************************
+	 * Vec flyweight.
+	 * ************************************************************************/
+
+	/**
+	 * Vector view of one point of the objective store.
+	 */
+	static final class PackedDoubleVec implements Vec<double[]> {
+		private final ObjectiveStore _store;
+		private final int _offset;
+
+		private PackedDoubleVec(final ObjectiveStore store, final int index) {
+			_store = store;
+			_offset = index*store._dimension;
+		}
+
+		private double value(final int index) {
+			return _store._values[_offset + _store.checkObjective(index)];
+		}
+
+		@Override
+		public double[] data() {
+			return Arrays.copyOfRange(
+				_store._values,
+				_offset,
+				_offset + _store._dimension
+			);
+		}
+
+		@Override
+		public int length() {
+			return _store._dimension;
+		}
+
+		@Override
+		public ElementComparator<double[]> comparator() {
+			return (u, v, i) -> Double.compare(u[i], v[i]);
+		}
+
+		@Override
+		public ElementDistance<double[]> distance() {
+			return (u, v, i) -> u[i] - v[i];
+		}
+
+		@Override
+		public Comparator<double[]> dominance() {
+			return Pareto::dominance;
+		}
+
+		@Override
+		public int compare(final Vec<double[]> other, final int index) {
+			return other instanceof PackedDoubleVec packed
+				? Double.compare(value(index), packed.value(index))
+				: Vec.super.compare(other, index);
+		}
+
+		@Override
+		public double distance(final Vec<double[]> other, final int index) {
+			return other instanceof PackedDoubleVec packed
+				? value(index) - packed.value(index)
+				: Vec.super.distance(other, index);
+		}
+
+		@Override
+		public int dominance(final Vec<double[]> other) {
+			if (other instanceof PackedDoubleVec packed &&
+				packed._store == _store)
+			{
+				return ObjectiveStore.dominance(
+					_store._values,
+					_offset,
+					packed._offset,
+					_store._dimension
+				);
+			}
+			return Pareto.dominance(data(), other.data());
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = 1;
+			for (int k = 0; k < _store._dimension; ++k) {
+				hash = 31*hash + Double.hashCode(_store._values[_offset + k]);
+			}
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof PackedDoubleVec other &&
+				Arrays.equals(
+					_store._values, _offset, _offset + _store._dimension,
+					other._store._values, other._offset,
+					other._offset + other._store._dimension
+				);
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(data());
+		}
+	}
+
+}
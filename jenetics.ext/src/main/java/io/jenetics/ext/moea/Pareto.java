@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
 import io.jenetics.util.BaseSeq;
 import io.jenetics.util.ISeq;
@@ -41,11 +42,14 @@ import io.jenetics.ext.internal.util.IntList;
  * are mostly for users who want to extend the existing <em>MOEA</em> classes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.1
  * @since 4.1
  */
 public final class Pareto {
 
+	// Objective matrices of this size are sorted in parallel.
+	private static final int PARALLEL_SORT_SIZE = 10_000;
+
 	private Pareto() {
 	}
 
@@ -148,6 +152,79 @@ public final class Pareto {
 		return result;
 	}
 
+	/**
+	 * The crowding distance value of a solution provides an estimate of the
+	 * density of solutions surrounding that solution. This method works on a
+	 * primitive objective matrix, where {@code objectives[m][i]} is the value
+	 * of the objective {@code m} of the solution {@code i}. The objective
+	 * values are <em>maximized</em>. The result is the same as for the
+	 * {@link #crowdingDistance(BaseSeq)} method with vectors created by
+	 * {@link Vec#of(double...)}.
+	 * {@snippet lang="java":
+	 * final double[][] objectives = new double[2][population.size()];
+	 * for (int i = 0; i < population.size(); ++i) {
+	 *     objectives[0][i] = population.get(i).fitness().data()[0];
+	 *     objectives[1][i] = population.get(i).fitness().data()[1];
+	 * }
+	 * final double[] distances = Pareto.crowdingDistance(objectives);
+	 * }
+	 *
+	 * @apiNote
+	 * Calculating the crowding distance has a time complexity of
+	 * {@code O(d*n*log(n))}, where {@code d} is the number of objectives and
+	 * {@code n} the number of solutions. For bigger objective matrices, the
+	 * objectives are sorted in parallel.
+	 *
+	 * @since 8.1
+	 *
+	 * @param objectives the objective matrix, {@code objectives[m]} contains
+	 *        the values of the objective {@code m} of all solutions
+	 * @return the crowded distances of the solutions
+	 * @throws NullPointerException if the objective matrix or one of its rows
+	 *         is {@code null}
+	 * @throws IllegalArgumentException if the rows of the objective matrix
+	 *         have different lengths
+	 */
+	public static double[] crowdingDistance(final double[][] objectives) {
+		final int n = objectives.length > 0 ? objectives[0].length : 0;
+		for (double[] objective : objectives) {
+			checkLength(n, objective.length);
+		}
+
+		final double[] result = new double[n];
+		if (n < 3) {
+			Arrays.fill(result, POSITIVE_INFINITY);
+		} else {
+			// Every objective is sorted in descending order.
+			final int[][] indexes = new int[objectives.length][];
+			final IntStream dimensions = IntStream.range(0, objectives.length);
+			(n >= PARALLEL_SORT_SIZE ? dimensions.parallel() : dimensions)
+				.forEach(m -> indexes[m] = ProxySorter.sort(
+					objectives[m],
+					n,
+					(a, i, j) -> Double.compare(a[j], a[i])
+				));
+
+			for (int m = 0; m < objectives.length; ++m) {
+				final double[] values = objectives[m];
+				final int[] idx = indexes[m];
+
+				result[idx[0]] = POSITIVE_INFINITY;
+				result[idx[n - 1]] = POSITIVE_INFINITY;
+
+				final double dm = values[idx[0]] - values[idx[n - 1]];
+				if (Double.compare(dm, 0) > 0) {
+					for (int i = 1; i < n - 1; ++i) {
+						result[idx[i]] +=
+							(values[idx[i - 1]] - values[idx[i + 1]])/dm;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
 	/* *************************************************************************
 	 * Pareto ranks methods.
 	 * ************************************************************************/
@@ -467,6 +544,104 @@ public final class Pareto {
 		}
 	}
 
+	/**
+	 * Calculates the <em>ε-box dominance</em> of the two vectors <b>u</b> and
+	 * <b>v</b>. The objective space is divided into boxes, with the edge
+	 * lengths given by the {@code epsilon} vector. <b>u</b> ε-box dominates
+	 * <b>v</b>, if the box of <b>u</b> dominates the box of <b>v</b>, or if
+	 * both vectors lie in the same box and <b>u</b> dominates <b>v</b>. Like
+	 * {@link #dominance(double[], double[])}, the vector elements are
+	 * maximized.
+	 * <p>
+	 *  <b>Reference:</b><em>
+	 *      M. Laumanns, L. Thiele, K. Deb and E. Zitzler. Combining
+	 *      Convergence and Diversity in Evolutionary Multiobjective
+	 *      Optimization, Evolutionary Computation, vol. 10, no. 3,
+	 *      pp. 263-282, 2002.</em>
+	 *
+	 * @since 8.1
+	 *
+	 * @param u the first vector
+	 * @param v the second vector
+	 * @param epsilon the box size of every vector element. If the array
+	 *        contains only one value, it is used for all elements.
+	 * @return {@code 1} if <b>u</b> ≻<sub>ε</sub> <b>v</b>, {@code -1} if
+	 *         <b>v</b> ≻<sub>ε</sub> <b>u</b> and {@code 0} otherwise
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code u.length != v.length}, or if
+	 *         the {@code epsilon} values are not positive and finite or don't
+	 *         match the vector length
+	 */
+	public static int epsilonDominance(
+		final double[] u,
+		final double[] v,
+		final double[] epsilon
+	) {
+		checkLength(u.length, v.length);
+		checkEpsilon(epsilon);
+
+		final double[] bu = box(u, epsilon);
+		final double[] bv = box(v, epsilon);
+		final int dominance = dominance(bu, bv);
+
+		return dominance == 0 && Arrays.equals(bu, bv)
+			? dominance(u, v)
+			: dominance;
+	}
+
+	/**
+	 * Return a comparator, which calculates the ε-box dominance of two
+	 * vectors.
+	 *
+	 * @see #epsilonDominance(double[], double[], double[])
+	 *
+	 * @since 8.1
+	 *
+	 * @param epsilon the box size of every vector element. If the array
+	 *        contains only one value, it is used for all elements.
+	 * @return the ε-box dominance comparator
+	 * @throws NullPointerException if the {@code epsilon} array is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code epsilon} values are not
+	 *         positive and finite
+	 */
+	public static Comparator<double[]> epsilonDominance(final double... epsilon) {
+		final double[] eps = checkEpsilon(epsilon).clone();
+		return (u, v) -> epsilonDominance(u, v, eps);
+	}
+
+	static double[] checkEpsilon(final double[] epsilon) {
+		if (epsilon.length == 0) {
+			throw new IllegalArgumentException("Epsilon values must be given.");
+		}
+		for (double eps : epsilon) {
+			if (!(eps > 0) || Double.isInfinite(eps)) {
+				throw new IllegalArgumentException(format(
+					"Epsilon values must be positive and finite: %s.",
+					Arrays.toString(epsilon)
+				));
+			}
+		}
+		return epsilon;
+	}
+
+	/*
+	 * Return the index of the ε-box, the given vector lies in. The indexes are
+	 * integral double values and never -0.0.
+	 */
+	static double[] box(final double[] u, final double[] epsilon) {
+		if (epsilon.length != 1) {
+			checkLength(u.length, epsilon.length);
+		}
+
+		final double[] box = new double[u.length];
+		for (int i = 0; i < u.length; ++i) {
+			final double eps = epsilon.length == 1 ? epsilon[0] : epsilon[i];
+			box[i] = Math.floor(u[i]/eps) + 0.0;
+		}
+		return box;
+	}
+
 	/**
 	 * Calculates the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
 	 *     <b>Pareto Dominance</b></a> of the two vectors <b>u</b> and <b>v</b>.
@@ -0,0 +1,695 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Indexed archive of non-dominated (Pareto-optimal) elements. Like the
+ * {@link ParetoFront}, it only contains non-dominated, distinct elements. The
+ * elements are stored in an <em>ND-tree</em>, which allows inserting new
+ * elements and answering dominance queries in sub-linear time, for most
+ * practical Pareto fronts. This makes the archive suitable for keeping
+ * <em>every</em> non-dominated solution of a long-running evolution.
+ * <p>
+ * Other than the {@code ParetoFront}, the dominance relation is defined by
+ * the primitive {@code double[]} objective values of the elements, which are
+ * <em>maximized</em>. This is consistent with the
+ * {@link Pareto#dominance(double[], double[])} function.
+ * {@snippet lang="java":
+ * final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+ * archive.add(Vec.of(1.0, 2.0));
+ * archive.add(Vec.of(1.1, 2.5));
+ * archive.add(Vec.of(0.9, 2.1));
+ * archive.add(Vec.of(0.0, 2.9));
+ * }
+ *
+ * or directly for {@code double[]} array objects
+ * {@snippet lang="java":
+ * final ParetoArchive<double[]> archive = new ParetoArchive<>(v -> v);
+ * archive.add(new double[]{1.0, 2.0});
+ * archive.add(new double[]{1.1, 2.5});
+ * }
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      A. Jaszkiewicz and T. Lust. ND-Tree-Based Update: A Fast Algorithm for
+ *      the Dynamic Nondominance Problem, IEEE Transactions on Evolutionary
+ *      Computation, vol. 22, no. 5, pp. 778-791, 2018.</em>
+ *
+ * @see ParetoFront
+ * @see MOEA#toParetoArchive()
+ *
+ * @implNote
+ * This class is not thread-safe. The returned iterator doesn't support
+ * removing elements. The objective values of the elements must not contain
+ * {@code NaN} values and must not be changed after the elements have been
+ * added.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class ParetoArchive<T> extends AbstractSet<T> {
+
+	/**
+	 * The default maximal number of elements stored in a leaf node of the
+	 * tree.
+	 */
+	public static final int DEFAULT_LEAF_SIZE = 20;
+
+	private record Entry<T>(T element, double[] objectives) {}
+
+	private static final class Node<T> {
+		// The component-wise maximum and minimum of the node elements.
+		double[] ideal;
+		double[] nadir;
+
+		// Only one of these lists is not null.
+		List<Entry<T>> entries = new ArrayList<>();
+		List<Node<T>> children = null;
+
+		boolean isLeaf() {
+			return entries != null;
+		}
+
+		boolean isEmpty() {
+			return isLeaf() ? entries.isEmpty() : children.isEmpty();
+		}
+	}
+
+	private final Function<? super T, double[]> _objectives;
+	private final BiPredicate<? super T, ? super T> _equals;
+	private final int _leafSize;
+	private final Consumer<? super T> _evicted;
+
+	private Node<T> _root = new Node<>();
+	private int _size = 0;
+
+	/**
+	 * Create a new, empty Pareto archive.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param equals the equals predicate used for keeping the set distinct
+	 * @param leafSize the maximal number of elements stored in a leaf node
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code leafSize} is smaller
+	 *         than two
+	 */
+	public ParetoArchive(
+		final Function<? super T, double[]> objectives,
+		final BiPredicate<? super T, ? super T> equals,
+		final int leafSize
+	) {
+		this(objectives, equals, leafSize, element -> {});
+	}
+
+	/*
+	 * The evicted consumer is called for every archive element, which is
+	 * removed because it is dominated by a newly inserted element.
+	 */
+	ParetoArchive(
+		final Function<? super T, double[]> objectives,
+		final BiPredicate<? super T, ? super T> equals,
+		final int leafSize,
+		final Consumer<? super T> evicted
+	) {
+		if (leafSize < 2) {
+			throw new IllegalArgumentException(
+				"Leaf size must be greater than one: " + leafSize
+			);
+		}
+
+		_objectives = requireNonNull(objectives);
+		_equals = requireNonNull(equals);
+		_leafSize = leafSize;
+		_evicted = requireNonNull(evicted);
+	}
+
+	/**
+	 * Create a new, empty Pareto archive.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param equals the equals predicate used for keeping the set distinct
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public ParetoArchive(
+		final Function<? super T, double[]> objectives,
+		final BiPredicate<? super T, ? super T> equals
+	) {
+		this(objectives, equals, DEFAULT_LEAF_SIZE);
+	}
+
+	/**
+	 * Create a new, empty Pareto archive.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 */
+	public ParetoArchive(final Function<? super T, double[]> objectives) {
+		this(objectives, Objects::equals);
+	}
+
+	/**
+	 * Return a new Pareto archive for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}.
+	 *
+	 * @param <V> the vector type
+	 * @return a new Pareto archive for vector objects
+	 */
+	public static <V extends Vec<?>> ParetoArchive<V> ofVec() {
+		return new ParetoArchive<>(Vecs::objectives);
+	}
+
+	/**
+	 * Inserts an {@code element} to this Pareto archive. Elements of the
+	 * archive, which are dominated by the new {@code element}, are removed.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the {@code element} has been added, {@code false}
+	 *         if the {@code element} is dominated by, or equal to, an element
+	 *         of {@code this} archive
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the objective values of the
+	 *         {@code element} have a different length than the already
+	 *         inserted ones or contain {@code NaN} values
+	 */
+	@Override
+	public boolean add(final T element) {
+		requireNonNull(element);
+		return add(new Entry<>(element, objectives(element)));
+	}
+
+	private boolean add(final Entry<T> entry) {
+		if (!_root.isEmpty()) {
+			if (!update(_root, entry)) {
+				return false;
+			}
+			if (_root.isEmpty()) {
+				_root = new Node<>();
+			}
+		}
+
+		insert(_root, entry);
+		++_size;
+		return true;
+	}
+
+	/**
+	 * Adds all elements of the given collection to {@code this} Pareto
+	 * archive.
+	 *
+	 * @param elements the elements to add to {@code this} archive
+	 * @return {@code true} if {@code this} archive has been changed,
+	 *         {@code false} otherwise
+	 * @throws NullPointerException if the given {@code elements} are
+	 *         {@code null}
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		boolean changed = false;
+		for (T element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Add all elements of the given {@code archive} to {@code this} archive.
+	 * The already calculated objective values of the given {@code archive}
+	 * are reused.
+	 *
+	 * @param archive the archive to merge
+	 * @return {@code this} Pareto archive
+	 * @throws NullPointerException if the given parameter is {@code null}
+	 */
+	public ParetoArchive<T> merge(final ParetoArchive<? extends T> archive) {
+		if (archive != this) {
+			for (var entry : archive.entries()) {
+				add(new Entry<T>(entry.element(), entry.objectives()));
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Test whether the given {@code element} is dominated by an element of
+	 * {@code this} archive.
+	 *
+	 * @param element the element to test
+	 * @return {@code true} if the given {@code element} is dominated by an
+	 *         element of {@code this} archive, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 */
+	public boolean isDominated(final T element) {
+		requireNonNull(element);
+		return !_root.isEmpty() && dominated(_root, objectives(element));
+	}
+
+	@Override
+	public void clear() {
+		_root = new Node<>();
+		_size = 0;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		final Iterator<Entry<T>> it = entries().iterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+			@Override
+			public T next() {
+				return it.next().element();
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _size == 0;
+	}
+
+	/**
+	 * Return the elements of {@code this} Pareto archive as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} Pareto archive as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return ISeq.of(this);
+	}
+
+	/* *************************************************************************
+	 * ND-tree implementation.
+	 * ************************************************************************/
+
+	private double[] objectives(final T element) {
+		final double[] objectives = requireNonNull(_objectives.apply(element));
+
+		if (!_root.isEmpty() && _root.ideal.length != objectives.length) {
+			throw new IllegalArgumentException(
+				"Expected %d objectives, but got %d.".formatted(
+					_root.ideal.length, objectives.length
+				)
+			);
+		}
+		for (double value : objectives) {
+			if (Double.isNaN(value)) {
+				throw new IllegalArgumentException(
+					"Objective values must not be NaN."
+				);
+			}
+		}
+
+		return objectives;
+	}
+
+	private Iterable<Entry<T>> entries() {
+		return () -> new Iterator<>() {
+			private final Deque<Node<T>> _nodes = new ArrayDeque<>();
+			private Iterator<Entry<T>> _entries = List.<Entry<T>>of().iterator();
+			{
+				_nodes.push(_root);
+			}
+
+			@Override
+			public boolean hasNext() {
+				while (!_entries.hasNext() && !_nodes.isEmpty()) {
+					final Node<T> node = _nodes.pop();
+					if (node.isLeaf()) {
+						_entries = node.entries.iterator();
+					} else {
+						for (int i = node.children.size(); --i >= 0;) {
+							_nodes.push(node.children.get(i));
+						}
+					}
+				}
+				return _entries.hasNext();
+			}
+
+			@Override
+			public Entry<T> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return _entries.next();
+			}
+		};
+	}
+
+	/*
+	 * Removes the elements of the given node, dominated by the new entry.
+	 * Returns false if the new entry is dominated by, or equal to, an
+	 * element of the node.
+	 */
+	private boolean update(final Node<T> node, final Entry<T> entry) {
+		final double[] y = entry.objectives();
+
+		// The nadir point dominates y, and so does every node element.
+		if (covers(node.nadir, y) && !same(node.nadir, y)) {
+			return false;
+		}
+
+		// y dominates the ideal point, and therefore every node element.
+		if (covers(y, node.ideal) && !same(y, node.ideal)) {
+			_size -= count(node);
+			evict(node);
+			node.entries = new ArrayList<>();
+			node.children = null;
+			return true;
+		}
+
+		if (covers(y, node.nadir) || covers(node.ideal, y)) {
+			if (node.isLeaf()) {
+				final Iterator<Entry<T>> it = node.entries.iterator();
+				while (it.hasNext()) {
+					final Entry<T> existing = it.next();
+					final int cmp = Pareto.dominance(existing.objectives(), y);
+					if (cmp > 0) {
+						return false;
+					} else if (cmp < 0) {
+						it.remove();
+						--_size;
+						_evicted.accept(existing.element());
+					} else if (
+						same(existing.objectives(), y) &&
+						_equals.test(existing.element(), entry.element())
+					) {
+						return false;
+					}
+				}
+			} else {
+				for (Node<T> child : node.children) {
+					if (!update(child, entry)) {
+						return false;
+					}
+				}
+
+				node.children.removeIf(Node::isEmpty);
+				if (node.children.size() == 1) {
+					final Node<T> child = node.children.get(0);
+					node.entries = child.entries;
+					node.children = child.children;
+					node.ideal = child.ideal;
+					node.nadir = child.nadir;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private void insert(final Node<T> node, final Entry<T> entry) {
+		final double[] y = entry.objectives();
+		if (node.ideal == null) {
+			node.ideal = y.clone();
+			node.nadir = y.clone();
+		} else {
+			for (int i = 0; i < y.length; ++i) {
+				node.ideal[i] = Math.max(node.ideal[i], y[i]);
+				node.nadir[i] = Math.min(node.nadir[i], y[i]);
+			}
+		}
+
+		if (node.isLeaf()) {
+			node.entries.add(entry);
+			if (node.entries.size() > _leafSize) {
+				split(node);
+			}
+		} else {
+			Node<T> closest = null;
+			double distance = Double.POSITIVE_INFINITY;
+			for (Node<T> child : node.children) {
+				final double dist = midpointDistance(child, y);
+				if (dist < distance) {
+					distance = dist;
+					closest = child;
+				}
+			}
+			insert(closest, entry);
+		}
+	}
+
+	/*
+	 * Splits a full leaf node into d + 1 child nodes. The seed points of the
+	 * children are chosen to be far away from each other.
+	 */
+	private void split(final Node<T> node) {
+		final List<Entry<T>> entries = node.entries;
+		final int size = entries.size();
+		final int branches = Math.min(node.ideal.length + 1, size);
+
+		// The first seed has the largest average distance to the others.
+		int first = 0;
+		double max = -1;
+		for (int i = 0; i < size; ++i) {
+			double sum = 0;
+			for (int j = 0; j < size; ++j) {
+				sum += distance(entries.get(i).objectives(), entries.get(j).objectives());
+			}
+			if (sum > max) {
+				max = sum;
+				first = i;
+			}
+		}
+
+		// The next seeds have the largest distance to the existing ones.
+		final int[] seeds = new int[branches];
+		final double[] distances = new double[size];
+		seeds[0] = first;
+		for (int i = 0; i < size; ++i) {
+			distances[i] = distance(
+				entries.get(i).objectives(),
+				entries.get(first).objectives()
+			);
+		}
+		for (int s = 1; s < branches; ++s) {
+			int next = 0;
+			for (int i = 1; i < size; ++i) {
+				if (distances[i] > distances[next]) {
+					next = i;
+				}
+			}
+			seeds[s] = next;
+			for (int i = 0; i < size; ++i) {
+				distances[i] = Math.min(distances[i], distance(
+					entries.get(i).objectives(),
+					entries.get(next).objectives()
+				));
+			}
+		}
+
+		final List<List<Entry<T>>> groups = new ArrayList<>(branches);
+		for (int s = 0; s < branches; ++s) {
+			groups.add(new ArrayList<>());
+		}
+
+		for (int i = 0; i < size; ++i) {
+			final double[] y = entries.get(i).objectives();
+
+			int closest = 0;
+			double distance = Double.POSITIVE_INFINITY;
+			for (int s = 0; s < branches; ++s) {
+				final double dist = distance(y, entries.get(seeds[s]).objectives());
+				if (dist < distance) {
+					distance = dist;
+					closest = s;
+				}
+			}
+			groups.get(closest).add(entries.get(i));
+		}
+
+		// Elements with equal objective values can't be separated.
+		final List<Node<T>> children = new ArrayList<>(branches);
+		for (List<Entry<T>> group : groups) {
+			if (group.size() == size) {
+				return;
+			}
+			if (!group.isEmpty()) {
+				final Node<T> child = new Node<>();
+				for (Entry<T> entry : group) {
+					insert(child, entry);
+				}
+				children.add(child);
+			}
+		}
+
+		node.entries = null;
+		node.children = children;
+	}
+
+	private boolean dominated(final Node<T> node, final double[] y) {
+		if (covers(node.nadir, y) && !same(node.nadir, y)) {
+			return true;
+		}
+		if (!covers(node.ideal, y)) {
+			return false;
+		}
+
+		if (node.isLeaf()) {
+			for (Entry<T> entry : node.entries) {
+				if (Pareto.dominance(entry.objectives(), y) > 0) {
+					return true;
+				}
+			}
+		} else {
+			for (Node<T> child : node.children) {
+				if (dominated(child, y)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private void evict(final Node<T> node) {
+		if (node.isLeaf()) {
+			for (Entry<T> entry : node.entries) {
+				_evicted.accept(entry.element());
+			}
+		} else {
+			for (Node<T> child : node.children) {
+				evict(child);
+			}
+		}
+	}
+
+	private static int count(final Node<?> node) {
+		if (node.isLeaf()) {
+			return node.entries.size();
+		}
+
+		int count = 0;
+		for (Node<?> child : node.children) {
+			count += count(child);
+		}
+		return count;
+	}
+
+	// Return true if every component of u is greater or equal than of v.
+	private static boolean covers(final double[] u, final double[] v) {
+		for (int i = 0; i < u.length; ++i) {
+			if (Double.compare(u[i], v[i]) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean same(final double[] u, final double[] v) {
+		for (int i = 0; i < u.length; ++i) {
+			if (Double.compare(u[i], v[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double midpointDistance(final Node<?> node, final double[] y) {
+		double sum = 0;
+		for (int i = 0; i < y.length; ++i) {
+			final double diff = (node.ideal[i] + node.nadir[i])/2.0 - y[i];
+			sum += diff*diff;
+		}
+		return sum;
+	}
+
+	private static double distance(final double[] u, final double[] v) {
+		double sum = 0;
+		for (int i = 0; i < u.length; ++i) {
+			final double diff = u[i] - v[i];
+			sum += diff*diff;
+		}
+		return Math.sqrt(sum);
+	}
+
+	/* *************************************************************************
+	 * Static collector methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a Pareto archive collector for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}.
+	 *
+	 * @param <V> the vector type
+	 * @return a new Pareto archive collector
+	 */
+	public static <V extends Vec<?>>
+	Collector<V, ?, ParetoArchive<V>> toParetoArchive() {
+		return toParetoArchive(Vecs::objectives);
+	}
+
+	/**
+	 * Return a Pareto archive collector with the given {@code objectives}
+	 * function.
+	 *
+	 * @param objectives the function which returns the (maximized) objective
+	 *        values of an element
+	 * @param <T> the element type
+	 * @return a new Pareto archive collector
+	 * @throws NullPointerException if the given {@code objectives} function
+	 *         is {@code null}
+	 */
+	public static <T> Collector<T, ?, ParetoArchive<T>>
+	toParetoArchive(final Function<? super T, double[]> objectives) {
+		requireNonNull(objectives);
+
+		return Collector.of(
+			() -> new ParetoArchive<>(objectives),
+			ParetoArchive::add,
+			ParetoArchive::merge
+		);
+	}
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * Hypervolume based selector, as used by the <em>SMS-EMOA</em>. The
+ * population is partitioned into fronts with the {@link NonDominatedSort}.
+ * The fronts are selected, in the order of their rank, as long as they fit
+ * into the selection. From the first front which doesn't fit, the phenotypes
+ * with the smallest exclusive hypervolume contribution are removed, one
+ * after another, until the remaining phenotypes fit.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(SMSEMOASelector.ofVec())
+ *     .build();
+ * }
+ *
+ * If no reference point is given, it is derived from the worst objective
+ * values of the population, which are moved away by a tenth of the objective
+ * range, or by one if the range is zero.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      N. Beume, B. Naujoks, and M. Emmerich. SMS-EMOA: Multiobjective
+ *      selection based on dominated hypervolume, European Journal of
+ *      Operational Research, vol. 181, no. 3, pp. 1653-1669, 2007.</em>
+ *
+ * @see Hypervolume
+ * @see IncrementalHypervolume
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public class SMSEMOASelector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	private final Function<? super C, double[]> _objectives;
+	private final double[] _reference;
+
+	/**
+	 * Create a new hypervolume selector with the given {@code objectives}
+	 * function and a fixed {@code reference} point.
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}. The objective values are
+	 *        maximized or minimized, according to the {@link Optimize}
+	 *        strategy of the selection.
+	 * @param reference the reference point, in the objective space of the
+	 *        fitness type {@code C}. It must be worse than the selected
+	 *        phenotypes, in every objective.
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public SMSEMOASelector(
+		final Function<? super C, double[]> objectives,
+		final double[] reference
+	) {
+		_objectives = requireNonNull(objectives);
+		_reference = requireNonNull(reference).clone();
+	}
+
+	/**
+	 * Create a new hypervolume selector with the given {@code objectives}
+	 * function. The reference point is derived from the population.
+	 *
+	 * @param objectives the function which returns the primitive objective
+	 *        values of the fitness type {@code C}
+	 * @throws NullPointerException if the {@code objectives} function is
+	 *         {@code null}
+	 */
+	public SMSEMOASelector(final Function<? super C, double[]> objectives) {
+		_objectives = requireNonNull(objectives);
+		_reference = null;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population);
+		requireNonNull(opt);
+		if (count < 0) {
+			throw new IllegalArgumentException(
+				"Selection count must be greater or equal then zero, but was " +
+					count
+			);
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final double[][] values = Vecs.maximized(population, _objectives, opt);
+		final double[] reference = reference(values, opt);
+		final int[] ranks = NonDominatedSort.rank(values);
+
+		final List<IntList> fronts = new ArrayList<>();
+		for (int i = 0; i < ranks.length; ++i) {
+			while (fronts.size() <= ranks[i]) {
+				fronts.add(new IntList());
+			}
+			fronts.get(ranks[i]).add(i);
+		}
+
+		final IntList selected = new IntList(count);
+		for (IntList front : fronts) {
+			if (selected.size() >= count) {
+				break;
+			}
+
+			if (selected.size() + front.size() <= count) {
+				selected.addAll(front.toArray());
+			} else {
+				selected.addAll(
+					reduce(front, values, reference, count - selected.size())
+				);
+			}
+		}
+
+		final List<Phenotype<G, C>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < selected.size() && result.size() < count; ++i) {
+				result.add(population.get(selected.get(i)));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	// Removes the least contributing points until the front has the given size.
+	private static int[] reduce(
+		final IntList front,
+		final double[][] values,
+		final double[] reference,
+		final int size
+	) {
+		final IncrementalHypervolume hv = new IncrementalHypervolume(reference);
+		final List<Integer> indexes = new ArrayList<>(front.size());
+		for (int i = 0; i < front.size(); ++i) {
+			hv.add(values[front.get(i)]);
+			indexes.add(front.get(i));
+		}
+
+		while (indexes.size() > size) {
+			final int index = hv.leastContributor();
+			hv.remove(index);
+			indexes.remove(index);
+		}
+
+		return indexes.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private double[] reference(final double[][] values, final Optimize opt) {
+		if (_reference != null) {
+			return Vecs.maximized(_reference, opt);
+		}
+
+		final double[] lower = values[0].clone();
+		final double[] upper = values[0].clone();
+		for (double[] value : values) {
+			for (int i = 0; i < lower.length; ++i) {
+				lower[i] = Math.min(lower[i], value[i]);
+				upper[i] = Math.max(upper[i], value[i]);
+			}
+		}
+
+		final double[] reference = new double[lower.length];
+		for (int i = 0; i < reference.length; ++i) {
+			final double range = upper[i] - lower[i];
+			reference[i] = lower[i] - (range > 0 ? range/10.0 : 1.0);
+		}
+		return reference;
+	}
+
+	/**
+	 * Return a new hypervolume selector for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}. The
+	 * reference point is derived from the population.
+	 *
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector
+	 * @return a new hypervolume selector
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	SMSEMOASelector<G, V> ofVec() {
+		return new SMSEMOASelector<>(Vecs::objectives);
+	}
+
+	/**
+	 * Return a new hypervolume selector for {@link Vec} objects, created with
+	 * {@link Vec#of(int...)}, {@link Vec#of(long...)},
+	 * {@link Vec#of(double...)} or a primitive {@link VecFactory}, with the
+	 * given fixed {@code reference} point.
+	 *
+	 * @param reference the reference point
+	 * @param <G> the gene type
+	 * @param <V> the multi object result type vector
+	 * @return a new hypervolume selector
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, V extends Vec<?>>
+	SMSEMOASelector<G, V> ofVec(final double... reference) {
+		return new SMSEMOASelector<>(Vecs::objectives, reference);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+
+/**
+ * Scalarizing function of the decomposition-based {@link MOEADSelector}. It
+ * converts the objective values of a point into a single value, which is
+ * <em>minimized</em>, for the subproblem defined by the given weight vector.
+ * <p>
+ * The objective values passed to the function are translated by the ideal
+ * point and normalized to the range {@code [0, 1]}, where {@code 0} is the
+ * best value. The components of the weight vectors are not negative and sum
+ * up to one. The optimum of a subproblem lies on the line through the
+ * origin in the direction of its weight vector.
+ *
+ * @see MOEADSelector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+@FunctionalInterface
+public interface Scalarization {
+
+	/**
+	 * The default penalty parameter of the {@link #pbi(double)} function.
+	 */
+	double DEFAULT_PBI_PENALTY = 5.0;
+
+	/**
+	 * Return the scalarized value of the given {@code point} for the
+	 * subproblem with the given {@code weight} vector.
+	 *
+	 * @param point the normalized (minimized) objective values
+	 * @param weight the weight vector of the subproblem
+	 * @return the scalarized value, which is minimized
+	 */
+	double apply(final double[] point, final double[] weight);
+
+	/**
+	 * Return the <em>Tchebycheff</em> function, which uses the reciprocal
+	 * weights: {@code max(f[k]/w[k])}. With the reciprocal weights, the
+	 * optimum of a subproblem lies on the line of its weight vector. Zero
+	 * weights are replaced by {@code 1e-6}.
+	 *
+	 * @return the Tchebycheff scalarizing function
+	 */
+	static Scalarization tchebycheff() {
+		return (point, weight) -> {
+			double max = Double.NEGATIVE_INFINITY;
+			for (int k = 0; k < point.length; ++k) {
+				max = Math.max(max, point[k]/Math.max(weight[k], 1e-6));
+			}
+			return max;
+		};
+	}
+
+	/**
+	 * Return the <em>penalty-based boundary intersection</em> (PBI) function,
+	 * {@code d1 + penalty*d2}. {@code d1} is the distance of the projected
+	 * point along the weight vector and {@code d2} is the perpendicular
+	 * distance of the point to the line of the weight vector.
+	 *
+	 * @param penalty the penalty of the perpendicular distance
+	 * @return the PBI scalarizing function
+	 * @throws IllegalArgumentException if the {@code penalty} is negative or
+	 *         not finite
+	 */
+	static Scalarization pbi(final double penalty) {
+		if (!(penalty >= 0) || Double.isInfinite(penalty)) {
+			throw new IllegalArgumentException(format(
+				"Penalty must be non-negative and finite: %s", penalty
+			));
+		}
+
+		return (point, weight) -> {
+			double norm = 0;
+			double dot = 0;
+			for (int k = 0; k < point.length; ++k) {
+				norm += weight[k]*weight[k];
+				dot += point[k]*weight[k];
+			}
+			norm = Math.sqrt(norm);
+
+			final double d1 = dot/norm;
+			double d2 = 0;
+			for (int k = 0; k < point.length; ++k) {
+				final double diff = point[k] - d1*weight[k]/norm;
+				d2 += diff*diff;
+			}
+
+			return d1 + penalty*Math.sqrt(d2);
+		};
+	}
+
+	/**
+	 * Return the <em>penalty-based boundary intersection</em> (PBI) function
+	 * with the {@link #DEFAULT_PBI_PENALTY}.
+	 *
+	 * @return the PBI scalarizing function
+	 */
+	static Scalarization pbi() {
+		return pbi(DEFAULT_PBI_PENALTY);
+	}
+
+}
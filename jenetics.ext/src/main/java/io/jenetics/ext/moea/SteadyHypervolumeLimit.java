@@ -0,0 +1,94 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import io.jenetics.Optimize;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Terminates the evolution if the hypervolume of the population hasn't been
+ * improved for a given number of generations.
+ *
+ * @see MOEA#bySteadyHypervolume(double[], int)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class SteadyHypervolumeLimit<C extends Comparable<? super C>>
+	implements Predicate<EvolutionResult<?, C>>
+{
+	private final Function<? super C, double[]> _objectives;
+	private final double[] _reference;
+	private final int _generations;
+	private final double _epsilon;
+
+	private boolean _proceed = true;
+	private int _stable = 0;
+	private double _volume = Double.NaN;
+
+	SteadyHypervolumeLimit(
+		final Function<? super C, double[]> objectives,
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		if (generations < 1) {
+			throw new IllegalArgumentException("Generations < 1: " + generations);
+		}
+		if (!(epsilon >= 0)) {
+			throw new IllegalArgumentException("Epsilon < 0: " + epsilon);
+		}
+
+		_objectives = requireNonNull(objectives);
+		_reference = requireNonNull(reference).clone();
+		_generations = generations;
+		_epsilon = epsilon;
+	}
+
+	@Override
+	public boolean test(final EvolutionResult<?, C> result) {
+		if (!_proceed) return false;
+
+		final double volume = volume(result);
+		if (Double.isNaN(_volume) || volume > _volume*(1.0 + _epsilon)) {
+			_volume = volume;
+			_stable = 1;
+		} else {
+			_proceed = ++_stable <= _generations;
+		}
+
+		return _proceed;
+	}
+
+	private double volume(final EvolutionResult<?, C> result) {
+		final Optimize opt = result.optimize();
+		return Hypervolume.of(
+			Vecs.maximized(result.population(), _objectives, opt),
+			Vecs.maximized(_reference, opt)
+		);
+	}
+
+}
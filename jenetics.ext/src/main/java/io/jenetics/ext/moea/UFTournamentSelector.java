@@ -24,7 +24,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.ToIntFunction;
 
 import io.jenetics.Gene;
@@ -36,6 +40,8 @@ import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
+import io.jenetics.ext.internal.util.IntList;
+
 /**
  * Unique fitness based tournament selection.
  * <p>
@@ -54,9 +60,14 @@ import io.jenetics.util.Seq;
  *      DOI=<a href="http://dx.doi.org/10.1145/2463372.2463456">
  *          10.1145/2463372.2463456</a></em>
  *
+ * @implNote
+ * Populations with {@code 256} and more individuals are ranked with the
+ * {@link NonDominatedSort}, which doesn't need a {@code n×n} dominance matrix.
+ * Selectors created with {@link #ofVec(ForkJoinPool)} rank such populations
+ * with four and more objectives in parallel.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 8.1
  * @since 4.1
  */
 public class UFTournamentSelector<
@@ -69,6 +80,8 @@ public class UFTournamentSelector<
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final Function<Phenotype<G, C>, double[]> _objectives;
+	private final ForkJoinPool _pool;
 
 	/**
 	 * Creates a new {@code UFTournamentSelector} with the functions needed for
@@ -95,6 +108,23 @@ public class UFTournamentSelector<
 		final ElementComparator<? super C> comparator,
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, null, null);
+	}
+
+	/*
+	 * The optional objectives function returns the primitive objective values
+	 * of a fitness value, which can be used for ranking large populations.
+	 * If the optional fork-join pool is given, the primitive objective values
+	 * are ranked in parallel.
+	 */
+	UFTournamentSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final Function<? super C, double[]> objectives,
+		final ForkJoinPool pool
 	) {
 		requireNonNull(dominance);
 		requireNonNull(comparator);
@@ -105,6 +135,10 @@ public class UFTournamentSelector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_objectives = objectives != null
+			? pt -> objectives.apply(pt.fitness())
+			: null;
+		_pool = pool;
 	}
 
 	@Override
@@ -121,9 +155,19 @@ public class UFTournamentSelector<
 			_dominance,
 			_comparator,
 			_distance,
-			_dimension
+			_dimension,
+			_objectives,
+			_pool
 		);
 
+		// The indexes of the individuals with the same fitness.
+		final Map<C, IntList> fitnesses = new HashMap<>();
+		for (int i = 0; i < population.size(); ++i) {
+			fitnesses
+				.computeIfAbsent(population.get(i).fitness(), f -> new IntList())
+				.add(i);
+		}
+
 		final List<Phenotype<G, C>> S = new ArrayList<>();
 		while (S.size() < count) {
 			final int k = min(2*count - S.size(), population.size());
@@ -140,12 +184,8 @@ public class UFTournamentSelector<
 					p = random.nextBoolean() ? G[j] : G[j + 1];
 				}
 
-				final C fitness = population.get(p).fitness();
-				final List<Phenotype<G, C>> list = population.stream()
-					.filter(pt -> pt.fitness().equals(fitness))
-					.toList();
-
-				S.add(list.get(random.nextInt(list.size())));
+				final IntList same = fitnesses.get(population.get(p).fitness());
+				S.add(population.get(same.get(random.nextInt(same.size()))));
 			}
 		}
 
@@ -175,7 +215,41 @@ public class UFTournamentSelector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			CrowdedComparator::doubles,
+			null
+		);
+	}
+
+	/**
+	 * Return a new selector for the given result type {@code V}, which ranks
+	 * large populations with many objectives in parallel. The pairwise
+	 * dominance tests are split into blocks, which are executed by the given
+	 * fork-join {@code pool}. The selected individuals are the same as the
+	 * ones of the serial {@link #ofVec()} selector.
+	 * {@snippet lang="java":
+	 * final Selector<DoubleGene, Vec<double[]>> selector =
+	 *     UFTournamentSelector.ofVec(ForkJoinPool.commonPool());
+	 * }
+	 *
+	 * @since 8.1
+	 *
+	 * @param pool the fork-join pool used for ranking the population
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 * @throws NullPointerException if the given {@code pool} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	UFTournamentSelector<G, V> ofVec(final ForkJoinPool pool) {
+		return new UFTournamentSelector<>(
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length,
+			CrowdedComparator::doubles,
+			requireNonNull(pool)
 		);
 	}
 
@@ -22,14 +22,17 @@ package io.jenetics.ext.moea;
 import static java.lang.String.format;
 
 import java.util.List;
+import java.util.function.Function;
 
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
 
 /**
  * Some vector helper methods.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 8.1
  * @since 4.1
  */
 final class Vecs {
@@ -52,6 +55,89 @@ final class Vecs {
 		}
 	}
 
+	/*
+	 * Return the objective values of the given vector, which are consistent
+	 * with the vector dominance. The elements of vectors, created by a
+	 * VecFactory with minimized elements, are negated. Object vectors are not
+	 * supported.
+	 */
+	static double[] objectives(final Vec<?> vec) {
+		return switch (vec) {
+			case SimpleDoubleVec v -> v.data();
+			case SimpleIntVec v -> {
+				final int[] data = v.data();
+				final double[] objectives = new double[data.length];
+				for (int i = 0; i < data.length; ++i) {
+					objectives[i] = data[i];
+				}
+				yield objectives;
+			}
+			case SimpleLongVec v -> {
+				final long[] data = v.data();
+				final double[] objectives = new double[data.length];
+				for (int i = 0; i < data.length; ++i) {
+					objectives[i] = data[i];
+				}
+				yield objectives;
+			}
+			case GeneralDoubleVec v -> distances(v, new double[v.length()]);
+			case GeneralIntVec v -> distances(v, new int[v.length()]);
+			case GeneralLongVec v -> distances(v, new long[v.length()]);
+			default -> throw new IllegalArgumentException(format(
+				"Unsupported vector type: %s", vec.getClass().getName()
+			));
+		};
+	}
+
+	// The signed element distances to the zero vector respect the optimize
+	// direction of every element.
+	private static <T> double[] distances(final Vec<T> vec, final T zero) {
+		final double[] objectives = new double[vec.length()];
+		for (int i = 0; i < objectives.length; ++i) {
+			objectives[i] = vec.distance().distance(vec.data(), zero, i);
+		}
+		return objectives;
+	}
+
+	/*
+	 * Return the given objective values, negated if the objectives are
+	 * minimized, so that the returned values are always maximized.
+	 */
+	static double[] maximized(final double[] values, final Optimize optimize) {
+		if (optimize == Optimize.MAXIMUM) {
+			return values;
+		}
+
+		final double[] negated = new double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			negated[i] = -values[i];
+		}
+		return negated;
+	}
+
+	/*
+	 * Return the maximized objective values of the given population. All
+	 * phenotypes must have the same number of objectives.
+	 */
+	static <C extends Comparable<? super C>> double[][] maximized(
+		final Seq<? extends Phenotype<?, C>> population,
+		final Function<? super C, double[]> objectives,
+		final Optimize optimize
+	) {
+		final double[][] values = new double[population.size()][];
+		for (int i = 0; i < values.length; ++i) {
+			final double[] value = objectives.apply(population.get(i).fitness());
+			if (i > 0 && value.length != values[0].length) {
+				throw new IllegalArgumentException(format(
+					"Expected %d objectives, but got %d.",
+					values[0].length, value.length
+				));
+			}
+			values[i] = maximized(value, optimize);
+		}
+		return values;
+	}
+
 	static boolean[] toFlags(final List<Optimize> optimizes) {
 		final boolean[] flags = new boolean[optimizes.size()];
 		for (int i = 0; i < optimizes.size(); ++i) {
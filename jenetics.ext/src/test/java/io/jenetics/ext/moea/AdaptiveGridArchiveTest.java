@@ -0,0 +1,167 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static io.jenetics.ext.moea.MOEATestSupport.assertNonDominated;
+import static io.jenetics.ext.moea.MOEATestSupport.point;
+import static io.jenetics.ext.moea.MOEATestSupport.vecs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AdaptiveGridArchiveTest {
+
+	@Test(dataProvider = "parameters")
+	public void add(final int dimension, final int capacity) {
+		final AdaptiveGridArchive<Vec<double[]>> archive =
+			AdaptiveGridArchive.ofVec(capacity);
+
+		final var random = new Random(dimension*31L + capacity);
+		for (int i = 0; i < 3000; ++i) {
+			archive.add(Vec.of(point(dimension, random)));
+			Assert.assertTrue(archive.size() <= capacity);
+		}
+
+		Assert.assertEquals(archive.size(), capacity);
+		assertNonDominated(archive.toISeq());
+	}
+
+	@Test(dataProvider = "parameters")
+	public void addAll(final int dimension, final int capacity) {
+		final List<Vec<double[]>> points = vecs(dimension, 2000, capacity);
+
+		final AdaptiveGridArchive<Vec<double[]>> archive =
+			AdaptiveGridArchive.ofVec(capacity);
+		archive.addAll(points);
+
+		Assert.assertEquals(archive.size(), capacity);
+		assertNonDominated(archive.toISeq());
+
+		// The boundary points are kept.
+		for (int k = 0; k < dimension; ++k) {
+			final int objective = k;
+			final Vec<double[]> best = points.stream()
+				.max((a, b) -> Double.compare(
+					a.data()[objective],
+					b.data()[objective]
+				))
+				.orElseThrow();
+			Assert.assertTrue(archive.contains(best));
+		}
+	}
+
+	@Test(dataProvider = "parameters")
+	public void addAllIsOrderIndependent(final int dimension, final int capacity) {
+		final List<Vec<double[]>> points = vecs(dimension, 1000, capacity);
+		final List<Vec<double[]>> shuffled = new ArrayList<>(points);
+		Collections.shuffle(shuffled, new Random(123));
+
+		final AdaptiveGridArchive<Vec<double[]>> a =
+			AdaptiveGridArchive.ofVec(capacity);
+		a.addAll(points);
+		final AdaptiveGridArchive<Vec<double[]>> b =
+			AdaptiveGridArchive.ofVec(capacity);
+		b.addAll(shuffled);
+
+		Assert.assertEquals(new HashSet<>(a), new HashSet<>(b));
+	}
+
+	@DataProvider(name = "parameters")
+	public Object[][] parameters() {
+		return new Object[][] {
+			{2, 10},
+			{2, 100},
+			{3, 50},
+			{5, 100}
+		};
+	}
+
+	@Test
+	public void addDominated() {
+		final AdaptiveGridArchive<Vec<double[]>> archive =
+			AdaptiveGridArchive.ofVec(10);
+
+		Assert.assertTrue(archive.add(Vec.of(1.0, 1.0)));
+		Assert.assertTrue(archive.add(Vec.of(0.0, 2.0)));
+		Assert.assertFalse(archive.add(Vec.of(0.5, 0.5)));
+		Assert.assertFalse(archive.add(Vec.of(1.0, 1.0)));
+		Assert.assertTrue(archive.isDominated(Vec.of(0.5, 0.5)));
+
+		Assert.assertTrue(archive.add(Vec.of(2.0, 2.0)));
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(2.0, 2.0)));
+	}
+
+	@Test
+	public void capacityOne() {
+		final AdaptiveGridArchive<Vec<double[]>> archive =
+			AdaptiveGridArchive.ofVec(1);
+		archive.addAll(List.of(Vec.of(1.0, 2.0), Vec.of(2.0, 1.0)));
+
+		Assert.assertEquals(archive.size(), 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCapacity() {
+		AdaptiveGridArchive.ofVec(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addNaN() {
+		AdaptiveGridArchive.ofVec(10).add(Vec.of(1.0, Double.NaN));
+	}
+
+	@Test(dataProvider = "parameters")
+	public void collect(final int dimension, final int capacity) {
+		final List<Vec<double[]>> points = vecs(dimension, 5000, capacity);
+
+		final AdaptiveGridArchive<Vec<double[]>> sequential = points.stream()
+			.collect(AdaptiveGridArchive.toAdaptiveGridArchive(capacity));
+		final AdaptiveGridArchive<Vec<double[]>> parallel = points
+			.parallelStream()
+			.collect(AdaptiveGridArchive.toAdaptiveGridArchive(capacity));
+
+		Assert.assertEquals(sequential.size(), capacity);
+		Assert.assertEquals(parallel.size(), capacity);
+		assertNonDominated(sequential.toISeq());
+		assertNonDominated(parallel.toISeq());
+	}
+
+	@Test
+	public void collectEmpty() {
+		final AdaptiveGridArchive<Vec<double[]>> archive =
+			List.<Vec<double[]>>of().stream()
+				.collect(AdaptiveGridArchive.toAdaptiveGridArchive(10));
+
+		Assert.assertTrue(archive.isEmpty());
+	}
+
+}
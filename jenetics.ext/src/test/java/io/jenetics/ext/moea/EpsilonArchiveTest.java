@@ -0,0 +1,244 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static io.jenetics.ext.moea.MOEATestSupport.assertNonDominated;
+import static io.jenetics.ext.moea.MOEATestSupport.point;
+import static io.jenetics.ext.moea.MOEATestSupport.vecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EpsilonArchiveTest {
+
+	@Test(dataProvider = "parameters")
+	public void add(final int dimension, final double epsilon) {
+		final List<Vec<double[]>> points = vecs(dimension, 5000, dimension);
+
+		final EpsilonArchive<Vec<double[]>> archive =
+			EpsilonArchive.ofVec(epsilon);
+		for (var point : points) {
+			archive.add(point);
+		}
+
+		assertNonDominated(archive.toISeq());
+		Assert.assertEquals(new HashSet<>(archive), expected(points, epsilon));
+	}
+
+	@Test(dataProvider = "parameters")
+	public void addAllIsOrderIndependent(final int dimension, final double epsilon) {
+		final List<Vec<double[]>> points = vecs(dimension, 3000, 17);
+		final List<Vec<double[]>> shuffled = new ArrayList<>(points);
+		Collections.shuffle(shuffled, new Random(123));
+
+		final EpsilonArchive<Vec<double[]>> a = EpsilonArchive.ofVec(epsilon);
+		a.addAll(points);
+		final EpsilonArchive<Vec<double[]>> b = EpsilonArchive.ofVec(epsilon);
+		b.addAll(shuffled);
+
+		Assert.assertEquals(new HashSet<>(a), new HashSet<>(b));
+	}
+
+	@Test
+	public void sizeIsBounded() {
+		final EpsilonArchive<Vec<double[]>> archive = EpsilonArchive.ofVec(0.1);
+
+		// The points of a quarter circle are mutually non-dominated.
+		final var random = new Random(1234);
+		for (int i = 0; i < 50_000; ++i) {
+			archive.add(Vec.of(point(2, random)));
+		}
+
+		// Every column of the grid contains at most one element.
+		Assert.assertTrue(archive.size() <= 11, "Size: " + archive.size());
+		Assert.assertTrue(archive.size() >= 5, "Size: " + archive.size());
+	}
+
+	@DataProvider(name = "parameters")
+	public Object[][] parameters() {
+		return new Object[][] {
+			{2, 0.01},
+			{2, 0.1},
+			{3, 0.05},
+			{5, 0.2}
+		};
+	}
+
+	@Test
+	public void addSameBox() {
+		final EpsilonArchive<Vec<double[]>> archive = EpsilonArchive.ofVec(1.0);
+
+		Assert.assertTrue(archive.add(Vec.of(0.1, 0.5)));
+		Assert.assertFalse(archive.add(Vec.of(0.1, 0.5)));
+		Assert.assertFalse(archive.add(Vec.of(0.05, 0.4)));
+		Assert.assertTrue(archive.isDominated(Vec.of(0.05, 0.4)));
+
+		// Not dominating, but closer to the corner of the box.
+		Assert.assertTrue(archive.add(Vec.of(0.6, 0.4)));
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(0.6, 0.4)));
+
+		// Dominating the representative.
+		Assert.assertTrue(archive.add(Vec.of(0.7, 0.4)));
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(0.7, 0.4)));
+	}
+
+	@Test
+	public void addDominatingBox() {
+		final EpsilonArchive<Vec<double[]>> archive = EpsilonArchive.ofVec(1.0);
+
+		Assert.assertTrue(archive.add(Vec.of(0.5, 3.5)));
+		Assert.assertTrue(archive.add(Vec.of(3.5, 0.5)));
+		Assert.assertTrue(archive.add(Vec.of(1.5, 1.5)));
+		Assert.assertEquals(archive.size(), 3);
+
+		// Box (1, 0) is dominated by box (1, 1), although the point isn't.
+		Assert.assertTrue(archive.isDominated(Vec.of(1.9, 0.5)));
+		Assert.assertFalse(archive.add(Vec.of(1.9, 0.5)));
+
+		// Box (2, 2) dominates box (1, 1).
+		Assert.assertFalse(archive.isDominated(Vec.of(2.1, 2.1)));
+		Assert.assertTrue(archive.add(Vec.of(2.1, 2.1)));
+		Assert.assertEquals(
+			new HashSet<>(archive),
+			Set.of(Vec.of(0.5, 3.5), Vec.of(3.5, 0.5), Vec.of(2.1, 2.1))
+		);
+
+		// Box (3, 3) dominates all boxes.
+		Assert.assertTrue(archive.add(Vec.of(3.0, 3.0)));
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(3.0, 3.0)));
+	}
+
+	@Test
+	public void differentEpsilons() {
+		final EpsilonArchive<double[]> archive =
+			new EpsilonArchive<>(v -> v, 1.0, 10.0);
+
+		Assert.assertTrue(archive.add(new double[]{0.5, 15}));
+		Assert.assertTrue(archive.add(new double[]{1.5, 5}));
+		Assert.assertFalse(archive.add(new double[]{0.5, 5}));
+		Assert.assertTrue(archive.add(new double[]{0.1, 19}));
+		Assert.assertEquals(archive.size(), 2);
+		Assert.assertEquals(archive.epsilon(), new double[]{1.0, 10.0});
+	}
+
+	@Test
+	public void clear() {
+		final EpsilonArchive<Vec<double[]>> archive = EpsilonArchive.ofVec(0.1);
+		archive.addAll(vecs(3, 100, 3));
+		Assert.assertFalse(archive.isEmpty());
+
+		archive.clear();
+		Assert.assertTrue(archive.isEmpty());
+		Assert.assertTrue(archive.add(Vec.of(0.0, 0.0)));
+		Assert.assertEquals(archive.size(), 1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidEpsilon() {
+		EpsilonArchive.ofVec(0.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDimension() {
+		EpsilonArchive.ofVec(0.1, 0.1).add(Vec.of(1.0, 2.0, 3.0));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addNaN() {
+		EpsilonArchive.ofVec(0.1).add(Vec.of(1.0, Double.NaN));
+	}
+
+	@Test(dataProvider = "parameters")
+	public void collect(final int dimension, final double epsilon) {
+		final List<Vec<double[]>> points = vecs(dimension, 5000, 7);
+
+		final EpsilonArchive<Vec<double[]>> sequential = points.stream()
+			.collect(EpsilonArchive.toEpsilonArchive(epsilon));
+		final EpsilonArchive<Vec<double[]>> parallel = points
+			.parallelStream()
+			.collect(EpsilonArchive.toEpsilonArchive(epsilon));
+
+		Assert.assertEquals(new HashSet<>(sequential), new HashSet<>(parallel));
+		Assert.assertEquals(new HashSet<>(parallel), expected(points, epsilon));
+	}
+
+	/*
+	 * Brute force calculation of the expected archive elements: the best
+	 * representative of every non-dominated box.
+	 */
+	private static HashSet<Vec<double[]>> expected(
+		final List<Vec<double[]>> points,
+		final double epsilon
+	) {
+		final double[] eps = {epsilon};
+		final Map<List<Double>, Vec<double[]>> boxes = new HashMap<>();
+		for (var point : points) {
+			final double[] box = Pareto.box(point.data(), eps);
+			final List<Double> key = Arrays.stream(box).boxed().toList();
+			final Vec<double[]> best = boxes.get(key);
+			if (best == null ||
+				distance(point.data(), box, epsilon) <
+					distance(best.data(), box, epsilon))
+			{
+				boxes.put(key, point);
+			}
+		}
+
+		final HashSet<Vec<double[]>> expected = new HashSet<>();
+		for (var point : boxes.values()) {
+			final boolean dominated = boxes.values().stream()
+				.anyMatch(p -> Pareto.epsilonDominance(p.data(), point.data(), eps) > 0);
+			if (!dominated) {
+				expected.add(point);
+			}
+		}
+		return expected;
+	}
+
+	private static double distance(
+		final double[] point,
+		final double[] box,
+		final double epsilon
+	) {
+		double sum = 0;
+		for (int i = 0; i < point.length; ++i) {
+			final double diff = (box[i] + 1)*epsilon - point[i];
+			sum += diff*diff;
+		}
+		return sum;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static io.jenetics.ext.moea.MOEATestSupport.points;
+
+import java.util.Arrays;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeTest {
+
+	private static final double EPSILON = 1e-9;
+
+	@Test
+	public void volume2() {
+		final double[][] points = {{1, 3}, {2, 2}, {3, 1}};
+		Assert.assertEquals(Hypervolume.of(points, new double[]{0, 0}), 6.0);
+	}
+
+	@Test
+	public void volume3() {
+		final double[][] points = {{1, 1, 1}, {0.5, 0.5, 0.5}, {2, 0.5, 0.5}};
+		Assert.assertEquals(
+			Hypervolume.of(points, new double[]{0, 0, 0}),
+			1.0 + 1.0*0.5*0.5,
+			EPSILON
+		);
+	}
+
+	@Test
+	public void volumeOfDominatedPoints() {
+		final double[][] points = {{1, 1}, {2, 2}, {-1, 5}, {1, 2}};
+		Assert.assertEquals(Hypervolume.of(points, new double[]{0, 0}), 4.0);
+	}
+
+	@Test
+	public void volumeOfEmptyPoints() {
+		Assert.assertEquals(
+			Hypervolume.of(new double[0][], new double[]{0, 0}),
+			0.0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void volumeOfInvalidPoints() {
+		Hypervolume.of(new double[][]{{1, 2}, {1, 2, 3}}, new double[]{0, 0});
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void volume(final int dimension, final int size, final long seed) {
+		final double[][] points = points(dimension, size, seed);
+		final double[] reference = new double[dimension];
+
+		Assert.assertEquals(
+			Hypervolume.of(points, reference),
+			inclusionExclusion(points, reference),
+			EPSILON
+		);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void contributions(final int dimension, final int size, final long seed) {
+		final double[][] points = points(dimension, size, seed);
+		final double[] reference = new double[dimension];
+
+		final double volume = inclusionExclusion(points, reference);
+		final double[] contributions = Hypervolume.contributions(points, reference);
+		for (int i = 0; i < points.length; ++i) {
+			final double[][] others = new double[points.length - 1][];
+			for (int j = 0, k = 0; j < points.length; ++j) {
+				if (j != i) others[k++] = points[j];
+			}
+
+			Assert.assertEquals(
+				contributions[i],
+				volume - inclusionExclusion(others, reference),
+				EPSILON
+			);
+		}
+	}
+
+	@Test
+	public void contributionsOfDuplicates() {
+		final double[][] points = {{1, 3}, {2, 2}, {2, 2}, {3, 1}};
+		final double[] contributions =
+			Hypervolume.contributions(points, new double[]{0, 0});
+
+		Assert.assertEquals(contributions, new double[]{1, 0, 0, 1});
+	}
+
+	@Test
+	public void contributionsOfWeaklyDominatedPoints() {
+		final double[][] points = {
+			{0.45, 0.05}, {0.45, 0.85}, {0.05, 0.25},
+			{0.85, 0.45}, {0.65, 0.85}, {0.25, 0.85}
+		};
+		final double[] contributions =
+			Hypervolume.contributions(points, new double[]{0, 0});
+
+		Assert.assertEquals(contributions[4], 0.2*0.4, EPSILON);
+		Assert.assertEquals(contributions[3], 0.2*0.45, EPSILON);
+		Assert.assertEquals(contributions[1], 0.0);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void estimate(final int dimension, final int size, final long seed) {
+		final double[][] points = points(dimension, size, seed);
+		final double[] reference = new double[dimension];
+
+		Assert.assertEquals(
+			Hypervolume.estimate(points, reference, 200_000),
+			Hypervolume.of(points, reference),
+			0.01
+		);
+	}
+
+	@DataProvider(name = "dimensions")
+	public Object[][] dimensions() {
+		return new Object[][] {
+			{2, 1, 1L},
+			{2, 10, 2L},
+			{2, 12, 3L},
+			{3, 1, 4L},
+			{3, 10, 5L},
+			{3, 12, 6L},
+			{4, 8, 7L},
+			{4, 12, 8L},
+			{5, 10, 9L},
+			{6, 10, 10L}
+		};
+	}
+
+	static double inclusionExclusion(
+		final double[][] points,
+		final double[] reference
+	) {
+		double volume = 0;
+		for (int subset = 1; subset < 1 << points.length; ++subset) {
+			final double[] common = new double[reference.length];
+			Arrays.fill(common, Double.POSITIVE_INFINITY);
+			for (int i = 0; i < points.length; ++i) {
+				if ((subset & (1 << i)) != 0) {
+					for (int d = 0; d < common.length; ++d) {
+						common[d] = Math.min(common[d], points[i][d]);
+					}
+				}
+			}
+
+			double box = 1;
+			for (int d = 0; d < common.length; ++d) {
+				box *= Math.max(common[d] - reference[d], 0);
+			}
+			volume += Integer.bitCount(subset)%2 == 1 ? box : -box;
+		}
+
+		return volume;
+	}
+
+}
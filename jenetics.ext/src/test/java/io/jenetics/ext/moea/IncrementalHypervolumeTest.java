@@ -0,0 +1,114 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IncrementalHypervolumeTest {
+
+	private static final double EPSILON = 1e-9;
+
+	@Test
+	public void add() {
+		final var hv = new IncrementalHypervolume(new double[]{0, 0});
+		hv.add(new double[]{1, 3});
+		hv.add(new double[]{3, 1});
+		hv.add(new double[]{2, 2});
+
+		Assert.assertEquals(hv.size(), 3);
+		Assert.assertEquals(hv.volume(), 6.0, EPSILON);
+		Assert.assertEquals(hv.contribution(0), 1.0, EPSILON);
+		Assert.assertEquals(hv.contribution(1), 1.0, EPSILON);
+		Assert.assertEquals(hv.contribution(2), 1.0, EPSILON);
+	}
+
+	@Test
+	public void leastContributor() {
+		final var hv = new IncrementalHypervolume(new double[]{0, 0});
+		Assert.assertEquals(hv.leastContributor(), -1);
+
+		hv.add(new double[]{1, 4});
+		hv.add(new double[]{2, 2});
+		hv.add(new double[]{4, 1});
+		Assert.assertEquals(hv.leastContributor(), 1);
+
+		hv.remove(1);
+		Assert.assertEquals(hv.size(), 2);
+		Assert.assertEquals(hv.volume(), 7.0, EPSILON);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void invalidContribution() {
+		new IncrementalHypervolume(new double[]{0, 0}).contribution(0);
+	}
+
+	@Test
+	public void randomUpdates() {
+		for (int dimension = 2; dimension <= 4; ++dimension) {
+			final var random = new Random(dimension);
+			final double[] reference = new double[dimension];
+			final var hv = new IncrementalHypervolume(reference);
+			final List<double[]> points = new ArrayList<>();
+
+			for (int i = 0; i < 200; ++i) {
+				if (points.isEmpty() || random.nextDouble() < 0.6) {
+					final double[] point = point(dimension, random);
+					hv.add(point);
+					points.add(point);
+				} else {
+					final int index = random.nextInt(points.size());
+					hv.remove(index);
+					points.remove(index);
+				}
+
+				final double[][] values = points.toArray(double[][]::new);
+				Assert.assertEquals(
+					hv.volume(),
+					Hypervolume.of(values, reference),
+					EPSILON
+				);
+
+				final double[] contributions =
+					Hypervolume.contributions(values, reference);
+				for (int j = 0; j < contributions.length; ++j) {
+					Assert.assertEquals(hv.contribution(j), contributions[j], EPSILON);
+				}
+			}
+		}
+	}
+
+	private static double[] point(final int dimension, final Random random) {
+		final double[] point = new double[dimension];
+		for (int i = 0; i < dimension; ++i) {
+			// Produces duplicate coordinates from time to time.
+			point[i] = random.nextInt(20)/20.0 + 0.05;
+		}
+		return point;
+	}
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MOEADSelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1]), v[0]*v[1]),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test(dataProvider = "subproblems")
+	public void subproblems(
+		final int dimension,
+		final int divisions,
+		final int neighbours
+	) {
+		final MOEADSelector.Subproblems subproblems =
+			MOEADSelector.subproblems(dimension, divisions, neighbours);
+		final int size = NSGA3Selector
+			.referencePoints(dimension, divisions).length;
+
+		Assert.assertEquals(subproblems.size(), size);
+		for (int i = 0; i < size; ++i) {
+			final int[] neighbourhood = subproblems.neighbours()[i];
+			Assert.assertEquals(neighbourhood.length, Math.min(neighbours, size));
+			Assert.assertEquals(neighbourhood[0], i);
+			Assert.assertEquals(
+				IntStream.of(neighbourhood).distinct().count(),
+				neighbourhood.length
+			);
+
+			final double[] direction = subproblems.directions()[i];
+			Assert.assertEquals(
+				Math.sqrt(Arrays.stream(direction).map(v -> v*v).sum()),
+				1.0,
+				1e-12
+			);
+		}
+	}
+
+	@DataProvider(name = "subproblems")
+	public Object[][] subproblems() {
+		return new Object[][] {
+			{2, 10, 3},
+			{2, 4, 20},
+			{3, 12, 20},
+			{5, 4, 10}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDivisions() {
+		MOEADSelector.ofVec(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidNeighbours() {
+		new MOEADSelector<DoubleGene, Vec<double[]>>(
+			Vecs::objectives, 4, 0, Scalarization.tchebycheff()
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidPenalty() {
+		Scalarization.pbi(-1);
+	}
+
+	@Test
+	public void tchebycheff() {
+		final Scalarization scalarization = Scalarization.tchebycheff();
+		Assert.assertEquals(
+			scalarization.apply(new double[]{0.2, 0.6}, new double[]{0.5, 0.5}),
+			1.2
+		);
+		Assert.assertEquals(
+			scalarization.apply(new double[]{0.25, 0.75}, new double[]{0.25, 0.75}),
+			1.0
+		);
+	}
+
+	@Test
+	public void pbi() {
+		final Scalarization scalarization = Scalarization.pbi(2);
+		final double[] weight = {0.5, 0.5};
+
+		// Point on the weight line.
+		Assert.assertEquals(
+			scalarization.apply(new double[]{0.5, 0.5}, weight),
+			Math.sqrt(0.5),
+			1e-12
+		);
+		// Point perpendicular to the weight line.
+		Assert.assertEquals(
+			scalarization.apply(new double[]{1, 0}, weight),
+			Math.sqrt(0.5) + 2*Math.sqrt(0.5),
+			1e-12
+		);
+	}
+
+	@Test(dataProvider = "scalarizations")
+	public void select(final Optimize opt, final Scalarization scalarization) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			MOEADSelector.ofVec(12, scalarization);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, opt);
+		Assert.assertEquals(selected.size(), 100);
+		Assert.assertEquals(
+			selected.stream().distinct().count(),
+			selected.size()
+		);
+	}
+
+	@DataProvider(name = "scalarizations")
+	public Object[][] scalarizations() {
+		return new Object[][] {
+			{Optimize.MINIMUM, Scalarization.tchebycheff()},
+			{Optimize.MAXIMUM, Scalarization.tchebycheff()},
+			{Optimize.MINIMUM, Scalarization.pbi()},
+			{Optimize.MAXIMUM, Scalarization.pbi()}
+		};
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			MOEADSelector.ofVec(4);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(20)
+				.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			selector.select(population, 50, Optimize.MAXIMUM).size(),
+			50
+		);
+	}
+
+	@Test
+	public void selectWeightLines() {
+		// Linear (minimized) front, with points on every weight line.
+		final double[][] values = new double[202][];
+		for (int i = 0; i <= 100; ++i) {
+			final double x = i/100.0;
+			values[2*i] = new double[]{-x, -(1 - x)};
+			values[2*i + 1] = new double[]{-x - 0.1, -(1 - x) - 0.1};
+		}
+
+		final MOEADSelector.Subproblems subproblems =
+			MOEADSelector.subproblems(2, 10, 3);
+		final int[] selected = MOEADSelector.select(
+			values,
+			subproblems.size(),
+			subproblems,
+			Scalarization.tchebycheff(),
+			new Random(17),
+			false
+		);
+
+		final Set<Integer> expected = IntStream.rangeClosed(0, 10)
+			.mapToObj(i -> 20*i)
+			.collect(Collectors.toSet());
+		Assert.assertEquals(
+			IntStream.of(selected).boxed().collect(Collectors.toSet()),
+			expected
+		);
+	}
+
+	@Test(dataProvider = "parallelSizes")
+	public void selectParallel(final int dimension, final int size) {
+		final Random random = new Random(dimension*size);
+		final double[][] values = new double[size][dimension];
+		for (double[] value : values) {
+			for (int k = 0; k < dimension; ++k) {
+				value[k] = random.nextDouble();
+			}
+		}
+
+		final MOEADSelector.Subproblems subproblems =
+			MOEADSelector.subproblems(dimension, 6, 20);
+		for (int count : new int[]{size/10, size/2, size}) {
+			final int[] serial = MOEADSelector.select(
+				values, count, subproblems, Scalarization.pbi(),
+				new Random(count), false
+			);
+			final int[] parallel = MOEADSelector.select(
+				values, count, subproblems, Scalarization.pbi(),
+				new Random(count), true
+			);
+
+			Assert.assertEquals(parallel, serial);
+			Assert.assertEquals(
+				IntStream.of(serial).distinct().count(),
+				count
+			);
+		}
+	}
+
+	@DataProvider(name = "parallelSizes")
+	public Object[][] parallelSizes() {
+		return new Object[][] {
+			{2, 500},
+			{3, 2000},
+			{5, 1000}
+		};
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+}
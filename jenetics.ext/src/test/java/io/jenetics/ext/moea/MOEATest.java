@@ -22,24 +22,33 @@ package io.jenetics.ext.moea;
 import static java.lang.Math.PI;
 import static java.lang.Math.cos;
 import static java.lang.Math.sin;
+import static io.jenetics.ext.moea.MOEATestSupport.assertNonDominated;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.DoubleChromosome;
 import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
 import io.jenetics.MeanAlterer;
 import io.jenetics.Mutator;
+import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.TournamentSelector;
 import io.jenetics.engine.Codecs;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
 import io.jenetics.engine.Problem;
 import io.jenetics.util.Accumulator;
 import io.jenetics.util.DoubleRange;
@@ -100,4 +109,143 @@ public class MOEATest {
 		Assert.assertTrue(missing.size() < 10, "Expected < 10, got " + missing.size());
 	}
 
+	@Test
+	public void collectArchive() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.alterers(
+				new Mutator<>(0.1),
+				new MeanAlterer<>())
+			.offspringSelector(new TournamentSelector<>(2))
+			.survivorsSelector(UFTournamentSelector.ofVec())
+			.minimizing()
+			.build();
+
+		final List<Vec<double[]>> pop = new ArrayList<>();
+
+		final ISeq<Vec<double[]>> result = engine.stream()
+			.limit(50)
+			.peek(er -> pop.addAll(er.population()
+				.map(Phenotype::fitness).asList()))
+			.collect(MOEA.toParetoArchive())
+			.map(Phenotype::fitness);
+
+		final Set<Vec<double[]>> front = new HashSet<>(
+			Pareto
+				.front(ISeq.of(pop), Comparator.reverseOrder())
+				.asList()
+		);
+
+		Assert.assertEquals(new HashSet<>(result.asList()), front);
+	}
+
+	@Test
+	public void collectBoundedParetoSet() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.survivorsSelector(UFTournamentSelector.ofVec())
+			.build();
+
+		final ISeq<Vec<double[]>> result = IntStream.range(0, 4).parallel()
+			.mapToObj(i -> engine.stream().limit(20))
+			.flatMap(Function.identity())
+			.collect(MOEA.toBoundedParetoSet(30))
+			.map(Phenotype::fitness);
+
+		Assert.assertTrue(result.size() <= 30, "Size: " + result.size());
+		Assert.assertFalse(result.isEmpty());
+		assertNonDominated(result);
+	}
+
+	@Test
+	public void steadyHypervolume() {
+		final Predicate<EvolutionResult<?, Vec<double[]>>> limit =
+			MOEA.bySteadyHypervolume(new double[]{0, 0}, 3);
+
+		Assert.assertTrue(limit.test(result(Optimize.MAXIMUM, 1)));
+		Assert.assertTrue(limit.test(result(Optimize.MAXIMUM, 1)));
+		Assert.assertTrue(limit.test(result(Optimize.MAXIMUM, 2)));
+		Assert.assertTrue(limit.test(result(Optimize.MAXIMUM, 2)));
+		Assert.assertTrue(limit.test(result(Optimize.MAXIMUM, 2)));
+		Assert.assertFalse(limit.test(result(Optimize.MAXIMUM, 2)));
+		Assert.assertFalse(limit.test(result(Optimize.MAXIMUM, 3)));
+	}
+
+	@Test
+	public void steadyHypervolumeMin() {
+		final Predicate<EvolutionResult<?, Vec<double[]>>> limit =
+			MOEA.bySteadyHypervolume(new double[]{0, 0}, 1);
+
+		Assert.assertTrue(limit.test(result(Optimize.MINIMUM, -1)));
+		Assert.assertTrue(limit.test(result(Optimize.MINIMUM, -2)));
+		Assert.assertFalse(limit.test(result(Optimize.MINIMUM, -2)));
+	}
+
+	@Test
+	public void steadyHypervolumeStream() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.survivorsSelector(SMSEMOASelector.ofVec(-1, -1))
+			.build();
+
+		final long generations = engine.stream()
+			.limit(MOEA.bySteadyHypervolume(new double[]{-1, -1}, 5))
+			.limit(1000)
+			.count();
+
+		Assert.assertTrue(generations < 1000, "Generations: " + generations);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void steadyHypervolumeInvalidGenerations() {
+		MOEA.bySteadyHypervolume(new double[]{0, 0}, 0);
+	}
+
+	private static EvolutionResult<DoubleGene, Vec<double[]>>
+	result(final Optimize opt, final double value) {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				1,
+				Vec.of(value, value/2)
+			),
+			Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				1,
+				Vec.of(value/2, value)
+			)
+		);
+
+		return EvolutionResult.of(
+			opt,
+			population,
+			1L,
+			EvolutionDurations.ZERO,
+			1,
+			1,
+			1
+		);
+	}
+
 }
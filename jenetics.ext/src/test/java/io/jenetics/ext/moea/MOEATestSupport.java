@@ -0,0 +1,101 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+
+/**
+ * Random test points and assertions, shared by the MOEA tests.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+final class MOEATestSupport {
+	private MOEATestSupport() {
+	}
+
+	// Random point on the positive part of the unit sphere.
+	static double[] point(final int dimension, final Random random) {
+		final double[] point = new double[dimension];
+		double norm = 0;
+		for (int i = 0; i < dimension; ++i) {
+			point[i] = Math.abs(random.nextGaussian());
+			norm += point[i]*point[i];
+		}
+		norm = Math.sqrt(norm);
+		for (int i = 0; i < dimension; ++i) {
+			point[i] /= norm;
+		}
+		return point;
+	}
+
+	// Random points on the positive part of the unit sphere.
+	static double[][] points(final int dimension, final int size, final long seed) {
+		final var random = new Random(seed);
+		final double[][] points = new double[size][];
+		for (int i = 0; i < size; ++i) {
+			points[i] = point(dimension, random);
+		}
+		return points;
+	}
+
+	// Random vectors on the positive part of the unit sphere.
+	static List<Vec<double[]>> vecs(
+		final int dimension,
+		final int size,
+		final long seed
+	) {
+		final var random = new Random(seed);
+		return IntStream.range(0, size)
+			.mapToObj(i -> Vec.of(point(dimension, random)))
+			.toList();
+	}
+
+	/*
+	 * Random point with integer values from [0, values), which produces
+	 * duplicate and equal coordinates, or with Gaussian values, if values
+	 * is zero.
+	 */
+	static double[] point(
+		final int dimension,
+		final int values,
+		final Random random
+	) {
+		final double[] point = new double[dimension];
+		for (int i = 0; i < dimension; ++i) {
+			point[i] = values > 0
+				? random.nextInt(values)
+				: random.nextGaussian();
+		}
+		return point;
+	}
+
+	static <T> void assertNonDominated(final Iterable<? extends Vec<T>> points) {
+		for (var a : points) {
+			for (var b : points) {
+				Assert.assertTrue(a.dominance(b) <= 0, a + " dominates " + b);
+			}
+		}
+	}
+
+}
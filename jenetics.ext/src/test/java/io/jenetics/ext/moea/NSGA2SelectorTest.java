@@ -28,6 +28,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.DoubleGene;
@@ -118,6 +119,75 @@ public class NSGA2SelectorTest {
 		);
 	}
 
+	@Test(dataProvider = "optimizeAndSize")
+	public void selectWithPrimitiveObjectives(
+		final Optimize opt,
+		final int size
+	) {
+		final Selector<DoubleGene, Vec<double[]>> primitive =
+			NSGA2Selector.ofVec();
+		final Selector<DoubleGene, Vec<double[]>> general =
+			new NSGA2Selector<>(
+				Vec::dominance,
+				Vec::compare,
+				Vec::distance,
+				Vec::length
+			);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(size)
+				.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			primitive.select(population, size/5, opt),
+			general.select(population, size/5, opt)
+		);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void selectMinOfNegatedObjectives(final int size) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA2Selector.ofVec();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(size)
+				.collect(ISeq.toISeq());
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> negated = population
+			.map(pt -> pt.withFitness(negate(pt.fitness())));
+
+		Assert.assertEquals(
+			selector.select(population, size/5, Optimize.MINIMUM)
+				.map(Phenotype::genotype),
+			selector.select(negated, size/5, Optimize.MAXIMUM)
+				.map(Phenotype::genotype)
+		);
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {{100}, {1000}};
+	}
+
+	private static Vec<double[]> negate(final Vec<double[]> vec) {
+		final double[] data = vec.data().clone();
+		for (int i = 0; i < data.length; ++i) {
+			data[i] = -data[i];
+		}
+		return Vec.of(data);
+	}
+
+	@DataProvider(name = "optimizeAndSize")
+	public Object[][] optimizeAndSize() {
+		return new Object[][] {
+			{Optimize.MINIMUM, 100},
+			{Optimize.MAXIMUM, 100},
+			{Optimize.MINIMUM, 1000},
+			{Optimize.MAXIMUM, 1000}
+		};
+	}
+
 	static double dist(final Vec<double[]> vec) {
 		double dist = 0;
 		for (int i = 0; i < vec.length(); ++i) {
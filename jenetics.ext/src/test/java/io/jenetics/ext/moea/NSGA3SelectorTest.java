@@ -0,0 +1,276 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.internal.util.IntList;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NSGA3SelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1]), v[0]*v[1]),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test(dataProvider = "referencePoints")
+	public void referencePoints(
+		final int dimension,
+		final int divisions,
+		final int size
+	) {
+		final double[][] points = NSGA3Selector.referencePoints(dimension, divisions);
+		Assert.assertEquals(points.length, size);
+
+		for (double[] point : points) {
+			Assert.assertEquals(point.length, dimension);
+			Assert.assertEquals(Arrays.stream(point).sum(), 1.0, 1e-12);
+			Assert.assertTrue(Arrays.stream(point).allMatch(v -> v >= 0));
+		}
+
+		final Set<String> distinct = Stream.of(points)
+			.map(Arrays::toString)
+			.collect(Collectors.toSet());
+		Assert.assertEquals(distinct.size(), size);
+	}
+
+	@DataProvider(name = "referencePoints")
+	public Object[][] referencePoints() {
+		return new Object[][] {
+			{1, 5, 1},
+			{2, 4, 5},
+			{3, 12, 91},
+			{5, 4, 70},
+			{8, 3, 120},
+			{10, 3, 220}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDivisions() {
+		NSGA3Selector.ofVec(0);
+	}
+
+	@Test(dataProvider = "optimize")
+	public void select(final Optimize opt) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(12);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, opt);
+		Assert.assertEquals(selected.size(), 100);
+		Assert.assertEquals(
+			selected.stream().distinct().count(),
+			selected.size()
+		);
+	}
+
+	@Test(dataProvider = "optimize")
+	public void selectKeepsFront(final Optimize opt) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(6);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(500)
+				.collect(ISeq.toISeq());
+
+		final Set<Vec<double[]>> front = population.stream()
+			.map(Phenotype::fitness)
+			.filter(f -> population.stream()
+				.map(Phenotype::fitness)
+				.noneMatch(o -> opt == Optimize.MAXIMUM
+					? o.dominance(f) > 0
+					: o.dominance(f) < 0))
+			.collect(Collectors.toSet());
+
+		final Set<Vec<double[]>> selected = selector
+			.select(population, front.size() + 10, opt).stream()
+			.map(Phenotype::fitness)
+			.collect(Collectors.toSet());
+
+		Assert.assertTrue(selected.containsAll(front));
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(4);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(20)
+				.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			selector.select(population, 50, Optimize.MAXIMUM).size(),
+			50
+		);
+	}
+
+	@Test
+	public void selectGeneralVec() {
+		final VecFactory<double[]> factory =
+			VecFactory.ofDoubleVec(Optimize.MAXIMUM, Optimize.MINIMUM);
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(10);
+
+		final Random random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			IntStream.range(0, 200)
+				.mapToObj(i -> Phenotype.of(
+					PROBLEM.codec().encoding().newInstance(),
+					1L,
+					factory.newVec(new double[]{
+						random.nextDouble(),
+						random.nextDouble()
+					})
+				))
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 20, Optimize.MAXIMUM);
+
+		// Mean of the maximized objective must be greater than of the minimized.
+		final double[] mean = new double[2];
+		selected.forEach(pt -> {
+			mean[0] += pt.fitness().data()[0]/selected.size();
+			mean[1] += pt.fitness().data()[1]/selected.size();
+		});
+		Assert.assertTrue(mean[0] > 0.6, "Mean: " + mean[0]);
+		Assert.assertTrue(mean[1] < 0.4, "Mean: " + mean[1]);
+	}
+
+	@Test
+	public void nicheDistribution() {
+		// Points on the positive unit sphere, which are all non-dominated.
+		final int dimension = 3;
+		final double[][] directions = NSGA3Selector.directions(dimension, 6, 0);
+		final double[][] values = MOEATestSupport.points(dimension, 2000, 17);
+		for (double[] value : values) {
+			for (int k = 0; k < dimension; ++k) {
+				value[k] = -value[k];
+			}
+		}
+
+		final int[] selected = NSGA3Selector.select(
+			values,
+			directions.length,
+			directions,
+			new Random(17)
+		);
+		Assert.assertEquals(selected.length, directions.length);
+		Assert.assertEquals(
+			IntStream.of(selected).distinct().count(),
+			directions.length
+		);
+
+		// Nearly every reference line gets its own point.
+		final IntList candidates = new IntList();
+		IntStream.of(selected).forEach(candidates::add);
+		final double[][] normalized = NSGA3Selector.normalize(
+			values,
+			candidates,
+			candidates.size()
+		);
+		final int[] niches = new int[normalized.length];
+		NSGA3Selector.associate(
+			normalized,
+			directions,
+			niches,
+			new double[normalized.length]
+		);
+		Assert.assertTrue(
+			IntStream.of(niches).distinct().count() >= directions.length*0.9,
+			"Occupied niches: " + IntStream.of(niches).distinct().count()
+		);
+	}
+
+	@Test
+	public void manyObjectives() {
+		final int dimension = 8;
+		final double[][] directions = NSGA3Selector.directions(dimension, 3, 2);
+		Assert.assertEquals(directions.length, 120 + 36);
+
+		final Random random = new Random(8);
+		final double[][] values = new double[1000][dimension];
+		for (double[] value : values) {
+			for (int k = 0; k < dimension; ++k) {
+				value[k] = random.nextDouble();
+			}
+		}
+
+		final int[] selected = NSGA3Selector.select(values, 300, directions, random);
+		Assert.assertEquals(IntStream.of(selected).distinct().count(), 300);
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {
+			{Optimize.MINIMUM},
+			{Optimize.MAXIMUM}
+		};
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+}
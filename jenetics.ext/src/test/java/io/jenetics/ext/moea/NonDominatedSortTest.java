@@ -0,0 +1,118 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static io.jenetics.ext.moea.MOEATestSupport.point;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NonDominatedSortTest {
+
+	private static double[][] objectives(
+		final int size,
+		final int dimension,
+		final int values,
+		final Random random
+	) {
+		final double[][] objectives = new double[size][];
+		for (int i = 0; i < size; ++i) {
+			objectives[i] = point(dimension, values, random);
+		}
+		return objectives;
+	}
+
+	private static ISeq<Vec<double[]>> vecs(final double[][] objectives) {
+		return IntStream.range(0, objectives.length)
+			.mapToObj(i -> Vec.of(objectives[i]))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test(dataProvider = "parameters")
+	public void rank(final int size, final int dimension, final int values) {
+		final var random = new Random(size*31L + dimension*7L + values);
+		final double[][] objectives = objectives(size, dimension, values, random);
+
+		final int[] expected = Pareto.rank(vecs(objectives));
+		Assert.assertEquals(NonDominatedSort.rank(objectives), expected);
+	}
+
+	@Test(dataProvider = "parameters")
+	public void rankVec(final int size, final int dimension, final int values) {
+		final var random = new Random(size*17L + dimension*5L + values);
+		final ISeq<Vec<double[]>> vecs =
+			vecs(objectives(size, dimension, values, random));
+
+		final int[] expected = Pareto.rank(vecs);
+		final int[] ranks = NonDominatedSort.rank(
+			vecs,
+			Vec::dominance,
+			Vec::compare,
+			Vec::length
+		);
+		Assert.assertEquals(ranks, expected);
+	}
+
+	@DataProvider(name = "parameters")
+	public Object[][] parameters() {
+		return new Object[][] {
+			{0, 2, 0},
+			{1, 2, 0},
+			{100, 1, 10},
+			{500, 2, 0},
+			{500, 2, 5},
+			{500, 2, 50},
+			{500, 3, 0},
+			{500, 3, 4},
+			{500, 3, 20},
+			{500, 4, 0},
+			{500, 4, 5},
+			{500, 6, 3},
+			{1000, 2, 1000},
+			{1000, 3, 100}
+		};
+	}
+
+	@Test
+	public void rankEqualElements() {
+		final double[][] objectives = {
+			{1, 2, 3}, {1, 2, 3}, {0, 2, 3}, {1, 2, 3}, {0, 2, 3}
+		};
+		Assert.assertEquals(
+			NonDominatedSort.rank(objectives),
+			new int[]{0, 0, 1, 0, 1}
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void rankDifferentLengths() {
+		NonDominatedSort.rank(new double[][]{{1, 2}, {1, 2, 3}});
+	}
+
+}
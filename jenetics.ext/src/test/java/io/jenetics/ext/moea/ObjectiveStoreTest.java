@@ -0,0 +1,216 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ObjectiveStoreTest {
+
+	@Test
+	public void of() {
+		final ObjectiveStore store = ObjectiveStore.of(new double[][] {
+			{1, 2, 3},
+			{4, 5, 6}
+		});
+
+		Assert.assertEquals(store.size(), 2);
+		Assert.assertEquals(store.dimension(), 3);
+		Assert.assertEquals(store.get(1, 2), 6.0);
+		Assert.assertEquals(store.toArray(0), new double[]{1, 2, 3});
+	}
+
+	@Test
+	public void ofElements() {
+		final ISeq<Vec<double[]>> vecs =
+			ISeq.of(Vec.of(1.0, 2.0), Vec.of(3.0, 4.0));
+		final ObjectiveStore store = ObjectiveStore.of(vecs, Vec::data);
+
+		Assert.assertEquals(store.size(), 2);
+		Assert.assertEquals(
+			store.vec(1),
+			ObjectiveStore.of(new double[][]{{3, 4}}).vec(0)
+		);
+	}
+
+	@Test
+	public void ofEmptyElements() {
+		final ObjectiveStore store =
+			ObjectiveStore.of(ISeq.<Vec<double[]>>empty(), Vec::data);
+		Assert.assertEquals(store.size(), 0);
+		Assert.assertEquals(store.rank(), new int[0]);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofNaN() {
+		ObjectiveStore.of(new double[][]{{1, Double.NaN}});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofDifferentLengths() {
+		ObjectiveStore.of(new double[][]{{1, 2}, {1, 2, 3}});
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getInvalidObjective() {
+		ObjectiveStore.of(new double[][]{{1, 2}}).get(0, 2);
+	}
+
+	@Test
+	public void negativeZero() {
+		final ObjectiveStore store = ObjectiveStore.of(new double[][] {
+			{-0.0, 1},
+			{0.0, 1}
+		});
+
+		Assert.assertEquals(store.get(0, 0), 0.0);
+		Assert.assertEquals(store.dominance(0, 1), 0);
+		Assert.assertEquals(store.vec(0), store.vec(1));
+	}
+
+	@Test(dataProvider = "sizes")
+	public void dominance(final int size, final int dimension) {
+		final double[][] points = points(size, dimension, 5);
+		final ObjectiveStore store = ObjectiveStore.of(points);
+
+		final int[] row = new int[size];
+		for (int i = 0; i < size; ++i) {
+			store.dominance(i, 0, size, row);
+			for (int j = 0; j < size; ++j) {
+				final int expected = Pareto.dominance(points[i], points[j]);
+				Assert.assertEquals(store.dominance(i, j), expected);
+				Assert.assertEquals(row[j], expected);
+				Assert.assertEquals(store.vec(i).dominance(store.vec(j)), expected);
+				Assert.assertEquals(store.vec(i).dominance(Vec.of(points[j])), expected);
+			}
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void rank(final int size, final int dimension) {
+		final double[][] points = points(size, dimension, 10);
+		final ObjectiveStore store = ObjectiveStore.of(points);
+
+		Assert.assertEquals(
+			store.rank(),
+			Pareto.rank(ISeq.of(points).map(Vec::of))
+		);
+		Assert.assertEquals(store.rank(), Pareto.rank(store.vecs()));
+	}
+
+	@Test(dataProvider = "parallelSizes")
+	public void parallelRank(final int size, final int dimension) {
+		final double[][] points = points(size, dimension, 10);
+		final ObjectiveStore store = ObjectiveStore.of(points);
+
+		final var pool = new ForkJoinPool(4);
+		try {
+			Assert.assertEquals(store.rank(pool), store.rank());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@DataProvider(name = "parallelSizes")
+	public Object[][] parallelSizes() {
+		return new Object[][] {
+			{0, 2},
+			{1, 1},
+			{10, 1},
+			{100, 3},
+			{500, 2},
+			{1000, 5},
+			{2000, 8}
+		};
+	}
+
+	@Test(dataProvider = "sizes")
+	public void isDominated(final int size, final int dimension) {
+		final double[][] points = points(size, dimension, 10);
+		final ObjectiveStore store = ObjectiveStore.of(points);
+		final int[] rank = store.rank();
+
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(store.isDominated(i), rank[i] > 0);
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1, 1},
+			{10, 1},
+			{50, 2},
+			{100, 3},
+			{100, 5},
+			{200, 8}
+		};
+	}
+
+	@Test
+	public void vec() {
+		final ObjectiveStore store = ObjectiveStore.of(new double[][] {
+			{1, 2},
+			{3, 1}
+		});
+		final Vec<double[]> vec = store.vec(0);
+
+		Assert.assertEquals(vec.length(), 2);
+		Assert.assertEquals(vec.data(), new double[]{1, 2});
+		Assert.assertEquals(vec.compare(store.vec(1), 0), -1);
+		Assert.assertEquals(vec.compare(Vec.of(3.0, 1.0), 1), 1);
+		Assert.assertEquals(vec.distance(store.vec(1), 0), -2.0);
+		Assert.assertEquals(vec.hashCode(), Vec.of(1.0, 2.0).hashCode());
+		Assert.assertEquals(vec.toString(), Vec.of(1.0, 2.0).toString());
+
+		vec.data()[0] = 10;
+		Assert.assertEquals(store.get(0, 0), 1.0);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void vecInvalidIndex() {
+		ObjectiveStore.of(new double[][]{{1, 2}}).vec(1);
+	}
+
+	// Random points with a small number of distinct values per objective.
+	private static double[][] points(
+		final int size,
+		final int dimension,
+		final int values
+	) {
+		final var random = new Random(size*31L + dimension);
+		return IntStream.range(0, size)
+			.mapToObj(i -> random.ints(dimension, 0, values)
+				.asDoubleStream()
+				.toArray())
+			.toArray(double[][]::new);
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static io.jenetics.ext.moea.MOEATestSupport.point;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ParetoArchiveTest {
+
+	@Test(dataProvider = "parameters")
+	public void add(final int dimension, final int values) {
+		final var random = new Random(dimension*31L + values);
+
+		final List<Vec<double[]>> elements = new ArrayList<>();
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+
+		for (int i = 0; i < 2000; ++i) {
+			final Vec<double[]> point = Vec.of(point(dimension, values, random));
+			elements.add(point);
+
+			Assert.assertEquals(archive.add(point), front.add(point));
+			Assert.assertEquals(archive.size(), front.size());
+		}
+
+		Assert.assertEquals(
+			new HashSet<>(archive),
+			new HashSet<>(Pareto.front(ISeq.of(elements)).asList())
+		);
+	}
+
+	@Test(dataProvider = "parameters")
+	public void isDominated(final int dimension, final int values) {
+		final var random = new Random(dimension*17L + values);
+
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		for (int i = 0; i < 1000; ++i) {
+			archive.add(Vec.of(point(dimension, values, random)));
+		}
+
+		for (int i = 0; i < 500; ++i) {
+			final Vec<double[]> point = Vec.of(point(dimension, values, random));
+			final boolean dominated = archive.stream()
+				.anyMatch(v -> v.dominance(point) > 0);
+
+			Assert.assertEquals(archive.isDominated(point), dominated);
+		}
+	}
+
+	@DataProvider(name = "parameters")
+	public Object[][] parameters() {
+		return new Object[][] {
+			{2, 0},
+			{2, 20},
+			{3, 0},
+			{3, 5},
+			{4, 0},
+			{5, 3},
+			{6, 0}
+		};
+	}
+
+	@Test
+	public void addEqualObjectives() {
+		final ParetoArchive<double[]> archive = new ParetoArchive<>(
+			v -> new double[]{v[0], v[1]},
+			(a, b) -> a[2] == b[2],
+			2
+		);
+
+		for (int i = 0; i < 10; ++i) {
+			Assert.assertTrue(archive.add(new double[]{1, 1, i}));
+		}
+		Assert.assertFalse(archive.add(new double[]{1, 1, 5}));
+		Assert.assertEquals(archive.size(), 10);
+
+		Assert.assertTrue(archive.add(new double[]{1, 2, 0}));
+		Assert.assertEquals(archive.size(), 1);
+	}
+
+	@Test
+	public void addIntVec() {
+		final ParetoArchive<Vec<int[]>> archive = ParetoArchive.ofVec();
+		archive.add(Vec.of(1, 2));
+		archive.add(Vec.of(2, 1));
+		archive.add(Vec.of(1, 1));
+		archive.add(Vec.of(2, 2));
+
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(2, 2)));
+	}
+
+	@Test
+	public void merge() {
+		final var random = new Random(1234);
+		final List<Vec<double[]>> elements = IntStream.range(0, 3000)
+			.mapToObj(i -> Vec.of(point(3, 0, random)))
+			.toList();
+
+		final ParetoArchive<Vec<double[]>> archive = elements.parallelStream()
+			.collect(ParetoArchive.toParetoArchive());
+
+		Assert.assertEquals(
+			new HashSet<>(archive),
+			new HashSet<>(Pareto.front(ISeq.of(elements)).asList())
+		);
+	}
+
+	@Test
+	public void clear() {
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		archive.add(Vec.of(1.0, 2.0));
+		archive.clear();
+
+		Assert.assertTrue(archive.isEmpty());
+		Assert.assertFalse(archive.iterator().hasNext());
+		Assert.assertTrue(archive.add(Vec.of(1.0, 2.0)));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addDifferentLength() {
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		archive.add(Vec.of(1.0, 2.0));
+		archive.add(Vec.of(1.0, 2.0, 3.0));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addNaN() {
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		archive.add(Vec.of(1.0, Double.NaN));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void unsupportedVec() {
+		final ParetoArchive<Vec<String[]>> archive = ParetoArchive.ofVec();
+		archive.add(Vec.of(new String[]{"a", "b"}));
+	}
+
+}
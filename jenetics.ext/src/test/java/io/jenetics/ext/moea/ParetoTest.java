@@ -24,6 +24,7 @@ import static java.lang.Math.PI;
 import static java.lang.Math.cos;
 import static java.lang.Math.sin;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Random;
 import java.util.random.RandomGenerator;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -212,6 +214,61 @@ public class ParetoTest {
 		}
 	}
 
+	@Test
+	public void epsilonDominance() {
+		final double[] eps = {0.5, 0.5};
+
+		// Different boxes.
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{1.1, 1.1}, new double[]{0.6, 0.9}, eps), 1);
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{0.6, 0.9}, new double[]{1.1, 1.1}, eps), -1);
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{1.1, 0.1}, new double[]{0.1, 1.1}, eps), 0);
+
+		// Same box.
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{0.9, 0.9}, new double[]{0.6, 0.6}, eps), 1);
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{0.9, 0.6}, new double[]{0.6, 0.9}, eps), 0);
+
+		// Box dominance, although not Pareto dominating.
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{1.1, 0.5}, new double[]{0.6, 0.9}, eps), 1);
+		Assert.assertEquals(Pareto.dominance(
+			new double[]{1.1, 0.5}, new double[]{0.6, 0.9}), 0);
+
+		// Negative values and -0.0.
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{-0.0, 0.0}, new double[]{0.0, -0.0}, eps), 0);
+		Assert.assertEquals(Pareto.epsilonDominance(
+			new double[]{-0.1, 0.0}, new double[]{0.0, 0.0}, eps), -1);
+
+		final Comparator<double[]> comparator = Pareto.epsilonDominance(0.5);
+		Assert.assertEquals(
+			comparator.compare(new double[]{1.1, 1.1}, new double[]{0.6, 0.9}),
+			1
+		);
+	}
+
+	@Test(dataProvider = "invalidEpsilons",
+		expectedExceptions = IllegalArgumentException.class)
+	public void invalidEpsilon(final double[] epsilon) {
+		Pareto.epsilonDominance(new double[]{1, 2}, new double[]{2, 1}, epsilon);
+	}
+
+	@DataProvider(name = "invalidEpsilons")
+	public Object[][] invalidEpsilons() {
+		return new Object[][] {
+			{new double[0]},
+			{new double[]{0.0}},
+			{new double[]{-1.0}},
+			{new double[]{Double.NaN}},
+			{new double[]{POSITIVE_INFINITY}},
+			{new double[]{0.1, 0.1, 0.1}}
+		};
+	}
+
 	@Test
 	public void crowdedDistance() {
 		final Random random = new Random(5345);
@@ -247,6 +304,49 @@ public class ParetoTest {
 		);
 	}
 
+	@Test(dataProvider = "objectiveMatrices")
+	public void crowdingDistanceMatrix(final int size, final int dimension, final int values) {
+		final var random = new Random(size + dimension*13L + values);
+		final double[][] objectives = new double[dimension][size];
+		for (double[] objective : objectives) {
+			for (int i = 0; i < size; ++i) {
+				objective[i] = values > 0
+					? random.nextInt(values)
+					: random.nextGaussian();
+			}
+		}
+
+		final ISeq<Vec<double[]>> points = IntStream.range(0, size)
+			.mapToObj(i -> {
+				final double[] point = new double[dimension];
+				for (int m = 0; m < dimension; ++m) {
+					point[m] = objectives[m][i];
+				}
+				return Vec.of(point);
+			})
+			.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			Pareto.crowdingDistance(objectives),
+			Pareto.crowdingDistance(points)
+		);
+	}
+
+	@DataProvider(name = "objectiveMatrices")
+	public Object[][] objectiveMatrices() {
+		return new Object[][] {
+			{0, 2, 0},
+			{2, 2, 0},
+			{3, 2, 0},
+			{100, 2, 0},
+			{100, 3, 5},
+			{1000, 4, 0},
+			{1000, 2, 1},
+			{20_000, 3, 0},
+			{20_000, 2, 100}
+		};
+	}
+
 
 	static ISeq<Vec<double[]>> frontMax(
 		final double r,
@@ -0,0 +1,169 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SMSEMOASelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(new double[]{v[0]*cos(v[1]), v[0]*sin(v[1])}),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test(dataProvider = "optimize")
+	public void select(final Optimize opt) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			SMSEMOASelector.ofVec();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(500)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 50, opt);
+		Assert.assertEquals(selected.size(), 50);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+		if (opt == Optimize.MAXIMUM) {
+			Assert.assertTrue(mean > 0.8, "Expect mean > 0.8: " + mean);
+		} else {
+			Assert.assertTrue(mean < -0.8, "Expect mean < -0.8: " + mean);
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void selectKeepsFront(final Optimize opt) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			SMSEMOASelector.ofVec();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(300)
+				.collect(ISeq.toISeq());
+
+		final Set<Vec<double[]>> front = population.stream()
+			.map(Phenotype::fitness)
+			.filter(f -> population.stream()
+				.map(Phenotype::fitness)
+				.noneMatch(o -> opt == Optimize.MAXIMUM
+					? o.dominance(f) > 0
+					: o.dominance(f) < 0))
+			.collect(Collectors.toSet());
+
+		final Set<Vec<double[]>> selected = selector
+			.select(population, front.size(), opt).stream()
+			.map(Phenotype::fitness)
+			.collect(Collectors.toSet());
+
+		Assert.assertEquals(selected, front);
+	}
+
+	@Test
+	public void selectLeastContributorRemoved() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			SMSEMOASelector.ofVec(0, 0);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(1, 4),
+			phenotype(2, 2),
+			phenotype(4, 1),
+			phenotype(0.5, 0.5)
+		);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 2, Optimize.MAXIMUM);
+		Assert.assertEquals(selected, ISeq.of(population.get(0), population.get(2)));
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			SMSEMOASelector.ofVec();
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(20)
+				.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			selector.select(population, 50, Optimize.MAXIMUM).size(),
+			50
+		);
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {
+			{Optimize.MINIMUM},
+			{Optimize.MAXIMUM}
+		};
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final double x, final double y) {
+		return Phenotype.of(
+			PROBLEM.codec().encoding().newInstance(),
+			1L,
+			Vec.of(x, y)
+		);
+	}
+
+}
@@ -24,14 +24,19 @@ import static java.lang.Math.cos;
 import static java.lang.Math.sin;
 import static java.lang.String.format;
 
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.testng.Assert;
 import org.testng.ITestResult;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.testng.util.RetryAnalyzerCount;
 
+import io.jenetics.DoubleChromosome;
 import io.jenetics.DoubleGene;
 import io.jenetics.Genotype;
 import io.jenetics.Optimize;
@@ -41,6 +46,7 @@ import io.jenetics.engine.Codecs;
 import io.jenetics.engine.Problem;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -127,6 +133,58 @@ public class UFTournamentSelectorTest {
 		);
 	}
 
+	@Test(dataProvider = "parallelParameters")
+	public void selectParallel(
+		final Optimize opt,
+		final int size,
+		final int dimension
+	) {
+		final var random = new Random(size*31L + dimension);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			IntStream.range(0, size)
+				.mapToObj(i -> Phenotype.of(
+					Genotype.of(DoubleChromosome.of(0, 1)),
+					1L,
+					Vec.of(random.ints(dimension, 1, 10).asDoubleStream().toArray())
+				))
+				.collect(ISeq.toISeq());
+
+		final Selector<DoubleGene, Vec<double[]>> serial =
+			UFTournamentSelector.ofVec();
+
+		final var pool = new ForkJoinPool(4);
+		try {
+			final Selector<DoubleGene, Vec<double[]>> parallel =
+				UFTournamentSelector.ofVec(pool);
+
+			final ISeq<Phenotype<DoubleGene, Vec<double[]>>> expected =
+				RandomRegistry.with(
+					new Random(123),
+					r -> serial.select(population, size/2, opt)
+				);
+			final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+				RandomRegistry.with(
+					new Random(123),
+					r -> parallel.select(population, size/2, opt)
+				);
+
+			Assert.assertEquals(selected, expected);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@DataProvider(name = "parallelParameters")
+	public Object[][] parallelParameters() {
+		return new Object[][] {
+			{Optimize.MAXIMUM, 100, 5},
+			{Optimize.MAXIMUM, 1000, 2},
+			{Optimize.MAXIMUM, 1000, 5},
+			{Optimize.MINIMUM, 1000, 5},
+			{Optimize.MAXIMUM, 2000, 8}
+		};
+	}
+
 	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
 		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
 		return Phenotype.of(
@@ -99,4 +99,39 @@ public class VecsTest {
 		Assert.assertEquals(Vecs.toFlags(List.of(opts)), flags);
 	}
 
+	@Test
+	public void objectives() {
+		Assert.assertEquals(
+			Vecs.objectives(Vec.of(1.0, 2.0)),
+			new double[]{1.0, 2.0}
+		);
+		Assert.assertEquals(
+			Vecs.objectives(Vec.of(1, 2)),
+			new double[]{1.0, 2.0}
+		);
+		Assert.assertEquals(
+			Vecs.objectives(Vec.of(1L, 2L)),
+			new double[]{1.0, 2.0}
+		);
+		Assert.assertEquals(
+			Vecs.objectives(
+				VecFactory.ofDoubleVec(Optimize.MAXIMUM, Optimize.MINIMUM)
+					.newVec(new double[]{1.0, 2.0})
+			),
+			new double[]{1.0, -2.0}
+		);
+		Assert.assertEquals(
+			Vecs.objectives(
+				VecFactory.ofIntVec(Optimize.MINIMUM, Optimize.MAXIMUM)
+					.newVec(new int[]{1, 2})
+			),
+			new double[]{-1.0, 2.0}
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void objectivesOfObjectVec() {
+		Vecs.objectives(Vec.of(new String[]{"a", "b"}));
+	}
+
 }
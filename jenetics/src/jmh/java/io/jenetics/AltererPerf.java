@@ -0,0 +1,156 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.min;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Measures the allocation rate of the alterers for multi-chromosome
+ * genotypes. The {@code copying} benchmark uses the crossover implementation,
+ * which re-creates the whole genotype. Run the {@link #main(String[])} method
+ * for getting the {@code gc.alloc.rate.norm} values of the GC profiler.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AltererPerf {
+
+	/**
+	 * Single-point crossover, which copies the whole genotype. This was the
+	 * behaviour of the {@link Crossover} class before 8.1.
+	 */
+	static final class CopyingCrossover
+		extends Recombinator<DoubleGene, Double>
+	{
+		CopyingCrossover(final double probability) {
+			super(probability, 2);
+		}
+
+		@Override
+		protected int recombine(
+			final MSeq<Phenotype<DoubleGene, Double>> population,
+			final int[] individuals,
+			final long generation
+		) {
+			final var gt1 = population.get(individuals[0]).genotype();
+			final var gt2 = population.get(individuals[1]).genotype();
+
+			final int chIndex = RandomRegistry.random()
+				.nextInt(min(gt1.length(), gt2.length()));
+
+			final var c1 = MSeq.of(gt1);
+			final var c2 = MSeq.of(gt2);
+			final var genes1 = MSeq.of(c1.get(chIndex));
+			final var genes2 = MSeq.of(c2.get(chIndex));
+
+			final int index = RandomRegistry.random().nextInt(genes1.length());
+			genes1.swap(index, min(genes1.length(), genes2.length()), genes2, index);
+
+			c1.set(chIndex, c1.get(chIndex).newInstance(genes1.toISeq()));
+			c2.set(chIndex, c2.get(chIndex).newInstance(genes2.toISeq()));
+
+			population.set(
+				individuals[0],
+				Phenotype.of(Genotype.of(c1), generation)
+			);
+			population.set(
+				individuals[1],
+				Phenotype.of(Genotype.of(c2), generation)
+			);
+
+			return order();
+		}
+	}
+
+	@Param({"1", "10", "100"})
+	public int chromosomes;
+
+	private final Alterer<DoubleGene, Double> copying =
+		new CopyingCrossover(0.2);
+
+	private final Alterer<DoubleGene, Double> sharing =
+		new SinglePointCrossover<>(0.2);
+
+	private final Alterer<DoubleGene, Double> mutator = new Mutator<>(0.01);
+
+	private ISeq<Phenotype<DoubleGene, Double>> population;
+
+	@Setup
+	public void setup() {
+		population = Genotype.of(DoubleChromosome.of(0, 1, 20), chromosomes)
+			.instances()
+			.limit(500)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1, 1.0))
+			.collect(ISeq.toISeq());
+	}
+
+	@Benchmark
+	public Object copyingCrossover() {
+		return copying.alter(population, 2);
+	}
+
+	@Benchmark
+	public Object sharingCrossover() {
+		return sharing.alter(population, 2);
+	}
+
+	@Benchmark
+	public Object mutator() {
+		return mutator.alter(population, 2);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + AltererPerf.class.getSimpleName() + ".*")
+			.addProfiler(GCProfiler.class)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Compares the per-gene statistics calculation of the
+ * {@link GeneConvergenceLimit}. The {@code map} benchmark uses the
+ * {@code HashMap} based implementation, which was used before 8.1. The
+ * {@code incremental} benchmark alternates between two populations, which
+ * differ in 10% of their individuals.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class GeneConvergencePerf {
+
+	@Param({"1000", "10000"})
+	public int populationSize;
+
+	@Param({"10", "1000"})
+	public int genes;
+
+	ISeq<Phenotype<DoubleGene, Double>> population;
+	ISeq<Phenotype<DoubleGene, Double>> offspring;
+	IncrementalGeneMoments incremental;
+	int generation;
+
+	@Setup
+	public void setup() {
+		final var factory = Genotype.of(DoubleChromosome.of(0, 1, genes));
+		population = factory.instances()
+			.limit(populationSize)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+
+		final MSeq<Phenotype<DoubleGene, Double>> pop = population.copy();
+		for (int i = 0; i < populationSize/10; ++i) {
+			pop.set(i*10, Phenotype.of(factory.newInstance(), 1));
+		}
+		offspring = pop.toISeq();
+
+		incremental = new IncrementalGeneMoments();
+	}
+
+	@Benchmark
+	public Object map() {
+		final Map<Long, DoubleMomentStatistics> statistics = new HashMap<>();
+
+		for (Phenotype<DoubleGene, ?> pt : population) {
+			final Genotype<DoubleGene> gt = pt.genotype();
+
+			for (int i = 0; i < gt.length(); ++i) {
+				final Chromosome<DoubleGene> ch = gt.get(i);
+
+				for (int j = 0; j < ch.length(); ++j) {
+					statistics
+						.computeIfAbsent(((long)i << 32) | (j & 0xffffffffL),
+							k -> new DoubleMomentStatistics())
+						.accept(ch.get(j).doubleValue());
+				}
+			}
+		}
+
+		return statistics.values().stream()
+			.map(DoubleMomentStatistics::toDoubleMoments)
+			.collect(ISeq.toISeq());
+	}
+
+	@Benchmark
+	public Object columnar() {
+		return GeneMoments.of(population.map(Phenotype::genotype))
+			.toDoubleMoments();
+	}
+
+	@Benchmark
+	public ISeq<DoubleMoments> incremental() {
+		return incremental.update(
+			(generation++ & 1) == 0 ? population : offspring
+		);
+	}
+
+	public static void main(final String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + GeneConvergencePerf.class.getSimpleName() + ".*")
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
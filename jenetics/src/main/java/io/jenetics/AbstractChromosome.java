@@ -36,7 +36,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 8.1
  */
 public abstract class AbstractChromosome<G extends Gene<?, G>>
 	implements Chromosome<G>
@@ -54,6 +54,9 @@ public abstract class AbstractChromosome<G extends Gene<?, G>>
 	 */
 	protected transient Boolean _valid = null;
 
+	// Caching the hash value. Zero means not calculated yet.
+	private transient int _hash = 0;
+
 	/**
 	 * Create a new {@code AbstractChromosome} from the given {@code genes}
 	 * array.
@@ -96,7 +99,12 @@ public abstract class AbstractChromosome<G extends Gene<?, G>>
 
 	@Override
 	public int hashCode() {
-		return hash(_genes, hash(getClass()));
+		int hash = _hash;
+		if (hash == 0) {
+			hash = hash(_genes, hash(getClass()));
+			_hash = hash;
+		}
+		return hash;
 	}
 
 	@Override
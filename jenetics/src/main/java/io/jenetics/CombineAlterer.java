@@ -39,7 +39,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 6.0
- * @version 6.0
+ * @version 8.1
  */
 public class CombineAlterer<
 	G extends Gene<?, G>,
@@ -103,13 +103,12 @@ public class CombineAlterer<
 		final int ci = RandomRegistry.random()
 			.nextInt(min(gt1.length(), gt2.length()));
 
-		final MSeq<Chromosome<G>> c1 = MSeq.of(gt1);
-
 		// Calculate the mean value of the gene array.
-		final MSeq<G> mean = combine(c1.get(ci), gt2.get(ci), _combiner);
+		final MSeq<G> mean = combine(gt1.get(ci), gt2.get(ci), _combiner);
 
-		c1.set(ci, c1.get(ci).newInstance(mean.toISeq()));
-		population.set(individuals[0], Phenotype.of(Genotype.of(c1), generation));
+		final Genotype<G> gt = gt1
+			.withChromosome(ci, gt1.get(ci).newInstance(mean.toISeq()));
+		population.set(individuals[0], Phenotype.of(gt, generation));
 
 		return 1;
 	}
@@ -35,12 +35,18 @@ import io.jenetics.util.RandomRegistry;
  * <p>
  * The order ({@link #order()}) of this Recombination implementation is two.
  * </p>
+ * <p>
+ * Only the chromosomes at the chosen crossover index are re-created. All
+ * other chromosomes are shared between the parent and the child genotypes.
+ * If the {@link #crossover(MSeq, MSeq)} method doesn't alter any genes, the
+ * original phenotypes are kept and need not be evaluated again.
+ * </p>
  *
  * @param <G> the gene type.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 8.1
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -77,25 +83,27 @@ public abstract class Crossover<
 		final int chIndex = RandomRegistry.random()
 			.nextInt(min(gt1.length(), gt2.length()));
 
-		final var c1 = MSeq.of(gt1);
-		final var c2 = MSeq.of(gt2);
-		final var genes1 = MSeq.of(c1.get(chIndex));
-		final var genes2 = MSeq.of(c2.get(chIndex));
+		final var genes1 = MSeq.of(gt1.get(chIndex));
+		final var genes2 = MSeq.of(gt2.get(chIndex));
 
-		crossover(genes1, genes2);
+		final int altered = crossover(genes1, genes2);
 
-		c1.set(chIndex, c1.get(chIndex).newInstance(genes1.toISeq()));
-		c2.set(chIndex, c2.get(chIndex).newInstance(genes2.toISeq()));
+		// Only the crossed chromosomes are re-created. The unchanged ones are
+		// shared with the parent genotypes.
+		if (altered > 0) {
+			final var ch1 = gt1.get(chIndex).newInstance(genes1.toISeq());
+			final var ch2 = gt2.get(chIndex).newInstance(genes2.toISeq());
 
-		//Creating two new Phenotypes and exchanging it with the old.
-		population.set(
-			individuals[0],
-			Phenotype.of(Genotype.of(c1), generation)
-		);
-		population.set(
-			individuals[1],
-			Phenotype.of(Genotype.of(c2), generation)
-		);
+			//Creating two new Phenotypes and exchanging it with the old.
+			population.set(
+				individuals[0],
+				Phenotype.of(gt1.withChromosome(chIndex, ch1), generation)
+			);
+			population.set(
+				individuals[1],
+				Phenotype.of(gt2.withChromosome(chIndex, ch2), generation)
+			);
+		}
 
 		return order();
 	}
@@ -106,7 +114,8 @@ public abstract class Crossover<
 	 *
 	 * @param that the genes of the first chromosome
 	 * @param other the genes of the other chromosome
-	 * @return the number of altered genes
+	 * @return the number of altered genes. If zero is returned, the original
+	 *         chromosomes are kept.
 	 */
 	protected abstract int crossover(final MSeq<G> that, final MSeq<G> other);
 
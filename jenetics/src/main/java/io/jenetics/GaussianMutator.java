@@ -35,12 +35,15 @@ import java.util.random.RandomGenerator;
  *     alt="\hat{\sigma }^2 = \left ( \frac{ g_{max} - g_{min} }{4}\right )^2"
  * >
  * </p>
- * The new value will be cropped to the gene's boundaries.
- *
+ * The new value will be cropped to the gene's boundaries. The relative
+ * standard deviation, {@code 1/4} by default, can be changed with the
+ * {@link #GaussianMutator(double, double)} constructor. This allows adapting
+ * the mutation step size, e.g. with the
+ * {@link io.jenetics.engine.OneFifthRuleAlterer}.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.1
+ * @version 8.1
  */
 public class GaussianMutator<
 	G extends NumericGene<?, G>,
@@ -49,14 +52,58 @@ public class GaussianMutator<
 	extends Mutator<G, C>
 {
 
-	public GaussianMutator(final double probability) {
+	/**
+	 * The default standard deviation, relative to the gene range: 0.25
+	 *
+	 * @since 8.1
+	 */
+	public static final double DEFAULT_SIGMA = 0.25;
+
+	private final double _sigma;
+
+	/**
+	 * Create a new Gaussian mutator with the given mutation {@code probability}
+	 * and standard deviation.
+	 *
+	 * @since 8.1
+	 *
+	 * @param probability the mutation probability
+	 * @param sigma the standard deviation of the Gaussian distribution,
+	 *        relative to the gene range {@code max - min}
+	 * @throws IllegalArgumentException if the {@code probability} is not in
+	 *         the valid range of {@code [0, 1]} or the {@code sigma} is not
+	 *         positive
+	 */
+	public GaussianMutator(final double probability, final double sigma) {
 		super(probability);
+		if (!(sigma > 0 && Double.isFinite(sigma))) {
+			throw new IllegalArgumentException(
+				"Sigma must be positive: " + sigma
+			);
+		}
+		_sigma = sigma;
+	}
+
+	public GaussianMutator(final double probability) {
+		this(probability, DEFAULT_SIGMA);
 	}
 
 	public GaussianMutator() {
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
+	/**
+	 * Return the standard deviation of the Gaussian distribution, relative to
+	 * the gene range.
+	 *
+	 * @since 8.1
+	 *
+	 * @return the relative standard deviation
+	 */
+	public double sigma() {
+		return _sigma;
+	}
+
 	@Override
 	protected G mutate(final G gene, final RandomGenerator random) {
 		return gene.isValid() ? mutate0(gene, random) : gene;
@@ -65,7 +112,7 @@ public class GaussianMutator<
 	private G mutate0(final G gene, final RandomGenerator random) {
 		final double min = gene.min().doubleValue();
 		final double max = gene.max().doubleValue();
-		final double stddev = (max - min)*0.25;
+		final double stddev = (max - min)*_sigma;
 
 		final double value = gene.doubleValue();
 		final double gaussian = random.nextGaussian(value, stddev);
@@ -19,7 +19,7 @@
  */
 package io.jenetics;
 
-import static io.jenetics.internal.util.Hashes.hash;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 
@@ -70,7 +70,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 7.2
+ * @version 8.1
  */
 public final class Genotype<G extends Gene<?, G>>
 	implements
@@ -87,6 +87,10 @@ public final class Genotype<G extends Gene<?, G>>
 	//Caching isValid value.
 	private byte _valid = -1;
 
+	// Caching the fingerprint value. Zero means not calculated yet. The field
+	// is volatile, since non-volatile long values may be read torn.
+	private transient volatile long _fingerprint = 0;
+
 	/**
 	 * Create a new Genotype from a given sequence of {@code Chromosomes}.
 	 *
@@ -211,6 +215,38 @@ public final class Genotype<G extends Gene<?, G>>
 		return new Genotype<>(_chromosomes.subSeq(fromIndex, toIndex));
 	}
 
+	/**
+	 * Return a new genotype, where the chromosome at the given {@code index}
+	 * is replaced by the given {@code chromosome}. All other chromosomes are
+	 * shared with {@code this} genotype and are neither copied nor re-created.
+	 * Only the chromosome references of the new genotype are copied. If the
+	 * given {@code chromosome} is the same instance as the replaced one,
+	 * {@code this} genotype is returned.
+	 *
+	 * @since 8.1
+	 *
+	 * @param index the index of the chromosome to replace
+	 * @param chromosome the new chromosome
+	 * @return a new genotype with the replaced chromosome
+	 * @throws IndexOutOfBoundsException if
+	 *         {@code (index < 0 || index >= length())}
+	 * @throws NullPointerException if the given {@code chromosome} is
+	 *         {@code null}
+	 */
+	public Genotype<G> withChromosome(
+		final int index,
+		final Chromosome<G> chromosome
+	) {
+		requireNonNull(chromosome);
+		if (_chromosomes.get(index) == chromosome) {
+			return this;
+		}
+
+		final MSeq<Chromosome<G>> chromosomes = _chromosomes.copy();
+		chromosomes.set(index, chromosome);
+		return new Genotype<>(chromosomes.toISeq());
+	}
+
 	/**
 	 * Return a new, random genotype by creating new, random chromosomes (calling
 	 * the {@link Chromosome#newInstance()} method) from the chromosomes of this
@@ -221,17 +257,63 @@ public final class Genotype<G extends Gene<?, G>>
 		return new Genotype<>(_chromosomes.map(Factory::newInstance));
 	}
 
+	/**
+	 * Return a 64-bit structural fingerprint of this genotype. The fingerprint
+	 * is calculated from the hash codes of the genotype's chromosomes and is
+	 * consistent with {@link #equals(Object)}: two equal genotypes will always
+	 * have the same fingerprint. The reverse is not guaranteed. Since the
+	 * fingerprint is mixed from the 32-bit hash codes of the chromosomes, it
+	 * doesn't reduce the collisions of single-chromosome genotypes, compared
+	 * to the {@link #hashCode()} value.
+	 * <p>
+	 * Since genotypes are immutable, the fingerprint is calculated only once,
+	 * when it is requested the first time. Subsequent calls are {@code O(1)}.
+	 *
+	 * @since 8.1
+	 *
+	 * @return the 64-bit fingerprint of this genotype
+	 */
+	public long fingerprint() {
+		long fingerprint = _fingerprint;
+		if (fingerprint == 0) {
+			fingerprint = mix(_chromosomes.length());
+			for (int i = 0; i < _chromosomes.length(); ++i) {
+				fingerprint = mix(fingerprint + _chromosomes.get(i).hashCode());
+			}
+			_fingerprint = fingerprint;
+		}
+		return fingerprint;
+	}
+
+	// The 'SplitMix64' finalizer function.
+	private static long mix(final long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
 	@Override
 	public int hashCode() {
-		return hash(_chromosomes);
+		final long fingerprint = fingerprint();
+		return (int)(fingerprint ^ (fingerprint >>> 32));
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
-		return obj instanceof Genotype<?> other &&
+		return obj == this ||
+			obj instanceof Genotype<?> other &&
+			!differentFingerprints(other) &&
 			Objects.equals(_chromosomes, other._chromosomes);
 	}
 
+	// Only already calculated fingerprints are compared.
+	private boolean differentFingerprints(final Genotype<?> other) {
+		final long fp1 = _fingerprint;
+		final long fp2 = other._fingerprint;
+		return fp1 != 0 && fp2 != 0 && fp1 != fp2;
+	}
+
 	@Override
 	public String toString() {
 		return _chromosomes.toString();
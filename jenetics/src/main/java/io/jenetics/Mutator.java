@@ -25,7 +25,7 @@ import static java.lang.String.format;
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Probabilities;
-import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +65,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 8.1
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -148,8 +148,13 @@ public class Mutator<
 		final double p,
 		final RandomGenerator random
 	) {
-		return mutate(phenotype.genotype(), p, random)
-			.map(gt -> Phenotype.of(gt, generation));
+		final MutatorResult<Genotype<G>> result =
+			mutate(phenotype.genotype(), p, random);
+
+		// Unchanged genotypes don't need a new, not evaluated, phenotype.
+		return result.result() == phenotype.genotype()
+			? new MutatorResult<>(phenotype, result.mutations())
+			: result.map(gt -> Phenotype.of(gt, generation));
 	}
 
 	/**
@@ -169,15 +174,28 @@ public class Mutator<
 		final RandomGenerator random
 	) {
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<Chromosome<G>>> result = genotype.stream()
-			.map(gt -> random.nextInt() < P
-				? mutate(gt, p, random)
-				: new MutatorResult<>(gt, 0))
-			.collect(ISeq.toISeq());
+
+		// The chromosomes are only copied, if one of them has been changed.
+		MSeq<Chromosome<G>> chromosomes = null;
+		int mutations = 0;
+		for (int i = 0; i < genotype.length(); ++i) {
+			if (random.nextInt() < P) {
+				final var chromosome = genotype.get(i);
+				final var result = mutate(chromosome, p, random);
+
+				if (result.result() != chromosome) {
+					if (chromosomes == null) {
+						chromosomes = MSeq.of(genotype);
+					}
+					chromosomes.set(i, result.result());
+				}
+				mutations += result.mutations();
+			}
+		}
 
 		return new MutatorResult<>(
-			Genotype.of(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
+			chromosomes != null ? Genotype.of(chromosomes) : genotype,
+			mutations
 		);
 	}
 
@@ -197,15 +215,23 @@ public class Mutator<
 		final RandomGenerator random
 	) {
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? new MutatorResult<>(mutate(gene, random), 1)
-				: new MutatorResult<>(gene, 0))
-			.collect(ISeq.toISeq());
+
+		// The genes are only copied, if one of them is mutated.
+		MSeq<G> genes = null;
+		int mutations = 0;
+		for (int i = 0; i < chromosome.length(); ++i) {
+			if (random.nextInt() < P) {
+				if (genes == null) {
+					genes = MSeq.of(chromosome);
+				}
+				genes.set(i, mutate(chromosome.get(i), random));
+				++mutations;
+			}
+		}
 
 		return new MutatorResult<>(
-			chromosome.newInstance(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
+			genes != null ? chromosome.newInstance(genes.toISeq()) : chromosome,
+			mutations
 		);
 	}
 
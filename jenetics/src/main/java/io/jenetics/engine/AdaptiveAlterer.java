@@ -0,0 +1,174 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import io.jenetics.Alterer;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Base class of alterers, which adapt their parameters every generation from
+ * the success of the created offspring. An offspring is successful if its
+ * fitness is better than the fitness of the replaced parent. The success
+ * statistics are gathered after the evaluation of every generation, by the
+ * {@link #interceptor()} of the adaptive alterer. This interceptor must be
+ * registered at the engine as well.
+ *
+ * {@snippet lang="java":
+ * final var mutator = new OneFifthRuleAlterer<DoubleGene, Double>(
+ *     sigma -> new GaussianMutator<>(0.3, sigma), 0.25, 0.001, 1.0
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .alterers(mutator, new MeanAlterer<>(0.6))
+ *     .interceptor(mutator.interceptor())
+ *     .build();
+ * }
+ *
+ * Only offspring of already evaluated parents are counted. Adaptive alterers
+ * should therefore be the first alterer of the alterer chain.
+ *
+ * @see OneFifthRuleAlterer
+ * @see AdaptivePursuitAlterer
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public abstract sealed class AdaptiveAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+	permits OneFifthRuleAlterer, AdaptivePursuitAlterer
+{
+
+	private record Offspring<C>(int operator, C parentFitness) {}
+
+	// The offspring of the current generation, identified by its genotype.
+	private final Map<Genotype<G>, Offspring<C>> _offspring =
+		new IdentityHashMap<>();
+	private long _generation = -1;
+
+	private final EvolutionInterceptor<G, C> _interceptor =
+		EvolutionInterceptor.ofAfter(this::update);
+
+	AdaptiveAlterer() {
+	}
+
+	/**
+	 * Return the evolution interceptor, which gathers the success statistics
+	 * of the created offspring, after the evaluation of every generation.
+	 * The interceptor doesn't change the evolution result.
+	 *
+	 * @return the feedback interceptor of {@code this} alterer
+	 */
+	public final EvolutionInterceptor<G, C> interceptor() {
+		return _interceptor;
+	}
+
+	/**
+	 * Remembers the offspring, created by the given {@code operator}. The
+	 * {@code children} must be the altered {@code parents}, in the same order.
+	 */
+	final synchronized void record(
+		final int operator,
+		final Seq<Phenotype<G, C>> parents,
+		final Seq<Phenotype<G, C>> children,
+		final long generation
+	) {
+		// Forget the offspring of generations without feedback.
+		if (generation != _generation) {
+			_offspring.clear();
+			_generation = generation;
+		}
+
+		if (parents.size() == children.size()) {
+			for (int i = 0; i < children.size(); ++i) {
+				final Phenotype<G, C> parent = parents.get(i);
+				final Phenotype<G, C> child = children.get(i);
+
+				if (child.genotype() != parent.genotype() && parent.isEvaluated()) {
+					_offspring.put(
+						child.genotype(),
+						new Offspring<>(operator, parent.fitness())
+					);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Updates the success statistics with the evaluated population of the
+	 * given result and adapts the alterer parameters.
+	 */
+	private EvolutionResult<G, C> update(final EvolutionResult<G, C> result) {
+		update(result.population(), result.optimize());
+		return result;
+	}
+
+	private synchronized void update(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize optimize
+	) {
+		final int[] successes = new int[operatorCount()];
+		final int[] trials = new int[operatorCount()];
+
+		for (var pt : population) {
+			if (_offspring.isEmpty()) {
+				break;
+			}
+
+			final Offspring<C> offspring = _offspring.remove(pt.genotype());
+			if (offspring != null && pt.isEvaluated()) {
+				++trials[offspring.operator()];
+				if (optimize.compare(pt.fitness(), offspring.parentFitness()) > 0) {
+					++successes[offspring.operator()];
+				}
+			}
+		}
+		_offspring.clear();
+
+		adapt(successes, trials);
+	}
+
+	/**
+	 * Return the number of adapted operators.
+	 */
+	abstract int operatorCount();
+
+	/**
+	 * Adapts the alterer parameters. Called once per generation with the
+	 * number of successful offspring and the number of all evaluated offspring
+	 * of every operator. This method is called while holding the lock of
+	 * {@code this} alterer.
+	 */
+	abstract void adapt(final int[] successes, final int[] trials);
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Adaptive alterer which chooses between several alterer operators with
+ * <em>adaptive pursuit</em>. Every individual of the population is altered by
+ * exactly one operator, which is chosen with the current operator
+ * probabilities. After every generation, the estimated quality of an operator
+ * is moved towards its success rate, {@code Q += alpha*(R - Q)}. The
+ * probability of the best operator is then moved towards {@code pMax}, and the
+ * probabilities of all other operators towards {@code pMin}, with the
+ * learning rate {@code beta}.
+ *
+ * {@snippet lang="java":
+ * final var alterer = new AdaptivePursuitAlterer<DoubleGene, Double>(
+ *     new GaussianMutator<>(0.5),
+ *     new MeanAlterer<>(0.6),
+ *     new LineCrossover<>(0.6)
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .alterers(alterer)
+ *     .interceptor(alterer.interceptor())
+ *     .build();
+ * }
+ *
+ * <p>
+ *  Reference:<em>
+ *      Dirk Thierens, An adaptive pursuit strategy for allocating operator
+ *      probabilities, GECCO 2005, pages 1539–1546.
+ *  </em>
+ *
+ * @see AdaptiveAlterer
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class AdaptivePursuitAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends AdaptiveAlterer<G, C>
+{
+
+	/**
+	 * The default adaptation rate of the operator qualities: 0.8
+	 */
+	public static final double DEFAULT_ALPHA = 0.8;
+
+	/**
+	 * The default learning rate of the operator probabilities: 0.8
+	 */
+	public static final double DEFAULT_BETA = 0.8;
+
+	private final ISeq<Alterer<G, C>> _operators;
+	private final double _alpha;
+	private final double _beta;
+	private final double _pmin;
+	private final double _pmax;
+
+	private final double[] _qualities;
+	private final double[] _probabilities;
+
+	/**
+	 * Create a new adaptive pursuit alterer.
+	 *
+	 * @param operators the alterer operators
+	 * @param alpha the adaptation rate of the operator qualities, within the
+	 *        range {@code (0, 1]}
+	 * @param beta the learning rate of the operator probabilities, within the
+	 *        range {@code (0, 1]}
+	 * @param pmin the minimal operator probability, within the range
+	 *        {@code [0, 1/k)}, where {@code k} is the number of operators
+	 * @throws NullPointerException if one of the operators is {@code null}
+	 * @throws IllegalArgumentException if no operator is given or one of the
+	 *         parameters is not within its valid range
+	 */
+	public AdaptivePursuitAlterer(
+		final Seq<? extends Alterer<G, C>> operators,
+		final double alpha,
+		final double beta,
+		final double pmin
+	) {
+		if (operators.isEmpty()) {
+			throw new IllegalArgumentException("No alterer operator given.");
+		}
+		if (!(alpha > 0 && alpha <= 1)) {
+			throw new IllegalArgumentException(
+				"Alpha not within (0, 1]: " + alpha
+			);
+		}
+		if (!(beta > 0 && beta <= 1)) {
+			throw new IllegalArgumentException(
+				"Beta not within (0, 1]: " + beta
+			);
+		}
+		final int k = operators.size();
+		if (!(pmin >= 0 && pmin*k < 1)) {
+			throw new IllegalArgumentException(format(
+				"Minimal probability not within [0, 1/%d): %s", k, pmin
+			));
+		}
+
+		_operators = operators.stream()
+			.<Alterer<G, C>>map(op -> requireNonNull(op))
+			.collect(ISeq.toISeq());
+		_alpha = alpha;
+		_beta = beta;
+		_pmin = pmin;
+		_pmax = 1.0 - (k - 1)*pmin;
+
+		_qualities = new double[k];
+		Arrays.fill(_qualities, 1.0);
+		_probabilities = new double[k];
+		Arrays.fill(_probabilities, 1.0/k);
+	}
+
+	/**
+	 * Create a new adaptive pursuit alterer with the default parameters. The
+	 * minimal operator probability is {@code 0.2/k}.
+	 *
+	 * @param operators the alterer operators
+	 * @throws NullPointerException if one of the operators is {@code null}
+	 * @throws IllegalArgumentException if no operator is given
+	 */
+	@SafeVarargs
+	public AdaptivePursuitAlterer(final Alterer<G, C>... operators) {
+		this(
+			ISeq.of(operators),
+			DEFAULT_ALPHA,
+			DEFAULT_BETA,
+			0.2/Math.max(operators.length, 1)
+		);
+	}
+
+	/**
+	 * Return the alterer operators.
+	 *
+	 * @return the alterer operators
+	 */
+	public ISeq<Alterer<G, C>> operators() {
+		return _operators;
+	}
+
+	/**
+	 * Return the current operator probabilities, in the order of the
+	 * {@link #operators()}.
+	 *
+	 * @return the current operator probabilities
+	 */
+	public synchronized double[] probabilities() {
+		return _probabilities.clone();
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		final double[] probabilities = probabilities();
+		final RandomGenerator random = RandomRegistry.random();
+
+		// Assigning every individual to one operator.
+		final int[] operators = new int[population.size()];
+		final int[] counts = new int[probabilities.length];
+		for (int i = 0; i < operators.length; ++i) {
+			operators[i] = next(probabilities, random);
+			++counts[operators[i]];
+		}
+
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+		int alterations = 0;
+		for (int k = 0; k < counts.length; ++k) {
+			if (counts[k] > 0) {
+				final int[] indexes = new int[counts[k]];
+				for (int i = 0, j = 0; i < operators.length; ++i) {
+					if (operators[i] == k) {
+						indexes[j++] = i;
+					}
+				}
+
+				final MSeq<Phenotype<G, C>> part = MSeq.ofLength(indexes.length);
+				for (int j = 0; j < indexes.length; ++j) {
+					part.set(j, population.get(indexes[j]));
+				}
+
+				final AltererResult<G, C> altered =
+					_operators.get(k).alter(part, generation);
+				alterations += altered.alterations();
+
+				for (int j = 0; j < indexes.length; ++j) {
+					result.set(indexes[j], altered.population().get(j));
+				}
+				record(k, part, altered.population(), generation);
+			}
+		}
+
+		return new AltererResult<>(result.toISeq(), alterations);
+	}
+
+	private static int next(final double[] probabilities, final RandomGenerator random) {
+		final double value = random.nextDouble();
+
+		double sum = 0;
+		for (int i = 0; i < probabilities.length - 1; ++i) {
+			sum += probabilities[i];
+			if (value < sum) {
+				return i;
+			}
+		}
+		return probabilities.length - 1;
+	}
+
+	@Override
+	int operatorCount() {
+		return _operators.size();
+	}
+
+	@Override
+	void adapt(final int[] successes, final int[] trials) {
+		for (int k = 0; k < trials.length; ++k) {
+			if (trials[k] > 0) {
+				final double reward = (double)successes[k]/trials[k];
+				_qualities[k] += _alpha*(reward - _qualities[k]);
+			}
+		}
+
+		int best = 0;
+		for (int k = 1; k < _qualities.length; ++k) {
+			if (_qualities[k] > _qualities[best]) {
+				best = k;
+			}
+		}
+
+		for (int k = 0; k < _probabilities.length; ++k) {
+			final double target = k == best ? _pmax : _pmin;
+			_probabilities[k] += _beta*(target - _probabilities[k]);
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return format(
+			"AdaptivePursuitAlterer[probabilities=%s, operators=%s]",
+			Arrays.toString(_probabilities), _operators
+		);
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator which evaluates every <em>distinct</em> genotype only once. The
+ * non-evaluated phenotypes of a population are grouped by its genotype and
+ * only one representative of every group is forwarded to the delegate
+ * evaluator. The fitness value is then assigned to all phenotypes of the
+ * group. Genotypes which are currently evaluated by a concurrent {@code eval}
+ * call of the same evaluator instance are not evaluated again; the result of
+ * the running evaluation is used instead.
+ *
+ * @implNote
+ * Only the genotypes of the currently running evaluations are kept. No
+ * fitness values are cached beyond the duration of an {@code eval} call.
+ * The fitness function calls of a shared evaluation are only counted by
+ * the {@code eval} call which owns it.
+ *
+ * @see Evaluators#coalescing(Evaluator)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class CoalescingEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements CountingEvaluator<G, C>
+{
+
+	private final CountingEvaluator<G, C> _evaluator;
+
+	// The genotypes which are currently evaluated.
+	private final Map<Genotype<G>, CompletableFuture<C>> _running =
+		new ConcurrentHashMap<>();
+
+	CoalescingEvaluator(final Evaluator<G, C> evaluator) {
+		_evaluator = CountingEvaluator.of(evaluator);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final IntConsumer calls
+	) {
+		if (population.forAll(Phenotype::isEvaluated)) {
+			return population.asISeq();
+		}
+
+		final Map<Genotype<G>, CompletableFuture<C>> fitnesses =
+			new HashMap<>(population.size()*2);
+
+		// Already evaluated phenotypes don't need to be evaluated again.
+		for (var pt : population) {
+			if (pt.isEvaluated()) {
+				fitnesses.putIfAbsent(
+					pt.genotype(),
+					CompletableFuture.completedFuture(pt.fitness())
+				);
+			}
+		}
+
+		// Evaluations which are owned by this call.
+		final List<Phenotype<G, C>> owned = new ArrayList<>();
+		for (var pt : population) {
+			if (pt.nonEvaluated() && !fitnesses.containsKey(pt.genotype())) {
+				final var future = new CompletableFuture<C>();
+				final var running = _running.putIfAbsent(pt.genotype(), future);
+
+				if (running == null) {
+					owned.add(pt);
+					fitnesses.put(pt.genotype(), future);
+				} else {
+					fitnesses.put(pt.genotype(), running);
+				}
+			}
+		}
+
+		if (!owned.isEmpty()) {
+			evaluate(owned, fitnesses, calls);
+		}
+
+		return population.stream()
+			.map(pt -> pt.isEvaluated()
+				? pt
+				: pt.withFitness(fitnesses.get(pt.genotype()).join()))
+			.collect(ISeq.toISeq());
+	}
+
+	private void evaluate(
+		final List<Phenotype<G, C>> owned,
+		final Map<Genotype<G>, CompletableFuture<C>> fitnesses,
+		final IntConsumer calls
+	) {
+		try {
+			final ISeq<Phenotype<G, C>> evaluated =
+				_evaluator.eval(ISeq.of(owned), calls);
+
+			for (var pt : evaluated) {
+				final var future = fitnesses.get(pt.genotype());
+				if (future != null && pt.isEvaluated()) {
+					future.complete(pt.fitness());
+				}
+			}
+		} catch (RuntimeException | Error e) {
+			for (var pt : owned) {
+				fitnesses.get(pt.genotype()).completeExceptionally(e);
+			}
+			throw e;
+		} finally {
+			for (var pt : owned) {
+				final var future = fitnesses.get(pt.genotype());
+
+				// Waiting evaluations must not block forever.
+				if (!future.isDone()) {
+					future.completeExceptionally(new IllegalStateException(
+						"No fitness value for genotype " + pt.genotype() +
+							". Check your evaluator function."
+					));
+				}
+				_running.remove(pt.genotype(), future);
+			}
+		}
+	}
+
+}
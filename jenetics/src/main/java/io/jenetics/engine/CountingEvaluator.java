@@ -0,0 +1,102 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntConsumer;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator which reports the number of its <em>real</em> fitness function
+ * calls. Skipped, coalesced and predicted fitness values are not reported.
+ * The engine uses the reported calls for the
+ * {@link EvolutionResult#evaluationCount()}.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+@FunctionalInterface
+interface CountingEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Evaluator<G, C>
+{
+
+	/**
+	 * Evaluates the fitness values of the given {@code population} and
+	 * reports the number of fitness function calls to the given
+	 * {@code calls} consumer.
+	 *
+	 * @param population the population to evaluate
+	 * @param calls the consumer of the fitness function calls
+	 * @return the evaluated population
+	 */
+	ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final IntConsumer calls
+	);
+
+	@Override
+	default ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return eval(population, calls -> {});
+	}
+
+	/**
+	 * Return a counting evaluator for the given {@code evaluator}. For
+	 * evaluators which don't count its fitness function calls, every
+	 * non-evaluated phenotype of the population is counted as one call.
+	 *
+	 * @param evaluator the evaluator to count
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a counting evaluator
+	 * @throws NullPointerException if the {@code evaluator} is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CountingEvaluator<G, C> of(final Evaluator<G, C> evaluator) {
+		requireNonNull(evaluator);
+
+		if (evaluator instanceof CountingEvaluator<G, C> counting) {
+			return counting;
+		}
+		if (evaluator instanceof SurrogateEvaluator<?, ?> surrogate) {
+			return (CountingEvaluator<G, C>)surrogate.counting();
+		}
+
+		return (population, calls) -> {
+			calls.accept((int)population.stream()
+				.filter(Phenotype::nonEvaluated)
+				.count());
+			return evaluator.eval(population);
+		};
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.jenetics.stat.DoubleMomentStatistics;
+
+/**
+ * Gathers the {@link Diversity} values of the populations of an evolution
+ * process. The statistics can be used standalone or as an opt-in part of the
+ * {@link EvolutionStatistics}.
+ *
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = null; // @replace substring='null' replacement="..."
+ * final DiversityStatistics diversity = new DiversityStatistics();
+ * final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+ *     EvolutionStatistics.ofNumber(diversity);
+ *
+ * final Phenotype<DoubleGene, Double> result = engine.stream()
+ *     .limit(100)
+ *     .peek(statistics)
+ *     .collect(toBestPhenotype());
+ *
+ * System.out.println(diversity.distance());
+ * }
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @see Diversity
+ * @see EvolutionStatistics#ofNumber(DiversityStatistics)
+ * @see EvolutionStatistics#ofComparable(DiversityStatistics)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class DiversityStatistics
+	implements Consumer<EvolutionResult<?, ?>>
+{
+
+	/**
+	 * The default number of genotypes sampled per generation.
+	 */
+	public static final int DEFAULT_SAMPLE_SIZE = 64;
+
+	private final int _sampleSize;
+
+	private final DoubleMomentStatistics
+		_uniqueGenotypes = new DoubleMomentStatistics();
+	private final DoubleMomentStatistics
+		_distance = new DoubleMomentStatistics();
+	private final DoubleMomentStatistics
+		_entropy = new DoubleMomentStatistics();
+	private final DoubleMomentStatistics
+		_geneVariance = new DoubleMomentStatistics();
+
+	private Diversity _latest = null;
+
+	/**
+	 * Create new diversity statistics with the given {@code sampleSize}.
+	 *
+	 * @param sampleSize the maximal number of genotypes sampled per generation
+	 * @throws IllegalArgumentException if the {@code sampleSize} is smaller
+	 *         than two
+	 */
+	public DiversityStatistics(final int sampleSize) {
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be at least 2: " + sampleSize
+			);
+		}
+		_sampleSize = sampleSize;
+	}
+
+	/**
+	 * Create new diversity statistics with the
+	 * {@link #DEFAULT_SAMPLE_SIZE}.
+	 */
+	public DiversityStatistics() {
+		this(DEFAULT_SAMPLE_SIZE);
+	}
+
+	@Override
+	public void accept(final EvolutionResult<?, ?> result) {
+		final Diversity diversity = Diversity.of(result.population(), _sampleSize);
+
+		_uniqueGenotypes.accept(diversity.uniqueGenotypes());
+		if (!Double.isNaN(diversity.distance())) {
+			_distance.accept(diversity.distance());
+			_entropy.accept(diversity.entropy());
+		}
+		if (!Double.isNaN(diversity.geneVariance())) {
+			_geneVariance.accept(diversity.geneVariance());
+		}
+		_latest = diversity;
+	}
+
+	/**
+	 * Return the maximal number of genotypes sampled per generation.
+	 *
+	 * @return the maximal number of genotypes sampled per generation
+	 */
+	public int sampleSize() {
+		return _sampleSize;
+	}
+
+	/**
+	 * Return the diversity of the last accepted population.
+	 *
+	 * @return the diversity of the last accepted population, or an empty
+	 *         value if no population has been accepted yet
+	 */
+	public Optional<Diversity> latest() {
+		return Optional.ofNullable(_latest);
+	}
+
+	/**
+	 * Return the statistics of the estimated number of unique genotypes.
+	 *
+	 * @return the unique genotype statistics
+	 */
+	public DoubleMomentStatistics uniqueGenotypes() {
+		return _uniqueGenotypes;
+	}
+
+	/**
+	 * Return the statistics of the mean Hamming distance between genotypes.
+	 *
+	 * @return the Hamming distance statistics
+	 */
+	public DoubleMomentStatistics distance() {
+		return _distance;
+	}
+
+	/**
+	 * Return the statistics of the mean allele entropy, in bits.
+	 *
+	 * @return the entropy statistics
+	 */
+	public DoubleMomentStatistics entropy() {
+		return _entropy;
+	}
+
+	/**
+	 * Return the statistics of the mean numeric gene variance. The statistics
+	 * are empty if the genotypes contain no numeric genes.
+	 *
+	 * @return the gene variance statistics
+	 */
+	public DoubleMomentStatistics geneVariance() {
+		return _geneVariance;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"DiversityStatistics[unique=%s, distance=%s, entropy=%s, variance=%s]",
+			_uniqueGenotypes.mean(),
+			_distance.mean(),
+			_entropy.mean(),
+			_geneVariance.mean()
+		);
+	}
+
+}
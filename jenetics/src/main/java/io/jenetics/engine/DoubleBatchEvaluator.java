@@ -0,0 +1,128 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntConsumer;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluates the non-evaluated phenotypes of a population with one call of a
+ * {@link DoubleBatchFunction}. The genes of the genotypes are copied into one
+ * row-major {@code double[]} matrix, where every row contains the genes of
+ * one genotype.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class DoubleBatchEvaluator
+	implements CountingEvaluator<DoubleGene, Double>
+{
+
+	private final DoubleBatchFunction _function;
+
+	DoubleBatchEvaluator(final DoubleBatchFunction function) {
+		_function = requireNonNull(function);
+	}
+
+	@Override
+	public ISeq<Phenotype<DoubleGene, Double>>
+	eval(
+		final Seq<Phenotype<DoubleGene, Double>> population,
+		final IntConsumer calls
+	) {
+		final ISeq<Phenotype<DoubleGene, Double>> phenotypes = population.stream()
+			.filter(Phenotype::nonEvaluated)
+			.collect(ISeq.toISeq());
+
+		if (phenotypes.isEmpty()) {
+			return population.asISeq();
+		}
+
+		final int rows = phenotypes.size();
+		final int dimension = phenotypes.get(0).genotype().geneCount();
+		final double[] points = new double[rows*dimension];
+		for (int i = 0; i < rows; ++i) {
+			copy(phenotypes.get(i).genotype(), points, i*dimension, dimension);
+		}
+
+		final double[] results = new double[rows];
+		_function.apply(points, dimension, results);
+		calls.accept(rows);
+
+		final MSeq<Phenotype<DoubleGene, Double>> result =
+			MSeq.ofLength(population.size());
+
+		int index = 0;
+		for (var pt : population) {
+			if (pt.isEvaluated()) {
+				result.set(index++, pt);
+			}
+		}
+		for (int i = 0; i < rows; ++i) {
+			result.set(index++, phenotypes.get(i).withFitness(results[i]));
+		}
+
+		return result.toISeq();
+	}
+
+	private static void copy(
+		final Genotype<DoubleGene> genotype,
+		final double[] points,
+		final int offset,
+		final int dimension
+	) {
+		if (genotype.geneCount() != dimension) {
+			throw new IllegalArgumentException(format(
+				"All genotypes must have %d genes, but found %d.",
+				dimension, genotype.geneCount()
+			));
+		}
+
+		int index = offset;
+		for (var chromosome : genotype) {
+			index = copy(chromosome, points, index);
+		}
+	}
+
+	private static int copy(
+		final Chromosome<DoubleGene> chromosome,
+		final double[] points,
+		final int offset
+	) {
+		final int length = chromosome.length();
+		for (int i = 0; i < length; ++i) {
+			points[offset + i] = chromosome.get(i).doubleValue();
+		}
+
+		return offset + length;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+/**
+ * Fitness function, which evaluates a whole batch of {@code double} vectors at
+ * once. The vectors are given as one contiguous, <em>row-major</em> matrix. The
+ * {@code i}-th vector (row) of the batch occupies the array elements
+ * {@code [i*dimension, (i + 1)*dimension)}. This layout allows fitness
+ * implementations to use tight loops, or the Vector API, over the whole
+ * generation.
+ * {@snippet lang="java":
+ * // Sphere function, evaluated for the whole batch.
+ * final DoubleBatchFunction sphere = (points, dimension, results) -> {
+ *     for (int i = 0; i < results.length; ++i) {
+ *         double sum = 0;
+ *         for (int j = i*dimension, n = j + dimension; j < n; ++j) {
+ *             sum += points[j]*points[j];
+ *         }
+ *         results[i] = sum;
+ *     }
+ * };
+ * }
+ *
+ * @see Evaluators#ofDoubleBatch(DoubleBatchFunction)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+@FunctionalInterface
+public interface DoubleBatchFunction {
+
+	/**
+	 * Evaluates the fitness values of the given batch of {@code points}.
+	 *
+	 * @param points the points to evaluate, as row-major
+	 *        {@code results.length x dimension} matrix
+	 * @param dimension the dimension of the points; the length of one row
+	 * @param results the array where the fitness values, of the
+	 *        {@code results.length} points, are written to
+	 */
+	void apply(final double[] points, final int dimension, final double[] results);
+
+}
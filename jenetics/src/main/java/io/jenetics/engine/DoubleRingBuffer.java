@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+
+/**
+ * Bounded ring buffer for primitive {@code double} values. It has the same
+ * semantics as the (object) {@code io.jenetics.util.Buffer} class: if the
+ * buffer is full, it starts <em>overwriting</em> the oldest elements. The
+ * content is accessed via snapshots, taken with the {@link #toArray()} and
+ * {@link #toArray(int)} methods.
+ *
+ * @implNote
+ * This class is not thread-safe. If two threads access the buffer
+ * concurrently it must be <em>synchronized</em> externally.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class DoubleRingBuffer {
+	private final double[] _buffer;
+
+	private int _index;
+	private int _size;
+
+	/**
+	 * Create a new ring buffer with the given {@code capacity}.
+	 *
+	 * @param capacity the buffer capacity
+	 * @throws NegativeArraySizeException if the given {@code capacity} is
+	 *         negative
+	 */
+	DoubleRingBuffer(final int capacity) {
+		_buffer = new double[capacity];
+	}
+
+	/**
+	 * Return the capacity of {@code this} buffer.
+	 *
+	 * @return the capacity of {@code this} buffer
+	 */
+	int capacity() {
+		return _buffer.length;
+	}
+
+	/**
+	 * Return the current number of elements {@code this} buffer holds.
+	 *
+	 * @return the current buffer size
+	 */
+	int size() {
+		return _size;
+	}
+
+	/**
+	 * Returns {@code true} if this buffer contains no elements.
+	 *
+	 * @return {@code true} if this buffer contains no elements
+	 */
+	boolean isEmpty() {
+		return _size == 0;
+	}
+
+	/**
+	 * Add a new element to the buffer.
+	 *
+	 * @param value the value to add
+	 */
+	void add(final double value) {
+		_buffer[_index] = value;
+
+		if (++_index == _buffer.length) {
+			_index = 0;
+		}
+		if (_size < _buffer.length) {
+			++_size;
+		}
+	}
+
+	/**
+	 * Return a snapshot of the current buffer content, from the oldest to the
+	 * newest element.
+	 *
+	 * @return the buffer snapshot
+	 */
+	double[] toArray() {
+		return toArray(_size);
+	}
+
+	/**
+	 * Return a snapshot of the {@code count} newest elements, from the oldest
+	 * to the newest element.
+	 *
+	 * @param count the number of the newest elements to return
+	 * @return the snapshot of the {@code count} newest elements
+	 * @throws IllegalArgumentException if the {@code count} is negative
+	 */
+	double[] toArray(final int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Negative count: " + count);
+		}
+
+		final int size = min(count, _size);
+		final double[] result = new double[size];
+
+		// Start index of the requested elements.
+		int start = _index - size;
+		if (start < 0) {
+			start += _buffer.length;
+		}
+
+		final int first = min(size, _buffer.length - start);
+		arraycopy(_buffer, start, result, 0, first);
+		arraycopy(_buffer, 0, result, first, size - first);
+		return result;
+	}
+
+}
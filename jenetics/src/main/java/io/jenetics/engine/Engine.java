@@ -28,7 +28,9 @@ import java.time.InstantSource;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -126,7 +128,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 7.0
+ * @version 8.1
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -140,6 +142,7 @@ public final class Engine<
 
 	// Problem definition.
 	private final Evaluator<G, C> _evaluator;
+	private final CountingEvaluator<G, C> _counting;
 	private final Factory<Genotype<G>> _genotypeFactory;
 	private final Constraint<G, C> _constraint;
 	private final Optimize _optimize;
@@ -183,6 +186,7 @@ public final class Engine<
 		final EvolutionInterceptor<G, C> interceptor
 	) {
 		_evaluator = requireNonNull(evaluator);
+		_counting = CountingEvaluator.of(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
 		_constraint = requireNonNull(constraint);
 		_optimize = requireNonNull(optimize);
@@ -205,8 +209,11 @@ public final class Engine<
 			: interceptedStart;
 
 		// Initial evaluation of the population.
+		final AtomicInteger evaluations = new AtomicInteger();
 		final ISeq<Phenotype<G, C>> population = es.isDirty()
-			? timing.evaluation.timing(() -> eval(es.population()))
+			? timing.evaluation.timing(() ->
+				eval(es.population(), evaluations::addAndGet)
+			)
 			: es.population();
 
 		// Select the offspring population.
@@ -265,7 +272,7 @@ public final class Engine<
 		// Evaluate the fitness-function and wait for a result.
 		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
 		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			eval(pop)
+			eval(pop, evaluations::addAndGet)
 		);
 
 		final int killCount =
@@ -292,7 +299,7 @@ public final class Engine<
 		if (er != interceptedResult) {
 			er = interceptedResult.withPopulation(
 				timing.evaluation.timing(() ->
-					eval(interceptedResult.population())
+					eval(interceptedResult.population(), evaluations::addAndGet)
 			));
 		}
 
@@ -300,6 +307,7 @@ public final class Engine<
 
 		return er
 			.withDurations(timing.toDurations())
+			.withEvaluationCount(evaluations.get())
 			.clean();
 	}
 
@@ -321,30 +329,50 @@ public final class Engine<
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
+	/*
+	 * Filters out invalid and old individuals. The population is only copied
+	 * if at least one individual has to be replaced. Instead of calculating
+	 * the age of every individual, its birth generation is compared with the
+	 * oldest allowed birth generation. If no individual can be too old, the
+	 * age test is skipped completely.
+	 */
 	private FilterResult<G, C> filter(
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
+		final long maximalAge = _evolutionParams.maximalPhenotypeAge();
+		final long oldestBirth = generation - maximalAge;
+		final boolean ageing = oldestBirth > 0;
+
 		int killCount = 0;
 		int invalidCount = 0;
 
-		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
-		for (int i = 0, n = pop.size(); i < n; ++i) {
-			final Phenotype<G, C> individual = pop.get(i);
+		MSeq<Phenotype<G, C>> pop = null;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final Phenotype<G, C> individual = population.get(i);
 
+			Phenotype<G, C> replacement = null;
 			if (!_constraint.test(individual)) {
-				pop.set(i, _constraint.repair(individual, generation));
+				replacement = _constraint.repair(individual, generation);
 				++invalidCount;
-			} else if (individual.age(generation) >
-						_evolutionParams.maximalPhenotypeAge())
-			{
-				pop.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
+			} else if (ageing && individual.generation() < oldestBirth) {
+				replacement = Phenotype.of(_genotypeFactory.newInstance(), generation);
 				++killCount;
 			}
+
+			if (replacement != null) {
+				if (pop == null) {
+					pop = MSeq.of(population);
+				}
+				pop.set(i, replacement);
+			}
 		}
 
-		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
+		return new FilterResult<>(
+			pop != null ? pop.toISeq() : population.asISeq(),
+			killCount,
+			invalidCount
+		);
 	}
 
 
@@ -371,7 +399,15 @@ public final class Engine<
 	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(population);
+		return eval(population, calls -> {});
+	}
+
+	// Evaluates the population and reports the fitness function calls.
+	private ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final IntConsumer calls
+	) {
+		final ISeq<Phenotype<G, C>> evaluated = _counting.eval(population, calls);
 
 		if (population.size() != evaluated.size()) {
 			throw new IllegalStateException(format(
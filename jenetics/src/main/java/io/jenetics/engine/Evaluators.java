@@ -23,8 +23,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
+import io.jenetics.DoubleGene;
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Optimize;
+import io.jenetics.util.BatchExecutor;
 
 /**
  * This class contains factory methods for creating commonly usable
@@ -33,7 +37,7 @@ import io.jenetics.Genotype;
  * @see Evaluator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 8.1
  * @since 5.0
  */
 public final class Evaluators {
@@ -163,4 +167,190 @@ public final class Evaluators {
 		return completable(fitness, codec.decoder());
 	}
 
+	/**
+	 * Return a new fitness evaluator, which evaluates every <em>distinct</em>
+	 * genotype of a population only once. If a population contains the same
+	 * genotype several times, which is often the case for converged
+	 * populations, only one of these phenotypes is forwarded to the given
+	 * {@code evaluator} and the fitness value is assigned to all of them.
+	 * Genotypes which are evaluated concurrently, by another {@code eval} call
+	 * of the returned evaluator, are not evaluated twice. The result of the
+	 * running evaluation is used instead.
+	 * {@snippet lang="java":
+	 * final Function<Genotype<DoubleGene>, Double> fitness = null; // @replace substring='null' replacement="..."
+	 * final Codec<double[], DoubleGene> codec = null; // @replace substring='null' replacement="..."
+	 * final Evaluator<DoubleGene, Double> evaluator = Evaluators.coalescing(
+	 *     Evaluators.concurrent(fitness, BatchExecutor.ofVirtualThreads())
+	 * );
+	 * final Engine<DoubleGene, Double> engine =
+	 *     new Engine.Builder<>(evaluator, codec.encoding())
+	 *         .build();
+	 * }
+	 *
+	 * @apiNote
+	 * Coalescing the evaluation of equal genotypes is only allowed for
+	 * <em>deterministic</em> fitness functions.
+	 *
+	 * @since 8.1
+	 *
+	 * @param evaluator the evaluator used for evaluating the distinct
+	 *        genotypes
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new coalescing fitness evaluator
+	 * @throws NullPointerException if the given {@code evaluator} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> coalescing(final Evaluator<G, C> evaluator) {
+		return evaluator instanceof CoalescingEvaluator<G, C>
+			? evaluator
+			: new CoalescingEvaluator<>(evaluator);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates the given
+	 * {@code fitness} function concurrently, using the given batch
+	 * {@code executor}. This is the evaluator the {@link Engine} uses by
+	 * default.
+	 *
+	 * @see Engine.Builder#fitnessExecutor(BatchExecutor)
+	 *
+	 * @since 8.1
+	 *
+	 * @param fitness the fitness function
+	 * @param executor the executor used for evaluating the fitness function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new concurrent fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Evaluator<G, C> concurrent(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final BatchExecutor executor
+	) {
+		return new FitnessEvaluator<>(fitness, executor);
+	}
+
+	/**
+	 * Return a new fitness evaluator, which evaluates all non-evaluated
+	 * phenotypes of a population with <em>one</em> call of the given batch
+	 * {@code function}. The genes of the non-evaluated genotypes are presented
+	 * as one contiguous, row-major {@code double[]} matrix.
+	 * {@snippet lang="java":
+	 * final Genotype<DoubleGene> encoding = Genotype.of(DoubleChromosome.of(-1, 1, 10));
+	 * final Evaluator<DoubleGene, Double> evaluator = Evaluators.ofDoubleBatch(
+	 *     (points, dimension, results) -> {
+	 *         for (int i = 0; i < results.length; ++i) {
+	 *             double sum = 0;
+	 *             for (int j = i*dimension, n = j + dimension; j < n; ++j) {
+	 *                 sum += points[j]*points[j];
+	 *             }
+	 *             results[i] = sum;
+	 *         }
+	 *     }
+	 * );
+	 * final Engine<DoubleGene, Double> engine =
+	 *     new Engine.Builder<>(evaluator, encoding)
+	 *         .minimizing()
+	 *         .build();
+	 * }
+	 *
+	 * @apiNote
+	 * All genotypes of the evaluated population must have the same number
+	 * of genes. The genes of all chromosomes of a genotype are concatenated to
+	 * one row of the matrix.
+	 *
+	 * @since 8.1
+	 *
+	 * @param function the batch fitness function
+	 * @return a new batch fitness evaluator
+	 * @throws NullPointerException if the given {@code function} is
+	 *         {@code null}
+	 */
+	public static Evaluator<DoubleGene, Double>
+	ofDoubleBatch(final DoubleBatchFunction function) {
+		return new DoubleBatchEvaluator(function);
+	}
+
+	/**
+	 * Return a new surrogate-assisted evaluator for expensive fitness
+	 * functions. Only the predicted best {@code fraction} of the candidates of
+	 * a generation is evaluated with the given {@code fitness} function. The
+	 * fitness of the others is predicted from the median fitness of the
+	 * {@code 5} nearest, already evaluated genotypes. At most {@code 4096}
+	 * evaluated genotypes are kept for the prediction.
+	 *
+	 * @see SurrogateEvaluator
+	 *
+	 * @since 8.1
+	 *
+	 * @param fitness the (expensive) fitness function
+	 * @param executor the executor used for evaluating the fitness function
+	 * @param optimize the optimization strategy, used for ranking the
+	 *        predicted fitness values
+	 * @param fraction the fraction of the candidates, which are evaluated
+	 *        with the real fitness function, within the range {@code (0, 1]}
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new surrogate-assisted evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code fraction} is not within
+	 *         the range {@code (0, 1]}
+	 */
+	public static <G extends NumericGene<?, G>, C extends Comparable<? super C>>
+	SurrogateEvaluator<G, C> surrogate(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final BatchExecutor executor,
+		final Optimize optimize,
+		final double fraction
+	) {
+		return surrogate(fitness, executor, optimize, fraction, 5, 4096);
+	}
+
+	/**
+	 * Return a new surrogate-assisted evaluator for expensive fitness
+	 * functions. Only the predicted best {@code fraction} of the candidates of
+	 * a generation is evaluated with the given {@code fitness} function. The
+	 * fitness of the others is predicted from the median fitness of the
+	 * {@code neighbours} nearest, already evaluated genotypes.
+	 *
+	 * @see SurrogateEvaluator
+	 *
+	 * @since 8.1
+	 *
+	 * @param fitness the (expensive) fitness function
+	 * @param executor the executor used for evaluating the fitness function
+	 * @param optimize the optimization strategy, used for ranking the
+	 *        predicted fitness values
+	 * @param fraction the fraction of the candidates, which are evaluated
+	 *        with the real fitness function, within the range {@code (0, 1]}
+	 * @param neighbours the number of nearest neighbours used for the
+	 *        prediction
+	 * @param capacity the maximal number of evaluated genotypes kept for the
+	 *        prediction
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new surrogate-assisted evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code fraction} is not within
+	 *         the range {@code (0, 1]}, the {@code neighbours} are smaller than
+	 *         one or the {@code capacity} is smaller than the
+	 *         {@code neighbours}
+	 */
+	public static <G extends NumericGene<?, G>, C extends Comparable<? super C>>
+	SurrogateEvaluator<G, C> surrogate(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final BatchExecutor executor,
+		final Optimize optimize,
+		final double fraction,
+		final int neighbours,
+		final int capacity
+	) {
+		return new SurrogateEvaluator<>(
+			fitness, executor, optimize, fraction, neighbours, capacity
+		);
+	}
+
 }
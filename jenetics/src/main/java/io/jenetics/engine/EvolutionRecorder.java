@@ -0,0 +1,462 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.DoubleStream;
+
+import io.jenetics.Phenotype;
+
+/**
+ * Records compact per-generation rows of an evolution stream, without holding
+ * any phenotypes. Every accepted {@link EvolutionResult} is reduced to one row
+ * of {@code double} values, see {@link #COLUMNS}. The newest rows are kept in
+ * bounded, primitive ring buffers, one for every column. The rows are
+ * appended asynchronously to a columnar trace file, which can be read with
+ * the {@link #read(Path)} method.
+ *
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = null; // @replace substring='null' replacement="..."
+ * final Path trace = Path.of("evolution.trace");
+ *
+ * try (var recorder = new EvolutionRecorder<Double>(trace)) {
+ *     engine.stream()
+ *         .limit(100_000)
+ *         .forEach(recorder);
+ * }
+ *
+ * final Map<String, double[]> columns = EvolutionRecorder.read(trace);
+ * final double[] best = columns.get("best");
+ * }
+ *
+ * The trace file consists of a header, with the column names, and a sequence
+ * of blocks. Every block contains the row count, followed by the values of
+ * the block, column by column. Recording into an existing trace file appends
+ * new blocks to it.
+ *
+ * @implNote
+ * This class is not thread-safe. The file is written by the given executor.
+ * Successive writes are performed one after another, in the recording order.
+ *
+ * @param <N> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class EvolutionRecorder<N extends Number & Comparable<? super N>>
+	implements Consumer<EvolutionResult<?, N>>, Closeable
+{
+
+	/**
+	 * The default number of rows kept in memory.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * The recorded columns. The durations are given in seconds. The diversity
+	 * columns, {@code unique}, {@code distance}, {@code entropy} and
+	 * {@code variance}, are only recorded if enabled and contain
+	 * {@link Double#NaN} values otherwise.
+	 *
+	 * @see Diversity
+	 */
+	public static final List<String> COLUMNS = List.of(
+		"generation", "best", "worst", "mean",
+		"selection", "altering", "evaluation", "evolve",
+		"killed", "invalids", "altered", "evaluations",
+		"unique", "distance", "entropy", "variance"
+	);
+
+	private static final int MAGIC = 0x4A455652;
+	private static final int VERSION = 1;
+
+	private final Path _path;
+	private final int _sampleSize;
+	private final Executor _executor;
+
+	private final DoubleRingBuffer[] _columns;
+	private final int _flushSize;
+
+	private long _count = 0;
+	private long _flushed = 0;
+	private CompletableFuture<Void> _writing = completedFuture(null);
+	private boolean _closed = false;
+
+	// Only accessed by the sequentially executed write tasks.
+	private boolean _initialized = false;
+
+	/**
+	 * Create a new evolution recorder.
+	 *
+	 * @param path the trace file path
+	 * @param capacity the number of rows kept in memory. Half of the capacity
+	 *        is written to the trace file in one block.
+	 * @param sampleSize the sample size used for calculating the
+	 *        {@link Diversity} of the population. A value of zero disables the
+	 *        diversity columns.
+	 * @param executor the executor used for writing the trace file
+	 * @throws NullPointerException if one of the objects is {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller than
+	 *         one or the {@code sampleSize} is neither zero nor greater than
+	 *         one
+	 */
+	public EvolutionRecorder(
+		final Path path,
+		final int capacity,
+		final int sampleSize,
+		final Executor executor
+	) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(
+				"Capacity must be greater than zero: " + capacity
+			);
+		}
+		if (sampleSize != 0 && sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be zero or at least 2: " + sampleSize
+			);
+		}
+
+		_path = requireNonNull(path);
+		_sampleSize = sampleSize;
+		_executor = requireNonNull(executor);
+
+		_columns = new DoubleRingBuffer[COLUMNS.size()];
+		for (int i = 0; i < _columns.length; ++i) {
+			_columns[i] = new DoubleRingBuffer(capacity);
+		}
+		_flushSize = max(capacity/2, 1);
+	}
+
+	/**
+	 * Create a new evolution recorder with the {@link #DEFAULT_CAPACITY},
+	 * without diversity columns. The trace file is written by the
+	 * {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param path the trace file path
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	public EvolutionRecorder(final Path path) {
+		this(path, DEFAULT_CAPACITY, 0, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Records the given evolution {@code result}.
+	 *
+	 * @param result the evolution result to record
+	 * @throws IllegalStateException if the recorder has already been closed
+	 * @throws UncheckedIOException if writing the trace file failed
+	 */
+	@Override
+	public void accept(final EvolutionResult<?, N> result) {
+		if (_closed) {
+			throw new IllegalStateException("Recorder has been closed.");
+		}
+		if (_writing.isCompletedExceptionally()) {
+			await();
+		}
+
+		final EvolutionDurations durations = result.durations();
+		final Diversity diversity = _sampleSize > 0
+			? Diversity.of(result.population(), _sampleSize)
+			: null;
+
+		int column = 0;
+		add(column++, result.generation());
+		add(column++, fitness(result.bestFitness()));
+		add(column++, fitness(result.worstFitness()));
+		add(column++, mean(result));
+		add(column++, seconds(
+			durations.offspringSelectionDuration()
+				.plus(durations.survivorsSelectionDuration())
+		));
+		add(column++, seconds(
+			durations.offspringAlterDuration()
+				.plus(durations.offspringFilterDuration())
+		));
+		add(column++, seconds(durations.evaluationDuration()));
+		add(column++, seconds(durations.evolveDuration()));
+		add(column++, result.killCount());
+		add(column++, result.invalidCount());
+		add(column++, result.alterCount());
+		add(column++, result.evaluationCount());
+		add(column++, diversity != null ? diversity.uniqueGenotypes() : Double.NaN);
+		add(column++, diversity != null ? diversity.distance() : Double.NaN);
+		add(column++, diversity != null ? diversity.entropy() : Double.NaN);
+		add(column, diversity != null ? diversity.geneVariance() : Double.NaN);
+
+		if (++_count - _flushed >= _flushSize) {
+			flush();
+		}
+	}
+
+	private void add(final int column, final double value) {
+		_columns[column].add(value);
+	}
+
+	private static double fitness(final Number fitness) {
+		return fitness != null ? fitness.doubleValue() : Double.NaN;
+	}
+
+	private static double mean(final EvolutionResult<?, ? extends Number> result) {
+		double sum = 0;
+		for (Phenotype<?, ? extends Number> pt : result.population()) {
+			sum += pt.fitness().doubleValue();
+		}
+		return sum/result.population().size();
+	}
+
+	private static double seconds(final Duration duration) {
+		return duration.toNanos()/1_000_000_000.0;
+	}
+
+	/**
+	 * Return the number of recorded rows.
+	 *
+	 * @return the number of recorded rows
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the newest values of the given {@code column}, which are still
+	 * kept in memory. At most the last {@code capacity} values are returned.
+	 *
+	 * @param name the column name, see {@link #COLUMNS}
+	 * @return the newest values of the given column, from the oldest to the
+	 *         newest
+	 * @throws IllegalArgumentException if the given column doesn't exist
+	 */
+	public double[] column(final String name) {
+		final int index = COLUMNS.indexOf(name);
+		if (index < 0) {
+			throw new IllegalArgumentException("Unknown column: " + name);
+		}
+		return _columns[index].toArray();
+	}
+
+	/**
+	 * Writes all rows, which haven't been written yet, to the trace file. The
+	 * writing is done asynchronously.
+	 *
+	 * @return the future of the pending writes
+	 */
+	public CompletableFuture<Void> flush() {
+		final int pending = (int)(_count - _flushed);
+		if (pending > 0) {
+			final double[][] block = new double[_columns.length][];
+			for (int i = 0; i < _columns.length; ++i) {
+				block[i] = _columns[i].toArray(pending);
+			}
+			_flushed = _count;
+
+			_writing = _writing.thenRunAsync(() -> write(block), _executor);
+		}
+
+		return _writing;
+	}
+
+	/**
+	 * Writes the pending rows to the trace file and waits until all writes
+	 * are finished. Recording is not possible after closing.
+	 *
+	 * @throws IOException if writing the trace file failed
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!_closed) {
+			_closed = true;
+			flush();
+			try {
+				await();
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	private void await() {
+		try {
+			_writing.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private void write(final double[][] block) {
+		try {
+			if (!_initialized) {
+				initialize();
+				_initialized = true;
+			}
+
+			try (var out = new DataOutputStream(new BufferedOutputStream(
+					Files.newOutputStream(_path, CREATE, APPEND))))
+			{
+				final int rows = block[0].length;
+				out.writeInt(rows);
+				for (double[] column : block) {
+					for (double value : column) {
+						out.writeDouble(value);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void initialize() throws IOException {
+		if (Files.exists(_path) && Files.size(_path) > 0) {
+			try (var in = new DataInputStream(new BufferedInputStream(
+					Files.newInputStream(_path))))
+			{
+				final List<String> columns = readHeader(in);
+				if (!columns.equals(COLUMNS)) {
+					throw new IOException(
+						"Incompatible trace file columns: " + columns
+					);
+				}
+			}
+		} else {
+			try (var out = new DataOutputStream(new BufferedOutputStream(
+					Files.newOutputStream(_path, CREATE, APPEND))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(COLUMNS.size());
+				for (String column : COLUMNS) {
+					out.writeUTF(column);
+				}
+			}
+		}
+	}
+
+	private static List<String> readHeader(final DataInputStream in)
+		throws IOException
+	{
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Invalid trace file.");
+		}
+		final int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported trace file version: " + version);
+		}
+
+		final int length = in.readInt();
+		final List<String> columns = new ArrayList<>(length);
+		for (int i = 0; i < length; ++i) {
+			columns.add(in.readUTF());
+		}
+		return columns;
+	}
+
+	/**
+	 * Reads the columns of the given trace file. An incomplete last block,
+	 * e.g. of an aborted run, is ignored.
+	 *
+	 * @param path the trace file path
+	 * @return the column values of the trace file, in the order of the
+	 *         {@link #COLUMNS}
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if reading the trace file fails or the file is not
+	 *         a valid trace file
+	 */
+	public static Map<String, double[]> read(final Path path)
+		throws IOException
+	{
+		try (var in = new DataInputStream(new BufferedInputStream(
+				Files.newInputStream(path))))
+		{
+			final List<String> names = readHeader(in);
+			final DoubleStream.Builder[] columns =
+				new DoubleStream.Builder[names.size()];
+			for (int i = 0; i < columns.length; ++i) {
+				columns[i] = DoubleStream.builder();
+			}
+
+			double[][] block;
+			while ((block = readBlock(in, columns.length)) != null) {
+				for (int i = 0; i < columns.length; ++i) {
+					for (double value : block[i]) {
+						columns[i].add(value);
+					}
+				}
+			}
+
+			final Map<String, double[]> result = new LinkedHashMap<>();
+			for (int i = 0; i < columns.length; ++i) {
+				result.put(names.get(i), columns[i].build().toArray());
+			}
+			return result;
+		}
+	}
+
+	private static double[][] readBlock(
+		final DataInputStream in,
+		final int length
+	)
+		throws IOException
+	{
+		try {
+			final int rows = in.readInt();
+			final double[][] block = new double[length][rows];
+			for (double[] column : block) {
+				for (int j = 0; j < rows; ++j) {
+					column[j] = in.readDouble();
+				}
+			}
+			return block;
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+}
@@ -20,7 +20,6 @@
 package io.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toMap;
 import static io.jenetics.engine.EvolutionInterceptor.ofAfter;
 import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
@@ -35,7 +34,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.Map;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collector;
@@ -45,6 +44,7 @@ import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
+import io.jenetics.internal.collection.FingerprintSet;
 import io.jenetics.internal.util.Lazy;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
@@ -94,7 +94,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 8.1
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -114,6 +114,7 @@ public final class EvolutionResult<
 	private final int _killCount;
 	private final int _invalidCount;
 	private final int _alterCount;
+	private final int _evaluationCount;
 
 	private final boolean _dirty;
 
@@ -129,6 +130,7 @@ public final class EvolutionResult<
 		final int killCount,
 		final int invalidCount,
 		final int alterCount,
+		final int evaluationCount,
 		final boolean dirty
 	) {
 		_optimize = requireNonNull(optimize);
@@ -139,6 +141,7 @@ public final class EvolutionResult<
 		_killCount = killCount;
 		_invalidCount = invalidCount;
 		_alterCount = alterCount;
+		_evaluationCount = evaluationCount;
 		_dirty = dirty;
 
 		_best = Lazy.of(() -> _population.stream()
@@ -235,6 +238,27 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the number of fitness function evaluations, performed in this
+	 * generation. The evaluators created by the {@link Evaluators} class
+	 * count its real fitness function calls. Fitness values taken from an
+	 * already evaluated copy, by a
+	 * {@link Evaluators#coalescing(Evaluator) coalescing} evaluator, and
+	 * predicted values of a {@link SurrogateEvaluator} are not counted. For
+	 * other, user defined, evaluators, every non-evaluated phenotype passed
+	 * to the evaluator is counted as one evaluation.
+	 *
+	 * @see Limits#byFitnessEvaluations(long)
+	 * @see EvolutionStatistics#evaluations()
+	 *
+	 * @since 8.1
+	 *
+	 * @return the number of fitness function evaluations of this generation
+	 */
+	public int evaluationCount() {
+		return _evaluationCount;
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -319,7 +343,8 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_alterCount,
+			_evaluationCount
 		);
 	}
 
@@ -332,7 +357,8 @@ public final class EvolutionResult<
 			durations(),
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			evaluationCount()
 		);
 	}
 
@@ -345,7 +371,22 @@ public final class EvolutionResult<
 			durations,
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			evaluationCount()
+		);
+	}
+
+	EvolutionResult<G, C> withEvaluationCount(final int evaluationCount) {
+		return EvolutionResult.of(
+			optimize(),
+			population(),
+			generation(),
+			totalGenerations(),
+			durations(),
+			killCount(),
+			invalidCount(),
+			alterCount(),
+			evaluationCount
 		);
 	}
 
@@ -359,6 +400,7 @@ public final class EvolutionResult<
 			killCount(),
 			invalidCount(),
 			alterCount(),
+			evaluationCount(),
 			false
 		);
 	}
@@ -373,7 +415,8 @@ public final class EvolutionResult<
 			hash(_durations,
 			hash(_killCount,
 			hash(_invalidCount,
-			hash(_alterCount))))))));
+			hash(_alterCount,
+			hash(_evaluationCount)))))))));
 	}
 
 	@Override
@@ -387,7 +430,8 @@ public final class EvolutionResult<
 			Objects.equals(_durations, other._durations) &&
 			Objects.equals(_killCount, other._killCount) &&
 			Objects.equals(_invalidCount, other._invalidCount) &&
-			Objects.equals(_alterCount, other._alterCount);
+			Objects.equals(_alterCount, other._alterCount) &&
+			Objects.equals(_evaluationCount, other._evaluationCount);
 	}
 
 
@@ -587,6 +631,14 @@ public final class EvolutionResult<
 	 *     .collect(EvolutionResult.toBestGenotype());
 	 * }
 	 *
+	 * @implNote
+	 * The duplicates are detected with an open-addressing hash set, which is
+	 * keyed by the cached {@link Genotype#fingerprint()}. The genotype
+	 * fingerprint is calculated only once per genotype and the genotypes are
+	 * only compared with {@code equals} when their fingerprints are equal. This
+	 * makes the duplicate elimination an {@code O(population)} operation for
+	 * already <em>fingerprinted</em> genotypes.
+	 *
 	 * @since 6.0
 	 * @see Engine.Builder#interceptor(EvolutionInterceptor)
 	 *
@@ -613,26 +665,30 @@ public final class EvolutionResult<
 		final EvolutionResult<G, C> result
 	) {
 		final Seq<Phenotype<G, C>> population = result.population();
-		final Map<Genotype<G>, Phenotype<G, C>> elements =
-			population.stream()
-				.collect(toMap(
-					Phenotype::genotype,
-					Function.identity(),
-					(a, b) -> a));
+		final var genotypes = new FingerprintSet<Genotype<G>>(
+			Genotype::fingerprint,
+			population.size()
+		);
+		final var elements = new ArrayList<Phenotype<G, C>>(population.size());
+		for (var pt : population) {
+			if (genotypes.add(pt.genotype())) {
+				elements.add(pt);
+			}
+		}
 
 		EvolutionResult<G, C> uniques = result;
 		if (elements.size() < population.size()) {
 			int retries = 0;
 			while (elements.size() < population.size() && retries < maxRetries) {
 				final Genotype<G> gt = factory.newInstance();
-				final Phenotype<G, C> pt = elements
-					.put(gt, Phenotype.of(gt, result.generation()));
-				if (pt != null) {
+				if (genotypes.add(gt)) {
+					elements.add(Phenotype.of(gt, result.generation()));
+				} else {
 					++retries;
 				}
 			}
 			uniques = result.withPopulation(
-				Stream.concat(elements.values().stream(), population.stream())
+				Stream.concat(elements.stream(), population.stream())
 					.limit(population.size())
 					.collect(ISeq.toISeq())
 			);
@@ -786,6 +842,7 @@ public final class EvolutionResult<
 			killCount,
 			invalidCount,
 			alterCount,
+			0,
 			true
 		);
 	}
@@ -826,10 +883,57 @@ public final class EvolutionResult<
 			killCount,
 			invalidCount,
 			alterCount,
+			0,
 			true
 		);
 	}
 
+	/**
+	 * Return a new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 8.1
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param alterCount the number of individuals which has been altered
+	 * @param evaluationCount the number of fitness function evaluations
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final ISeq<Phenotype<G, C>> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final int evaluationCount
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			evaluationCount,
+			true
+		);
+	}
 
 	/* *************************************************************************
 	 *  Java object serialization
@@ -837,7 +941,7 @@ public final class EvolutionResult<
 
 	@Serial
 	private Object writeReplace() {
-		return new SerialProxy(SerialProxy.EVOLUTION_RESULT, this);
+		return new SerialProxy(SerialProxy.EVOLUTION_RESULT_V2, this);
 	}
 
 	@Serial
@@ -847,7 +951,14 @@ public final class EvolutionResult<
 		throw new InvalidObjectException("Serialization proxy required.");
 	}
 
-	void write(final ObjectOutput out) throws IOException {
+	/*
+	 * The evaluation count has been added to the serial form in version 8.1.
+	 * Results serialized with the previous form are read with an evaluation
+	 * count of zero.
+	 */
+	void write(final ObjectOutput out, final boolean evaluations)
+		throws IOException
+	{
 		out.writeObject(_optimize);
 		out.writeObject(_population);
 		writeLong(_generation, out);
@@ -856,10 +967,13 @@ public final class EvolutionResult<
 		writeInt(_killCount, out);
 		writeInt(_invalidCount, out);
 		writeInt(_alterCount, out);
+		if (evaluations) {
+			writeInt(_evaluationCount, out);
+		}
 	}
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
-	static Object read(final ObjectInput in)
+	static Object read(final ObjectInput in, final boolean evaluations)
 		throws IOException, ClassNotFoundException
 	{
 		return new EvolutionResult<>(
@@ -871,6 +985,7 @@ public final class EvolutionResult<
 			readInt(in),
 			readInt(in),
 			readInt(in),
+			evaluations ? readInt(in) : 0,
 			true
 		);
 	}
@@ -21,9 +21,11 @@ package io.jenetics.engine;
 
 import static java.lang.Math.sqrt;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 import java.text.NumberFormat;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 import io.jenetics.Phenotype;
@@ -70,6 +72,7 @@ import io.jenetics.stat.MinMax;
  * |               Altered: sum=7,331; mean=610.916666667                      |
  * |                Killed: sum=0; mean=0.000000000                            |
  * |              Invalids: sum=0; mean=0.000000000                            |
+ * |           Evaluations: sum=7,883; mean=656.916666667                      |
  * +---------------------------------------------------------------------------+
  * |  Population statistics                                                    |
  * +---------------------------------------------------------------------------+
@@ -83,9 +86,14 @@ import io.jenetics.stat.MinMax;
  * +---------------------------------------------------------------------------+
  * }</pre>
  *
+ * The diversity of the populations is not gathered by default, since it adds
+ * some overhead to every generation. It can be enabled by creating the
+ * statistics object with a {@link DiversityStatistics} instance, e.g.
+ * {@link #ofNumber(DiversityStatistics)}.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 8.1
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -108,12 +116,17 @@ public abstract class EvolutionStatistics<
 	private final IntMomentStatistics _killed = new IntMomentStatistics();
 	private final IntMomentStatistics _invalids = new IntMomentStatistics();
 	private final IntMomentStatistics _altered = new IntMomentStatistics();
+	private final IntMomentStatistics _evaluations = new IntMomentStatistics();
 
 	// The population statistics values.
 	final LongMomentStatistics _age = new LongMomentStatistics();
 	FitnessStatistics _fitness = null;
 
-	EvolutionStatistics() {
+	// The optional population diversity statistics.
+	private final DiversityStatistics _diversity;
+
+	EvolutionStatistics(final DiversityStatistics diversity) {
+		_diversity = diversity;
 	}
 
 	@Override
@@ -123,6 +136,11 @@ public abstract class EvolutionStatistics<
 		_killed.accept(result.killCount());
 		_invalids.accept(result.invalidCount());
 		_altered.accept(result.alterCount());
+		_evaluations.accept(result.evaluationCount());
+
+		if (_diversity != null) {
+			_diversity.accept(result);
+		}
 
 		result.population()
 			.forEach(pt -> accept(pt, result.generation()));
@@ -233,6 +251,19 @@ public abstract class EvolutionStatistics<
 		return _altered;
 	}
 
+	/**
+	 * Return the statistics about the fitness function evaluations during the
+	 * evolution process. The overall number of evaluations is given by the
+	 * {@link IntMomentStatistics#sum()} of the returned statistics.
+	 *
+	 * @since 8.1
+	 *
+	 * @return fitness function evaluation statistics
+	 */
+	public IntMomentStatistics evaluations() {
+		return _evaluations;
+	}
+
 	/**
 	 * Return the statistics about the individual's age.
 	 *
@@ -242,6 +273,18 @@ public abstract class EvolutionStatistics<
 		return _age;
 	}
 
+	/**
+	 * Return the population diversity statistics, if enabled.
+	 *
+	 * @since 8.1
+	 *
+	 * @return the population diversity statistics, or an empty value if the
+	 *         diversity statistics are not enabled
+	 */
+	public Optional<DiversityStatistics> diversity() {
+		return Optional.ofNullable(_diversity);
+	}
+
 	/**
 	 * Return the minimal and maximal fitness.
 	 *
@@ -270,7 +313,27 @@ public abstract class EvolutionStatistics<
 			format(cpattern, "Generations:", i(_altered.count())) +
 			format(cpattern, "Altered:", i(_altered)) +
 			format(cpattern, "Killed:", i(_killed)) +
-			format(cpattern, "Invalids:", i(_invalids));
+			format(cpattern, "Invalids:", i(_invalids)) +
+			format(cpattern, "Evaluations:", i(_evaluations)) +
+			(_diversity != null ? diversity(_diversity) : "");
+	}
+
+	private String diversity(final DiversityStatistics diversity) {
+		return
+			"+---------------------------------------------------------------------------+\n" +
+			"|  Diversity statistics                                                     |\n" +
+			"+---------------------------------------------------------------------------+\n" +
+			format(cpattern, "Unique genotypes:", m(diversity.uniqueGenotypes())) +
+			format(cpattern, "Hamming distance:", m(diversity.distance())) +
+			format(cpattern, "Entropy:", m(diversity.entropy())) +
+			format(cpattern, "Gene variance:", m(diversity.geneVariance()));
+	}
+
+	private static String m(final DoubleMomentStatistics statistics) {
+		return format(
+			"min=%3.6f; max=%3.6f; mean=%3.6f",
+			statistics.min(), statistics.max(), statistics.mean()
+		);
 	}
 
 	private static String d(final DoubleMomentStatistics statistics) {
@@ -318,7 +381,8 @@ public abstract class EvolutionStatistics<
 		>
 		extends EvolutionStatistics<C, MinMax<C>>
 	{
-		private Comp() {
+		private Comp(final DiversityStatistics diversity) {
+			super(diversity);
 			_fitness = MinMax.of();
 		}
 
@@ -354,7 +418,8 @@ public abstract class EvolutionStatistics<
 	private static final class Num<N extends Number & Comparable<? super N>>
 		extends EvolutionStatistics<N, DoubleMomentStatistics>
 	{
-		private Num() {
+		private Num(final DiversityStatistics diversity) {
+			super(diversity);
 			_fitness = new DoubleMomentStatistics();
 		}
 
@@ -387,12 +452,50 @@ public abstract class EvolutionStatistics<
 
 	public static <C extends Comparable<? super C>>
 	EvolutionStatistics<C, MinMax<C>> ofComparable() {
-		return new Comp<>();
+		return new Comp<>(null);
+	}
+
+	/**
+	 * Return a new statistics object for comparable fitness values, which
+	 * also gathers the population diversity with the given {@code diversity}
+	 * statistics.
+	 *
+	 * @since 8.1
+	 *
+	 * @param diversity the diversity statistics to use
+	 * @param <C> the fitness type
+	 * @return a new evolution statistics object
+	 * @throws NullPointerException if the given {@code diversity} statistics
+	 *         is {@code null}
+	 */
+	public static <C extends Comparable<? super C>>
+	EvolutionStatistics<C, MinMax<C>>
+	ofComparable(final DiversityStatistics diversity) {
+		return new Comp<>(requireNonNull(diversity));
 	}
 
 	public static <N extends Number & Comparable<? super N>>
 	EvolutionStatistics<N, DoubleMomentStatistics> ofNumber() {
-		return new Num<>();
+		return new Num<>(null);
+	}
+
+	/**
+	 * Return a new statistics object for numeric fitness values, which also
+	 * gathers the population diversity with the given {@code diversity}
+	 * statistics.
+	 *
+	 * @since 8.1
+	 *
+	 * @param diversity the diversity statistics to use
+	 * @param <N> the fitness type
+	 * @return a new evolution statistics object
+	 * @throws NullPointerException if the given {@code diversity} statistics
+	 *         is {@code null}
+	 */
+	public static <N extends Number & Comparable<? super N>>
+	EvolutionStatistics<N, DoubleMomentStatistics>
+	ofNumber(final DiversityStatistics diversity) {
+		return new Num<>(requireNonNull(diversity));
 	}
 
 }
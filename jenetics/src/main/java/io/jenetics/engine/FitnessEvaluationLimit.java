@@ -0,0 +1,60 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.function.Predicate;
+
+/**
+ * Limit which truncates the evolution stream before the given number of
+ * fitness function evaluations is exceeded. The stream is truncated, if the
+ * remaining evaluations are not sufficient for another generation, with the
+ * same number of evaluations as the most expensive generation so far.
+ *
+ * @see EvolutionResult#evaluationCount()
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 8.1
+ * @version 8.1
+ */
+final class FitnessEvaluationLimit implements Predicate<EvolutionResult<?, ?>> {
+
+	private final long _evaluations;
+
+	private long _count = 0;
+	private long _generation = 0;
+
+	FitnessEvaluationLimit(final long evaluations) {
+		if (evaluations < 1) {
+			throw new IllegalArgumentException(
+				"The number of evaluations must be greater than zero, but was " +
+					evaluations
+			);
+		}
+		_evaluations = evaluations;
+	}
+
+	@Override
+	public synchronized boolean test(final EvolutionResult<?, ?> result) {
+		_count += result.evaluationCount();
+		_generation = Math.max(_generation, result.evaluationCount());
+		return _count + _generation <= _evaluations;
+	}
+
+}
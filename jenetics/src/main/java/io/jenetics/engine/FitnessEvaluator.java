@@ -22,6 +22,7 @@ package io.jenetics.engine;
 import static java.util.Objects.requireNonNull;
 
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
@@ -35,14 +36,14 @@ import io.jenetics.util.Seq;
  * @param <C> the fitness result type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 8.1
  * @since 8.0
  */
 final class FitnessEvaluator<
 	G extends Gene<?, G>,
 	C extends Comparable<? super C>
 >
-	implements Evaluator<G, C>
+	implements CountingEvaluator<G, C>
 {
 
 	private final Function<? super Genotype<G>, ? extends C> _function;
@@ -61,7 +62,10 @@ final class FitnessEvaluator<
 	}
 
 	@Override
-	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+	public ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final IntConsumer calls
+	) {
 		final var tasks = population.stream()
 			.filter(Phenotype::nonEvaluated)
 			.map(phenotype -> new RunnableFunction<>(
@@ -73,6 +77,7 @@ final class FitnessEvaluator<
 		final ISeq<Phenotype<G, C>> result;
 		if (tasks.nonEmpty()) {
 			_executor.execute(tasks);
+			calls.accept(tasks.size());
 
 			result = tasks.size() == population.size()
 				? tasks.map(t -> t.input().withFitness(t.result()))
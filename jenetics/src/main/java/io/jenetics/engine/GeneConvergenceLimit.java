@@ -22,15 +22,10 @@ package io.jenetics.engine;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Predicate;
 
-import io.jenetics.Chromosome;
-import io.jenetics.Genotype;
 import io.jenetics.NumericGene;
 import io.jenetics.Phenotype;
-import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.DoubleMoments;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
@@ -41,9 +36,14 @@ import io.jenetics.util.Seq;
  * is deemed as converged when the average value of that gene across all the
  * genotypes in the current population is less than a user-specified percentage
  * away from the maximum gene value across the genotypes.
+ * <p>
+ * The statistics of the gene positions are calculated by the {@link GeneMoments}
+ * class, in parallel for large populations. If the limit is created in
+ * <em>incremental</em> mode, only the genotypes which have entered or left
+ * the population since the last generation are processed.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 8.1
  * @since 4.0
  */
 final class GeneConvergenceLimit<G extends NumericGene<?, G>>
@@ -52,10 +52,12 @@ final class GeneConvergenceLimit<G extends NumericGene<?, G>>
 
 	private final Predicate<DoubleMoments> _convergence;
 	private final double _convergenceRate;
+	private final IncrementalGeneMoments _incremental;
 
 	GeneConvergenceLimit(
 		final Predicate<DoubleMoments> convergence,
-		final double convergenceRate
+		final double convergenceRate,
+		final boolean incremental
 	) {
 		if (convergenceRate < 0.0 || convergenceRate > 1.0) {
 			throw new IllegalArgumentException(format(
@@ -65,6 +67,14 @@ final class GeneConvergenceLimit<G extends NumericGene<?, G>>
 		}
 		_convergence = requireNonNull(convergence);
 		_convergenceRate = convergenceRate;
+		_incremental = incremental ? new IncrementalGeneMoments() : null;
+	}
+
+	GeneConvergenceLimit(
+		final Predicate<DoubleMoments> convergence,
+		final double convergenceRate
+	) {
+		this(convergence, convergenceRate, false);
 	}
 
 	@Override
@@ -77,28 +87,11 @@ final class GeneConvergenceLimit<G extends NumericGene<?, G>>
 				.count() <= _convergenceRate*stat.size();
 	}
 
-	private static <G extends NumericGene<?, G>> ISeq<DoubleMoments>
+	private ISeq<DoubleMoments>
 	statistics(final Seq<? extends Phenotype<G, ?>> population) {
-		final Map<Long, DoubleMomentStatistics> statistics = new HashMap<>();
-
-		for (Phenotype<G, ?> pt : population) {
-			final Genotype<G> gt = pt.genotype();
-
-			for (int i = 0; i < gt.length(); ++i) {
-				final Chromosome<G> ch = gt.get(i);
-
-				for (int j = 0; j < ch.length(); ++j) {
-					statistics
-						.computeIfAbsent(((long)i << 32) | (j & 0xffffffffL),
-							k -> new DoubleMomentStatistics())
-						.accept(ch.get(j).doubleValue());
-				}
-			}
-		}
-
-		return statistics.values().stream()
-			.map(DoubleMomentStatistics::toDoubleMoments)
-			.collect(ISeq.toISeq());
+		return _incremental != null
+			? _incremental.update(population)
+			: GeneMoments.of(population.map(Phenotype::genotype)).toDoubleMoments();
 	}
 
 }
@@ -0,0 +1,424 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Double.NaN;
+import static java.lang.Math.sqrt;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Statistical moments of every gene <em>position</em> of a population. The
+ * gene positions are stored column-wise in primitive arrays, one column for
+ * every gene of the genotype. The moments are calculated with the same
+ * (numerically stable) update and combine formulas as the
+ * {@link io.jenetics.stat.DoubleMomentStatistics}, but without boxing and
+ * map lookups for every gene.
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @see GeneConvergenceLimit
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class GeneMoments {
+
+	// Minimal number of genes, processed by one parallel task.
+	private static final int MIN_CHUNK_GENES = 1 << 14;
+
+	// The column offsets of the chromosomes. The last element is the number
+	// of columns.
+	private final int[] _offsets;
+
+	private final long[] _n;
+	private final double[] _m1;
+	private final double[] _m2;
+	private final double[] _m3;
+	private final double[] _m4;
+	private final double[] _min;
+	private final double[] _max;
+	private final double[] _sum;
+
+	GeneMoments(final int[] offsets) {
+		_offsets = offsets;
+
+		final int columns = offsets[offsets.length - 1];
+		_n = new long[columns];
+		_m1 = new double[columns];
+		_m2 = new double[columns];
+		_m3 = new double[columns];
+		_m4 = new double[columns];
+		_min = new double[columns];
+		_max = new double[columns];
+		_sum = new double[columns];
+		Arrays.fill(_min, Double.POSITIVE_INFINITY);
+		Arrays.fill(_max, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * Return the column layout of the given genotypes. The number of genes of
+	 * a chromosome is the maximal length of the chromosome over all genotypes.
+	 *
+	 * @param genotypes the genotypes
+	 * @return the column offsets of the chromosomes
+	 */
+	static int[] offsets(final Seq<? extends Genotype<?>> genotypes) {
+		int[] lengths = new int[0];
+		for (var gt : genotypes) {
+			if (gt.length() > lengths.length) {
+				lengths = Arrays.copyOf(lengths, gt.length());
+			}
+			for (int i = 0; i < gt.length(); ++i) {
+				lengths[i] = Math.max(lengths[i], gt.get(i).length());
+			}
+		}
+
+		final int[] offsets = new int[lengths.length + 1];
+		for (int i = 0; i < lengths.length; ++i) {
+			offsets[i + 1] = offsets[i] + lengths[i];
+		}
+		return offsets;
+	}
+
+	int[] offsets() {
+		return _offsets;
+	}
+
+	int columns() {
+		return _n.length;
+	}
+
+	long count(final int column) {
+		return _n[column];
+	}
+
+	/**
+	 * Adds the genes of the given genotype to its columns.
+	 *
+	 * @param genotype the genotype to add
+	 */
+	void accept(final Genotype<? extends NumericGene<?, ?>> genotype) {
+		for (int i = 0, n = genotype.length(); i < n; ++i) {
+			final Chromosome<? extends NumericGene<?, ?>> ch = genotype.get(i);
+			final int offset = _offsets[i];
+
+			for (int j = 0, m = ch.length(); j < m; ++j) {
+				accept(offset + j, ch.get(j).doubleValue());
+			}
+		}
+	}
+
+	private void accept(final int k, final double value) {
+		final double n = ++_n[k];
+		final double d = value - _m1[k];
+		final double dN = d/n;
+		final double dN2 = dN*dN;
+		final double t1 = d*dN*(n - 1.0);
+
+		_m1[k] += dN;
+		_m4[k] += t1*dN2*(n*n - 3.0*n + 3.0) + 6.0*dN2*_m2[k] - 4.0*dN*_m3[k];
+		_m3[k] += t1*dN*(n - 2.0) - 3.0*dN*_m2[k];
+		_m2[k] += t1;
+
+		_min[k] = Math.min(_min[k], value);
+		_max[k] = Math.max(_max[k], value);
+		_sum[k] += value;
+	}
+
+	/**
+	 * Combines the moments of the {@code other} object with {@code this} one.
+	 * Both objects must have the same column layout.
+	 *
+	 * @param other the other moments
+	 * @return {@code this} moments object
+	 */
+	GeneMoments combine(final GeneMoments other) {
+		assert Arrays.equals(_offsets, other._offsets);
+
+		for (int k = 0; k < _n.length; ++k) {
+			if (other._n[k] > 0) {
+				combine(k, other);
+			}
+		}
+		return this;
+	}
+
+	private void combine(final int k, final GeneMoments b) {
+		final double pn = _n[k];
+		final double bn = b._n[k];
+		final double n = pn + bn;
+		final double nn = n*n;
+
+		final double m2 = _m2[k];
+		final double m3 = _m3[k];
+
+		final double d = b._m1[k] - _m1[k];
+		final double dd = d*d;
+
+		_n[k] += b._n[k];
+		_m1[k] += d*bn/n;
+		_m2[k] += b._m2[k] + dd*pn*bn/n;
+		_m3[k] += b._m3[k] +
+			dd*d*(pn*bn*(pn - bn)/nn) +
+			3.0*d*(pn*b._m2[k] - bn*m2)/n;
+		_m4[k] += b._m4[k] +
+			dd*dd*(pn*bn*(pn*pn - pn*bn + bn*bn)/(nn*n)) +
+			6.0*dd*(pn*pn*b._m2[k] + bn*bn*m2)/nn +
+			4.0*d*(pn*b._m3[k] - bn*m3)/n;
+
+		_min[k] = Math.min(_min[k], b._min[k]);
+		_max[k] = Math.max(_max[k], b._max[k]);
+		_sum[k] += b._sum[k];
+	}
+
+	/**
+	 * Removes the moments of the {@code other} object from {@code this} one.
+	 * This is the inverse operation of {@link #combine(GeneMoments)}. The
+	 * minimal and maximal values can't be restored, if the removed values
+	 * contain the current extreme values of a column. The indexes of these
+	 * columns are returned and must be updated with
+	 * {@link #extremes(int[], Seq)}.
+	 *
+	 * @param other the moments to remove
+	 * @return the column indexes whose extreme values must be recalculated
+	 */
+	int[] remove(final GeneMoments other) {
+		assert Arrays.equals(_offsets, other._offsets);
+
+		int[] invalid = new int[8];
+		int size = 0;
+
+		for (int k = 0; k < _n.length; ++k) {
+			if (other._n[k] > 0) {
+				if (other._min[k] <= _min[k] || other._max[k] >= _max[k]) {
+					if (size == invalid.length) {
+						invalid = Arrays.copyOf(invalid, size*2);
+					}
+					invalid[size++] = k;
+				}
+				remove(k, other);
+			}
+		}
+
+		return Arrays.copyOf(invalid, size);
+	}
+
+	private void remove(final int k, final GeneMoments b) {
+		final double n = _n[k];
+		final double bn = b._n[k];
+		final double pn = n - bn;
+
+		if (pn <= 0) {
+			_n[k] = 0;
+			_m1[k] = _m2[k] = _m3[k] = _m4[k] = _sum[k] = 0;
+			_min[k] = Double.POSITIVE_INFINITY;
+			_max[k] = Double.NEGATIVE_INFINITY;
+			return;
+		}
+
+		final double nn = n*n;
+
+		final double m1 = (n*_m1[k] - bn*b._m1[k])/pn;
+		final double d = b._m1[k] - m1;
+		final double dd = d*d;
+
+		final double m2 = Math.max(_m2[k] - b._m2[k] - dd*pn*bn/n, 0.0);
+		final double m3 = _m3[k] - b._m3[k] -
+			dd*d*(pn*bn*(pn - bn)/nn) -
+			3.0*d*(pn*b._m2[k] - bn*m2)/n;
+		final double m4 = _m4[k] - b._m4[k] -
+			dd*dd*(pn*bn*(pn*pn - pn*bn + bn*bn)/(nn*n)) -
+			6.0*dd*(pn*pn*b._m2[k] + bn*bn*m2)/nn -
+			4.0*d*(pn*b._m3[k] - bn*m3)/n;
+
+		_n[k] -= b._n[k];
+		_m1[k] = m1;
+		_m2[k] = m2;
+		_m3[k] = m3;
+		_m4[k] = m4;
+		_sum[k] -= b._sum[k];
+	}
+
+	/**
+	 * Recalculates the minimal and maximal values of the given columns.
+	 *
+	 * @param columns the column indexes to update
+	 * @param genotypes the genotypes which are represented by {@code this}
+	 *        moments
+	 */
+	void extremes(
+		final int[] columns,
+		final Seq<? extends Genotype<? extends NumericGene<?, ?>>> genotypes
+	) {
+		if (columns.length == 0) {
+			return;
+		}
+
+		final int[] chromosomes = new int[columns.length];
+		final int[] genes = new int[columns.length];
+		for (int c = 0; c < columns.length; ++c) {
+			final int k = columns[c];
+			int i = Arrays.binarySearch(_offsets, k);
+			if (i < 0) {
+				i = -i - 2;
+			} else {
+				// Skip empty chromosomes with the same offset.
+				while (i + 1 < _offsets.length && _offsets[i + 1] == k) {
+					++i;
+				}
+			}
+
+			chromosomes[c] = i;
+			genes[c] = k - _offsets[i];
+			_min[k] = Double.POSITIVE_INFINITY;
+			_max[k] = Double.NEGATIVE_INFINITY;
+		}
+
+		for (var gt : genotypes) {
+			for (int c = 0; c < columns.length; ++c) {
+				if (chromosomes[c] < gt.length()) {
+					final var ch = gt.get(chromosomes[c]);
+					if (genes[c] < ch.length()) {
+						final int k = columns[c];
+						final double value = ch.get(genes[c]).doubleValue();
+						_min[k] = Math.min(_min[k], value);
+						_max[k] = Math.max(_max[k], value);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return the moments of the given column.
+	 *
+	 * @param k the column index
+	 * @return the moments of the given column
+	 */
+	DoubleMoments toDoubleMoments(final int k) {
+		final long n = _n[k];
+
+		double variance = NaN;
+		double skewness = NaN;
+		double kurtosis = NaN;
+		if (n == 1L) {
+			variance = _m2[k];
+		} else if (n > 1L) {
+			variance = _m2[k]/(n - 1.0);
+		}
+		if (n >= 3L) {
+			skewness = variance < 10E-20
+				? 0.0
+				: (n*_m3[k])/((n - 1.0)*(n - 2.0)*sqrt(variance)*variance);
+		}
+		if (n > 3L) {
+			kurtosis = variance < 10E-20
+				? 0.0
+				: (n*(n + 1.0)*_m4[k] - 3.0*_m2[k]*_m2[k]*(n - 1.0))/
+					((n - 1.0)*(n - 2.0)*(n - 3.0)*variance*variance);
+		}
+
+		return new DoubleMoments(
+			n,
+			_min[k],
+			_max[k],
+			_sum[k],
+			n == 0L ? NaN : _m1[k],
+			variance,
+			skewness,
+			kurtosis
+		);
+	}
+
+	/**
+	 * Return the moments of all columns.
+	 *
+	 * @return the moments of all columns
+	 */
+	ISeq<DoubleMoments> toDoubleMoments() {
+		return IntStream.range(0, _n.length)
+			.mapToObj(this::toDoubleMoments)
+			.collect(ISeq.toISeq());
+	}
+
+	/**
+	 * Calculates the gene moments of the given genotypes. The genotypes are
+	 * split into chunks, which are processed in parallel, if the population is
+	 * big enough.
+	 *
+	 * @param genotypes the genotypes
+	 * @return the gene moments of the given genotypes
+	 */
+	static GeneMoments
+	of(final Seq<? extends Genotype<? extends NumericGene<?, ?>>> genotypes) {
+		return of(offsets(genotypes), genotypes);
+	}
+
+	static GeneMoments of(
+		final int[] offsets,
+		final Seq<? extends Genotype<? extends NumericGene<?, ?>>> genotypes
+	) {
+		final int size = genotypes.size();
+		final int columns = Math.max(offsets[offsets.length - 1], 1);
+		final int chunks = (int)Math.min(
+			Math.max((long)size*columns/MIN_CHUNK_GENES, 1),
+			Math.max(size, 1)
+		);
+
+		if (chunks == 1) {
+			return of(offsets, genotypes, 0, size);
+		} else {
+			return IntStream.range(0, chunks).parallel()
+				.mapToObj(i -> of(
+					offsets,
+					genotypes,
+					(int)((long)i*size/chunks),
+					(int)((long)(i + 1)*size/chunks)
+				))
+				.reduce(GeneMoments::combine)
+				.orElseThrow();
+		}
+	}
+
+	private static GeneMoments of(
+		final int[] offsets,
+		final Seq<? extends Genotype<? extends NumericGene<?, ?>>> genotypes,
+		final int start,
+		final int end
+	) {
+		final var moments = new GeneMoments(offsets);
+		for (int i = start; i < end; ++i) {
+			moments.accept(genotypes.get(i));
+		}
+		return moments;
+	}
+
+}
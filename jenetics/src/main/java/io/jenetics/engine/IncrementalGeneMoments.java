@@ -0,0 +1,128 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Maintains the {@link GeneMoments} of a population over consecutive
+ * generations. Only the genotypes which have left the population are removed
+ * and the newly created genotypes (offspring) are added. The surviving
+ * genotypes, identified by object identity, are not processed again.
+ *
+ * @implNote
+ * The incremental update is replaced by a full calculation if the layout of
+ * the genotypes changes, the number of added and removed genotypes exceeds the
+ * population size, or after {@link #FULL_UPDATE_INTERVAL} generations, which limits the
+ * accumulation of rounding errors. This class is not thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class IncrementalGeneMoments {
+
+	static final int FULL_UPDATE_INTERVAL = 32;
+
+	private ISeq<? extends Genotype<? extends NumericGene<?, ?>>> _genotypes;
+	private GeneMoments _moments;
+	private int _updates = 0;
+
+	/**
+	 * Updates the gene moments with the given population and return the
+	 * moments of every gene position.
+	 *
+	 * @param population the current population
+	 * @return the moments of every gene position
+	 */
+	ISeq<DoubleMoments>
+	update(final Seq<? extends Phenotype<? extends NumericGene<?, ?>, ?>> population) {
+		final ISeq<? extends Genotype<? extends NumericGene<?, ?>>> genotypes =
+			population.map(Phenotype::genotype).asISeq();
+
+		final int[] offsets = GeneMoments.offsets(genotypes);
+		if (_moments == null ||
+			++_updates >= FULL_UPDATE_INTERVAL ||
+			!Arrays.equals(offsets, _moments.offsets()) ||
+			!update(genotypes))
+		{
+			_moments = GeneMoments.of(offsets, genotypes);
+			_updates = 0;
+		}
+
+		_genotypes = genotypes;
+		return _moments.toDoubleMoments();
+	}
+
+	private boolean update(
+		final ISeq<? extends Genotype<? extends NumericGene<?, ?>>> genotypes
+	) {
+		final Map<Genotype<?>, int[]> previous =
+			new IdentityHashMap<>(_genotypes.size());
+		for (var gt : _genotypes) {
+			previous.computeIfAbsent(gt, k -> new int[1])[0]++;
+		}
+
+		final List<Genotype<? extends NumericGene<?, ?>>> added = new ArrayList<>();
+		for (var gt : genotypes) {
+			final int[] count = previous.get(gt);
+			if (count != null && count[0] > 0) {
+				--count[0];
+			} else {
+				added.add(gt);
+			}
+		}
+
+		final int removed = _genotypes.size() - (genotypes.size() - added.size());
+		if (added.size() + removed > genotypes.size()) {
+			return false;
+		}
+
+		final var remove = new GeneMoments(_moments.offsets());
+		for (var gt : _genotypes) {
+			final int[] count = previous.get(gt);
+			if (count[0] > 0) {
+				--count[0];
+				remove.accept(gt);
+			}
+		}
+
+		final var add = new GeneMoments(_moments.offsets());
+		added.forEach(add::accept);
+
+		final int[] invalid = _moments.remove(remove);
+		_moments.combine(add);
+		_moments.extremes(invalid, genotypes);
+
+		return true;
+	}
+
+}
@@ -43,7 +43,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.7
+ * @version 8.1
  */
 public final class Limits {
 	private Limits() {}
@@ -130,6 +130,48 @@ public final class Limits {
 		return new SteadyFitnessLimit<>(generations);
 	}
 
+	/**
+	 * Return a predicate, which will truncate the evolution stream before the
+	 * number of performed fitness function evaluations exceeds the given
+	 * budget. Only <em>real</em> fitness function calls are counted, see
+	 * {@link EvolutionResult#evaluationCount()}. This makes it possible to
+	 * compare different engine setups by the number of evaluations, which is
+	 * the dominating cost for expensive fitness functions.
+	 *
+	 * {@snippet lang="java":
+	 * final Phenotype<DoubleGene, Double> result = engine.stream()
+	 *      // The evolution will stop after maximal 10,000 evaluations.
+	 *     .limit(byFitnessEvaluations(10_000))
+	 *     .collect(toBestPhenotype());
+	 * }
+	 *
+	 * @implNote
+	 * The limiting predicate works on the {@link EvolutionResult} object, which
+	 * guarantees to contain an evaluated population. A generation can therefore
+	 * not be interrupted in the middle of its evaluation. Instead, the stream
+	 * is truncated as soon as the remaining budget is smaller than the
+	 * evaluations of the most expensive generation so far. The generation,
+	 * which triggers the truncation, is not part of the stream, although its
+	 * evaluations are within the budget. The total number of fitness function
+	 * calls, including the truncated generation, doesn't exceed the budget,
+	 * as long as no generation needs more evaluations than all generations
+	 * before. This is usually the case, since the first generation also
+	 * evaluates the initial population. A budget, which is smaller than the
+	 * evaluations of the first generation, can't be guaranteed.
+	 *
+	 * @since 8.1
+	 *
+	 * @param evaluations the maximal number of fitness function evaluations
+	 * @return a predicate which truncates the evolution stream before the
+	 *         given number of fitness function evaluations is exceeded
+	 * @throws IllegalArgumentException if the given {@code evaluations} is
+	 *         smaller than one
+	 */
+	public static Predicate<EvolutionResult<?, ?>>
+	byFitnessEvaluations(final long evaluations) {
+		return new FitnessEvaluationLimit(evaluations);
+	}
+
 	/**
 	 * Return a predicate, which will truncate the evolution stream if the GA
 	 * execution exceeds a given time duration. This predicate is (normally)
@@ -461,4 +503,59 @@ public final class Limits {
 		);
 	}
 
+	/**
+	 * A termination method that stops the evolution when a user-specified
+	 * percentage of the genes ({@code convergedGeneRage}) that make up a
+	 * {@code Genotype} are deemed as converged. This limit behaves like the
+	 * {@link #byGeneConvergence(Predicate, double)} limit, but updates the gene
+	 * statistics <em>incrementally</em>. Only the genotypes which have left the
+	 * population are removed from, and the newly created genotypes are added
+	 * to the statistics of the previous generation. This pays off for large
+	 * genotypes and populations, where only a small part of the population is
+	 * replaced in every generation.
+	 *
+	 * {@snippet lang="java":
+	 * final Phenotype<DoubleGene, Double> result = engine.stream()
+	 *     .limit(byIncrementalGeneConvergence(
+	 *         stat -> stat.max()*0.99 <= stat.mean(),
+	 *         0.95
+	 *     ))
+	 *     .limit(1000)
+	 *     .collect(toBestPhenotype());
+	 * }
+	 *
+	 * @implNote
+	 * The returned predicate keeps the statistics of the last tested
+	 * population. Always create a new instance for every evolution stream.
+	 * Since removing values from the statistics is subject to rounding errors,
+	 * the statistical moments may differ slightly from the moments calculated by
+	 * {@link #byGeneConvergence(Predicate, double)}.
+	 *
+	 * @since 8.1
+	 * @see #byGeneConvergence(Predicate, double)
+	 *
+	 * @param geneConvergence predicate, which defines when a gene is deemed as
+	 *        converged, by using the statistics of this gene over all genotypes
+	 *        of the population
+	 * @param convergedGeneRate the percentage of genes which must be converged
+	 *        for truncating the evolution stream
+	 * @param <G> the gene type
+	 * @return a new gene convergence predicate
+	 * @throws NullPointerException if the given gene convergence predicate is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code convergedGeneRate} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public static <G extends NumericGene<?, G>> Predicate<EvolutionResult<G, ?>>
+	byIncrementalGeneConvergence(
+		final Predicate<DoubleMoments> geneConvergence,
+		final double convergedGeneRate
+	) {
+		return new GeneConvergenceLimit<>(
+			geneConvergence,
+			convergedGeneRate,
+			true
+		);
+	}
+
 }
@@ -0,0 +1,214 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.DoubleFunction;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Adaptive alterer which controls one parameter of the wrapped alterer, e.g.
+ * the mutation probability or the {@link io.jenetics.GaussianMutator#sigma()},
+ * with the <em>1/5th success rule</em>. If more than one fifth of the
+ * offspring of a generation are better than their parents, the parameter is
+ * increased, by dividing it by the adaptation {@code factor}. If less than one
+ * fifth are successful, the parameter is decreased, by multiplying it with the
+ * {@code factor}. The parameter always stays within the given range.
+ *
+ * {@snippet lang="java":
+ * final var mutator = new OneFifthRuleAlterer<DoubleGene, Double>(
+ *     sigma -> new GaussianMutator<>(0.3, sigma), 0.25, 0.001, 1.0
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .alterers(mutator, new MeanAlterer<>(0.6))
+ *     .interceptor(mutator.interceptor())
+ *     .build();
+ * }
+ *
+ * <p>
+ *  Reference:<em>
+ *      Ingo Rechenberg, Evolutionsstrategie: Optimierung technischer Systeme
+ *      nach Prinzipien der biologischen Evolution, Frommann-Holzboog, 1973.
+ *  </em>
+ *
+ * @see AdaptiveAlterer
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class OneFifthRuleAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends AdaptiveAlterer<G, C>
+{
+
+	/**
+	 * The targeted success rate: 1/5
+	 */
+	public static final double SUCCESS_RATE = 0.2;
+
+	/**
+	 * The default adaptation factor: 0.85
+	 */
+	public static final double DEFAULT_FACTOR = 0.85;
+
+	private final DoubleFunction<? extends Alterer<G, C>> _alterer;
+	private final double _min;
+	private final double _max;
+	private final double _factor;
+
+	private double _value;
+	private Alterer<G, C> _current;
+
+	/**
+	 * Create a new adaptive alterer.
+	 *
+	 * @param alterer the factory of the alterer for a given parameter value
+	 * @param initial the initial parameter value
+	 * @param min the minimal parameter value
+	 * @param max the maximal parameter value
+	 * @param factor the adaptation factor, within the range {@code (0, 1)}
+	 * @throws NullPointerException if the {@code alterer} factory is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code min <= initial <= max} doesn't
+	 *         hold or the {@code factor} is not within the range {@code (0, 1)}
+	 */
+	public OneFifthRuleAlterer(
+		final DoubleFunction<? extends Alterer<G, C>> alterer,
+		final double initial,
+		final double min,
+		final double max,
+		final double factor
+	) {
+		if (!(min <= initial && initial <= max)) {
+			throw new IllegalArgumentException(format(
+				"Initial value not within [%s, %s]: %s", min, max, initial
+			));
+		}
+		if (!(factor > 0 && factor < 1)) {
+			throw new IllegalArgumentException(
+				"Factor not within (0, 1): " + factor
+			);
+		}
+
+		_alterer = requireNonNull(alterer);
+		_min = min;
+		_max = max;
+		_factor = factor;
+		_value = initial;
+		_current = requireNonNull(alterer.apply(initial));
+	}
+
+	/**
+	 * Create a new adaptive alterer with the {@link #DEFAULT_FACTOR}.
+	 *
+	 * @param alterer the factory of the alterer for a given parameter value
+	 * @param initial the initial parameter value
+	 * @param min the minimal parameter value
+	 * @param max the maximal parameter value
+	 * @throws NullPointerException if the {@code alterer} factory is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code min <= initial <= max} doesn't
+	 *         hold
+	 */
+	public OneFifthRuleAlterer(
+		final DoubleFunction<? extends Alterer<G, C>> alterer,
+		final double initial,
+		final double min,
+		final double max
+	) {
+		this(alterer, initial, min, max, DEFAULT_FACTOR);
+	}
+
+	/**
+	 * Return the current parameter value.
+	 *
+	 * @return the current parameter value
+	 */
+	public synchronized double value() {
+		return _value;
+	}
+
+	/**
+	 * Return the alterer for the current parameter value.
+	 *
+	 * @return the current alterer
+	 */
+	public synchronized Alterer<G, C> alterer() {
+		return _current;
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		final AltererResult<G, C> result = alterer().alter(population, generation);
+		record(0, population, result.population(), generation);
+		return result;
+	}
+
+	@Override
+	int operatorCount() {
+		return 1;
+	}
+
+	@Override
+	void adapt(final int[] successes, final int[] trials) {
+		if (trials[0] > 0) {
+			final double rate = (double)successes[0]/trials[0];
+
+			final double value;
+			if (rate > SUCCESS_RATE) {
+				value = min(_value/_factor, _max);
+			} else if (rate < SUCCESS_RATE) {
+				value = max(_value*_factor, _min);
+			} else {
+				value = _value;
+			}
+
+			if (value != _value) {
+				_value = value;
+				_current = requireNonNull(_alterer.apply(value));
+			}
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return format("OneFifthRuleAlterer[value=%s, %s]", _value, _current);
+	}
+
+}
@@ -23,6 +23,9 @@ final class SerialProxy implements Externalizable {
 	static final byte EVOLUTION_RESULT = 4;
 	static final byte EVOLUTION_START = 5;
 
+	// Evolution result with evaluation count, since 8.1.
+	static final byte EVOLUTION_RESULT_V2 = 6;
+
 	/**
 	 * The type being serialized.
 	 */
@@ -57,7 +60,8 @@ final class SerialProxy implements Externalizable {
 			case EVOLUTION_DURATIONS -> ((EvolutionDurations)_object).write(out);
 			case EVOLUTION_INIT -> ((EvolutionInit<?>)_object).write(out);
 			case EVOLUTION_PARAMS -> ((EvolutionParams<?, ?>)_object).write(out);
-			case EVOLUTION_RESULT -> ((EvolutionResult<?, ?>)_object).write(out);
+			case EVOLUTION_RESULT -> ((EvolutionResult<?, ?>)_object).write(out, false);
+			case EVOLUTION_RESULT_V2 -> ((EvolutionResult<?, ?>)_object).write(out, true);
 			case EVOLUTION_START -> ((EvolutionStart<?, ?>)_object).write(out);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		}
@@ -72,7 +76,8 @@ final class SerialProxy implements Externalizable {
 			case EVOLUTION_DURATIONS -> EvolutionDurations.read(in);
 			case EVOLUTION_INIT -> EvolutionInit.read(in);
 			case EVOLUTION_PARAMS -> EvolutionParams.read(in);
-			case EVOLUTION_RESULT -> EvolutionResult.read(in);
+			case EVOLUTION_RESULT -> EvolutionResult.read(in, false);
+			case EVOLUTION_RESULT_V2 -> EvolutionResult.read(in, true);
 			case EVOLUTION_START -> EvolutionStart.read(in);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		};
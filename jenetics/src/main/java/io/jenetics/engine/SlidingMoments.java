@@ -0,0 +1,220 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Double.NaN;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+
+import io.jenetics.stat.DoubleMoments;
+
+/**
+ * Statistical moments of the last {@code n} values of a {@code double} stream.
+ * Adding a value to a full window removes the oldest one. The moments are
+ * updated with Welford's algorithm, and its inverse for removing values. The
+ * minimal and maximal values are maintained with monotonic queues. Accepting
+ * a value is an amortized {@code O(1)} operation.
+ *
+ * @implNote
+ * The moments are recalculated from the window values every time the window
+ * has been overwritten completely. This limits the accumulation of rounding
+ * errors, caused by removing values. This class is not thread-safe.
+ *
+ * @see FitnessConvergenceLimit
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class SlidingMoments {
+
+	// The window values, used as ring buffer.
+	private final double[] _values;
+	private long _samples = 0;
+
+	// Monotonic queues of window indexes for the min and max values.
+	private final long[] _mins;
+	private final long[] _maxs;
+	private long _minHead = 0, _minTail = 0;
+	private long _maxHead = 0, _maxTail = 0;
+
+	private long _n = 0;
+	private double _m1 = 0;
+	private double _m2 = 0;
+	private double _m3 = 0;
+	private double _m4 = 0;
+
+	/**
+	 * Create a new sliding window with the given size.
+	 *
+	 * @param size the window size
+	 * @throws IllegalArgumentException if {@code size < 1}
+	 */
+	SlidingMoments(final int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException(format(
+				"Window size must be greater than zero: %d", size
+			));
+		}
+
+		_values = new double[size];
+		_mins = new long[size];
+		_maxs = new long[size];
+	}
+
+	int size() {
+		return _values.length;
+	}
+
+	int length() {
+		return (int)_n;
+	}
+
+	boolean isFull() {
+		return _n == _values.length;
+	}
+
+	void accept(final double value) {
+		final int size = _values.length;
+		final int index = (int)(_samples%size);
+
+		if (_n == size) {
+			remove(_values[index]);
+		}
+		_values[index] = value;
+		add(value);
+
+		// Remove the indexes which have left the window.
+		final long first = _samples - size + 1;
+		if (_minHead < _minTail && _mins[(int)(_minHead%size)] < first) ++_minHead;
+		if (_maxHead < _maxTail && _maxs[(int)(_maxHead%size)] < first) ++_maxHead;
+
+		while (_minHead < _minTail &&
+			_values[(int)(_mins[(int)((_minTail - 1)%size)]%size)] >= value)
+		{
+			--_minTail;
+		}
+		_mins[(int)(_minTail++%size)] = _samples;
+
+		while (_maxHead < _maxTail &&
+			_values[(int)(_maxs[(int)((_maxTail - 1)%size)]%size)] <= value)
+		{
+			--_maxTail;
+		}
+		_maxs[(int)(_maxTail++%size)] = _samples;
+
+		++_samples;
+		if (_samples%size == 0) {
+			recalculate();
+		}
+	}
+
+	private void add(final double value) {
+		final double n = ++_n;
+		final double d = value - _m1;
+		final double dN = d/n;
+		final double dN2 = dN*dN;
+		final double t1 = d*dN*(n - 1.0);
+
+		_m1 += dN;
+		_m4 += t1*dN2*(n*n - 3.0*n + 3.0) + 6.0*dN2*_m2 - 4.0*dN*_m3;
+		_m3 += t1*dN*(n - 2.0) - 3.0*dN*_m2;
+		_m2 += t1;
+	}
+
+	// The inverse operation of the add method.
+	private void remove(final double value) {
+		if (_n == 1) {
+			_n = 0;
+			_m1 = _m2 = _m3 = _m4 = 0;
+			return;
+		}
+
+		final double n = _n;
+		final double m1 = (n*_m1 - value)/(n - 1.0);
+		final double d = value - m1;
+		final double dN = d/n;
+		final double dN2 = dN*dN;
+		final double t1 = d*dN*(n - 1.0);
+
+		final double m2 = Math.max(_m2 - t1, 0.0);
+		final double m3 = _m3 - t1*dN*(n - 2.0) + 3.0*dN*m2;
+		final double m4 = _m4 - t1*dN2*(n*n - 3.0*n + 3.0) -
+			6.0*dN2*m2 + 4.0*dN*m3;
+
+		--_n;
+		_m1 = m1;
+		_m2 = m2;
+		_m3 = m3;
+		_m4 = m4;
+	}
+
+	private void recalculate() {
+		_n = 0;
+		_m1 = _m2 = _m3 = _m4 = 0;
+		for (double value : _values) {
+			add(value);
+		}
+	}
+
+	/**
+	 * Return the moments of the current window values.
+	 *
+	 * @return the moments of the current window values
+	 */
+	DoubleMoments toDoubleMoments() {
+		final long n = _n;
+		final int size = _values.length;
+
+		double variance = NaN;
+		double skewness = NaN;
+		double kurtosis = NaN;
+		if (n == 1L) {
+			variance = _m2;
+		} else if (n > 1L) {
+			variance = _m2/(n - 1.0);
+		}
+		if (n >= 3L) {
+			skewness = variance < 10E-20
+				? 0.0
+				: (n*_m3)/((n - 1.0)*(n - 2.0)*sqrt(variance)*variance);
+		}
+		if (n > 3L) {
+			kurtosis = variance < 10E-20
+				? 0.0
+				: (n*(n + 1.0)*_m4 - 3.0*_m2*_m2*(n - 1.0))/
+					((n - 1.0)*(n - 2.0)*(n - 3.0)*variance*variance);
+		}
+
+		return new DoubleMoments(
+			n,
+			n == 0 ? Double.POSITIVE_INFINITY
+				: _values[(int)(_mins[(int)(_minHead%size)]%size)],
+			n == 0 ? Double.NEGATIVE_INFINITY
+				: _values[(int)(_maxs[(int)(_maxHead%size)]%size)],
+			_m1*n,
+			n == 0 ? NaN : _m1,
+			variance,
+			skewness,
+			kurtosis
+		);
+	}
+
+}
@@ -0,0 +1,377 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BatchExecutor;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Surrogate-assisted evaluator for expensive fitness functions. All really
+ * evaluated genotypes are stored in a bounded, primitive feature archive.
+ * Every generation, the fitness of the candidate phenotypes is predicted
+ * with a <em>k-nearest-neighbour</em> model over this archive. Only the
+ * predicted best {@code fraction} of the candidates is evaluated with the
+ * real fitness function, using the given {@link BatchExecutor}. The other
+ * candidates get the predicted, <em>surrogate</em>, fitness value. A
+ * surrogate fitness value is never better than the worst real fitness value
+ * of the evaluated population. The best phenotype of an
+ * {@link EvolutionResult} is therefore always a really evaluated one, except
+ * for surrogates with the same fitness value.
+ * <p>
+ * Phenotypes with a surrogate fitness are flagged and can be tested with the
+ * {@link #isSurrogate(Phenotype)} method. They are candidates again in the
+ * next generation, if they are still part of the population. This way,
+ * promising individuals get a real evaluation eventually.
+ *
+ * {@snippet lang="java":
+ * final Function<Genotype<DoubleGene>, Double> fitness = null; // @replace substring='null' replacement="..."
+ * final SurrogateEvaluator<DoubleGene, Double> evaluator = Evaluators.surrogate(
+ *     fitness,
+ *     BatchExecutor.ofVirtualThreads(),
+ *     Optimize.MINIMUM,
+ *     0.25
+ * );
+ *
+ * final Engine<DoubleGene, Double> engine =
+ *     new Engine.Builder<>(evaluator, Genotype.of(DoubleChromosome.of(0, 1, 10)))
+ *         .minimizing()
+ *         .build();
+ * }
+ *
+ * The gene values are normalized to the gene range, before the Euclidean
+ * distance of two genotypes is calculated. The predicted fitness is the
+ * median fitness of the {@code k} nearest archived genotypes. Until the
+ * archive contains {@code k} genotypes, all candidates are evaluated with the
+ * real fitness function.
+ *
+ * @apiNote
+ * The {@link EvolutionResult#evaluationCount()} only counts the real
+ * fitness function calls of a generation, the predicted fitness values are
+ * not counted. The overall number of real fitness function calls of this
+ * evaluator is returned by {@link #evaluations()}. All genotypes must have
+ * the same number of genes.
+ *
+ * @see Evaluators#surrogate(Function, BatchExecutor, Optimize, double)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class SurrogateEvaluator<
+	G extends NumericGene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final Function<? super Genotype<G>, ? extends C> _fitness;
+	private final BatchExecutor _executor;
+	private final Optimize _optimize;
+	private final double _fraction;
+	private final int _neighbours;
+	private final int _capacity;
+
+	// The archive of the really evaluated genotypes, used as ring buffer.
+	private double[] _features = null;
+	private final Object[] _fitnesses;
+	private int _dimension = -1;
+	private int _index = 0;
+	private int _size = 0;
+
+	// The genotypes with surrogate fitness values.
+	private Set<Genotype<G>> _surrogates =
+		Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private long _evaluations = 0;
+
+	SurrogateEvaluator(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final BatchExecutor executor,
+		final Optimize optimize,
+		final double fraction,
+		final int neighbours,
+		final int capacity
+	) {
+		if (!(fraction > 0 && fraction <= 1)) {
+			throw new IllegalArgumentException(
+				"Fraction not within (0, 1]: " + fraction
+			);
+		}
+		if (neighbours < 1) {
+			throw new IllegalArgumentException(
+				"Number of neighbours must be positive: " + neighbours
+			);
+		}
+		if (capacity < neighbours) {
+			throw new IllegalArgumentException(format(
+				"Capacity must not be smaller than %d: %d",
+				neighbours, capacity
+			));
+		}
+
+		_fitness = requireNonNull(fitness);
+		_executor = requireNonNull(executor);
+		_optimize = requireNonNull(optimize);
+		_fraction = fraction;
+		_neighbours = neighbours;
+		_capacity = capacity;
+		_fitnesses = new Object[capacity];
+	}
+
+	/**
+	 * Return the number of real fitness function calls.
+	 *
+	 * @return the number of real fitness function calls
+	 */
+	public synchronized long evaluations() {
+		return _evaluations;
+	}
+
+	/**
+	 * Test whether the fitness value of the given {@code phenotype} is a
+	 * surrogate (predicted) value, assigned by the last {@code eval} call.
+	 *
+	 * @param phenotype the phenotype to test
+	 * @return {@code true} if the fitness of the given {@code phenotype} is a
+	 *         surrogate value, {@code false} otherwise
+	 */
+	public synchronized boolean isSurrogate(final Phenotype<G, C> phenotype) {
+		return _surrogates.contains(phenotype.genotype());
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return eval(population, calls -> {});
+	}
+
+	// Return a view of this evaluator, which reports the real function calls.
+	CountingEvaluator<G, C> counting() {
+		return this::eval;
+	}
+
+	private synchronized ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final IntConsumer calls
+	) {
+		final List<Integer> candidates = new ArrayList<>();
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (pt.nonEvaluated() || _surrogates.contains(pt.genotype())) {
+				candidates.add(i);
+			}
+		}
+		if (candidates.isEmpty()) {
+			_surrogates.clear();
+			return population.asISeq();
+		}
+
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+		final Set<Genotype<G>> surrogates =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+
+		if (_size < _neighbours) {
+			evaluate(population, candidates, result, calls);
+		} else {
+			final List<C> predictions = new ArrayList<>(candidates.size());
+			for (int index : candidates) {
+				predictions.add(predict(features(population.get(index).genotype())));
+			}
+
+			// Ranking the candidates by its predicted fitness, best first.
+			final Integer[] order = new Integer[candidates.size()];
+			for (int i = 0; i < order.length; ++i) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (a, b) ->
+				_optimize.compare(predictions.get(b), predictions.get(a))
+			);
+
+			final int count = min((int)ceil(_fraction*order.length), order.length);
+			final List<Integer> selected = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i) {
+				selected.add(candidates.get(order[i]));
+			}
+			evaluate(population, selected, result, calls);
+
+			final boolean[] predicted = new boolean[population.size()];
+			for (int i = count; i < order.length; ++i) {
+				predicted[candidates.get(order[i])] = true;
+			}
+			final C worst = worst(result, predicted);
+
+			for (int i = count; i < order.length; ++i) {
+				final int index = candidates.get(order[i]);
+				final Phenotype<G, C> pt = population.get(index);
+				final C fitness = _optimize.worst(predictions.get(order[i]), worst);
+				result.set(index, pt.withFitness(fitness));
+				surrogates.add(pt.genotype());
+			}
+		}
+
+		_surrogates = surrogates;
+		return result.toISeq();
+	}
+
+	// Return the worst real fitness value of the given population.
+	private C worst(
+		final Seq<Phenotype<G, C>> population,
+		final boolean[] predicted
+	) {
+		C worst = null;
+		for (int i = 0; i < population.size(); ++i) {
+			if (!predicted[i]) {
+				final C fitness = population.get(i).fitness();
+				worst = worst == null ? fitness : _optimize.worst(worst, fitness);
+			}
+		}
+		return worst;
+	}
+
+	private void evaluate(
+		final Seq<Phenotype<G, C>> population,
+		final List<Integer> indexes,
+		final MSeq<Phenotype<G, C>> result,
+		final IntConsumer calls
+	) {
+		final ISeq<RunnableFunction<Phenotype<G, C>, C>> tasks = indexes.stream()
+			.map(index -> new RunnableFunction<Phenotype<G, C>, C>(
+				population.get(index),
+				_fitness.compose(Phenotype::genotype)
+			))
+			.collect(ISeq.toISeq());
+
+		_executor.execute(tasks);
+		_evaluations += tasks.size();
+		calls.accept(tasks.size());
+
+		for (int i = 0; i < tasks.size(); ++i) {
+			final var task = tasks.get(i);
+			result.set(indexes.get(i), task.input().withFitness(task.result()));
+			archive(features(task.input().genotype()), task.result());
+		}
+	}
+
+	private void archive(final double[] features, final C fitness) {
+		if (_features == null) {
+			_dimension = features.length;
+			_features = new double[_capacity*_dimension];
+		}
+
+		System.arraycopy(features, 0, _features, _index*_dimension, _dimension);
+		_fitnesses[_index] = fitness;
+
+		_index = (_index + 1)%_capacity;
+		_size = min(_size + 1, _capacity);
+	}
+
+	/*
+	 * Return the median fitness of the k nearest archived genotypes. The
+	 * k nearest neighbours are kept in a sorted, primitive distance array.
+	 */
+	@SuppressWarnings("unchecked")
+	private C predict(final double[] features) {
+		if (features.length != _dimension) {
+			throw new IllegalArgumentException(format(
+				"Expected %d genes, but got %d.", _dimension, features.length
+			));
+		}
+
+		final double[] distances = new double[_neighbours];
+		final int[] indexes = new int[_neighbours];
+		Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+		for (int i = 0; i < _size; ++i) {
+			final int offset = i*_dimension;
+			double distance = 0;
+			for (int j = 0; j < _dimension && distance < distances[_neighbours - 1]; ++j) {
+				final double diff = _features[offset + j] - features[j];
+				distance += diff*diff;
+			}
+
+			if (distance < distances[_neighbours - 1]) {
+				int pos = _neighbours - 1;
+				while (pos > 0 && distances[pos - 1] > distance) {
+					distances[pos] = distances[pos - 1];
+					indexes[pos] = indexes[pos - 1];
+					--pos;
+				}
+				distances[pos] = distance;
+				indexes[pos] = i;
+			}
+		}
+
+		final List<C> fitnesses = new ArrayList<>(_neighbours);
+		for (int index : indexes) {
+			fitnesses.add((C)_fitnesses[index]);
+		}
+		fitnesses.sort(null);
+		return fitnesses.get((fitnesses.size() - 1)/2);
+	}
+
+	// The gene values, normalized to the range [0, 1].
+	private static double[] features(final Genotype<? extends NumericGene<?, ?>> genotype) {
+		final double[] features = new double[genotype.geneCount()];
+
+		int index = 0;
+		for (Chromosome<? extends NumericGene<?, ?>> chromosome : genotype) {
+			for (NumericGene<?, ?> gene : chromosome) {
+				final double min = gene.min().doubleValue();
+				final double range = gene.max().doubleValue() - min;
+				features[index++] = range > 0
+					? (gene.doubleValue() - min)/range
+					: 0;
+			}
+		}
+		return features;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return format(
+			"SurrogateEvaluator[fraction=%s, k=%d, archive=%d, evaluations=%d]",
+			_fraction, _neighbours, _size, _evaluations
+		);
+	}
+
+}
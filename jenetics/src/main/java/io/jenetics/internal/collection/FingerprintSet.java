@@ -0,0 +1,179 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Hash set implementation which uses open addressing with linear probing. The
+ * (64-bit) fingerprints of the elements are stored in a primitive
+ * {@code long[]} array. The {@code equals} method of the elements is only
+ * called if two fingerprints are equal. This makes the set well-suited for
+ * elements with a cached fingerprint, like the {@link io.jenetics.Genotype}.
+ *
+ * @implNote
+ * This class is not thread-safe and doesn't allow {@code null} elements.
+ * Removing elements is not supported.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class FingerprintSet<T> {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private final ToLongFunction<? super T> _fingerprint;
+
+	private long[] _fingerprints;
+	private Object[] _elements;
+	private int _size = 0;
+
+	/**
+	 * Create a new fingerprint set with the given fingerprint function and the
+	 * expected number of elements.
+	 *
+	 * @param fingerprint the function which calculates the element fingerprint.
+	 *        Equal elements must have the same fingerprint.
+	 * @param expectedSize the expected number of elements
+	 * @throws NullPointerException if the {@code fingerprint} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the {@code expectedSize} is negative
+	 */
+	public FingerprintSet(
+		final ToLongFunction<? super T> fingerprint,
+		final int expectedSize
+	) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException(
+				"Expected size must not be negative: " + expectedSize
+			);
+		}
+
+		_fingerprint = requireNonNull(fingerprint);
+
+		final int capacity = capacity(expectedSize);
+		_fingerprints = new long[capacity];
+		_elements = new Object[capacity];
+	}
+
+	// Keeps the load factor below 0.5.
+	private static int capacity(final int size) {
+		final int capacity = Integer.highestOneBit(Math.max(size, 1)) << 2;
+		return Math.max(capacity, MIN_CAPACITY);
+	}
+
+	/**
+	 * Return the number of elements in {@code this} set.
+	 *
+	 * @return the number of elements in {@code this} set
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Adds the given {@code element} to the set, if not already present.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the set did not already contain the given
+	 *         {@code element}
+	 * @throws NullPointerException if the given {@code element} is {@code null}
+	 */
+	public boolean add(final T element) {
+		final long fingerprint = _fingerprint.applyAsLong(element);
+		final int index = indexOf(element, fingerprint);
+		if (_elements[index] != null) {
+			return false;
+		}
+
+		_fingerprints[index] = fingerprint;
+		_elements[index] = element;
+		if (++_size*2 > _elements.length) {
+			grow();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Test whether the given {@code element} is part of {@code this} set.
+	 *
+	 * @param element the element to test
+	 * @return {@code true} if the given {@code element} is part of {@code this}
+	 *         set, {@code false} otherwise
+	 * @throws NullPointerException if the given {@code element} is {@code null}
+	 */
+	public boolean contains(final T element) {
+		final long fingerprint = _fingerprint.applyAsLong(element);
+		return _elements[indexOf(element, fingerprint)] != null;
+	}
+
+	/*
+	 * Return the slot index of the given element. The returned slot is either
+	 * empty or contains an element equal to the given one.
+	 */
+	private int indexOf(final T element, final long fingerprint) {
+		requireNonNull(element);
+
+		final int mask = _elements.length - 1;
+		int index = spread(fingerprint) & mask;
+
+		Object value;
+		while ((value = _elements[index]) != null) {
+			if (_fingerprints[index] == fingerprint && element.equals(value)) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+
+		return index;
+	}
+
+	private static int spread(final long fingerprint) {
+		final int hash = (int)(fingerprint ^ (fingerprint >>> 32));
+		return hash ^ (hash >>> 16);
+	}
+
+	private void grow() {
+		final long[] fingerprints = _fingerprints;
+		final Object[] elements = _elements;
+
+		_fingerprints = new long[fingerprints.length << 1];
+		_elements = new Object[elements.length << 1];
+
+		final int mask = _elements.length - 1;
+		for (int i = 0; i < elements.length; ++i) {
+			if (elements[i] != null) {
+				int index = spread(fingerprints[i]) & mask;
+				while (_elements[index] != null) {
+					index = (index + 1) & mask;
+				}
+				_fingerprints[index] = fingerprints[i];
+				_elements[index] = elements[i];
+			}
+		}
+	}
+
+}
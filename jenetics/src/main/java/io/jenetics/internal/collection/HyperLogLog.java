@@ -0,0 +1,171 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static java.lang.Math.log;
+
+import java.util.Arrays;
+
+/**
+ * Cardinality sketch which estimates the number of distinct elements with
+ * the <em>HyperLogLog</em> algorithm. The sketch consumes 64-bit hash values,
+ * which must be well distributed, like the {@link io.jenetics.Genotype}
+ * fingerprints. Only {@code 2^precision} bytes are needed, independent of the
+ * number of added values. The relative standard error of the estimate is
+ * approximately {@code 1.04/sqrt(2^precision)}.
+ * <p>
+ *  Reference:<em>
+ *      Philippe Flajolet, Éric Fusy, Olivier Gandouet, Frédéric Meunier,
+ *      HyperLogLog: the analysis of a near-optimal cardinality estimation
+ *      algorithm, AofA 2007.</em>
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class HyperLogLog {
+
+	/**
+	 * The minimal allowed precision.
+	 */
+	public static final int MIN_PRECISION = 4;
+
+	/**
+	 * The maximal allowed precision.
+	 */
+	public static final int MAX_PRECISION = 18;
+
+	private final int _precision;
+	private final byte[] _registers;
+
+	/**
+	 * Create a new, empty sketch with the given {@code precision}.
+	 *
+	 * @param precision the number of index bits. The sketch uses
+	 *        {@code 2^precision} registers.
+	 * @throws IllegalArgumentException if the {@code precision} is not within
+	 *         the range {@code [4, 18]}
+	 */
+	public HyperLogLog(final int precision) {
+		if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+			throw new IllegalArgumentException(String.format(
+				"Precision not in range [%d, %d]: %d",
+				MIN_PRECISION, MAX_PRECISION, precision
+			));
+		}
+
+		_precision = precision;
+		_registers = new byte[1 << precision];
+	}
+
+	/**
+	 * Return the precision of {@code this} sketch.
+	 *
+	 * @return the precision of {@code this} sketch
+	 */
+	public int precision() {
+		return _precision;
+	}
+
+	/**
+	 * Add the given 64-bit {@code hash} value to the sketch.
+	 *
+	 * @param hash the hash value of the added element
+	 */
+	public void add(final long hash) {
+		final int index = (int)(hash >>> (Long.SIZE - _precision));
+		final long bits = (hash << _precision) | (1L << (_precision - 1));
+		final byte rank = (byte)(Long.numberOfLeadingZeros(bits) + 1);
+
+		if (_registers[index] < rank) {
+			_registers[index] = rank;
+		}
+	}
+
+	/**
+	 * Merges the values of the {@code other} sketch into {@code this} one.
+	 * The result is the same as if all values had been added to {@code this}
+	 * sketch.
+	 *
+	 * @param other the other sketch
+	 * @throws IllegalArgumentException if the {@code other} sketch has a
+	 *         different precision
+	 */
+	public void combine(final HyperLogLog other) {
+		if (other._precision != _precision) {
+			throw new IllegalArgumentException(String.format(
+				"Precision doesn't match: %d != %d",
+				other._precision, _precision
+			));
+		}
+
+		for (int i = 0; i < _registers.length; ++i) {
+			if (_registers[i] < other._registers[i]) {
+				_registers[i] = other._registers[i];
+			}
+		}
+	}
+
+	/**
+	 * Removes all values from {@code this} sketch.
+	 */
+	public void clear() {
+		Arrays.fill(_registers, (byte)0);
+	}
+
+	/**
+	 * Return the estimated number of distinct hash values added to
+	 * {@code this} sketch.
+	 *
+	 * @return the estimated number of distinct values
+	 */
+	public double estimate() {
+		final int m = _registers.length;
+
+		double sum = 0;
+		int zeros = 0;
+		for (byte register : _registers) {
+			sum += Double.longBitsToDouble((1023L - register) << 52);
+			if (register == 0) {
+				++zeros;
+			}
+		}
+
+		final double estimate = alpha(m)*m*m/sum;
+
+		// Linear counting for small cardinalities.
+		return estimate <= 2.5*m && zeros > 0
+			? m*log((double)m/zeros)
+			: estimate;
+	}
+
+	private static double alpha(final int m) {
+		return switch (m) {
+			case 16 -> 0.673;
+			case 32 -> 0.697;
+			case 64 -> 0.709;
+			default -> 0.7213/(1.0 + 1.079/m);
+		};
+	}
+
+}
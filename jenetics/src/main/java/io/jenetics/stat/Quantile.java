@@ -61,13 +61,16 @@ import java.util.stream.Collector;
  * Using this class in the {@code collect} method of a parallel stream can
  * lead to a reduced accuracy of the quantile value. Since this implementation
  * is an estimation algorithm, combining the estimations will only work for
- * large streams ({@code size >> 1000}).
+ * large streams ({@code size >> 1000}). If several quantiles of a stream are
+ * needed, or the estimation must be combinable without loss of accuracy, use
+ * the {@link QuantileSketch} instead.
  *
+ * @see QuantileSketch
  * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 8.1
  */
 public class Quantile implements DoubleConsumer {
 
@@ -0,0 +1,605 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable quantile sketch, which is able to estimate arbitrary quantiles of
+ * a stream of {@code double} values in bounded memory. The implementation
+ * follows the compactor hierarchy published by
+ * <p>
+ * <strong>Zohar KARNIN, Kevin LANG and Edo LIBERTY</strong>:
+ * <em>Optimal Quantile Approximation in Streams</em>
+ * <br>
+ * [<a href="https://arxiv.org/abs/1603.05346">IEEE 57th Annual Symposium on
+ * Foundations of Computer Science (FOCS), 2016</a>]
+ * <p>
+ * In contrast to the {@link Quantile} class, one sketch answers <em>all</em>
+ * quantiles of the stream, and two sketches can be merged without additional
+ * loss of accuracy. This makes the sketch well-suited for parallel streams.
+ * {@snippet lang="java":
+ * final DoubleStream stream = null; // @replace substring='null' replacement="..."
+ * final QuantileSketch sketch = stream.parallel().collect(
+ *         () -> new QuantileSketch(0.01),
+ *         QuantileSketch::accept,
+ *         QuantileSketch::combine
+ *     );
+ *
+ * final double median = sketch.median();
+ * final double[] quartiles = sketch.quantiles(0.25, 0.5, 0.75);
+ * }
+ *
+ * The accuracy of the sketch is given by the <em>rank error</em>
+ * {@code epsilon}. The rank of the returned quantile value, divided by the
+ * number of samples, differs from the requested quantile by roughly
+ * {@code epsilon}. The number of stored values is {@code O(1/epsilon)} and
+ * grows only with the logarithm of the number of samples. The minimal and
+ * maximal values are always exact.
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the
+ * necessary partitioning, isolation, and merging of results for safe and
+ * efficient parallel execution. Instead of random coin flips, the compactors
+ * alternate between the even and odd values. This makes the results
+ * reproducible. {@code NaN} values are ignored.
+ *
+ * @see Quantile
+ * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 8.1
+ * @version 8.1
+ */
+public final class QuantileSketch implements DoubleConsumer {
+
+	/**
+	 * The default rank error of the sketch.
+	 */
+	public static final double DEFAULT_EPSILON = 0.01;
+
+	// Relation between the rank error and the capacity of the top compactor.
+	private static final double K_FACTOR = 2.0;
+
+	// The capacity ratio of two consecutive compactors.
+	private static final double C = 2.0/3.0;
+
+	private static final int MIN_K = 8;
+	private static final int MIN_CAPACITY = 2;
+
+	private final double _epsilon;
+	private final int _k;
+
+	// The compactors. Values on level h have the weight 2^h.
+	private double[][] _levels = new double[1][];
+	private int[] _sizes = new int[1];
+	private int _height = 1;
+
+	// The capacities of the compactors and the overall capacity.
+	private int[] _capacities;
+	private int _capacity;
+
+	// The offset bits of the compactors, alternating on every compaction.
+	private long _offsets = 0;
+
+	// The number of retained values.
+	private int _size = 0;
+
+	private long _count = 0;
+	private double _min = Double.POSITIVE_INFINITY;
+	private double _max = Double.NEGATIVE_INFINITY;
+
+	// Sorted values and cumulative weights, used for answering queries.
+	private double[] _values;
+	private long[] _weights;
+
+	/**
+	 * Create a new quantile sketch with the given rank error.
+	 *
+	 * @param epsilon the rank error of the sketch
+	 * @throws IllegalArgumentException if {@code epsilon} is not in the range
+	 *         {@code (0, 1)}
+	 */
+	public QuantileSketch(final double epsilon) {
+		_epsilon = epsilon;
+		_k = k(epsilon);
+		_levels[0] = new double[_k];
+		capacities();
+	}
+
+	private static int k(final double epsilon) {
+		if (!(epsilon > 0.0 && epsilon < 1.0)) {
+			throw new IllegalArgumentException(format(
+				"Epsilon (%s) not in the valid range of (0, 1)", epsilon
+			));
+		}
+		return Math.max((int)Math.ceil(K_FACTOR/epsilon), MIN_K);
+	}
+
+	/**
+	 * Create a new quantile sketch with the {@link #DEFAULT_EPSILON}.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_EPSILON);
+	}
+
+	/**
+	 * Return the rank error {@code this} sketch has been parametrized with.
+	 *
+	 * @return the rank error of {@code this} sketch
+	 */
+	public double epsilon() {
+		return _epsilon;
+	}
+
+	/**
+	 * Return the number of samples the sketch was calculated of.
+	 *
+	 * @return the number of samples the sketch was calculated of
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the number of values which are currently stored by the sketch.
+	 *
+	 * @return the number of stored values
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the minimal value of the samples, or {@link Double#NaN} if no
+	 * value has been accepted yet.
+	 *
+	 * @return the minimal sample value
+	 */
+	public double min() {
+		return _count == 0 ? Double.NaN : _min;
+	}
+
+	/**
+	 * Return the maximal value of the samples, or {@link Double#NaN} if no
+	 * value has been accepted yet.
+	 *
+	 * @return the maximal sample value
+	 */
+	public double max() {
+		return _count == 0 ? Double.NaN : _max;
+	}
+
+	@Override
+	public void accept(final double value) {
+		if (Double.isNaN(value)) {
+			return;
+		}
+
+		if (_sizes[0] == _levels[0].length) {
+			_levels[0] = Arrays.copyOf(_levels[0], _levels[0].length*2);
+		}
+		_levels[0][_sizes[0]++] = value;
+		++_size;
+		++_count;
+		_min = Math.min(_min, value);
+		_max = Math.max(_max, value);
+		_values = null;
+
+		if (_size >= _capacity) {
+			compress();
+		}
+	}
+
+	/**
+	 * Combine two {@code QuantileSketch} objects. The rank error of the
+	 * combined sketch is the same as the rank error of the single sketches.
+	 *
+	 * @param other the other {@code QuantileSketch} object to combine
+	 * @return {@code this}
+	 * @throws NullPointerException if the {@code other} object is {@code null}
+	 * @throws IllegalArgumentException if the rank error of the {@code other}
+	 *         sketch is different from {@code this} one
+	 */
+	public QuantileSketch combine(final QuantileSketch other) {
+		if (other._k != _k) {
+			throw new IllegalArgumentException(format(
+				"Can't combine sketches with different epsilons: %s != %s",
+				_epsilon, other._epsilon
+			));
+		}
+
+		while (_height < other._height) {
+			grow();
+		}
+		for (int h = 0; h < other._height; ++h) {
+			append(h, other._levels[h], other._sizes[h]);
+		}
+
+		_count += other._count;
+		_min = Math.min(_min, other._min);
+		_max = Math.max(_max, other._max);
+		_values = null;
+
+		compress();
+		return this;
+	}
+
+	private void append(final int level, final double[] values, final int size) {
+		if (_sizes[level] + size > _levels[level].length) {
+			_levels[level] = Arrays.copyOf(
+				_levels[level],
+				Math.max(_sizes[level] + size, _levels[level].length*2)
+			);
+		}
+		System.arraycopy(values, 0, _levels[level], _sizes[level], size);
+		_sizes[level] += size;
+		_size += size;
+	}
+
+	// Calculates the compactor capacities for the current height. The top
+	// compactor has the capacity k.
+	private void capacities() {
+		_capacities = new int[_height];
+		_capacity = 0;
+		for (int h = 0; h < _height; ++h) {
+			final int depth = _height - h - 1;
+			_capacities[h] = Math.max(
+				(int)Math.ceil(_k*Math.pow(C, depth)),
+				MIN_CAPACITY
+			);
+			_capacity += _capacities[h];
+		}
+	}
+
+	private void compress() {
+		while (_size >= _capacity) {
+			int level = 0;
+			while (_sizes[level] < _capacities[level]) {
+				++level;
+			}
+			if (level + 1 == _height) {
+				grow();
+			}
+			compact(level);
+		}
+	}
+
+	private void grow() {
+		_levels = Arrays.copyOf(_levels, _height + 1);
+		_sizes = Arrays.copyOf(_sizes, _height + 1);
+		_levels[_height] = new double[MIN_CAPACITY];
+		++_height;
+		capacities();
+	}
+
+	/*
+	 * Halves the number of values of the given level. The values are sorted
+	 * and every second value is promoted to the next level with the doubled
+	 * weight. If the number of values is odd, the smallest value stays.
+	 */
+	private void compact(final int level) {
+		final double[] values = _levels[level];
+		final int size = _sizes[level];
+		Arrays.sort(values, 0, size);
+
+		final int start = size & 1;
+		final int offset = (int)(_offsets >>> level) & 1;
+		_offsets ^= 1L << level;
+
+		final int promoted = (size - start)/2;
+		final double[] next = new double[promoted];
+		for (int i = 0; i < promoted; ++i) {
+			next[i] = values[start + offset + 2*i];
+		}
+
+		_sizes[level] = start;
+		_size -= size - start;
+		append(level + 1, next, promoted);
+	}
+
+	/* *************************************************************************
+	 * Quantile queries.
+	 * ************************************************************************/
+
+	// Merges the sorted compactors into one sorted array with the cumulative
+	// weights of the values.
+	private void sort() {
+		if (_values != null) {
+			return;
+		}
+
+		double[] values = new double[0];
+		long[] weights = new long[0];
+		for (int h = 0; h < _height; ++h) {
+			final double[] level = Arrays.copyOf(_levels[h], _sizes[h]);
+			Arrays.sort(level);
+
+			final double[] v = new double[values.length + level.length];
+			final long[] w = new long[v.length];
+			for (int i = 0, j = 0, k = 0; k < v.length; ++k) {
+				if (j == level.length ||
+					i < values.length && values[i] <= level[j])
+				{
+					v[k] = values[i];
+					w[k] = weights[i++];
+				} else {
+					v[k] = level[j++];
+					w[k] = 1L << h;
+				}
+			}
+			values = v;
+			weights = w;
+		}
+
+		for (int i = 1; i < weights.length; ++i) {
+			weights[i] += weights[i - 1];
+		}
+
+		_values = values;
+		_weights = weights;
+	}
+
+	/**
+	 * Return the estimated value of the given {@code quantile}.
+	 *
+	 * @param quantile the quantile to estimate
+	 * @return the estimated quantile value, or {@link Double#NaN} if no value
+	 *         has been accepted yet
+	 * @throws IllegalArgumentException if the {@code quantile} is not in the
+	 *         range {@code [0, 1]}
+	 */
+	public double quantile(final double quantile) {
+		check(quantile);
+
+		if (_count == 0) {
+			return Double.NaN;
+		}
+		if (quantile == 0.0) {
+			return _min;
+		}
+		if (quantile == 1.0) {
+			return _max;
+		}
+
+		sort();
+		final long weight = _weights[_weights.length - 1];
+		final long rank = (long)Math.ceil(quantile*weight);
+
+		int index = Arrays.binarySearch(_weights, rank);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return _values[Math.min(index, _values.length - 1)];
+	}
+
+	/**
+	 * Return the estimated values of the given {@code quantiles}.
+	 *
+	 * @param quantiles the quantiles to estimate
+	 * @return the estimated quantile values, in the order of the given
+	 *         {@code quantiles}
+	 * @throws IllegalArgumentException if one of the {@code quantiles} is not
+	 *         in the range {@code [0, 1]}
+	 */
+	public double[] quantiles(final double... quantiles) {
+		final double[] values = new double[quantiles.length];
+		for (int i = 0; i < quantiles.length; ++i) {
+			values[i] = quantile(quantiles[i]);
+		}
+		return values;
+	}
+
+	/**
+	 * Return the estimated median value.
+	 *
+	 * @return the estimated median value, or {@link Double#NaN} if no value
+	 *         has been accepted yet
+	 */
+	public double median() {
+		return quantile(0.5);
+	}
+
+	/**
+	 * Return the estimated fraction of the samples which are less than or
+	 * equal to the given {@code value}.
+	 *
+	 * @param value the value to find the rank for
+	 * @return the normalized rank of the given value, or {@link Double#NaN} if
+	 *         no value has been accepted yet
+	 */
+	public double rank(final double value) {
+		if (_count == 0) {
+			return Double.NaN;
+		}
+
+		sort();
+		int index = Arrays.binarySearch(_values, value);
+		if (index < 0) {
+			index = -index - 1;
+		} else {
+			while (index + 1 < _values.length && _values[index + 1] == value) {
+				++index;
+			}
+			++index;
+		}
+
+		return index == 0
+			? 0.0
+			: (double)_weights[index - 1]/_weights[_weights.length - 1];
+	}
+
+	private static void check(final double quantile) {
+		if (quantile < 0.0 || quantile > 1.0) {
+			throw new IllegalArgumentException(format(
+				"Quantile (%s) not in the valid range of [0, 1]", quantile
+			));
+		}
+	}
+
+	/**
+	 * Compares the state of two {@code QuantileSketch} objects. This is
+	 * a replacement for the {@link #equals(Object)} which is not advisable to
+	 * implement for this mutable object. If two objects have the same state, it
+	 * has still the same state when updated with the same value.
+	 *
+	 * @param other the other object for the test
+	 * @return {@code true} the {@code this} and the {@code other} objects have
+	 *         the same state, {@code false} otherwise
+	 */
+	public boolean sameState(final QuantileSketch other) {
+		if (_k != other._k ||
+			_height != other._height ||
+			_offsets != other._offsets ||
+			_count != other._count ||
+			Double.compare(_min, other._min) != 0 ||
+			Double.compare(_max, other._max) != 0)
+		{
+			return false;
+		}
+
+		for (int h = 0; h < _height; ++h) {
+			if (!Arrays.equals(
+					_levels[h], 0, _sizes[h],
+					other._levels[h], 0, other._sizes[h]))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[samples=%d, min=%f, median=%f, max=%f]",
+			getClass().getSimpleName(), count(), min(), median(), max()
+		);
+	}
+
+	/* *************************************************************************
+	 *  Some static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns a quantile sketch for the
+	 * resulting values.
+	 *
+	 * {@snippet lang="java":
+	 * final Stream<SomeObject> stream = null; // @replace substring='null' replacement="..."
+	 * final QuantileSketch sketch = stream
+	 *     .collect(toQuantileSketch(0.001, v -> v.doubleValue()));
+	 * }
+	 *
+	 * @param epsilon the rank error of the sketch
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code epsilon} is not in the range
+	 *         {@code (0, 1)}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch> toQuantileSketch(
+		final double epsilon,
+		final ToDoubleFunction<? super T> mapper
+	) {
+		k(epsilon);
+		requireNonNull(mapper);
+
+		return Collector.of(
+			() -> new QuantileSketch(epsilon),
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns a quantile sketch with the
+	 * {@link #DEFAULT_EPSILON} for the resulting values.
+	 *
+	 * {@snippet lang="java":
+	 * final ISeq<Phenotype<DoubleGene, Double>> population = null; // @replace substring='null' replacement="..."
+	 * final double[] percentiles = population.stream()
+	 *     .collect(toQuantileSketch(Phenotype::fitness))
+	 *     .quantiles(0.1, 0.5, 0.9);
+	 * }
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch> toQuantileSketch(
+		final ToDoubleFunction<? super T> mapper
+	) {
+		return toQuantileSketch(DEFAULT_EPSILON, mapper);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns the estimated values of the
+	 * given {@code quantiles}.
+	 *
+	 * {@snippet lang="java":
+	 * final Stream<SomeObject> stream = null; // @replace substring='null' replacement="..."
+	 * final double[] quartiles = stream
+	 *     .collect(toQuantiles(v -> v.doubleValue(), 0.25, 0.5, 0.75));
+	 * }
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param quantiles the quantiles to estimate
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile reduction
+	 * @throws java.lang.NullPointerException if one of the arguments is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if one of the {@code quantiles} is not
+	 *         in the range {@code [0, 1]}
+	 */
+	public static <T> Collector<T, ?, double[]> toQuantiles(
+		final ToDoubleFunction<? super T> mapper,
+		final double... quantiles
+	) {
+		requireNonNull(mapper);
+		final double[] values = quantiles.clone();
+		for (double quantile : values) {
+			check(quantile);
+		}
+
+		return Collector.of(
+			QuantileSketch::new,
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine,
+			sketch -> sketch.quantiles(values)
+		);
+	}
+
+}
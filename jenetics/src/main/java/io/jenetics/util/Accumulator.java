@@ -65,15 +65,16 @@ import java.util.stream.Collector;
  * {@link java.util.stream.Stream#peek(Consumer)} or
  * {@link java.util.stream.Stream#forEach(Consumer)} method. Obtaining a
  * synchronized view of the accumulator with the {@link #synced()} method, will
- * solve this problem. If the accumulator is used as {@link Collector}, the
- * usage in parallel streams is safe.
+ * solve this problem. The {@link #striped()} accumulator is a thread-safe
+ * alternative for highly contended accumulators. If the accumulator is used as
+ * {@link Collector}, the usage in parallel streams is safe.
  *
  * @param <T> the type of input elements to the accumulate operation
  * @param <A> the accumulator type
  * @param <R> the result type of the accumulated operation
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.1
+ * @version 8.1
  * @since 6.1
  */
 public interface Accumulator<T, A extends Accumulator<T, A, R>, R>
@@ -152,6 +153,44 @@ public interface Accumulator<T, A extends Accumulator<T, A, R>, R>
 		return synced(this);
 	}
 
+	/**
+	 * Returns a thread-safe accumulator backed by {@code this} accumulator.
+	 * In contrast to the {@link #synced()} accumulator, the accumulated
+	 * elements are distributed over several partial accumulators, which are
+	 * created with the {@link #supplier()} of {@code this} accumulator. An
+	 * accumulating thread only waits, if all partial accumulators are busy.
+	 * The partial accumulators are combined, when the {@link #result()} is
+	 * requested. This makes the striped accumulator the better choice, if many
+	 * threads are feeding one accumulator, for example the evaluation threads
+	 * of the engine.
+	 *
+	 * {@snippet lang="java":
+	 * final Accumulator<Phenotype<DoubleGene, Double>, ?, DoubleMomentStatistics>
+	 *     fitness = Accumulator
+	 *         .of(toDoubleMomentStatistics(Phenotype<DoubleGene, Double>::fitness))
+	 *         .striped();
+	 * }
+	 *
+	 * @apiNote
+	 * {@code this} accumulator must implement the {@link #combine(Accumulator)}
+	 * method. This is the case for accumulators created with the
+	 * {@link #of(Collector)} method. The accumulated elements are not
+	 * combined in encounter order, which only matters for order dependent
+	 * results.
+	 *
+	 * @since 8.1
+	 *
+	 * @return a striped (thread-safe) accumulator backed by {@code this}
+	 *         accumulator
+	 */
+	default Accumulator<T, ?, R> striped() {
+		@SuppressWarnings("unchecked")
+		final A self = (A)this;
+		return this instanceof StripedAccumulator
+			? this
+			: new StripedAccumulator<>(self);
+	}
+
 	/**
 	 * Create a new accumulator from the given {@code collector}.
 	 *
@@ -0,0 +1,182 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Arrays;
+
+/**
+ * Mutable, primitive reduction of the {@code double} values of one interval
+ * (window). Used by the primitive interval functions of the {@link Streams}
+ * class and the {@link IntervalEmitter}. {@link Double#NaN} values are
+ * ignored.
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+abstract class DoubleInterval {
+
+	int _count = 0;
+
+	/**
+	 * Add the given {@code value} to the current interval.
+	 *
+	 * @param value the value to add
+	 */
+	final void accept(final double value) {
+		if (!Double.isNaN(value)) {
+			add(value);
+			++_count;
+		}
+	}
+
+	abstract void add(final double value);
+
+	/**
+	 * Return {@code true} if no (non-NaN) value has been added to the current
+	 * interval.
+	 *
+	 * @return {@code true} if the current interval is empty
+	 */
+	final boolean isEmpty() {
+		return _count == 0;
+	}
+
+	/**
+	 * Return the result of the current interval, or {@link Double#NaN} if the
+	 * interval is empty.
+	 *
+	 * @return the result of the current interval
+	 */
+	abstract double result();
+
+	/**
+	 * Starts a new interval.
+	 */
+	void reset() {
+		_count = 0;
+	}
+
+	static DoubleInterval max() {
+		return new DoubleInterval() {
+			private double _max = Double.NEGATIVE_INFINITY;
+			@Override
+			void add(final double value) {
+				if (value > _max) {
+					_max = value;
+				}
+			}
+			@Override
+			double result() {
+				return isEmpty() ? Double.NaN : _max;
+			}
+			@Override
+			void reset() {
+				super.reset();
+				_max = Double.NEGATIVE_INFINITY;
+			}
+		};
+	}
+
+	static DoubleInterval min() {
+		return new DoubleInterval() {
+			private double _min = Double.POSITIVE_INFINITY;
+			@Override
+			void add(final double value) {
+				if (value < _min) {
+					_min = value;
+				}
+			}
+			@Override
+			double result() {
+				return isEmpty() ? Double.NaN : _min;
+			}
+			@Override
+			void reset() {
+				super.reset();
+				_min = Double.POSITIVE_INFINITY;
+			}
+		};
+	}
+
+	static DoubleInterval mean() {
+		return new DoubleInterval() {
+			private double _mean = 0;
+			@Override
+			void add(final double value) {
+				_mean += (value - _mean)/(_count + 1);
+			}
+			@Override
+			double result() {
+				return isEmpty() ? Double.NaN : _mean;
+			}
+			@Override
+			void reset() {
+				super.reset();
+				_mean = 0;
+			}
+		};
+	}
+
+	/*
+	 * The quantile is linearly interpolated between the closest ranks. All
+	 * values of the interval are kept in a primitive array, which is reused
+	 * for the following intervals.
+	 */
+	static DoubleInterval quantile(final double quantile, final int capacity) {
+		checkQuantile(quantile);
+
+		return new DoubleInterval() {
+			private double[] _values = new double[Math.max(capacity, 16)];
+			@Override
+			void add(final double value) {
+				if (_count == _values.length) {
+					_values = Arrays.copyOf(_values, _count*2);
+				}
+				_values[_count] = value;
+			}
+			@Override
+			double result() {
+				if (isEmpty()) {
+					return Double.NaN;
+				}
+
+				Arrays.sort(_values, 0, _count);
+				final double rank = quantile*(_count - 1);
+				final int lower = (int)rank;
+				final int upper = Math.min(lower + 1, _count - 1);
+				return _values[lower] +
+					(rank - lower)*(_values[upper] - _values[lower]);
+			}
+		};
+	}
+
+	static void checkQuantile(final double quantile) {
+		if (!(quantile >= 0 && quantile <= 1)) {
+			throw new IllegalArgumentException(
+				"Quantile not in range [0, 1]: " + quantile
+			);
+		}
+	}
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Emits a windowed value of the accepted {@code double} values on every
+ * wall-clock <em>tick</em>. In contrast to the time-based interval functions
+ * of the {@link Streams} class, the values are emitted by a separate thread.
+ * A value is therefore emitted even if no new element arrives, e.g. because
+ * of slow generations. If no element has been accepted since the last tick,
+ * the last emitted value is emitted again. Nothing is emitted before the
+ * first (non-NaN) element has been accepted.
+ *
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = null; // @replace substring='null' replacement="..."
+ *
+ * try (var emitter = IntervalEmitter.ofMax(Duration.ofSeconds(1), dashboard::update)) {
+ *     engine.stream()
+ *         .limit(100_000)
+ *         .mapToDouble(EvolutionResult::bestFitness)
+ *         .forEach(emitter);
+ * }
+ * }
+ *
+ * @implNote
+ * The accepted values are reduced without allocating objects. The
+ * {@code listener} is called from the emitter thread. If the listener throws
+ * an exception, no further values are emitted.
+ *
+ * @see Streams#toDoubleIntervalMax(Duration)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+public final class IntervalEmitter implements DoubleConsumer, AutoCloseable {
+
+	private final DoubleInterval _interval;
+	private final DoubleConsumer _listener;
+	private final ScheduledExecutorService _scheduler;
+	private final ScheduledFuture<?> _task;
+
+	private boolean _emitted = false;
+	private double _last = Double.NaN;
+
+	private IntervalEmitter(
+		final DoubleInterval interval,
+		final Duration tick,
+		final DoubleConsumer listener
+	) {
+		requireNonNull(tick);
+		if (tick.isNegative() || tick.isZero()) {
+			throw new IllegalArgumentException(
+				"Tick must be positive: " + tick
+			);
+		}
+
+		_interval = interval;
+		_listener = requireNonNull(listener);
+		_scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "interval-emitter");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		final long nanos = tick.toNanos();
+		_task = _scheduler.scheduleAtFixedRate(
+			this::tick, nanos, nanos, TimeUnit.NANOSECONDS
+		);
+	}
+
+	/**
+	 * Adds the given {@code value} to the current interval.
+	 * {@link Double#NaN} values are ignored.
+	 *
+	 * @param value the value to add
+	 */
+	@Override
+	public void accept(final double value) {
+		synchronized (_interval) {
+			_interval.accept(value);
+		}
+	}
+
+	private void tick() {
+		final double value;
+		synchronized (_interval) {
+			if (!_interval.isEmpty()) {
+				_last = _interval.result();
+				_emitted = true;
+				_interval.reset();
+			} else if (!_emitted) {
+				return;
+			}
+			value = _last;
+		}
+
+		_listener.accept(value);
+	}
+
+	/**
+	 * Stops the emitter. No values are emitted after this call returns,
+	 * except for a currently running emission.
+	 */
+	@Override
+	public void close() {
+		_task.cancel(false);
+		_scheduler.shutdown();
+	}
+
+	private static IntervalEmitter of(
+		final Supplier<DoubleInterval> interval,
+		final Duration tick,
+		final DoubleConsumer listener
+	) {
+		return new IntervalEmitter(interval.get(), tick, listener);
+	}
+
+	/**
+	 * Return a new emitter which emits the maximal value of every tick
+	 * interval.
+	 *
+	 * @param tick the tick interval
+	 * @param listener the consumer of the emitted values
+	 * @return a new, started emitter
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code tick} is not positive
+	 */
+	public static IntervalEmitter
+	ofMax(final Duration tick, final DoubleConsumer listener) {
+		return of(DoubleInterval::max, tick, listener);
+	}
+
+	/**
+	 * Return a new emitter which emits the minimal value of every tick
+	 * interval.
+	 *
+	 * @param tick the tick interval
+	 * @param listener the consumer of the emitted values
+	 * @return a new, started emitter
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code tick} is not positive
+	 */
+	public static IntervalEmitter
+	ofMin(final Duration tick, final DoubleConsumer listener) {
+		return of(DoubleInterval::min, tick, listener);
+	}
+
+	/**
+	 * Return a new emitter which emits the arithmetic mean of every tick
+	 * interval.
+	 *
+	 * @param tick the tick interval
+	 * @param listener the consumer of the emitted values
+	 * @return a new, started emitter
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code tick} is not positive
+	 */
+	public static IntervalEmitter
+	ofMean(final Duration tick, final DoubleConsumer listener) {
+		return of(DoubleInterval::mean, tick, listener);
+	}
+
+	/**
+	 * Return a new emitter which emits the given {@code quantile} of every
+	 * tick interval. The quantile is linearly interpolated between the
+	 * closest ranks.
+	 *
+	 * @param quantile the requested quantile, within the range {@code [0, 1]}
+	 * @param tick the tick interval
+	 * @param listener the consumer of the emitted values
+	 * @return a new, started emitter
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code tick} is not positive or
+	 *         the {@code quantile} is not within the range {@code [0, 1]}
+	 */
+	public static IntervalEmitter ofQuantile(
+		final double quantile,
+		final Duration tick,
+		final DoubleConsumer listener
+	) {
+		DoubleInterval.checkQuantile(quantile);
+		return of(() -> DoubleInterval.quantile(quantile, 0), tick, listener);
+	}
+
+}
@@ -26,7 +26,14 @@ import java.time.Clock;
 import java.time.Duration;
 import java.util.Comparator;
 import java.util.function.BinaryOperator;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.DoubleStream.DoubleMapMultiConsumer;
+import java.util.stream.LongStream.LongMapMultiConsumer;
 import java.util.stream.Stream;
 
 /**
@@ -40,9 +47,22 @@ import java.util.stream.Stream;
  *     .collect(ISeq.toISeq());
  * }
  *
+ * The {@code toDoubleInterval*} and {@code toLongInterval*} functions are the
+ * primitive counterparts of the {@code toInterval*} functions. They are used
+ * with the {@code mapMulti} method of the primitive streams and don't
+ * allocate objects per stream element.
+ *
+ * {@snippet lang="java":
+ * final double[] values = new Random().doubles(1000)
+ *     .mapMulti(Streams.toDoubleIntervalMean(100))
+ *     .toArray();
+ * }
+ *
+ * @see IntervalEmitter
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 6.0
- * @version 6.0
+ * @version 8.1
  */
 public final class Streams {
 	private Streams() {}
@@ -464,4 +484,474 @@ public final class Streams {
 		};
 	}
 
+	/* *************************************************************************
+	 * Primitive interval functions.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the maximal value of the last <em>n</em> elements.
+	 * {@link Double#NaN} values are ignored. If all elements of an interval
+	 * are {@code NaN}, {@code NaN} is emitted.
+	 *
+	 * <pre>{@code
+	 *          +----3---+----3---+
+	 *          |        |        |
+	 *     +----9--8--3--3--5--4--2--9----|
+	 *        toDoubleIntervalMax(3)
+	 *     +----------9--------5----------|
+	 * }</pre>
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMax(int)
+	 *
+	 * @param size the size of the slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the given size is smaller than one
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalMax(final int size) {
+		return doubleSlice(DoubleInterval::max, size);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the maximal value of the elements emitted within
+	 * the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMax(Duration)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @return a new map-multi function
+	 * @throws NullPointerException if the given {@code timespan} is {@code null}
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalMax(final Duration timespan) {
+		return doubleSlice(DoubleInterval::max, timespan, systemUTC());
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the maximal value of the elements emitted within
+	 * the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMax(Duration, Clock)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @param clock the {@code clock} used for measuring the {@code timespan}
+	 * @return a new map-multi function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static DoubleMapMultiConsumer
+	toDoubleIntervalMax(final Duration timespan, final Clock clock) {
+		return doubleSlice(DoubleInterval::max, timespan, clock);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the minimal value of the last <em>n</em> elements.
+	 * {@link Double#NaN} values are ignored. If all elements of an interval
+	 * are {@code NaN}, {@code NaN} is emitted.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMin(int)
+	 *
+	 * @param size the size of the slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the given size is smaller than one
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalMin(final int size) {
+		return doubleSlice(DoubleInterval::min, size);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the minimal value of the elements emitted within
+	 * the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMin(Duration)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @return a new map-multi function
+	 * @throws NullPointerException if the given {@code timespan} is {@code null}
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalMin(final Duration timespan) {
+		return doubleSlice(DoubleInterval::min, timespan, systemUTC());
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the minimal value of the elements emitted within
+	 * the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMin(Duration, Clock)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @param clock the {@code clock} used for measuring the {@code timespan}
+	 * @return a new map-multi function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static DoubleMapMultiConsumer
+	toDoubleIntervalMin(final Duration timespan, final Clock clock) {
+		return doubleSlice(DoubleInterval::min, timespan, clock);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the arithmetic mean of the last <em>n</em>
+	 * elements. {@link Double#NaN} values are ignored. If all elements of an
+	 * interval are {@code NaN}, {@code NaN} is emitted.
+	 *
+	 * @since 8.1
+	 *
+	 * @param size the size of the slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the given size is smaller than one
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalMean(final int size) {
+		return doubleSlice(DoubleInterval::mean, size);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the arithmetic mean of the elements emitted within
+	 * the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @return a new map-multi function
+	 * @throws NullPointerException if the given {@code timespan} is {@code null}
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalMean(final Duration timespan) {
+		return doubleSlice(DoubleInterval::mean, timespan, systemUTC());
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the arithmetic mean of the elements emitted within
+	 * the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @param clock the {@code clock} used for measuring the {@code timespan}
+	 * @return a new map-multi function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static DoubleMapMultiConsumer
+	toDoubleIntervalMean(final Duration timespan, final Clock clock) {
+		return doubleSlice(DoubleInterval::mean, timespan, clock);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the given {@code quantile} of the last <em>n</em>
+	 * elements. The quantile is linearly interpolated between the closest
+	 * ranks. {@link Double#NaN} values are ignored. If all elements of an
+	 * interval are {@code NaN}, {@code NaN} is emitted.
+	 *
+	 * {@snippet lang="java":
+	 * final double[] medians = new Random().doubles(1000)
+	 *     .mapMulti(Streams.toDoubleIntervalQuantile(0.5, 100))
+	 *     .toArray();
+	 * }
+	 *
+	 * @since 8.1
+	 *
+	 * @param quantile the requested quantile, within the range {@code [0, 1]}
+	 * @param size the size of the slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the given size is smaller than one
+	 *         or the {@code quantile} is not within the range {@code [0, 1]}
+	 */
+	public static DoubleMapMultiConsumer
+	toDoubleIntervalQuantile(final double quantile, final int size) {
+		DoubleInterval.checkQuantile(quantile);
+		return doubleSlice(() -> DoubleInterval.quantile(quantile, size), size);
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the given {@code quantile} of the elements emitted
+	 * within the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @param quantile the requested quantile, within the range {@code [0, 1]}
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the {@code quantile} is not within
+	 *         the range {@code [0, 1]}
+	 * @throws NullPointerException if the given {@code timespan} is {@code null}
+	 */
+	public static DoubleMapMultiConsumer
+	toDoubleIntervalQuantile(final double quantile, final Duration timespan) {
+		return toDoubleIntervalQuantile(quantile, timespan, systemUTC());
+	}
+
+	/**
+	 * Return a new {@link DoubleStream#mapMulti(DoubleMapMultiConsumer)}
+	 * function which emits the given {@code quantile} of the elements emitted
+	 * within the given {@code timespan}. {@link Double#NaN} values are ignored.
+	 *
+	 * @since 8.1
+	 *
+	 * @param quantile the requested quantile, within the range {@code [0, 1]}
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @param clock the {@code clock} used for measuring the {@code timespan}
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the {@code quantile} is not within
+	 *         the range {@code [0, 1]}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static DoubleMapMultiConsumer toDoubleIntervalQuantile(
+		final double quantile,
+		final Duration timespan,
+		final Clock clock
+	) {
+		DoubleInterval.checkQuantile(quantile);
+		return doubleSlice(
+			() -> DoubleInterval.quantile(quantile, 0),
+			timespan,
+			clock
+		);
+	}
+
+	private static DoubleMapMultiConsumer doubleSlice(
+		final Supplier<DoubleInterval> interval,
+		final int rangeSize
+	) {
+		if (rangeSize < 1) {
+			throw new IllegalArgumentException(
+				"Range size must be at least one: " + rangeSize
+			);
+		}
+
+		return new DoubleMapMultiConsumer() {
+			private final DoubleInterval _interval = interval.get();
+			private int _count = 0;
+
+			@Override
+			public void accept(final double value, final DoubleConsumer result) {
+				_interval.accept(value);
+
+				if (++_count >= rangeSize) {
+					result.accept(_interval.result());
+					_interval.reset();
+					_count = 0;
+				}
+			}
+		};
+	}
+
+	private static DoubleMapMultiConsumer doubleSlice(
+		final Supplier<DoubleInterval> interval,
+		final Duration timespan,
+		final Clock clock
+	) {
+		requireNonNull(timespan);
+		requireNonNull(clock);
+
+		return new DoubleMapMultiConsumer() {
+			private final DoubleInterval _interval = interval.get();
+			private final long _timespan = timespan.toMillis();
+			private long _start = 0;
+
+			@Override
+			public void accept(final double value, final DoubleConsumer result) {
+				if (_start == 0) {
+					_start = clock.millis();
+				}
+
+				_interval.accept(value);
+				if (clock.millis() - _start >= _timespan) {
+					result.accept(_interval.result());
+					_interval.reset();
+					_start = 0;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Return a new {@link java.util.stream.LongStream#mapMulti(LongMapMultiConsumer)}
+	 * function which emits the maximal value of the last <em>n</em> elements.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMax(int)
+	 *
+	 * @param size the size of the slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the given size is smaller than one
+	 */
+	public static LongMapMultiConsumer toLongIntervalMax(final int size) {
+		return longSlice(Math::max, size);
+	}
+
+	/**
+	 * Return a new {@link java.util.stream.LongStream#mapMulti(LongMapMultiConsumer)}
+	 * function which emits the maximal value of the elements emitted within
+	 * the given {@code timespan}.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMax(Duration)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @return a new map-multi function
+	 * @throws NullPointerException if the given {@code timespan} is {@code null}
+	 */
+	public static LongMapMultiConsumer toLongIntervalMax(final Duration timespan) {
+		return longSlice(Math::max, timespan, systemUTC());
+	}
+
+	/**
+	 * Return a new {@link java.util.stream.LongStream#mapMulti(LongMapMultiConsumer)}
+	 * function which emits the maximal value of the elements emitted within
+	 * the given {@code timespan}.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMax(Duration, Clock)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @param clock the {@code clock} used for measuring the {@code timespan}
+	 * @return a new map-multi function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static LongMapMultiConsumer
+	toLongIntervalMax(final Duration timespan, final Clock clock) {
+		return longSlice(Math::max, timespan, clock);
+	}
+
+	/**
+	 * Return a new {@link java.util.stream.LongStream#mapMulti(LongMapMultiConsumer)}
+	 * function which emits the minimal value of the last <em>n</em> elements.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMin(int)
+	 *
+	 * @param size the size of the slice
+	 * @return a new map-multi function
+	 * @throws IllegalArgumentException if the given size is smaller than one
+	 */
+	public static LongMapMultiConsumer toLongIntervalMin(final int size) {
+		return longSlice(Math::min, size);
+	}
+
+	/**
+	 * Return a new {@link java.util.stream.LongStream#mapMulti(LongMapMultiConsumer)}
+	 * function which emits the minimal value of the elements emitted within
+	 * the given {@code timespan}.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMin(Duration)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @return a new map-multi function
+	 * @throws NullPointerException if the given {@code timespan} is {@code null}
+	 */
+	public static LongMapMultiConsumer toLongIntervalMin(final Duration timespan) {
+		return longSlice(Math::min, timespan, systemUTC());
+	}
+
+	/**
+	 * Return a new {@link java.util.stream.LongStream#mapMulti(LongMapMultiConsumer)}
+	 * function which emits the minimal value of the elements emitted within
+	 * the given {@code timespan}.
+	 *
+	 * @since 8.1
+	 *
+	 * @see #toIntervalMin(Duration, Clock)
+	 *
+	 * @param timespan the timespan the elements are collected for the
+	 *        calculation slice
+	 * @param clock the {@code clock} used for measuring the {@code timespan}
+	 * @return a new map-multi function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static LongMapMultiConsumer
+	toLongIntervalMin(final Duration timespan, final Clock clock) {
+		return longSlice(Math::min, timespan, clock);
+	}
+
+	private static LongMapMultiConsumer longSlice(
+		final LongBinaryOperator best,
+		final int rangeSize
+	) {
+		if (rangeSize < 1) {
+			throw new IllegalArgumentException(
+				"Range size must be at least one: " + rangeSize
+			);
+		}
+
+		return new LongMapMultiConsumer() {
+			private int _count = 0;
+			private long _best;
+
+			@Override
+			public void accept(final long value, final LongConsumer result) {
+				_best = _count == 0 ? value : best.applyAsLong(_best, value);
+
+				if (++_count >= rangeSize) {
+					result.accept(_best);
+					_count = 0;
+				}
+			}
+		};
+	}
+
+	private static LongMapMultiConsumer longSlice(
+		final LongBinaryOperator best,
+		final Duration timespan,
+		final Clock clock
+	) {
+		requireNonNull(timespan);
+		requireNonNull(clock);
+
+		return new LongMapMultiConsumer() {
+			private final long _timespan = timespan.toMillis();
+			private long _start = 0;
+			private long _best;
+
+			@Override
+			public void accept(final long value, final LongConsumer result) {
+				if (_start == 0) {
+					_start = clock.millis();
+					_best = value;
+				} else {
+					_best = best.applyAsLong(_best, value);
+				}
+
+				if (clock.millis() - _start >= _timespan) {
+					result.accept(_best);
+					_start = 0;
+				}
+			}
+		};
+	}
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Collections.addAll;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe accumulator, which distributes the accumulated elements over
+ * several <em>cells</em>. Every cell contains its own partial accumulator.
+ * An accumulating thread never waits for a busy cell, as long as there is
+ * another free cell. The partial accumulators are combined when the result is
+ * requested.
+ *
+ * @param <T> the type of input elements to the accumulate operation
+ * @param <A> the accumulator type
+ * @param <R> the result type of the accumulated operation
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 8.1
+ * @since 8.1
+ */
+final class StripedAccumulator<T, A extends Accumulator<T, A, R>, R>
+	implements Accumulator<T, StripedAccumulator<T, A, R>, R>
+{
+
+	private static final int MAX_CELLS = 64;
+
+	private static final class Cell<A> {
+		private final A accumulator;
+		private final AtomicBoolean busy = new AtomicBoolean();
+
+		private Cell(final A accumulator) {
+			this.accumulator = accumulator;
+		}
+
+		private boolean tryLock() {
+			return !busy.get() && busy.compareAndSet(false, true);
+		}
+
+		private void lock() {
+			while (!tryLock()) {
+				Thread.onSpinWait();
+			}
+		}
+
+		private void unlock() {
+			busy.set(false);
+		}
+	}
+
+	private final Supplier<A> _supplier;
+	private final AtomicReferenceArray<Cell<A>> _cells;
+	private final int _mask;
+	private final Set<Characteristics> _characteristics;
+
+	StripedAccumulator(final A accumulator, final int cells) {
+		_supplier = accumulator.supplier();
+		_cells = new AtomicReferenceArray<>(cells);
+		_cells.set(0, new Cell<>(accumulator));
+		_mask = cells - 1;
+
+		final var cs = EnumSet.noneOf(Characteristics.class);
+		addAll(cs, accumulator.characteristics().toArray(Characteristics[]::new));
+		addAll(cs, Characteristics.CONCURRENT);
+		_characteristics = Collections.unmodifiableSet(cs);
+	}
+
+	StripedAccumulator(final A accumulator) {
+		this(requireNonNull(accumulator), cells());
+	}
+
+	// The number of cells: the next power of two of the number of processors.
+	private static int cells() {
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final int cells = Integer.highestOneBit(Math.max(processors, 1)*2 - 1);
+		return Math.min(Math.max(cells, 2), MAX_CELLS);
+	}
+
+	private Cell<A> cell(final int index) {
+		Cell<A> cell = _cells.get(index);
+		if (cell == null) {
+			final var created = new Cell<>(_supplier.get());
+			cell = _cells.compareAndExchange(index, null, created);
+			if (cell == null) {
+				cell = created;
+			}
+		}
+		return cell;
+	}
+
+	// The start cell index of the current thread.
+	private static int probe() {
+		final long id = Thread.currentThread().threadId();
+		final long hash = id*0x9E3779B97F4A7C15L;
+		return (int)(hash ^ (hash >>> 32));
+	}
+
+	@Override
+	public void accept(final T value) {
+		int index = probe() & _mask;
+		for (int i = 0;; ++i) {
+			final Cell<A> cell = cell(index);
+			if (cell.tryLock()) {
+				try {
+					cell.accumulator.accept(value);
+				} finally {
+					cell.unlock();
+				}
+				return;
+			}
+
+			index = (index + 1) & _mask;
+			if (i >= _mask) {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	@Override
+	public StripedAccumulator<T, A, R>
+	combine(final StripedAccumulator<T, A, R> other) {
+		final A accumulator = other.merge();
+
+		final Cell<A> cell = cell(probe() & _mask);
+		cell.lock();
+		try {
+			cell.accumulator.combine(accumulator);
+		} finally {
+			cell.unlock();
+		}
+
+		return this;
+	}
+
+	// Combines the partial accumulators into a new accumulator.
+	private A merge() {
+		final A result = _supplier.get();
+		for (int i = 0; i < _cells.length(); ++i) {
+			final Cell<A> cell = _cells.get(i);
+			if (cell != null) {
+				cell.lock();
+				try {
+					result.combine(cell.accumulator);
+				} finally {
+					cell.unlock();
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public R result() {
+		return merge().result();
+	}
+
+	@Override
+	public Supplier<StripedAccumulator<T, A, R>> supplier() {
+		return () -> new StripedAccumulator<>(_supplier.get(), _cells.length());
+	}
+
+	@Override
+	public Set<Characteristics> characteristics() {
+		return _characteristics;
+	}
+
+}
@@ -111,5 +111,34 @@ public class GaussianMutatorTest extends MutatorTester {
 		Assert.assertSame(gene1, gene);
 	}
 
+	@Test
+	public void mutateWithSigma() {
+		final var mutator = new GaussianMutator<DoubleGene, Double>(0.5, 0.1) {
+			public DoubleGene mutate(
+				final DoubleGene gene,
+				final RandomGenerator random
+			) {
+				return super.mutate(gene, random);
+			}
+		};
+		final double[] stddev = {0};
+		final var random = new Random() {
+			@Override
+			public double nextGaussian(double mean, double sd) {
+				stddev[0] = sd;
+				return mean;
+			}
+		};
+
+		mutator.mutate(DoubleGene.of(5, 0, 10), random);
+		Assert.assertEquals(stddev[0], 1.0, 1e-12);
+		Assert.assertEquals(mutator.sigma(), 0.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSigma() {
+		new GaussianMutator<DoubleGene, Double>(0.5, 0);
+	}
+
 }
 
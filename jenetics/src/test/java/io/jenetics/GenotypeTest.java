@@ -144,4 +144,20 @@ public class GenotypeTest extends ObjectTester<Genotype<DoubleGene>> {
 		assertThat(slice).isEqualTo(expected);
 	}
 
+	@Test
+	public void fingerprint() {
+		final var gt1 = Genotype.of(
+			DoubleChromosome.of(0.0, 1.0, 8),
+			DoubleChromosome.of(1.0, 2.0, 10)
+		);
+		final var gt2 = Genotype.of(gt1.get(0), gt1.get(1));
+		final var gt3 = gt1.newInstance();
+
+		assertThat(gt1.fingerprint()).isEqualTo(gt2.fingerprint());
+		assertThat(gt1.hashCode()).isEqualTo(gt2.hashCode());
+		assertThat(gt1.fingerprint()).isNotEqualTo(gt3.fingerprint());
+		assertThat(gt1).isEqualTo(gt2);
+		assertThat(gt1).isNotEqualTo(gt3);
+	}
+
 }
@@ -0,0 +1,243 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.GaussianMutator;
+import io.jenetics.Genotype;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AdaptiveAltererTest {
+
+	private static final Genotype<DoubleGene> GENOTYPE =
+		Genotype.of(DoubleChromosome.of(0, 1, 3));
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return ISeq.of(() -> Phenotype.of(GENOTYPE.newInstance(), 0, 0.0), size);
+	}
+
+	// Replaces every individual with a new, not evaluated one.
+	private static Alterer<DoubleGene, Double>
+	replacing(final Set<Genotype<DoubleGene>> created) {
+		return (population, generation) -> new AltererResult<>(
+			population.map(pt -> {
+				final var gt = GENOTYPE.newInstance();
+				created.add(gt);
+				return Phenotype.<DoubleGene, Double>of(gt, generation);
+			}).asISeq(),
+			population.size()
+		);
+	}
+
+	private static Set<Genotype<DoubleGene>> identitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	// Evaluates the population and feeds the result back to the alterer.
+	private static void feedback(
+		final AdaptiveAlterer<DoubleGene, Double> alterer,
+		final ISeq<Phenotype<DoubleGene, Double>> population,
+		final Set<Genotype<DoubleGene>> successful,
+		final long generation
+	) {
+		final var evaluated = population.map(pt ->
+			pt.isEvaluated()
+				? pt
+				: pt.withFitness(successful.contains(pt.genotype()) ? 1.0 : -1.0)
+		);
+
+		final var result = EvolutionResult.of(
+			Optimize.MAXIMUM,
+			evaluated,
+			generation,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		);
+		assertThat(alterer.interceptor().after(result)).isSameAs(result);
+	}
+
+	@Test
+	public void oneFifthRuleIncrease() {
+		final Set<Genotype<DoubleGene>> created = identitySet();
+		final var alterer = new OneFifthRuleAlterer<DoubleGene, Double>(
+			value -> replacing(created), 0.1, 0.01, 0.2, 0.5
+		);
+
+		final var offspring = alterer.alter(population(10), 1).population();
+		feedback(alterer, offspring, created, 1);
+		assertThat(alterer.value()).isEqualTo(0.2);
+
+		// Upper limit.
+		final var offspring2 = alterer.alter(population(10), 2).population();
+		feedback(alterer, offspring2, created, 2);
+		assertThat(alterer.value()).isEqualTo(0.2);
+	}
+
+	@Test
+	public void oneFifthRuleDecrease() {
+		final Set<Genotype<DoubleGene>> created = identitySet();
+		final var alterer = new OneFifthRuleAlterer<DoubleGene, Double>(
+			value -> replacing(created), 0.1, 0.04, 1.0, 0.5
+		);
+
+		for (int generation = 1; generation <= 3; ++generation) {
+			final var offspring = alterer.alter(population(10), generation)
+				.population();
+			feedback(alterer, offspring, identitySet(), generation);
+		}
+		assertThat(alterer.value()).isEqualTo(0.04);
+	}
+
+	@Test
+	public void oneFifthRuleTargetRate() {
+		final Set<Genotype<DoubleGene>> created = identitySet();
+		final var alterer = new OneFifthRuleAlterer<DoubleGene, Double>(
+			value -> replacing(created), 0.1, 0.01, 1.0
+		);
+
+		final var offspring = alterer.alter(population(10), 1).population();
+		final Set<Genotype<DoubleGene>> successful = identitySet();
+		successful.add(offspring.get(0).genotype());
+		successful.add(offspring.get(1).genotype());
+
+		feedback(alterer, offspring, successful, 1);
+		assertThat(alterer.value()).isEqualTo(0.1);
+	}
+
+	@Test
+	public void oneFifthRuleWithoutOffspring() {
+		final var alterer = new OneFifthRuleAlterer<DoubleGene, Double>(
+			value -> (population, generation) -> new AltererResult<>(population.asISeq()),
+			0.1, 0.01, 1.0
+		);
+
+		final var population = population(10);
+		alterer.alter(population, 1);
+		feedback(alterer, population, identitySet(), 1);
+		assertThat(alterer.value()).isEqualTo(0.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void oneFifthRuleInvalidRange() {
+		new OneFifthRuleAlterer<DoubleGene, Double>(
+			GaussianMutator::new, 0.5, 0.6, 1.0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void oneFifthRuleInvalidFactor() {
+		new OneFifthRuleAlterer<DoubleGene, Double>(
+			GaussianMutator::new, 0.5, 0.1, 1.0, 1.0
+		);
+	}
+
+	@Test
+	public void adaptivePursuit() {
+		final Set<Genotype<DoubleGene>> good = identitySet();
+		final Set<Genotype<DoubleGene>> bad = identitySet();
+		final var alterer = new AdaptivePursuitAlterer<DoubleGene, Double>(
+			ISeq.of(replacing(bad), replacing(good)),
+			0.8, 0.8, 0.05
+		);
+		assertThat(alterer.probabilities()).isEqualTo(new double[]{0.5, 0.5});
+
+		for (int generation = 1; generation <= 10; ++generation) {
+			final var result = alterer.alter(population(100), generation);
+			assertThat(result.population()).hasSize(100);
+			assertThat(result.alterations()).isEqualTo(100);
+
+			feedback(alterer, result.population(), good, generation);
+		}
+
+		final double[] probabilities = alterer.probabilities();
+		assertThat(Math.abs(probabilities[0] - 0.05)).isLessThanOrEqualTo(1e-3);
+		assertThat(Math.abs(probabilities[1] - 0.95)).isLessThanOrEqualTo(1e-3);
+	}
+
+	@Test
+	public void adaptivePursuitKeepsOrder() {
+		final var alterer = new AdaptivePursuitAlterer<DoubleGene, Double>(
+			(population, generation) -> new AltererResult<>(population.asISeq()),
+			(population, generation) -> new AltererResult<>(population.asISeq())
+		);
+
+		final var population = population(50);
+		final var result = alterer.alter(population, 1);
+		assertThat(result.population()).isEqualTo(population);
+		assertThat(result.alterations()).isEqualTo(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void adaptivePursuitInvalidMinProbability() {
+		new AdaptivePursuitAlterer<DoubleGene, Double>(
+			ISeq.of(new GaussianMutator<>(), new MeanAlterer<>()),
+			0.8, 0.8, 0.5
+		);
+	}
+
+	@Test
+	public void engine() {
+		final var mutator = new OneFifthRuleAlterer<DoubleGene, Double>(
+			sigma -> new GaussianMutator<>(0.3, sigma), 0.25, 0.001, 1.0
+		);
+		final var pursuit = new AdaptivePursuitAlterer<DoubleGene, Double>(
+			new GaussianMutator<>(0.5),
+			new MeanAlterer<>(0.6)
+		);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> -gt.chromosome().stream()
+					.mapToDouble(g -> (g.doubleValue() - 0.5)*(g.doubleValue() - 0.5))
+					.sum(),
+				DoubleChromosome.of(0, 1, 5))
+			.alterers(mutator, pursuit)
+			.interceptor(mutator.interceptor().compose(pursuit.interceptor()))
+			.build();
+
+		final var best = engine.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		assertThat(best.bestFitness()).isGreaterThan(-0.1);
+		assertThat(mutator.value()).isNotEqualTo(0.25);
+		assertThat(mutator.value()).isLessThanOrEqualTo(1.0);
+		assertThat(mutator.value()).isGreaterThanOrEqualTo(0.001);
+		assertThat(pursuit.probabilities()).isNotEqualTo(new double[]{0.5, 0.5});
+	}
+
+}
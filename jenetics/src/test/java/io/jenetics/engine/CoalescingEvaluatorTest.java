@@ -0,0 +1,149 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BatchExecutor;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CoalescingEvaluatorTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	population(final ISeq<Genotype<DoubleGene>> genotypes, final int copies) {
+		return genotypes.stream()
+			.flatMap(gt -> ISeq.of(() -> gt, copies).stream())
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void evaluateDistinctGenotypesOnce() {
+		final var genotypes = Genotype.of(DoubleChromosome.of(0, 1)).instances()
+			.limit(10)
+			.collect(ISeq.toISeq());
+		final var population = population(genotypes, 5);
+
+		final var count = new AtomicInteger();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.coalescing(
+			Evaluators.<DoubleGene, Double>concurrent(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				BatchExecutor.of(Runnable::run)
+			)
+		);
+
+		final var evaluated = evaluator.eval(population);
+		assertThat(count.get()).isEqualTo(genotypes.size());
+		assertThat(evaluated.size()).isEqualTo(population.size());
+		evaluated.forEach(pt ->
+			assertThat(pt.fitness()).isEqualTo(pt.genotype().gene().doubleValue())
+		);
+	}
+
+	@Test
+	public void reuseEvaluatedFitness() {
+		final var genotypes = Genotype.of(DoubleChromosome.of(0, 1)).instances()
+			.limit(10)
+			.collect(ISeq.toISeq());
+		final var population = population(genotypes, 2)
+			.map(pt -> pt.withFitness(1.0))
+			.append(population(genotypes, 2));
+
+		final var count = new AtomicInteger();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.coalescing(
+			Evaluators.<DoubleGene, Double>concurrent(
+				gt -> (double)count.incrementAndGet(),
+				BatchExecutor.of(Runnable::run)
+			)
+		);
+
+		final var evaluated = evaluator.eval(population);
+		assertThat(count.get()).isZero();
+		evaluated.forEach(pt -> assertThat(pt.fitness()).isEqualTo(1.0));
+	}
+
+	@Test
+	public void coalesceConcurrentEvaluations() throws Exception {
+		final var genotypes = Genotype.of(DoubleChromosome.of(0, 1)).instances()
+			.limit(10)
+			.collect(ISeq.toISeq());
+
+		final var count = new AtomicInteger();
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.coalescing(
+			Evaluators.<DoubleGene, Double>concurrent(
+				gt -> {
+					count.incrementAndGet();
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return gt.gene().doubleValue();
+				},
+				BatchExecutor.of(Runnable::run)
+			)
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Future<ISeq<Phenotype<DoubleGene, Double>>> first =
+				executor.submit(() -> evaluator.eval(population(genotypes, 1)));
+			started.await();
+
+			final Future<ISeq<Phenotype<DoubleGene, Double>>> second =
+				executor.submit(() -> evaluator.eval(population(genotypes, 3)));
+			Thread.sleep(100);
+			release.countDown();
+
+			assertThat(first.get().size()).isEqualTo(genotypes.size());
+			assertThat(second.get().size()).isEqualTo(3*genotypes.size());
+			second.get().forEach(pt ->
+				assertThat(pt.fitness()).isEqualTo(pt.genotype().gene().doubleValue())
+			);
+
+			// The second call might start after some genotypes are evaluated.
+			assertThat(count.get()).isLessThan(2*genotypes.size());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+}
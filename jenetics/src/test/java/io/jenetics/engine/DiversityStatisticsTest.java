@@ -0,0 +1,82 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.stat.DoubleMomentStatistics;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DiversityStatisticsTest {
+
+	@Test
+	public void evolutionStatistics() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().allele(), DoubleChromosome.of(0, 1, 3))
+			.populationSize(100)
+			.build();
+
+		final var diversity = new DiversityStatistics(20);
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber(diversity);
+
+		engine.stream()
+			.limit(15)
+			.forEach(statistics);
+
+		assertThat(statistics.diversity().orElseThrow()).isSameAs(diversity);
+		assertThat(diversity.uniqueGenotypes().count()).isEqualTo(15L);
+		assertThat(diversity.distance().count()).isEqualTo(15L);
+		assertThat(diversity.geneVariance().count()).isEqualTo(15L);
+		assertThat(diversity.uniqueGenotypes().max()).isLessThanOrEqualTo(110.0);
+		assertThat(diversity.distance().max()).isLessThanOrEqualTo(3.0);
+		assertThat(diversity.latest()).isPresent();
+		assertThat(statistics.toString()).contains("Diversity statistics");
+	}
+
+	@Test
+	public void disabledByDefault() {
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber();
+
+		assertThat(statistics.diversity()).isEmpty();
+		assertThat(statistics.toString()).doesNotContain("Diversity statistics");
+	}
+
+	@Test
+	public void noPopulation() {
+		final var diversity = new DiversityStatistics();
+		assertThat(diversity.latest()).isEmpty();
+		assertThat(diversity.sampleSize())
+			.isEqualTo(DiversityStatistics.DEFAULT_SAMPLE_SIZE);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSampleSize() {
+		new DiversityStatistics(1);
+	}
+
+}
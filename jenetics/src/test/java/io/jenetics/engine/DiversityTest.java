@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DiversityTest {
+
+	private static <G extends io.jenetics.Gene<?, G>>
+	ISeq<Phenotype<G, Double>> population(
+		final Genotype<G> genotype,
+		final int size
+	) {
+		return ISeq.<Phenotype<G, Double>>of(
+			() -> Phenotype.of(genotype.newInstance(), 1),
+			size
+		);
+	}
+
+	@Test
+	public void uniformPopulation() {
+		final var genotype = Genotype.of(DoubleChromosome.of(0, 10, 20));
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			ISeq.of(() -> Phenotype.of(genotype, 1), 100);
+
+		final Diversity diversity = Diversity.of(population, 32);
+		assertThat(Math.round(diversity.uniqueGenotypes())).isEqualTo(1L);
+		assertThat(diversity.distance()).isEqualTo(0.0);
+		assertThat(diversity.entropy()).isEqualTo(0.0);
+		assertThat(diversity.geneVariance()).isEqualTo(0.0);
+	}
+
+	@Test
+	public void exactForSmallPopulations() {
+		final var population = population(
+			Genotype.of(BitChromosome.of(10), BitChromosome.of(30)),
+			50
+		);
+
+		final Diversity diversity = Diversity.of(population, 50);
+
+		double distance = 0;
+		int pairs = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			for (int j = i + 1; j < population.size(); ++j) {
+				distance += hamming(
+					population.get(i).genotype(),
+					population.get(j).genotype()
+				);
+				++pairs;
+			}
+		}
+
+		assertThat(Math.abs(diversity.distance() - distance/pairs))
+			.isLessThanOrEqualTo(1e-9);
+		assertThat(Math.round(diversity.uniqueGenotypes())).isEqualTo(50L);
+		assertThat(diversity.entropy()).isGreaterThan(0.8);
+		assertThat(diversity.entropy()).isLessThanOrEqualTo(1.0);
+		assertThat(diversity.geneVariance()).isNaN();
+	}
+
+	private static double hamming(
+		final Genotype<BitGene> a,
+		final Genotype<BitGene> b
+	) {
+		int distance = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			for (int j = 0; j < a.get(i).length(); ++j) {
+				if (a.get(i).get(j).bit() != b.get(i).get(j).bit()) {
+					++distance;
+				}
+			}
+		}
+		return distance;
+	}
+
+	@Test
+	public void geneVariance() {
+		final var population = population(
+			Genotype.of(DoubleChromosome.of(0, 1, 5)),
+			30
+		);
+
+		final Diversity diversity = Diversity.of(population, 30);
+
+		double variance = 0;
+		for (int j = 0; j < 5; ++j) {
+			final var statistics = new DoubleMomentStatistics();
+			for (var pt : population) {
+				statistics.accept(pt.genotype().chromosome().get(j).doubleValue());
+			}
+			variance += statistics.variance();
+		}
+
+		assertThat(Math.abs(diversity.geneVariance() - variance/5))
+			.isLessThanOrEqualTo(1e-9);
+	}
+
+	@Test
+	public void sampledPopulation() {
+		final var population = population(
+			Genotype.of(BitChromosome.of(100)),
+			10_000
+		);
+
+		final Diversity diversity = Diversity.of(population, 64);
+		assertThat(Math.abs(diversity.uniqueGenotypes() - 10_000))
+			.isLessThanOrEqualTo(500.0);
+		assertThat(Math.abs(diversity.distance() - 50.0))
+			.isLessThanOrEqualTo(5.0);
+	}
+
+	@Test
+	public void privateRandomEngine() {
+		final var population = population(
+			Genotype.of(BitChromosome.of(100)),
+			1_000
+		);
+
+		final long expected = RandomRegistry.with(
+			new Random(123),
+			RandomGenerator::nextLong
+		);
+		final long next = RandomRegistry.with(new Random(123), random -> {
+			Diversity.of(population, 16);
+			return random.nextLong();
+		});
+
+		assertThat(next).isEqualTo(expected);
+		assertThat(Diversity.of(population, 16))
+			.isEqualTo(Diversity.of(population, 16));
+	}
+
+	@Test
+	public void emptyPopulation() {
+		final Diversity diversity = Diversity.of(ISeq.empty(), 10);
+		assertThat(diversity.uniqueGenotypes()).isEqualTo(0.0);
+		assertThat(diversity.distance()).isNaN();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSampleSize() {
+		Diversity.of(ISeq.empty(), 1);
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleBatchEvaluatorTest {
+
+	private static double sum(final Genotype<DoubleGene> gt) {
+		return gt.stream()
+			.flatMap(ch -> ch.stream())
+			.mapToDouble(DoubleGene::doubleValue)
+			.sum();
+	}
+
+	private static void sum(
+		final double[] points,
+		final int dimension,
+		final double[] results
+	) {
+		for (int i = 0; i < results.length; ++i) {
+			double sum = 0;
+			for (int j = i*dimension, n = j + dimension; j < n; ++j) {
+				sum += points[j];
+			}
+			results[i] = sum;
+		}
+	}
+
+	@Test
+	public void evaluate() {
+		final var calls = new AtomicInteger();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.ofDoubleBatch(
+			(points, dimension, results) -> {
+				calls.incrementAndGet();
+				assertThat(dimension).isEqualTo(5);
+				assertThat(points.length).isEqualTo(100*dimension);
+				sum(points, dimension, results);
+			}
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			Genotype.of(DoubleChromosome.of(0, 1, 2), DoubleChromosome.of(0, 1, 3))
+				.instances()
+				.limit(100)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+				.collect(ISeq.toISeq());
+
+		final var evaluated = evaluator.eval(population);
+		assertThat(calls.get()).isEqualTo(1);
+		assertThat(evaluated.size()).isEqualTo(population.size());
+		evaluated.forEach(pt ->
+			assertThat(pt.fitness()).isCloseTo(sum(pt.genotype()), within(0.000001))
+		);
+	}
+
+	@Test
+	public void evaluateEvaluated() {
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.ofDoubleBatch(
+			DoubleBatchEvaluatorTest::sum
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			Genotype.of(DoubleChromosome.of(0, 1, 5))
+				.instances()
+				.limit(10)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1, -1.0))
+				.collect(ISeq.toISeq());
+
+		final var evaluated = evaluator.eval(population);
+		assertThat(evaluated).isEqualTo(population);
+	}
+
+	@Test
+	public void evolve() {
+		final Engine<DoubleGene, Double> engine = new Engine.Builder<>(
+				Evaluators.ofDoubleBatch(DoubleBatchEvaluatorTest::sum),
+				Genotype.of(DoubleChromosome.of(0, 1, 10))
+			)
+			.minimizing()
+			.build();
+
+		final var result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		assertThat(result.bestFitness())
+			.isCloseTo(sum(result.bestPhenotype().genotype()), within(0.000001));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentGeneCount() {
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.ofDoubleBatch(
+			DoubleBatchEvaluatorTest::sum
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 5)), 1),
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 6)), 1)
+		);
+
+		evaluator.eval(population);
+	}
+
+}
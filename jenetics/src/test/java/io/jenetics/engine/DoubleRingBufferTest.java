@@ -0,0 +1,80 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.DoubleStream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleRingBufferTest {
+
+	@Test(dataProvider = "sizes")
+	public void toArray(final Integer capacity, final Integer size) {
+		final var buffer = new DoubleRingBuffer(capacity);
+		for (int i = 0; i < size; ++i) {
+			buffer.add(i);
+		}
+
+		final int length = Math.min(capacity, size);
+		assertThat(buffer.capacity()).isEqualTo(capacity);
+		assertThat(buffer.size()).isEqualTo(length);
+		assertThat(buffer.isEmpty()).isEqualTo(length == 0);
+		assertThat(buffer.toArray())
+			.isEqualTo(DoubleStream.iterate(size - length, i -> i + 1)
+				.limit(length)
+				.toArray());
+	}
+
+	@Test(dataProvider = "sizes")
+	public void toArrayCount(final Integer capacity, final Integer size) {
+		final var buffer = new DoubleRingBuffer(capacity);
+		for (int i = 0; i < size; ++i) {
+			buffer.add(i);
+		}
+
+		for (int count = 0; count <= capacity + 1; ++count) {
+			final int length = Math.min(count, Math.min(capacity, size));
+			assertThat(buffer.toArray(count))
+				.isEqualTo(DoubleStream.iterate(size - length, i -> i + 1)
+					.limit(length)
+					.toArray());
+		}
+	}
+
+	@DataProvider
+	public Object[][] sizes() {
+		return new Object[][] {
+			{0, 0}, {1, 0}, {1, 1}, {1, 10},
+			{10, 3}, {10, 10}, {10, 11}, {10, 27}, {10, 100}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeCount() {
+		new DoubleRingBuffer(10).toArray(-1);
+	}
+
+}
@@ -53,6 +53,7 @@ import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -263,6 +264,40 @@ public class EngineTest {
 		Assert.assertEquals(result.invalidCount(), populationSize);
 	}
 
+	@Test(dataProvider = "phenotypeAges")
+	public void maximalPhenotypeAge(final long generation, final int kills) {
+		final int populationSize = 50;
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.gene().allele(), DoubleChromosome.of(0, 1))
+			.alterers(new Mutator<>(0))
+			.maximalPhenotypeAge(5)
+			.populationSize(populationSize)
+			.build();
+
+		final ISeq<Phenotype<DoubleGene, Double>> population = Genotype
+			.of(DoubleChromosome.of(0, 1)).instances()
+			.limit(populationSize)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+
+		final EvolutionResult<DoubleGene, Double> result = engine
+			.evolve(EvolutionStart.of(population, generation));
+
+		Assert.assertEquals(result.killCount(), kills);
+		Assert.assertTrue(result.population().stream()
+			.allMatch(pt -> pt.age(generation) <= 5));
+	}
+
+	@DataProvider(name = "phenotypeAges")
+	public Object[][] phenotypeAges() {
+		return new Object[][] {
+			{1L, 0},
+			{6L, 0},
+			{7L, 50}
+		};
+	}
+
 	@Test
 	public void toUniquePopulation() {
 		final int populationSize = 100;
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionRecorderTest {
+
+	private static Engine<DoubleGene, Double> engine() {
+		return Engine
+			.builder(gt -> gt.gene().allele(), DoubleChromosome.of(0, 1, 4))
+			.populationSize(50)
+			.build();
+	}
+
+	@Test
+	public void record() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".trace");
+		Files.delete(path);
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final List<EvolutionResult<DoubleGene, Double>> results = new ArrayList<>();
+		try (var recorder = new EvolutionRecorder<Double>(path, 8, 10, executor)) {
+			engine().stream()
+				.limit(37)
+				.peek(results::add)
+				.forEach(recorder);
+
+			assertThat(recorder.count()).isEqualTo(37L);
+			assertThat(recorder.column("generation")).hasSize(8);
+		} finally {
+			executor.shutdown();
+		}
+
+		final Map<String, double[]> columns = EvolutionRecorder.read(path);
+		assertThat(new ArrayList<>(columns.keySet()))
+			.isEqualTo(EvolutionRecorder.COLUMNS);
+
+		for (double[] column : columns.values()) {
+			assertThat(column).hasSize(37);
+		}
+		for (int i = 0; i < results.size(); ++i) {
+			final var result = results.get(i);
+			assertThat(columns.get("generation")[i])
+				.isEqualTo((double)result.generation());
+			assertThat(columns.get("best")[i]).isEqualTo(result.bestFitness());
+			assertThat(columns.get("worst")[i]).isEqualTo(result.worstFitness());
+			assertThat(columns.get("altered")[i])
+				.isEqualTo((double)result.alterCount());
+			assertThat(columns.get("evaluations")[i])
+				.isEqualTo((double)result.evaluationCount());
+			assertThat(columns.get("unique")[i]).isGreaterThan(0.0);
+		}
+
+		Files.delete(path);
+	}
+
+	@Test
+	public void append() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".trace");
+
+		for (int i = 0; i < 3; ++i) {
+			try (var recorder = new EvolutionRecorder<Double>(path, 4, 0, Runnable::run)) {
+				engine().stream()
+					.limit(5)
+					.forEach(recorder);
+			}
+		}
+
+		final Map<String, double[]> columns = EvolutionRecorder.read(path);
+		assertThat(columns.get("generation")).hasSize(15);
+		assertThat(columns.get("distance")[0]).isNaN();
+
+		Files.delete(path);
+	}
+
+	@Test
+	public void incompleteBlock() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".trace");
+		try (var recorder = new EvolutionRecorder<Double>(path, 10, 0, Runnable::run)) {
+			engine().stream()
+				.limit(10)
+				.forEach(recorder);
+		}
+
+		// Simulate an aborted write.
+		try (var out = new DataOutputStream(Files.newOutputStream(
+				path, java.nio.file.StandardOpenOption.APPEND)))
+		{
+			out.writeInt(5);
+			out.writeDouble(1.0);
+		}
+
+		assertThat(EvolutionRecorder.read(path).get("generation")).hasSize(10);
+		Files.delete(path);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void incompatibleFile() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".trace");
+		Files.writeString(path, "some text");
+
+		try (var recorder = new EvolutionRecorder<Double>(path, 2, 0, Runnable::run)) {
+			engine().stream()
+				.limit(1)
+				.forEach(recorder);
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void writeFailure() throws IOException {
+		final Path path = Files.createTempDirectory("jenetics-");
+
+		try (var recorder = new EvolutionRecorder<Double>(path, 2, 0, Runnable::run)) {
+			engine().stream()
+				.limit(5)
+				.forEach(recorder);
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void acceptAfterClose() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".trace");
+		final var recorder = new EvolutionRecorder<Double>(path);
+		recorder.close();
+
+		try {
+			engine().stream()
+				.limit(1)
+				.forEach(recorder);
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void unknownColumn() {
+		new EvolutionRecorder<Double>(Path.of("trace")).column("foo");
+	}
+
+}
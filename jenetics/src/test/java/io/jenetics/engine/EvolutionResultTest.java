@@ -21,6 +21,9 @@ package io.jenetics.engine;
 
 import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Duration;
 import java.util.Random;
@@ -40,6 +43,7 @@ import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
+import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.ObjectTester;
@@ -130,6 +134,38 @@ public class EvolutionResultTest
 		Assert.assertNull(result);
 	}
 
+	@Test
+	public void serializeEvaluationCount() throws IOException {
+		final EvolutionResult<DoubleGene, Double> result = factory()
+			.newInstance()
+			.withEvaluationCount(17);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(result, out);
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		final Object read = IO.object.read(in);
+
+		Assert.assertEquals(read, result);
+		Assert.assertEquals(((EvolutionResult<?, ?>)read).evaluationCount(), 17);
+	}
+
+	@Test
+	public void deserializePreviousSerialForm() throws IOException {
+		final EvolutionResult<DoubleGene, Double> result = factory()
+			.newInstance()
+			.withEvaluationCount(17);
+
+		// Serial form without the evaluation count.
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(new SerialProxy(SerialProxy.EVOLUTION_RESULT, result), out);
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		final Object read = IO.object.read(in);
+
+		Assert.assertEquals(read, result.withEvaluationCount(0));
+	}
+
 	@Test
 	public void bestWorstPhenotype() {
 		final int length = 100;
@@ -0,0 +1,245 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Optimize;
+import io.jenetics.util.BatchExecutor;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FitnessEvaluationLimitTest {
+
+	@Test
+	public void evaluationCount() {
+		final var count = new AtomicInteger();
+		final var engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().intValue();
+				},
+				Genotype.of(IntegerChromosome.of(0, 1000, 10))
+			)
+			.populationSize(50)
+			.build();
+
+		final long evaluations = engine.stream()
+			.limit(25)
+			.mapToLong(EvolutionResult::evaluationCount)
+			.sum();
+
+		assertThat(evaluations).isEqualTo(count.get());
+	}
+
+	@Test
+	public void coalescingEvaluationCount() {
+		final var count = new AtomicInteger();
+		final Evaluator<IntegerGene, Integer> evaluator = Evaluators.coalescing(
+			Evaluators.<IntegerGene, Integer>concurrent(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().intValue();
+				},
+				BatchExecutor.of(Runnable::run)
+			)
+		);
+		final var engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(IntegerChromosome.of(0, 3))
+			)
+			.populationSize(50)
+			.build();
+
+		final long evaluations = engine.stream()
+			.limit(25)
+			.mapToLong(EvolutionResult::evaluationCount)
+			.sum();
+
+		assertThat(evaluations).isEqualTo(count.get());
+		assertThat(evaluations).isLessThan(25*50);
+	}
+
+	@Test
+	public void surrogateEvaluationCount() {
+		final var count = new AtomicInteger();
+		final SurrogateEvaluator<DoubleGene, Double> evaluator = Evaluators.surrogate(
+			gt -> {
+				count.incrementAndGet();
+				return gt.gene().doubleValue();
+			},
+			BatchExecutor.of(Runnable::run),
+			Optimize.MINIMUM,
+			0.2
+		);
+		final var engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(DoubleChromosome.of(0, 1, 3))
+			)
+			.minimizing()
+			.populationSize(50)
+			.build();
+
+		final long evaluations = engine.stream()
+			.limit(25)
+			.mapToLong(EvolutionResult::evaluationCount)
+			.sum();
+
+		assertThat(evaluations).isEqualTo(count.get());
+		assertThat(evaluations).isEqualTo(evaluator.evaluations());
+		assertThat(evaluations).isLessThan(25*50);
+	}
+
+	@Test
+	public void coalescingSurrogateEvaluationCount() {
+		final var count = new AtomicInteger();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.coalescing(
+			Evaluators.<DoubleGene, Double>surrogate(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().doubleValue();
+				},
+				BatchExecutor.of(Runnable::run),
+				Optimize.MINIMUM,
+				0.2
+			)
+		);
+		final var engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(DoubleChromosome.of(0, 1, 3))
+			)
+			.minimizing()
+			.populationSize(50)
+			.build();
+
+		final long evaluations = engine.stream()
+			.limit(25)
+			.mapToLong(EvolutionResult::evaluationCount)
+			.sum();
+
+		assertThat(evaluations).isEqualTo(count.get());
+	}
+
+	@Test
+	public void customEvaluationCount() {
+		final var count = new AtomicInteger();
+		final Evaluator<IntegerGene, Integer> evaluator = population -> population
+			.map(pt -> pt.eval(gt -> {
+				count.incrementAndGet();
+				return gt.gene().intValue();
+			}))
+			.asISeq();
+		final var engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(IntegerChromosome.of(0, 1000, 10))
+			)
+			.populationSize(50)
+			.build();
+
+		final long evaluations = engine.stream()
+			.limit(25)
+			.mapToLong(EvolutionResult::evaluationCount)
+			.sum();
+
+		assertThat(evaluations).isEqualTo(count.get());
+	}
+
+	@Test
+	public void limit() {
+		final int populationSize = 50;
+		final long budget = 1_000;
+
+		final var count = new AtomicInteger();
+		final var engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.gene().intValue();
+				},
+				Genotype.of(IntegerChromosome.of(0, 1000, 10))
+			)
+			.populationSize(populationSize)
+			.build();
+
+		final var evaluations = new AtomicLong();
+		final long generations = engine.stream()
+			.limit(Limits.byFitnessEvaluations(budget))
+			.limit(1_000)
+			.peek(er -> evaluations.addAndGet(er.evaluationCount()))
+			.count();
+
+		assertThat(generations).isLessThan(1_000L);
+		assertThat(evaluations.get()).isLessThan(budget + 1);
+		assertThat(count.get() - evaluations.get()).isLessThan(populationSize + 1L);
+		assertThat((long)count.get()).isLessThanOrEqualTo(budget);
+	}
+
+	@Test(dataProvider = "budgets")
+	public void budget(final long budget, final int populationSize) {
+		final var count = new AtomicInteger();
+		final var engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.chromosome().gene().doubleValue();
+				},
+				Genotype.of(DoubleChromosome.of(0, 1, 5))
+			)
+			.populationSize(populationSize)
+			.build();
+
+		final long generations = engine.stream()
+			.limit(Limits.byFitnessEvaluations(budget))
+			.count();
+
+		assertThat(generations).isGreaterThan(0L);
+		assertThat((long)count.get()).isLessThanOrEqualTo(budget);
+	}
+
+	@DataProvider
+	public Object[][] budgets() {
+		return new Object[][] {
+			{500L, 10},
+			{1_000L, 50},
+			{1_234L, 50},
+			{10_000L, 100},
+			{9_999L, 333}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalEvaluations() {
+		Limits.byFitnessEvaluations(0);
+	}
+
+}
@@ -63,6 +63,23 @@ public class GeneConvergenceLimitTest {
 		Assert.assertEquals(l.test(result(pop)), proceed);
 	}
 
+	@Test(dataProvider = "limits")
+	public void incrementalLimit(
+		final ISeq<Phenotype<DoubleGene, Double>> pop,
+		final double geneConvergence,
+		final double convergenceRage,
+		final boolean proceed
+	) {
+		final Predicate<EvolutionResult<DoubleGene, ?>> l =
+			Limits.byIncrementalGeneConvergence(
+				stat -> stat.max()*geneConvergence <= stat.mean(),
+				convergenceRage
+			);
+
+		Assert.assertEquals(l.test(result(pop)), proceed);
+		Assert.assertEquals(l.test(result(pop)), proceed);
+	}
+
 	@DataProvider(name = "limits")
 	public Object[][] limits() {
 		return new Object[][] {
@@ -0,0 +1,188 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class GeneMomentsTest {
+
+	private static ISeq<Genotype<DoubleGene>> genotypes(final int size) {
+		final var factory = Genotype.of(
+			DoubleChromosome.of(0, 10, 5),
+			DoubleChromosome.of(-5, 5, 20),
+			DoubleChromosome.of(0, 1, 1)
+		);
+		return factory.instances().limit(size).collect(ISeq.toISeq());
+	}
+
+	// The reference implementation, using the moment statistics class.
+	private static ISeq<DoubleMoments>
+	statistics(final ISeq<? extends Genotype<DoubleGene>> genotypes) {
+		final int[] offsets = GeneMoments.offsets(genotypes);
+		final var statistics = MSeq.of(
+			DoubleMomentStatistics::new,
+			offsets[offsets.length - 1]
+		);
+
+		for (var gt : genotypes) {
+			for (int i = 0; i < gt.length(); ++i) {
+				for (int j = 0; j < gt.get(i).length(); ++j) {
+					statistics.get(offsets[i] + j)
+						.accept(gt.get(i).get(j).doubleValue());
+				}
+			}
+		}
+
+		return statistics.map(DoubleMoments::of).toISeq();
+	}
+
+	private static void assertMoments(
+		final ISeq<DoubleMoments> moments,
+		final ISeq<DoubleMoments> expected,
+		final double epsilon
+	) {
+		assertThat(moments.size()).isEqualTo(expected.size());
+		for (int i = 0; i < moments.size(); ++i) {
+			final var a = moments.get(i);
+			final var b = expected.get(i);
+
+			assertThat(a.count()).isEqualTo(b.count());
+			assertThat(a.min()).isEqualTo(b.min());
+			assertThat(a.max()).isEqualTo(b.max());
+			assertThat(a.sum()).isCloseTo(b.sum(), within(epsilon*b.count()));
+			assertCloseTo(a.mean(), b.mean(), epsilon);
+			assertCloseTo(a.variance(), b.variance(), epsilon);
+			assertCloseTo(a.skewness(), b.skewness(), epsilon);
+			assertCloseTo(a.kurtosis(), b.kurtosis(), epsilon);
+		}
+	}
+
+	private static void assertCloseTo(
+		final double value,
+		final double expected,
+		final double epsilon
+	) {
+		if (Double.isNaN(expected)) {
+			assertThat(Double.isNaN(value)).isTrue();
+		} else {
+			assertThat(value).isCloseTo(expected, within(epsilon));
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void moments(final Integer size) {
+		final var genotypes = genotypes(size);
+
+		final var moments = GeneMoments.of(genotypes).toDoubleMoments();
+		assertMoments(moments, statistics(genotypes), 1e-9);
+	}
+
+	@DataProvider
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1}, {2}, {5}, {100}, {1_000}, {10_000}
+		};
+	}
+
+	@Test
+	public void equalValues() {
+		final var gt = Genotype.of(DoubleChromosome.of(0, 10, 50));
+		final var genotypes = ISeq.of(() -> gt, 5_000);
+
+		final var moments = GeneMoments.of(genotypes).toDoubleMoments();
+		for (int i = 0; i < moments.size(); ++i) {
+			assertThat(moments.get(i).mean())
+				.isEqualTo(gt.get(0).get(i).doubleValue());
+			assertThat(moments.get(i).max())
+				.isEqualTo(gt.get(0).get(i).doubleValue());
+		}
+	}
+
+	@Test
+	public void differentLayouts() {
+		final var genotypes = ISeq.of(
+			Genotype.of(DoubleChromosome.of(0, 10, 3)),
+			Genotype.of(DoubleChromosome.of(0, 10, 5), DoubleChromosome.of(0, 1, 2)),
+			Genotype.of(DoubleChromosome.of(0, 10, 1))
+		);
+
+		final var moments = GeneMoments.of(genotypes).toDoubleMoments();
+		assertThat(moments.size()).isEqualTo(7);
+		assertMoments(moments, statistics(genotypes), 1e-12);
+	}
+
+	@Test
+	public void remove() {
+		final var genotypes = genotypes(500);
+		final var kept = genotypes.subSeq(0, 300);
+		final var removed = genotypes.subSeq(300);
+
+		final var moments = GeneMoments.of(genotypes);
+		final int[] invalid = moments.remove(GeneMoments.of(removed));
+		moments.extremes(invalid, kept);
+
+		assertMoments(moments.toDoubleMoments(), statistics(kept), 1e-9);
+	}
+
+	@Test
+	public void incremental() {
+		final var random = RandomGenerator.getDefault();
+		final var incremental = new IncrementalGeneMoments();
+
+		final MSeq<Genotype<DoubleGene>> genotypes = genotypes(1_000).copy();
+		for (int i = 0; i < 100; ++i) {
+			final long generation = i;
+			final var population = genotypes
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, generation))
+				.toISeq();
+
+			assertMoments(
+				incremental.update(population),
+				statistics(genotypes.toISeq()),
+				1e-6
+			);
+
+			// Replace 10 % of the population.
+			final var offspring = genotypes(genotypes.size()/10);
+			for (var gt : offspring) {
+				genotypes.set(random.nextInt(genotypes.size()), gt);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SlidingMomentsTest {
+
+	private static DoubleMoments moments(
+		final double[] values,
+		final int end,
+		final int size
+	) {
+		final var statistics = new DoubleMomentStatistics();
+		Arrays.stream(values, Math.max(end - size, 0), end)
+			.forEach(statistics);
+		return DoubleMoments.of(statistics);
+	}
+
+	private static void assertMoments(
+		final DoubleMoments moments,
+		final DoubleMoments expected
+	) {
+		assertThat(moments.count()).isEqualTo(expected.count());
+		assertThat(moments.min()).isEqualTo(expected.min());
+		assertThat(moments.max()).isEqualTo(expected.max());
+		assertThat(moments.mean()).isCloseTo(expected.mean(), within(1e-9));
+		assertThat(moments.sum()).isCloseTo(expected.sum(), within(1e-6));
+		assertCloseTo(moments.variance(), expected.variance());
+		assertCloseTo(moments.skewness(), expected.skewness());
+		assertCloseTo(moments.kurtosis(), expected.kurtosis());
+	}
+
+	private static void assertCloseTo(final double value, final double expected) {
+		if (Double.isNaN(expected)) {
+			assertThat(Double.isNaN(value)).isTrue();
+		} else {
+			assertThat(value).isCloseTo(expected, within(1e-6));
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void randomValues(final Integer size) {
+		final double[] values = new Random(size).doubles(1_000)
+			.map(v -> v*100)
+			.toArray();
+
+		final var moments = new SlidingMoments(size);
+		for (int i = 0; i < values.length; ++i) {
+			moments.accept(values[i]);
+
+			assertThat(moments.length()).isEqualTo(Math.min(i + 1, size));
+			assertMoments(moments.toDoubleMoments(), moments(values, i + 1, size));
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void length(final Integer size) {
+		final var random = new Random(size);
+		final var moments = new SlidingMoments(size);
+		assertThat(moments.size()).isEqualTo(size);
+
+		for (int i = 0; i < size; ++i) {
+			assertThat(moments.isFull()).isFalse();
+			moments.accept(random.nextDouble());
+			assertThat(moments.length()).isEqualTo(i + 1);
+		}
+		for (int i = 0; i < size; ++i) {
+			moments.accept(random.nextDouble());
+			assertThat(moments.length()).isEqualTo(size);
+			assertThat(moments.isFull()).isTrue();
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void monotoneValues(final Integer size) {
+		final double[] values = new double[500];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = i < 250 ? i : 500 - i;
+		}
+
+		final var moments = new SlidingMoments(size);
+		for (int i = 0; i < values.length; ++i) {
+			moments.accept(values[i]);
+			assertMoments(moments.toDoubleMoments(), moments(values, i + 1, size));
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1}, {2}, {3}, {5}, {10}, {77}, {100}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalSize() {
+		new SlidingMoments(0);
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BatchExecutor;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SurrogateEvaluatorTest {
+
+	private static double sphere(final Genotype<DoubleGene> gt) {
+		return gt.chromosome().stream()
+			.mapToDouble(g -> g.doubleValue()*g.doubleValue())
+			.sum();
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		return Genotype.of(DoubleChromosome.of(-1, 1, 4)).instances()
+			.limit(size)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	private static SurrogateEvaluator<DoubleGene, Double>
+	evaluator(final Function<Genotype<DoubleGene>, Double> fitness) {
+		return Evaluators.surrogate(
+			fitness,
+			BatchExecutor.of(Runnable::run),
+			Optimize.MINIMUM,
+			0.25
+		);
+	}
+
+	@Test
+	public void evaluateAllUntilArchiveIsFilled() {
+		final var count = new AtomicInteger();
+		final var evaluator = evaluator(gt -> {
+			count.incrementAndGet();
+			return sphere(gt);
+		});
+
+		final var evaluated = evaluator.eval(population(3));
+		assertThat(count.get()).isEqualTo(3);
+		assertThat(evaluator.evaluations()).isEqualTo(3);
+		evaluated.forEach(pt -> {
+			assertThat(pt.fitness()).isEqualTo(sphere(pt.genotype()));
+			assertThat(evaluator.isSurrogate(pt)).isFalse();
+		});
+	}
+
+	@Test
+	public void evaluateOnlyFraction() {
+		final var count = new AtomicInteger();
+		final var evaluator = evaluator(gt -> {
+			count.incrementAndGet();
+			return sphere(gt);
+		});
+		evaluator.eval(population(20));
+		assertThat(count.get()).isEqualTo(20);
+
+		final var population = population(40);
+		final var evaluated = evaluator.eval(population);
+		assertThat(count.get()).isEqualTo(30);
+		assertThat(evaluator.evaluations()).isEqualTo(30);
+		assertThat(evaluated.size()).isEqualTo(population.size());
+
+		int surrogates = 0;
+		for (int i = 0; i < evaluated.size(); ++i) {
+			final var pt = evaluated.get(i);
+			assertThat(pt.isEvaluated()).isTrue();
+			assertThat(pt.genotype()).isSameAs(population.get(i).genotype());
+			if (evaluator.isSurrogate(pt)) {
+				++surrogates;
+			} else {
+				assertThat(pt.fitness()).isEqualTo(sphere(pt.genotype()));
+			}
+		}
+		assertThat(surrogates).isEqualTo(30);
+	}
+
+	@Test
+	public void reevaluateSurrogates() {
+		final var count = new AtomicInteger();
+		final var evaluator = evaluator(gt -> {
+			count.incrementAndGet();
+			return sphere(gt);
+		});
+		evaluator.eval(population(20));
+
+		var population = evaluator.eval(population(40));
+		assertThat(count.get()).isEqualTo(30);
+
+		// Surrogate phenotypes are candidates again.
+		population = evaluator.eval(population);
+		assertThat(count.get()).isEqualTo(38);
+		assertThat(population.stream().filter(evaluator::isSurrogate).count())
+			.isEqualTo(22);
+	}
+
+	@Test
+	public void keepEvaluatedPopulation() {
+		final var count = new AtomicInteger();
+		final var evaluator = evaluator(gt -> {
+			count.incrementAndGet();
+			return sphere(gt);
+		});
+
+		final var population = evaluator.eval(population(10));
+		final var evaluated = evaluator.eval(population);
+		assertThat(count.get()).isEqualTo(10);
+		assertThat(evaluated).isEqualTo(population);
+	}
+
+	@Test
+	public void prefersPromisingCandidates() {
+		final var evaluator = evaluator(SurrogateEvaluatorTest::sphere);
+		evaluator.eval(population(500));
+
+		final var evaluated = evaluator.eval(population(200));
+		final double real = evaluated.stream()
+			.filter(pt -> !evaluator.isSurrogate(pt))
+			.mapToDouble(Phenotype::fitness)
+			.average()
+			.orElseThrow();
+		final double surrogate = evaluated.stream()
+			.filter(evaluator::isSurrogate)
+			.mapToDouble(pt -> sphere(pt.genotype()))
+			.average()
+			.orElseThrow();
+
+		assertThat(real).isLessThan(surrogate);
+	}
+
+	@Test
+	public void surrogatesNotBetterThanRealValues() {
+		final var evaluator = evaluator(SurrogateEvaluatorTest::sphere);
+		evaluator.eval(population(20));
+
+		final var evaluated = evaluator.eval(population(200));
+		final double worst = evaluated.stream()
+			.filter(pt -> !evaluator.isSurrogate(pt))
+			.mapToDouble(Phenotype::fitness)
+			.max()
+			.orElseThrow();
+
+		assertThat(evaluated.stream().filter(evaluator::isSurrogate).count())
+			.isGreaterThan(0L);
+		evaluated.stream()
+			.filter(evaluator::isSurrogate)
+			.forEach(pt -> assertThat(pt.fitness()).isGreaterThanOrEqualTo(worst));
+	}
+
+	@Test
+	public void evolve() {
+		final var evaluator = evaluator(SurrogateEvaluatorTest::sphere);
+		final var engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(DoubleChromosome.of(-1, 1, 4))
+			)
+			.minimizing()
+			.populationSize(50)
+			.build();
+
+		final var best = engine.stream()
+			.limit(30)
+			.peek(er -> assertThat(er.bestFitness())
+				.isEqualTo(sphere(er.bestPhenotype().genotype())))
+			.collect(EvolutionResult.toBestPhenotype());
+
+		assertThat(best.fitness()).isEqualTo(sphere(best.genotype()));
+		assertThat(best.fitness()).isLessThan(0.5);
+		assertThat(evaluator.evaluations()).isLessThan(30L*50L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidFraction() {
+		Evaluators.surrogate(
+			SurrogateEvaluatorTest::sphere,
+			BatchExecutor.of(Runnable::run),
+			Optimize.MINIMUM,
+			0.0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCapacity() {
+		Evaluators.surrogate(
+			SurrogateEvaluatorTest::sphere,
+			BatchExecutor.of(Runnable::run),
+			Optimize.MINIMUM,
+			0.5,
+			5,
+			4
+		);
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FingerprintSetTest {
+
+	@Test(dataProvider = "sizes")
+	public void add(final Integer size) {
+		final var random = new Random(size);
+		final var expected = new HashSet<Integer>();
+		final var set = new FingerprintSet<Integer>(Integer::longValue, 10);
+
+		for (int i = 0; i < size; ++i) {
+			final var value = random.nextInt(size/2 + 1);
+			assertThat(set.add(value)).isEqualTo(expected.add(value));
+			assertThat(set.size()).isEqualTo(expected.size());
+		}
+		for (int i = 0; i < size; ++i) {
+			assertThat(set.contains(i)).isEqualTo(expected.contains(i));
+		}
+	}
+
+	@DataProvider
+	public Object[][] sizes() {
+		return new Object[][] {{0}, {1}, {10}, {100}, {1_000}, {10_000}};
+	}
+
+	@Test
+	public void fingerprintCollisions() {
+		// All elements have the same fingerprint.
+		final var set = new FingerprintSet<String>(value -> 42L, 4);
+
+		assertThat(set.add("a")).isTrue();
+		assertThat(set.add("b")).isTrue();
+		assertThat(set.add("c")).isTrue();
+		assertThat(set.add("a")).isFalse();
+		assertThat(set.add("c")).isFalse();
+		assertThat(set.size()).isEqualTo(3);
+		assertThat(set.contains("b")).isTrue();
+		assertThat(set.contains("d")).isFalse();
+	}
+
+	@Test(expectedExceptions = NullPointerException.class)
+	public void addNull() {
+		new FingerprintSet<String>(value -> 42L, 4).add(null);
+	}
+
+}
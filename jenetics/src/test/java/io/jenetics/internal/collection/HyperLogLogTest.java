@@ -0,0 +1,118 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.SplittableRandom;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HyperLogLogTest {
+
+	@Test(dataProvider = "cardinalities")
+	public void estimate(final Integer cardinality, final Integer precision) {
+		final var random = new SplittableRandom(cardinality);
+		final var sketch = new HyperLogLog(precision);
+
+		final long[] hashes = random.longs(cardinality).toArray();
+		for (int i = 0; i < 3; ++i) {
+			for (long hash : hashes) {
+				sketch.add(hash);
+			}
+		}
+
+		final double error = 4*1.04/Math.sqrt(1 << precision);
+		assertThat(Math.abs(sketch.estimate() - cardinality))
+			.isLessThanOrEqualTo(Math.max(1.0, cardinality*error));
+	}
+
+	@DataProvider
+	public Object[][] cardinalities() {
+		return new Object[][] {
+			{0, 12}, {1, 12}, {10, 12}, {1_000, 12},
+			{100_000, 12}, {100_000, 8}, {1_000_000, 14}
+		};
+	}
+
+	@Test
+	public void smallCardinalities() {
+		final var random = new SplittableRandom(123);
+		final var sketch = new HyperLogLog(12);
+
+		for (int i = 0; i < 50; ++i) {
+			sketch.add(random.nextLong());
+		}
+		assertThat(Math.abs(sketch.estimate() - 50)).isLessThanOrEqualTo(1.0);
+	}
+
+	@Test
+	public void combine() {
+		final var random = new SplittableRandom(456);
+		final var sketch1 = new HyperLogLog(10);
+		final var sketch2 = new HyperLogLog(10);
+		final var union = new HyperLogLog(10);
+
+		for (int i = 0; i < 20_000; ++i) {
+			final long hash = random.nextLong();
+			if (i%3 == 0) {
+				sketch1.add(hash);
+			} else {
+				sketch2.add(hash);
+			}
+			union.add(hash);
+		}
+
+		sketch1.combine(sketch2);
+		assertThat(sketch1.estimate()).isEqualTo(union.estimate());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentPrecision() {
+		new HyperLogLog(10).combine(new HyperLogLog(11));
+	}
+
+	@Test
+	public void clear() {
+		final var sketch = new HyperLogLog(8);
+		sketch.add(1L);
+		sketch.add(-1L);
+		assertThat(sketch.estimate()).isGreaterThan(0.0);
+
+		sketch.clear();
+		assertThat(sketch.estimate()).isEqualTo(0.0);
+	}
+
+	@Test(dataProvider = "invalidPrecisions",
+		expectedExceptions = IllegalArgumentException.class)
+	public void invalidPrecision(final Integer precision) {
+		new HyperLogLog(precision);
+	}
+
+	@DataProvider
+	public Object[][] invalidPrecisions() {
+		return new Object[][] {{-1}, {0}, {3}, {19}};
+	}
+
+}
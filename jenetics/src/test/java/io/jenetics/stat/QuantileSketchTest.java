@@ -0,0 +1,217 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class QuantileSketchTest {
+
+	// Return the rank error of the given value.
+	private static double rankError(
+		final double[] sorted,
+		final double value,
+		final double quantile
+	) {
+		int lower = Arrays.binarySearch(sorted, value);
+		int upper = lower;
+		while (lower > 0 && sorted[lower - 1] == value) --lower;
+		while (upper + 1 < sorted.length && sorted[upper + 1] == value) ++upper;
+
+		final double min = (double)lower/sorted.length;
+		final double max = (double)(upper + 1)/sorted.length;
+		return quantile >= min && quantile <= max
+			? 0.0
+			: Math.min(Math.abs(quantile - min), Math.abs(quantile - max));
+	}
+
+	@Test
+	public void empty() {
+		final var sketch = new QuantileSketch();
+
+		Assert.assertEquals(sketch.count(), 0L);
+		Assert.assertTrue(Double.isNaN(sketch.median()));
+		Assert.assertTrue(Double.isNaN(sketch.min()));
+		Assert.assertTrue(Double.isNaN(sketch.max()));
+	}
+
+	@Test
+	public void exactForSmallStreams() {
+		final var sketch = new QuantileSketch(0.01);
+		IntStream.range(0, 100).forEach(sketch::accept);
+
+		Assert.assertEquals(sketch.size(), 100);
+		Assert.assertEquals(sketch.quantile(0.0), 0.0);
+		Assert.assertEquals(sketch.quantile(0.25), 24.0);
+		Assert.assertEquals(sketch.median(), 49.0);
+		Assert.assertEquals(sketch.quantile(1.0), 99.0);
+		Assert.assertEquals(sketch.rank(49.0), 0.5);
+	}
+
+	@Test(dataProvider = "epsilons")
+	public void quantiles(final Double epsilon) {
+		final int N = 1_000_000;
+		final double[] data = new Random(1234).doubles().limit(N).toArray();
+
+		final var sketch = new QuantileSketch(epsilon);
+		Arrays.stream(data).forEach(sketch);
+
+		final double[] sorted = data.clone();
+		Arrays.sort(sorted);
+
+		Assert.assertEquals(sketch.count(), N);
+		Assert.assertEquals(sketch.min(), sorted[0]);
+		Assert.assertEquals(sketch.max(), sorted[N - 1]);
+		Assert.assertTrue(sketch.size() < 10/epsilon);
+		for (int i = 1; i < 100; ++i) {
+			final double q = i/100.0;
+			Assert.assertTrue(rankError(sorted, sketch.quantile(q), q) <= epsilon);
+		}
+	}
+
+	@Test(dataProvider = "epsilons")
+	public void parallelQuantiles(final Double epsilon) {
+		final int N = 1_000_000;
+		final double[] data = new Random(1234).doubles().limit(N).toArray();
+
+		final var sketch = Arrays.stream(data).parallel()
+			.collect(
+				() -> new QuantileSketch(epsilon),
+				QuantileSketch::accept,
+				QuantileSketch::combine
+			);
+
+		final double[] sorted = data.clone();
+		Arrays.sort(sorted);
+
+		Assert.assertEquals(sketch.count(), N);
+		Assert.assertEquals(sketch.min(), sorted[0]);
+		Assert.assertEquals(sketch.max(), sorted[N - 1]);
+		for (int i = 1; i < 100; ++i) {
+			final double q = i/100.0;
+			Assert.assertTrue(rankError(sorted, sketch.quantile(q), q) <= epsilon);
+		}
+	}
+
+	@DataProvider(name = "epsilons")
+	public Object[][] epsilons() {
+		return new Object[][] {
+			{0.05}, {0.01}, {0.005}
+		};
+	}
+
+	@Test
+	public void sortedStream() {
+		final int N = 500_000;
+		final var sketch = new QuantileSketch(0.01);
+		IntStream.range(0, N).forEach(sketch::accept);
+
+		for (int i = 1; i < 100; ++i) {
+			final double q = i/100.0;
+			Assert.assertEquals(sketch.quantile(q)/N, q, 0.01);
+		}
+	}
+
+	@Test
+	public void combine() {
+		final var random = new Random(123);
+		final var sketch = new QuantileSketch(0.01);
+		final var other = new QuantileSketch(0.01);
+		random.doubles(100_000).forEach(sketch);
+		random.doubles(100_000).map(v -> v + 1).forEach(other);
+
+		sketch.combine(other);
+		Assert.assertEquals(sketch.count(), 200_000L);
+		Assert.assertEquals(sketch.median(), 1.0, 0.02);
+		Assert.assertEquals(sketch.quantile(0.25), 0.5, 0.02);
+		Assert.assertEquals(sketch.quantile(0.75), 1.5, 0.02);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentEpsilons() {
+		new QuantileSketch(0.01).combine(new QuantileSketch(0.02));
+	}
+
+	@Test
+	public void sameState() {
+		final var random = new Random(123);
+		final var sketch1 = new QuantileSketch();
+		final var sketch2 = new QuantileSketch();
+
+		for (int i = 0; i < 10_000; ++i) {
+			final double value = random.nextDouble();
+			sketch1.accept(value);
+			sketch2.accept(value);
+
+			Assert.assertTrue(sketch1.sameState(sketch2));
+		}
+	}
+
+	@Test
+	public void ignoreNaN() {
+		final var sketch = new QuantileSketch();
+		sketch.accept(1.0);
+		sketch.accept(Double.NaN);
+		sketch.accept(3.0);
+
+		Assert.assertEquals(sketch.count(), 2L);
+		Assert.assertEquals(sketch.max(), 3.0);
+	}
+
+	@Test
+	public void toQuantiles() {
+		final double[] quantiles = IntStream.range(0, 10_001).boxed()
+			.collect(QuantileSketch.toQuantiles(Integer::doubleValue, 0.1, 0.5, 0.9));
+
+		Assert.assertEquals(quantiles.length, 3);
+		Assert.assertEquals(quantiles[0], 1_000.0, 100.0);
+		Assert.assertEquals(quantiles[1], 5_000.0, 100.0);
+		Assert.assertEquals(quantiles[2], 9_000.0, 100.0);
+	}
+
+	@Test
+	public void toQuantileSketch() {
+		final var sketch = IntStream.range(0, 10_000).boxed().parallel()
+			.collect(QuantileSketch.toQuantileSketch(0.05, Integer::doubleValue));
+
+		Assert.assertEquals(sketch.count(), 10_000L);
+		Assert.assertEquals(sketch.epsilon(), 0.05);
+		Assert.assertEquals(sketch.median(), 5_000.0, 500.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalQuantile() {
+		new QuantileSketch().quantile(1.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalEpsilon() {
+		QuantileSketch.toQuantileSketch(0.0, Double::doubleValue);
+	}
+
+}
@@ -19,6 +19,10 @@
  */
 package io.jenetics.util;
 
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -26,6 +30,11 @@ import java.util.stream.IntStream;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.IntMomentStatistics;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.MinMax;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -81,4 +90,100 @@ public class AccumulatorTest {
 		Assert.assertEquals(count, 100);
 	}
 
+	@Test
+	public void parallelStripedAccumulate() {
+		final Collector<Integer, ?, Long> counting = Collectors.counting();
+		final var accu = Accumulator.of(counting).striped();
+
+		IntStream.range(0, 10_000).boxed().parallel()
+			.forEach(accu);
+
+		Assert.assertEquals(accu.result().longValue(), 10_000);
+	}
+
+	@Test
+	public void parallelStripedCollect() {
+		final Collector<Integer, ?, Long> counting = Collectors.counting();
+		final var accu = Accumulator.of(counting).striped();
+
+		final long count = IntStream.range(0, 10_000).parallel().boxed()
+			.collect(accu);
+		Assert.assertEquals(count, 10_000);
+	}
+
+	@Test
+	public void stripedResultIsCopy() {
+		final var accu = Accumulator
+			.of(ISeq.<Integer>toISeq())
+			.striped();
+
+		accu.accept(1);
+		final ISeq<Integer> result = accu.result();
+		accu.accept(2);
+
+		Assert.assertEquals(result, ISeq.of(1));
+		Assert.assertEquals(accu.result().size(), 2);
+	}
+
+	@Test
+	public void stripedStatistics() throws Exception {
+		final int threads = 8;
+		final int count = 100_000;
+
+		final var doubles = Accumulator
+			.of(DoubleMomentStatistics.<Integer>toDoubleMomentStatistics(i -> i))
+			.striped();
+		final var ints = Accumulator
+			.of(IntMomentStatistics.<Integer>toIntMomentStatistics(i -> i))
+			.striped();
+		final var longs = Accumulator
+			.of(LongMomentStatistics.<Integer>toLongMomentStatistics(i -> i))
+			.striped();
+		final var minMax = Accumulator
+			.of(MinMax.toMinMax(Comparator.<Integer>naturalOrder()))
+			.striped();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final var futures = IntStream.range(0, threads)
+				.mapToObj(t -> executor.submit(() -> {
+					for (int i = t; i < count; i += threads) {
+						doubles.accept(i);
+						ints.accept(i);
+						longs.accept(i);
+						minMax.accept(i);
+
+						// Reading intermediate results while accumulating.
+						if (i%1_000 == 0) {
+							Assert.assertTrue(doubles.result().count() > 0);
+						}
+					}
+				}))
+				.toList();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		final var expected = IntStream.range(0, count).boxed()
+			.collect(DoubleMomentStatistics.toDoubleMomentStatistics(i -> i));
+
+		Assert.assertEquals(doubles.result().count(), count);
+		Assert.assertEquals(doubles.result().mean(), expected.mean(), 1e-9);
+		Assert.assertEquals(
+			doubles.result().variance(),
+			expected.variance(),
+			expected.variance()*1e-12
+		);
+		Assert.assertEquals(ints.result().count(), count);
+		Assert.assertEquals(ints.result().sum(), expected.sum(), 0.0);
+		Assert.assertEquals(longs.result().count(), count);
+		Assert.assertEquals(longs.result().max(), count - 1);
+		Assert.assertEquals(minMax.result().count(), count);
+		Assert.assertEquals(minMax.result().min().intValue(), 0);
+		Assert.assertEquals(minMax.result().max().intValue(), count - 1);
+	}
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IntervalEmitterTest {
+
+	private static final Duration TICK = Duration.ofMillis(50);
+
+	private static double take(final BlockingQueue<Double> values)
+		throws InterruptedException
+	{
+		final Double value = values.poll(5, TimeUnit.SECONDS);
+		assertThat(value).isNotNull();
+		return value;
+	}
+
+	// Waits for the emission of a first value, to start right after a tick.
+	private static void sync(
+		final IntervalEmitter emitter,
+		final BlockingQueue<Double> values
+	)
+		throws InterruptedException
+	{
+		emitter.accept(0);
+		take(values);
+		values.clear();
+	}
+
+	@Test
+	public void emitMax() throws InterruptedException {
+		final var values = new LinkedBlockingQueue<Double>();
+		try (var emitter = IntervalEmitter.ofMax(TICK, values::add)) {
+			sync(emitter, values);
+			emitter.accept(3);
+			emitter.accept(7);
+			emitter.accept(5);
+			assertThat(take(values)).isEqualTo(7.0);
+
+			// Without new elements, the last value is emitted again.
+			assertThat(take(values)).isEqualTo(7.0);
+
+			emitter.accept(1);
+			double value;
+			do {
+				value = take(values);
+			} while (value == 7.0);
+			assertThat(value).isEqualTo(1.0);
+		}
+	}
+
+	@Test
+	public void emitMean() throws InterruptedException {
+		final var values = new LinkedBlockingQueue<Double>();
+		try (var emitter = IntervalEmitter.ofMean(TICK, values::add)) {
+			sync(emitter, values);
+			for (int i = 1; i <= 4; ++i) {
+				emitter.accept(i);
+			}
+			assertThat(take(values)).isEqualTo(2.5);
+		}
+	}
+
+	@Test
+	public void emitQuantile() throws InterruptedException {
+		final var values = new LinkedBlockingQueue<Double>();
+		try (var emitter = IntervalEmitter.ofQuantile(0.5, TICK, values::add)) {
+			sync(emitter, values);
+			for (int i = 0; i < 101; ++i) {
+				emitter.accept(100 - i);
+			}
+			assertThat(take(values)).isEqualTo(50.0);
+		}
+	}
+
+	@Test
+	public void noValuesNoEmission() throws InterruptedException {
+		final var values = new LinkedBlockingQueue<Double>();
+		try (var emitter = IntervalEmitter.ofMin(TICK, values::add)) {
+			emitter.accept(Double.NaN);
+			assertThat(values.poll(5*TICK.toMillis(), TimeUnit.MILLISECONDS))
+				.isNull();
+		}
+	}
+
+	@Test
+	public void close() throws InterruptedException {
+		final var values = new LinkedBlockingQueue<Double>();
+		final var emitter = IntervalEmitter.ofMin(TICK, values::add);
+		emitter.accept(1);
+		take(values);
+		emitter.close();
+
+		Thread.sleep(2*TICK.toMillis());
+		values.clear();
+		assertThat(values.poll(5*TICK.toMillis(), TimeUnit.MILLISECONDS))
+			.isNull();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidTick() {
+		IntervalEmitter.ofMax(Duration.ZERO, value -> {});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		IntervalEmitter.ofQuantile(-0.1, TICK, value -> {});
+	}
+
+}
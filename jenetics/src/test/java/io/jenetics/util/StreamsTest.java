@@ -23,8 +23,11 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -125,4 +128,151 @@ public class StreamsTest {
 		}
 	}
 
+	@Test(dataProvider = "toIntervalBestData")
+	public void toDoubleIntervalMax(final int streamSize, final int sliceSize) {
+		final double[] values = IntStream.range(0, streamSize).asDoubleStream()
+			.mapMulti(Streams.toDoubleIntervalMax(sliceSize))
+			.toArray();
+
+		Assert.assertEquals(values.length, streamSize/sliceSize);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], sliceSize*(i + 1) - 1.0);
+		}
+	}
+
+	@Test(dataProvider = "toIntervalBestData")
+	public void toDoubleIntervalMin(final int streamSize, final int sliceSize) {
+		final double[] values = IntStream.range(0, streamSize).asDoubleStream()
+			.mapMulti(Streams.toDoubleIntervalMin(sliceSize))
+			.toArray();
+
+		Assert.assertEquals(values.length, streamSize/sliceSize);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], (double)sliceSize*i);
+		}
+	}
+
+	@Test(dataProvider = "toIntervalBestData")
+	public void toDoubleIntervalMean(final int streamSize, final int sliceSize) {
+		final double[] values = IntStream.range(0, streamSize).asDoubleStream()
+			.mapMulti(Streams.toDoubleIntervalMean(sliceSize))
+			.toArray();
+
+		Assert.assertEquals(values.length, streamSize/sliceSize);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], sliceSize*i + (sliceSize - 1)/2.0, 1e-9);
+		}
+	}
+
+	@Test(dataProvider = "toIntervalBestData")
+	public void toDoubleIntervalQuantile(final int streamSize, final int sliceSize) {
+		final double[] values = IntStream.range(0, streamSize)
+			.map(i -> (i/sliceSize)*sliceSize + sliceSize - 1 - i%sliceSize)
+			.asDoubleStream()
+			.mapMulti(Streams.toDoubleIntervalQuantile(0.5, sliceSize))
+			.toArray();
+
+		Assert.assertEquals(values.length, streamSize/sliceSize);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], sliceSize*i + (sliceSize - 1)/2.0, 1e-9);
+		}
+	}
+
+	@Test
+	public void toDoubleIntervalQuantiles() {
+		final double[] data = {5, 1, 4, 2, 3};
+		for (double q : new double[]{0, 0.25, 0.5, 0.75, 1}) {
+			final double[] values = DoubleStream.of(data)
+				.mapMulti(Streams.toDoubleIntervalQuantile(q, data.length))
+				.toArray();
+
+			Assert.assertEquals(values, new double[]{1 + 4*q});
+		}
+	}
+
+	@Test
+	public void toDoubleIntervalIgnoresNaN() {
+		final double[] values = DoubleStream
+			.of(1, Double.NaN, 3, Double.NaN, Double.NaN, Double.NaN)
+			.mapMulti(Streams.toDoubleIntervalMean(2))
+			.toArray();
+
+		Assert.assertEquals(values.length, 3);
+		Assert.assertEquals(values[0], 1.0);
+		Assert.assertEquals(values[1], 3.0);
+		Assert.assertTrue(Double.isNaN(values[2]));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void toDoubleIntervalInvalidQuantile() {
+		Streams.toDoubleIntervalQuantile(1.1, 10);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void toDoubleIntervalInvalidSize() {
+		Streams.toDoubleIntervalMax(0);
+	}
+
+	@Test
+	public void toTimespanDoubleIntervalMax() {
+		final double[] values = IntStream.range(1, 101).asDoubleStream()
+			.mapMulti(Streams.toDoubleIntervalMax(Duration.ofMillis(10), new TestClock()))
+			.toArray();
+
+		Assert.assertEquals(values.length, 10);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], 10.0*(i + 1));
+		}
+	}
+
+	@Test
+	public void toTimespanDoubleIntervalQuantile() {
+		final double[] values = IntStream.range(0, 100).asDoubleStream()
+			.mapMulti(Streams.toDoubleIntervalQuantile(
+				0.5, Duration.ofMillis(10), new TestClock()))
+			.toArray();
+
+		Assert.assertEquals(values.length, 10);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], 10.0*i + 4.5, 1e-9);
+		}
+	}
+
+	@Test(dataProvider = "toIntervalBestData")
+	public void toLongIntervalMax(final int streamSize, final int sliceSize) {
+		final long[] values = LongStream.range(0, streamSize)
+			.mapMulti(Streams.toLongIntervalMax(sliceSize))
+			.toArray();
+
+		Assert.assertEquals(values.length, streamSize/sliceSize);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], sliceSize*(i + 1) - 1L);
+		}
+	}
+
+	@Test(dataProvider = "toIntervalBestData")
+	public void toLongIntervalMin(final int streamSize, final int sliceSize) {
+		final long[] values = LongStream.range(0, streamSize)
+			.mapMulti(Streams.toLongIntervalMin(sliceSize))
+			.toArray();
+
+		Assert.assertEquals(values.length, streamSize/sliceSize);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(values[i], (long)sliceSize*i);
+		}
+	}
+
+	@Test
+	public void toTimespanLongIntervalMin() {
+		final long[] values = LongStream.range(0, 100)
+			.mapMulti(Streams.toLongIntervalMin(Duration.ofMillis(10), new TestClock()))
+			.toArray();
+
+		Assert.assertEquals(
+			values,
+			LongStream.range(0, 10).map(i -> i*10).toArray(),
+			Arrays.toString(values)
+		);
+	}
+
 }